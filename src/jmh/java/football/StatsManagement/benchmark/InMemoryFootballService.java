@@ -0,0 +1,48 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.service.FootballService;
+import football.StatsManagement.service.cache.ReferenceDataCache;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 合成リーグのデータを返すFootballService（リポジトリを参照しない）
+ * ベンチマークでFactoryServiceの集計処理のみを計測するために用いる
+ */
+class InMemoryFootballService extends FootballService {
+  private final SyntheticLeagueState state;
+  private final Map<Integer, Club> clubsById = new HashMap<>();
+
+  InMemoryFootballService(SyntheticLeagueState state) {
+    super(null, event -> {}, new ReferenceDataCache(100, 600));
+    this.state = state;
+    for (Club club : state.clubs) {
+      clubsById.put(club.getId(), club);
+    }
+    // DBから取得する場合と同様に、クラブ名は試合結果と共に用意しておく
+    for (GameResult gameResult : state.gameResults) {
+      gameResult.setHomeClubName(clubsById.get(gameResult.getHomeClubId()).getName());
+      gameResult.setAwayClubName(clubsById.get(gameResult.getAwayClubId()).getName());
+    }
+  }
+
+  @Override
+  public Club getClub(int id) {
+    return clubsById.get(id);
+  }
+
+  @Override
+  public List<GameResult> getGameResultsByLeagueAndSeason(int leagueId, int seasonId) {
+    return state.gameResults;
+  }
+
+  @Override
+  public List<GameResult> getGameResultsWithClubNamesByLeagueAndSeason(int leagueId, int seasonId) {
+    // 試合結果は試合日順に作成されている
+    return state.gameResults;
+  }
+
+}
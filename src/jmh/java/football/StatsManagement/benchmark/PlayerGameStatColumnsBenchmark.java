@@ -0,0 +1,71 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.service.analytics.PlayerGameStatColumns;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 選手試合成績の列ストアの集計処理と使用メモリ量のベンチマーク
+ * 使用メモリ量の見積もりはfootprintBytesPerMillionRowsとして結果に出力する
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlayerGameStatColumnsBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ColumnsState {
+    @Param({"5", "38"})
+    int gamesPerSeason;
+
+    static final int ROWS = 1_000_000;
+    static final int SEASONS = 10;
+
+    PlayerGameStatColumns columns;
+    int playerCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      // 1シーズンの試合数ごとに、合計がおよそ100万行になる選手数にする
+      playerCount = ROWS / (SEASONS * gamesPerSeason);
+      columns = new PlayerGameStatColumns();
+      int id = 1;
+      for (int season = 0; season < SEASONS; season++) {
+        int seasonId = 201011 + season * 101;
+        for (int game = 0; game < gamesPerSeason; game++) {
+          for (int playerId = 1; playerId <= playerCount; playerId++) {
+            columns.append(id++, playerId, playerId / 25 + 1, season * gamesPerSeason + game + 1, seasonId,
+                (playerId + game) % 3 != 0, playerId % 7 == 0 ? 1 : 0, playerId % 11 == 0 ? 1 : 0, 90, 0, 0);
+          }
+        }
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class FootprintCounter {
+    public long footprintBytesPerMillionRows;
+  }
+
+  /**
+   * 全選手分の全シーズンのシーズン・クラブごとの合計成績の集計
+   */
+  @Benchmark
+  public void aggregateAllPlayers(ColumnsState state, FootprintCounter counter, Blackhole blackhole) {
+    for (int playerId = 1; playerId <= state.playerCount; playerId++) {
+      blackhole.consume(state.columns.aggregatePlayerSeasonTotals(playerId, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+    counter.footprintBytesPerMillionRows = state.columns.estimateFootprintBytes() * 1_000_000L / state.columns.size();
+  }
+
+}
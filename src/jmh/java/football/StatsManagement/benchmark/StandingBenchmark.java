@@ -0,0 +1,99 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.model.entity.StandingRecord;
+import football.StatsManagement.service.FactoryService;
+import football.StatsManagement.service.analytics.PlayerGameStatStore;
+import football.StatsManagement.service.cache.LeaderboardCache;
+import football.StatsManagement.service.cache.PlayerFormCache;
+import football.StatsManagement.service.cache.StandingCache;
+import football.StatsManagement.service.comparator.CompiledRanking;
+import football.StatsManagement.service.comparator.RankingEngine;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 順位表作成に関する処理のベンチマーク
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StandingBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class RankingState {
+    // リーグ規定の比較項目ID（勝ち点等のみ / 当該クラブ間の成績を含む）
+    @Param({"1,4,5", "1,2,3,4,5", "1,7,6,4,5"})
+    public String comparisonItemIds;
+
+    List<StandingRecord> standingRecords;
+    CompiledRanking compiledRanking;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticLeagueState league) {
+      // 試合結果登録時と同様に、クラブごとの集計済み成績を作成しておく
+      Map<Integer, StandingRecord> standingRecordsByClubId = new LinkedHashMap<>();
+      for (GameResult gameResult : league.gameResults) {
+        standingRecordsByClubId.merge(gameResult.getHomeClubId(), StandingRecord.of(gameResult, gameResult.getHomeClubId()), StandingRecord::plus);
+        standingRecordsByClubId.merge(gameResult.getAwayClubId(), StandingRecord.of(gameResult, gameResult.getAwayClubId()), StandingRecord::plus);
+      }
+      standingRecords = new ArrayList<>(standingRecordsByClubId.values());
+
+      List<Integer> ids = new ArrayList<>();
+      for (String id : comparisonItemIds.split(",")) {
+        ids.add(Integer.parseInt(id));
+      }
+      compiledRanking = new CompiledRanking(ids);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class FactoryState {
+    FactoryService factoryService;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticLeagueState league) {
+      factoryService = createFactoryService(league);
+    }
+  }
+
+  /**
+   * 取得済みのデータからの順位表作成（当該クラブ間の成績表の作成とCompiledRankingによる並び替えを含む）
+   */
+  @Benchmark
+  public Standing createStanding(SyntheticLeagueState league, FactoryState factoryState, RankingState state) {
+    return factoryState.factoryService.createStanding(SyntheticLeagueState.LEAGUE_ID, SyntheticLeagueState.SEASON_ID,
+        league.clubs, state.standingRecords, league.gameResults, "League", "Season", state.compiledRanking);
+  }
+
+  /**
+   * リーグ全クラブ分のcreateClubForStandingによる成績集計
+   */
+  @Benchmark
+  public void createClubForStanding(SyntheticLeagueState league, FactoryState state, Blackhole blackhole) {
+    for (Club club : league.clubs) {
+      blackhole.consume(state.factoryService.createClubForStanding(club, league.gameResultsByClubId.get(club.getId())));
+    }
+  }
+
+  static FactoryService createFactoryService(SyntheticLeagueState league) {
+    return new FactoryService(new InMemoryFootballService(league), new RankingEngine(), new StandingCache(100, 600),
+        new LeaderboardCache(100, 600), new PlayerGameStatStore(null, false),
+        new PlayerFormCache(100, 600));
+  }
+
+}
@@ -0,0 +1,54 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.model.domain.SeasonGameResult;
+import football.StatsManagement.service.FactoryService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 選手成績・試合結果の集計処理のベンチマーク
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatsAggregationBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class FactoryState {
+    FactoryService factoryService;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticLeagueState league) {
+      factoryService = StandingBenchmark.createFactoryService(league);
+    }
+  }
+
+  /**
+   * リーグ全選手分のcreatePlayerTotalStatFromPlayerSeasonStatsによる通算成績集計
+   */
+  @Benchmark
+  public void createPlayerTotalStat(SyntheticLeagueState league, FactoryState state, Blackhole blackhole) {
+    for (List<PlayerSeasonStat> playerSeasonStats : league.playerSeasonStatsByPlayer) {
+      blackhole.consume(state.factoryService.createPlayerTotalStatFromPlayerSeasonStats(playerSeasonStats));
+    }
+  }
+
+  /**
+   * createSeasonGameResultによる試合日ごとの振り分け
+   */
+  @Benchmark
+  public SeasonGameResult createSeasonGameResult(FactoryState state) throws ResourceNotFoundException {
+    return state.factoryService.createSeasonGameResult(SyntheticLeagueState.LEAGUE_ID, SyntheticLeagueState.SEASON_ID);
+  }
+
+}
@@ -0,0 +1,101 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ベンチマーク用の合成リーグ（DBを使わずメモリ上に作成する）
+ * 試合日ごとに全クラブが1試合ずつ行い、対戦相手と得点は固定シードの乱数で決める
+ */
+@State(Scope.Benchmark)
+public class SyntheticLeagueState {
+  static final int LEAGUE_ID = 1;
+  static final int SEASON_ID = 202425;
+  // 1クラブあたりの選手数
+  private static final int PLAYERS_PER_CLUB = 25;
+  // 1シーズンあたりの試合数（選手のシーズン成績の数はgamesPerClubをこれで割った数とする）
+  private static final int GAMES_PER_SEASON = 38;
+
+  @Param({"20", "100", "1000"})
+  public int clubCount;
+
+  @Param({"38", "380"})
+  public int gamesPerClub;
+
+  List<Club> clubs;
+  List<GameResult> gameResults;
+  Map<Integer, List<GameResult>> gameResultsByClubId;
+  List<List<PlayerSeasonStat>> playerSeasonStatsByPlayer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+
+    clubs = new ArrayList<>(clubCount);
+    gameResultsByClubId = new HashMap<>();
+    for (int i = 1; i <= clubCount; i++) {
+      clubs.add(new Club(i, LEAGUE_ID, "Club" + i));
+      gameResultsByClubId.put(i, new ArrayList<>());
+    }
+
+    gameResults = new ArrayList<>(clubCount * gamesPerClub / 2);
+    int[] order = new int[clubCount];
+    for (int i = 0; i < clubCount; i++) {
+      order[i] = i + 1;
+    }
+    LocalDate startDate = LocalDate.of(2024, 8, 1);
+    for (int day = 0; day < gamesPerClub; day++) {
+      LocalDate gameDate = startDate.plusDays(day);
+      shuffle(order, random);
+      for (int i = 0; i + 1 < clubCount; i += 2) {
+        int homeClubId = order[i];
+        int awayClubId = order[i + 1];
+        int homeScore = random.nextInt(5);
+        int awayScore = random.nextInt(4);
+        Integer winnerClubId = homeScore > awayScore ? homeClubId : homeScore < awayScore ? awayClubId : null;
+        GameResult gameResult = new GameResult(gameResults.size() + 1, homeClubId, awayClubId, homeScore, awayScore,
+            winnerClubId, LEAGUE_ID, gameDate, SEASON_ID);
+        gameResults.add(gameResult);
+        gameResultsByClubId.get(homeClubId).add(gameResult);
+        gameResultsByClubId.get(awayClubId).add(gameResult);
+      }
+    }
+
+    int seasons = Math.max(1, gamesPerClub / GAMES_PER_SEASON);
+    playerSeasonStatsByPlayer = new ArrayList<>(clubCount * PLAYERS_PER_CLUB);
+    for (int playerId = 1; playerId <= clubCount * PLAYERS_PER_CLUB; playerId++) {
+      List<PlayerSeasonStat> playerSeasonStats = new ArrayList<>(seasons);
+      for (int season = 0; season < seasons; season++) {
+        int games = random.nextInt(GAMES_PER_SEASON + 1);
+        int starterGames = random.nextInt(games + 1);
+        playerSeasonStats.add(new PlayerSeasonStat(playerId, List.of(), SEASON_ID - season * 101,
+            (playerId - 1) / PLAYERS_PER_CLUB + 1, games, starterGames, games - starterGames,
+            random.nextInt(20), random.nextInt(15), games * 70, random.nextInt(8), random.nextInt(2),
+            "Player" + playerId, "Club", "Season"));
+      }
+      playerSeasonStatsByPlayer.add(playerSeasonStats);
+    }
+  }
+
+  private static void shuffle(int[] values, Random random) {
+    for (int i = values.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int tmp = values[i];
+      values[i] = values[j];
+      values[j] = tmp;
+    }
+  }
+
+}
@@ -0,0 +1,34 @@
+package football.StatsManagement.configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 順位表の並列作成などに用いるスレッドプールを定義するConfigクラス
+ */
+@Configuration
+public class ExecutorConfig {
+
+  /**
+   * 順位表作成用のスレッドプール
+   * スレッド数・待ち行列ともに上限を設け、待ち行列が埋まった場合は呼び出し元のスレッドで実行する
+   * @param poolSize スレッド数
+   * @param queueCapacity 待ち行列の上限
+   * @return スレッドプール
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService standingExecutor(
+      @Value("${standing-executor.pool-size:4}") int poolSize,
+      @Value("${standing-executor.queue-capacity:100}") int queueCapacity) {
+    return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        Thread.ofPlatform().name("standing-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+}
@@ -1,13 +1,23 @@
 package football.StatsManagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import football.StatsManagement.exception.ResourceConflictException;
 import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
 import football.StatsManagement.model.domain.PlayerCareerStat;
+import football.StatsManagement.model.domain.PlayerForm;
+import football.StatsManagement.model.domain.PlayerTotalStat;
 import football.StatsManagement.model.domain.SeasonGameResult;
+import football.StatsManagement.model.domain.SeasonSimulation;
 import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.json.LeagueRegulationForJson;
 import football.StatsManagement.model.json.PlayerForPatch;
 import football.StatsManagement.model.json.PlayerForTransfer;
+import football.StatsManagement.service.BatchGameRegistrationService;
+import football.StatsManagement.service.BatchGameRegistrationService.CommitMode;
+import football.StatsManagement.service.BulkStandingService;
 import football.StatsManagement.service.FactoryService;
 import football.StatsManagement.service.FootballService;
 import football.StatsManagement.exception.FootballException;
@@ -17,21 +27,34 @@ import football.StatsManagement.model.entity.GameResult;
 import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
 import football.StatsManagement.model.json.ClubForJson;
+import football.StatsManagement.model.response.BatchGameRegistrationResult;
+import football.StatsManagement.model.response.CacheStatistics;
 import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.model.response.KeysetPage;
 import football.StatsManagement.model.json.PlayerForJson;
 import football.StatsManagement.model.json.LeagueForJson;
 import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.domain.StandingHistory;
 import football.StatsManagement.model.json.SeasonForJson;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -41,6 +64,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * サッカースタッツ管理システムのCRUD処理をRestAPIとして提供するControllerクラス
@@ -48,13 +72,30 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 @RestController
 public class FootballController {
+  // 一覧取得のページサイズ（省略時の値と上限）
+  private static final String DEFAULT_PAGE_SIZE = "100";
+  private static final long MAX_PAGE_SIZE = 1000;
+  // 複数試合の登録で1リクエストに含められる試合数の上限
+  private static final int MAX_BATCH_GAMES = 100;
+  // NDJSONはJSONをUTF-8で書き出すため、文字コードを明示する（クライアントが既定の文字コードで読まないように）
+  private static final String APPLICATION_NDJSON_UTF8_VALUE = MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8";
+  private static final MediaType APPLICATION_NDJSON_UTF8 = MediaType.parseMediaType(APPLICATION_NDJSON_UTF8_VALUE);
+
   private final FootballService footballService;
   private final FactoryService factoryService;
+  private final BulkStandingService bulkStandingService;
+  private final BatchGameRegistrationService batchGameRegistrationService;
+  private final ObjectMapper objectMapper;
 
   @Autowired
-  public FootballController(FootballService footballService, FactoryService factoryService) {
+  public FootballController(FootballService footballService, FactoryService factoryService,
+      BulkStandingService bulkStandingService, BatchGameRegistrationService batchGameRegistrationService,
+      ObjectMapper objectMapper) {
     this.footballService = footballService;
     this.factoryService = factoryService;
+    this.bulkStandingService = bulkStandingService;
+    this.batchGameRegistrationService = batchGameRegistrationService;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -174,6 +215,66 @@ public class FootballController {
     return footballService.getClubs();
   }
 
+  /**
+   * クラブ一覧のページの取得（IDの昇順でページ分割する）
+   * @param pageToken 前ページで返されたトークン（省略時は先頭ページ）
+   * @param pageSize ページサイズ
+   * @return クラブ一覧のページ
+   */
+  @Operation(summary = "クラブ一覧のページの取得", description = "登録されているクラブの一覧をID順にページ分割して取得します。次ページはnextPageTokenを指定して取得します")
+  @GetMapping("/clubs/page")
+  public KeysetPage<Club> getClubPage(
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int pageSize)
+      throws FootballException {
+    return footballService.getClubPage(pageToken, pageSize);
+  }
+
+  /**
+   * 選手一覧のページの取得（IDの昇順でページ分割する）
+   * @param pageToken 前ページで返されたトークン（省略時は先頭ページ）
+   * @param pageSize ページサイズ
+   * @return 選手一覧のページ
+   */
+  @Operation(summary = "選手一覧のページの取得", description = "登録されている選手の一覧をID順にページ分割して取得します。次ページはnextPageTokenを指定して取得します")
+  @GetMapping("/players/page")
+  public KeysetPage<Player> getPlayerPage(
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int pageSize)
+      throws FootballException {
+    return footballService.getPlayerPage(pageToken, pageSize);
+  }
+
+  /**
+   * 試合結果一覧のページの取得（IDの昇順でページ分割する）
+   * @param pageToken 前ページで返されたトークン（省略時は先頭ページ）
+   * @param pageSize ページサイズ
+   * @return 試合結果一覧のページ
+   */
+  @Operation(summary = "試合結果一覧のページの取得", description = "登録されている試合結果の一覧をID順にページ分割して取得します。次ページはnextPageTokenを指定して取得します")
+  @GetMapping("/game-results/page")
+  public KeysetPage<GameResult> getGameResultPage(
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int pageSize)
+      throws FootballException {
+    return footballService.getGameResultPage(pageToken, pageSize);
+  }
+
+  /**
+   * 選手試合成績一覧のページの取得（IDの昇順でページ分割する）
+   * @param pageToken 前ページで返されたトークン（省略時は先頭ページ）
+   * @param pageSize ページサイズ
+   * @return 選手試合成績一覧のページ
+   */
+  @Operation(summary = "選手試合成績一覧のページの取得", description = "登録されている選手試合成績の一覧をID順にページ分割して取得します。次ページはnextPageTokenを指定して取得します")
+  @GetMapping("/player-game-stats/page")
+  public KeysetPage<PlayerGameStat> getPlayerGameStatPage(
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int pageSize)
+      throws FootballException {
+    return footballService.getPlayerGameStatPage(pageToken, pageSize);
+  }
+
   /**
    * リーグIDとシーズンIDに紐づく順位表の取得
    * @param leagueId リーグID
@@ -183,7 +284,119 @@ public class FootballController {
   @Operation(summary = "順位表の取得", description = "リーグIDとシーズンIDに紐づく順位表を取得します")
   @GetMapping("/leagues/{leagueId}/standings/{seasonId}")
   public Standing getStanding(@PathVariable @Positive int leagueId, @PathVariable @Min(100000) int seasonId) throws ResourceNotFoundException {
-    return factoryService.createStanding(leagueId, seasonId);
+    return factoryService.getStanding(leagueId, seasonId);
+  }
+
+  /**
+   * シーズンの複数リーグの順位表の取得
+   * リーグごとに並列に作成し、作成が終わった順に1行1リーグのNDJSON形式で返す
+   * @param seasonId シーズンID
+   * @param countryId 国ID（省略時は全リーグ）
+   * @return 順位表のストリーム
+   */
+  @Operation(summary = "複数リーグの順位表の取得", description = "シーズンの全リーグ（国IDを指定した場合はその国のリーグ）の順位表を、作成が終わった順にNDJSON形式で返します")
+  @GetMapping(value = "/standings/{seasonId}", produces = APPLICATION_NDJSON_UTF8_VALUE)
+  public ResponseEntity<StreamingResponseBody> getStandings(
+      @PathVariable @Min(100000) int seasonId,
+      @RequestParam(required = false) @Positive Integer countryId) throws ResourceNotFoundException {
+    // 国・シーズンの存在確認とDBからの取得はストリーム開始前に行い、見つからない場合は404を返す
+    List<Callable<Standing>> tasks = bulkStandingService.createStandingTasks(countryId, seasonId);
+    StreamingResponseBody body = outputStream -> bulkStandingService.runStandingTasks(tasks, standing -> {
+      outputStream.write(objectMapper.writeValueAsBytes(standing));
+      outputStream.write('\n');
+      outputStream.flush();
+    });
+    return ResponseEntity.ok().contentType(APPLICATION_NDJSON_UTF8).body(body);
+  }
+
+  /**
+   * リーグIDとシーズンIDに紐づくシーズンの残り試合のシミュレーション
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param iterations 試行回数
+   * @param seed 乱数のシード（省略時は毎回異なる結果になる）
+   * @return 各クラブの最終順位の確率分布
+   */
+  @Operation(summary = "シーズンのシミュレーション", description = "残り試合をモンテカルロ法でシミュレーションし、各クラブの最終順位の確率分布を取得します")
+  @GetMapping("/leagues/{leagueId}/season-simulation/{seasonId}")
+  public SeasonSimulation getSeasonSimulation(
+      @PathVariable @Positive int leagueId,
+      @PathVariable @Min(100000) int seasonId,
+      @RequestParam(defaultValue = "10000") @Min(1) @Max(1000000) int iterations,
+      @RequestParam(required = false) Long seed) throws ResourceNotFoundException {
+    long actualSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    return factoryService.createSeasonSimulation(leagueId, seasonId, iterations, actualSeed);
+  }
+
+  /**
+   * リーグ・シーズンの成績項目の選手ランキングの取得
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param statistic 成績項目（goals, assists, minutes, yellow-cards, red-cards）
+   * @param limit 件数
+   * @return 選手ランキング
+   */
+  @Operation(summary = "選手ランキングの取得", description = "リーグ・シーズンの成績項目の上位選手を取得します（同じ値の場合は出場時間が短い選手が上位）")
+  @GetMapping("/leagues/{leagueId}/leaderboards/{seasonId}/{statistic}")
+  public Leaderboard getLeaderboard(
+      @PathVariable @Positive int leagueId,
+      @PathVariable @Min(100000) int seasonId,
+      @PathVariable @Pattern(regexp = LeaderboardStatistic.PATH_NAME_PATTERN) String statistic,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit)
+      throws ResourceNotFoundException {
+    return factoryService.getLeaderboard(leagueId, seasonId, LeaderboardStatistic.fromPathName(statistic), limit);
+  }
+
+  /**
+   * 選手ランキングキャッシュの統計情報の取得
+   * @return 統計情報
+   */
+  @Operation(summary = "選手ランキングキャッシュの統計情報の取得", description = "選手ランキングキャッシュのヒット数・ミス数・破棄数を取得します")
+  @GetMapping("/cache-statistics/leaderboards")
+  public CacheStatistics getLeaderboardCacheStatistics() {
+    return factoryService.getLeaderboardCacheStatistics();
+  }
+
+  /**
+   * 参照データキャッシュの統計情報の取得
+   * @return 統計情報
+   */
+  @Operation(summary = "参照データキャッシュの統計情報の取得", description = "国・リーグ・クラブ・シーズン・順位比較項目のキャッシュのヒット数・ミス数・破棄数を取得します")
+  @GetMapping("/cache-statistics/reference-data")
+  public CacheStatistics getReferenceDataCacheStatistics() {
+    return footballService.getReferenceDataCacheStatistics();
+  }
+
+  /**
+   * 選手フォームキャッシュの統計情報の取得
+   * @return 統計情報
+   */
+  @Operation(summary = "選手フォームキャッシュの統計情報の取得", description = "選手フォームキャッシュのヒット数・ミス数・破棄数を取得します")
+  @GetMapping("/cache-statistics/player-forms")
+  public CacheStatistics getPlayerFormCacheStatistics() {
+    return factoryService.getPlayerFormCacheStatistics();
+  }
+
+  /**
+   * 順位表キャッシュの統計情報の取得
+   * @return 統計情報
+   */
+  @Operation(summary = "順位表キャッシュの統計情報の取得", description = "順位表キャッシュのヒット数・ミス数・破棄数を取得します")
+  @GetMapping("/cache-statistics/standings")
+  public CacheStatistics getStandingCacheStatistics() {
+    return factoryService.getStandingCacheStatistics();
+  }
+
+  /**
+   * リーグIDとシーズンIDに紐づく試合日ごとの順位推移の取得
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 試合日ごとの順位推移
+   */
+  @Operation(summary = "順位推移の取得", description = "リーグIDとシーズンIDに紐づく試合日ごとの順位推移を取得します")
+  @GetMapping("/leagues/{leagueId}/standing-history/{seasonId}")
+  public StandingHistory getStandingHistory(@PathVariable @Positive int leagueId, @PathVariable @Min(100000) int seasonId) throws ResourceNotFoundException {
+    return factoryService.createStandingHistory(leagueId, seasonId);
   }
 
 
@@ -221,6 +434,42 @@ public class FootballController {
     return footballService.getPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
   }
 
+  /**
+   * 選手IDに紐づく選手成績のページの取得（IDの昇順でページ分割する）
+   * @param playerId 選手ID
+   * @param pageToken 前ページで返されたトークン（省略時は先頭ページ）
+   * @param pageSize ページサイズ
+   * @return 選手の試合成績一覧のページ
+   */
+  @Operation(summary = "選手試合成績のページの取得（全シーズン）", description = "選手IDに紐づく全シーズンの選手成績をID順にページ分割して取得します。次ページはnextPageTokenを指定して取得します")
+  @GetMapping("/players/{playerId}/player-game-stats/page")
+  public KeysetPage<PlayerGameStat> getPlayerGameStatPageByPlayer(
+      @PathVariable @Positive int playerId,
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int pageSize)
+      throws FootballException {
+    return footballService.getPlayerGameStatPageByPlayer(playerId, pageToken, pageSize);
+  }
+
+  /**
+   * 選手IDに紐づく全シーズンの選手成績の取得
+   * 試合日順に1行1試合のNDJSON形式で返す（一覧を作成せずDBから順に読み込みながら書き出す）
+   * @param playerId 選手ID
+   * @return 選手の試合成績のストリーム
+   */
+  @Operation(summary = "選手の全試合成績の取得", description = "選手IDに紐づく全シーズンの選手成績を、試合日順にNDJSON形式で返します")
+  @GetMapping(value = "/players/{playerId}/player-game-log", produces = APPLICATION_NDJSON_UTF8_VALUE)
+  public ResponseEntity<StreamingResponseBody> getPlayerGameLog(@PathVariable @Positive int playerId)
+      throws ResourceNotFoundException {
+    // 選手の存在確認はストリーム開始前に行い、見つからない場合は404を返す
+    footballService.getPlayer(playerId);
+    StreamingResponseBody body = outputStream -> footballService.writePlayerGameLog(playerId, playerGameStat -> {
+      outputStream.write(objectMapper.writeValueAsBytes(playerGameStat));
+      outputStream.write('\n');
+    });
+    return ResponseEntity.ok().contentType(APPLICATION_NDJSON_UTF8).body(body);
+  }
+
   /**
    * クラブIDとシーズンIDに紐づく選手成績の取得
    * @param clubId クラブID
@@ -259,6 +508,36 @@ public class FootballController {
     return factoryService.createPlayerCareerStat(playerId);
   }
 
+  /**
+   * 選手IDとシーズンIDに紐づくフォームの取得
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @return 選手のフォーム
+   */
+  @Operation(summary = "選手フォームの取得", description = "選手のシーズンの90分あたりの得点・アシストと、直近5試合・10試合の成績を取得します")
+  @GetMapping("/players/{playerId}/player-form/{seasonId}")
+  public PlayerForm getPlayerForm(@PathVariable @Positive int playerId, @PathVariable @Min(100000) int seasonId)
+      throws ResourceNotFoundException {
+    return factoryService.createPlayerForm(playerId, seasonId);
+  }
+
+  /**
+   * 選手IDに紐づく複数シーズンでの合計成績の取得
+   * @param playerId 選手ID
+   * @param fromSeasonId 集計するシーズンIDの下限（省略時は制限なし）
+   * @param toSeasonId 集計するシーズンIDの上限（省略時は制限なし）
+   * @return 選手の合計成績
+   */
+  @Operation(summary = "選手の合計成績の取得", description = "選手IDに紐づく、指定した範囲のシーズンでの合計成績を取得します")
+  @GetMapping("/players/{playerId}/player-total-stat")
+  public PlayerTotalStat getPlayerTotalStat(
+      @PathVariable @Positive int playerId,
+      @RequestParam(required = false) @Min(100000) Integer fromSeasonId,
+      @RequestParam(required = false) @Min(100000) Integer toSeasonId)
+      throws ResourceNotFoundException {
+    return factoryService.createPlayerTotalStat(playerId, fromSeasonId, toSeasonId);
+  }
+
   /**
    * 試合IDに紐づく試合結果の取得（選手成績を含む）
    * @param gameId 試合ID
@@ -356,6 +635,27 @@ public class FootballController {
     return ResponseEntity.ok().body(gameResultWithPlayerStats);
   }
 
+  /**
+   * 複数試合の試合結果（選手成績含む）の登録
+   * @param gameResultsWithPlayerStatsForJson 試合結果一覧
+   * @param mode 登録方式（ALL_OR_NOTHING: 1試合でも問題があれば登録しない、PER_GAME: 問題のない試合のみ登録する）
+   * @return 試合ごとの登録状況（ALL_OR_NOTHINGで登録しなかった場合は400）
+   */
+  @Operation(summary = "複数試合の試合結果の登録",
+      description = "1節分などの複数試合の試合結果（選手成績含む）をまとめて登録し、試合ごとの登録状況を返します")
+  @PostMapping("/game-results/batch")
+  public ResponseEntity<BatchGameRegistrationResult> registerGameResults(
+      @RequestBody @NotEmpty @Size(max = MAX_BATCH_GAMES) List<@Valid GameResultWithPlayerStatsForJson> gameResultsWithPlayerStatsForJson,
+      @RequestParam(defaultValue = "ALL_OR_NOTHING") CommitMode mode)
+      throws ResourceNotFoundException {
+    BatchGameRegistrationResult result = batchGameRegistrationService.register(gameResultsWithPlayerStatsForJson, mode);
+
+    if (mode == CommitMode.ALL_OR_NOTHING && result.registeredCount() == 0) {
+      return ResponseEntity.badRequest().body(result);
+    }
+    return ResponseEntity.ok().body(result);
+  }
+
   /**
    * シーズンの登録
    * @param seasonForJson シーズン情報
@@ -370,6 +670,21 @@ public class FootballController {
     return ResponseEntity.ok().body(season);
   }
 
+  /**
+   * リーグ規定の登録
+   * @param leagueRegulationForJson リーグIDと比較項目ID一覧
+   * @return 登録されたリーグ規定一覧
+   */
+  @Operation(summary = "リーグ規定の登録", description = "リーグ規定（順位決定方法）を登録します。既存のリーグ規定は置き換えられます")
+  @PostMapping("/league-regulations")
+  public ResponseEntity<List<LeagueRegulation>> registerLeagueRegulations(@RequestBody @Valid LeagueRegulationForJson leagueRegulationForJson)
+      throws FootballException, ResourceNotFoundException {
+    List<LeagueRegulation> leagueRegulations = footballService.registerLeagueRegulations(
+        leagueRegulationForJson.getLeagueId(), leagueRegulationForJson.getComparisonItemIds());
+
+    return ResponseEntity.ok().body(leagueRegulations);
+  }
+
   /**
    * 選手の更新
    * @param playerForPatch 選手名前および背番号
@@ -435,5 +750,40 @@ public class FootballController {
     return ResponseEntity.ok().body(footballService.getPlayer(playerId));
   }
 
+  /**
+   * 順位表の集計済み成績の再構築
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 再構築前の値と食い違っていた成績一覧
+   */
+  @Operation(summary = "順位表の集計済み成績の再構築", description = "試合結果から集計済み成績を再構築し、食い違っていた成績を返します")
+  @PostMapping("/leagues/{leagueId}/standings-rebuild/{seasonId}")
+  public ResponseEntity<List<StandingRecord>> rebuildStandings(
+      @PathVariable @Positive int leagueId,
+      @PathVariable @Min(100000) int seasonId)
+      throws ResourceNotFoundException {
+    return ResponseEntity.ok().body(footballService.rebuildStandings(leagueId, seasonId));
+  }
+
+  /**
+   * 全リーグ・全シーズンの順位表の集計済み成績の再構築
+   * @return 再構築前の値と食い違っていた成績一覧
+   */
+  @Operation(summary = "全リーグ・全シーズンの順位表の集計済み成績の再構築", description = "全ての試合結果から集計済み成績を再構築し、食い違っていた成績を返します")
+  @PostMapping("/standings-rebuild")
+  public ResponseEntity<List<StandingRecord>> rebuildAllStandings() {
+    return ResponseEntity.ok().body(footballService.rebuildAllStandings());
+  }
+
+  /**
+   * 選手のシーズン合計成績の再構築
+   * @return 再構築前の値と食い違っていた合計成績一覧
+   */
+  @Operation(summary = "選手のシーズン合計成績の再構築", description = "選手試合成績から全選手のシーズン合計成績を再構築し、食い違っていた成績を返します")
+  @PostMapping("/player-season-totals-rebuild")
+  public ResponseEntity<List<PlayerSeasonTotal>> rebuildPlayerSeasonTotals() {
+    return ResponseEntity.ok().body(footballService.rebuildPlayerSeasonTotals());
+  }
+
 
 }
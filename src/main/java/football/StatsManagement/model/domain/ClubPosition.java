@@ -0,0 +1,37 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+@Schema(description = "ある時点でのクラブの順位と主要成績を保持するレコードクラス")
+public record ClubPosition(
+    int position,
+    int clubId,
+    String clubName,
+    int gamesPlayed,
+    int points,
+    int goalDifference,
+    int goalsFor
+) {
+
+  // テスト用にequalsとhashCodeをoverride
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ClubPosition that = (ClubPosition) o;
+    return position == that.position &&
+        clubId == that.clubId &&
+        gamesPlayed == that.gamesPlayed &&
+        points == that.points &&
+        goalDifference == that.goalDifference &&
+        goalsFor == that.goalsFor &&
+        Objects.equals(clubName, that.clubName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(position, clubId, clubName, gamesPlayed, points, goalDifference, goalsFor);
+  }
+
+}
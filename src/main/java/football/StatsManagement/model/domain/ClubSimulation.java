@@ -0,0 +1,37 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "シーズン終了時のクラブの順位の確率分布を保持するレコードクラス")
+public record ClubSimulation(
+    int currentPosition,
+    int clubId,
+    String clubName,
+    int currentPoints,
+    double expectedPoints,
+    @Schema(description = "最終順位ごとの確率（先頭が1位）")
+    List<Double> positionProbabilities
+) {
+
+  // テスト用にequalsとhashCodeをoverride
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ClubSimulation that = (ClubSimulation) o;
+    return currentPosition == that.currentPosition &&
+        clubId == that.clubId &&
+        currentPoints == that.currentPoints &&
+        Double.compare(expectedPoints, that.expectedPoints) == 0 &&
+        Objects.equals(clubName, that.clubName) &&
+        Objects.equals(positionProbabilities, that.positionProbabilities);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(currentPosition, clubId, clubName, currentPoints, expectedPoints, positionProbabilities);
+  }
+
+}
@@ -0,0 +1,29 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "試合日終了時点の順位一覧情報を保持するレコードクラス")
+public record DayStanding(
+    LocalDate gameDate,
+    List<ClubPosition> clubPositions
+) {
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    DayStanding that = (DayStanding) o;
+    return gameDate.equals(that.gameDate) &&
+        clubPositions.equals(that.clubPositions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(gameDate, clubPositions);
+  }
+
+}
@@ -0,0 +1,17 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "リーグ・シーズンの成績項目ごとの選手ランキングを保持するレコードクラス")
+public record Leaderboard(
+    int leagueId,
+    int seasonId,
+    LeaderboardStatistic statistic,
+    int limit,
+    List<LeaderboardEntry> entries,
+    String leagueName,
+    String seasonName
+) {
+
+}
@@ -0,0 +1,18 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "ランキングの1行（選手1人分）を保持するレコードクラス")
+public record LeaderboardEntry(
+    @Schema(description = "順位（値と出場時間が同じ選手は同順位）")
+    int rank,
+    int playerId,
+    String playerName,
+    int clubId,
+    String clubName,
+    int value,
+    int games,
+    int minutes
+) {
+
+}
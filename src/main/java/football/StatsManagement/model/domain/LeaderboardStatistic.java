@@ -0,0 +1,62 @@
+package football.StatsManagement.model.domain;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.function.ToIntFunction;
+
+@Schema(description = "ランキングの対象となる成績項目を表す列挙型")
+public enum LeaderboardStatistic {
+  GOALS("goals", "goals", PlayerSeasonTotal::getGoals),
+  ASSISTS("assists", "assists", PlayerSeasonTotal::getAssists),
+  MINUTES("minutes", "minutes", PlayerSeasonTotal::getMinutes),
+  YELLOW_CARDS("yellow-cards", "yellow_cards", PlayerSeasonTotal::getYellowCards),
+  RED_CARDS("red-cards", "red_cards", PlayerSeasonTotal::getRedCards);
+
+  // コントローラーのパスバリアブルの検証用（pathNameの一覧）
+  public static final String PATH_NAME_PATTERN = "goals|assists|minutes|yellow-cards|red-cards";
+
+  private final String pathName;
+  private final String columnName; // player_season_totalsテーブルの列名（SQLに埋め込むため定数のみ）
+  private final ToIntFunction<PlayerSeasonTotal> getter;
+
+  LeaderboardStatistic(String pathName, String columnName, ToIntFunction<PlayerSeasonTotal> getter) {
+    this.pathName = pathName;
+    this.columnName = columnName;
+    this.getter = getter;
+  }
+
+  /**
+   * パスバリアブルの値から成績項目を取得する
+   * @param pathName パスバリアブルの値（例: yellow-cards）
+   * @return 成績項目
+   * @throws IllegalArgumentException 該当する成績項目がない場合
+   */
+  public static LeaderboardStatistic fromPathName(String pathName) {
+    for (LeaderboardStatistic statistic : values()) {
+      if (statistic.pathName.equals(pathName)) {
+        return statistic;
+      }
+    }
+    throw new IllegalArgumentException("Unknown leaderboard statistic: " + pathName);
+  }
+
+  @JsonValue
+  public String getPathName() {
+    return pathName;
+  }
+
+  public String getColumnName() {
+    return columnName;
+  }
+
+  /**
+   * 合計成績からこの項目の値を取得する
+   * @param playerSeasonTotal 合計成績
+   * @return 項目の値
+   */
+  public int getValue(PlayerSeasonTotal playerSeasonTotal) {
+    return getter.applyAsInt(playerSeasonTotal);
+  }
+
+}
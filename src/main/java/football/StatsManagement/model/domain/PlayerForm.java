@@ -0,0 +1,42 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "選手のシーズンの90分あたりの成績と直近5試合・10試合の成績を保持するレコードクラス")
+public record PlayerForm(
+    int playerId,
+    int seasonId,
+    @Schema(description = "シーズン全体")
+    FormWindow season,
+    @Schema(description = "直近5試合")
+    FormWindow last5,
+    @Schema(description = "直近10試合")
+    FormWindow last10
+) {
+
+  @Schema(description = "期間内の出場数・合計と90分あたりの得点・アシストを保持するレコードクラス")
+  public record FormWindow(
+      int games,
+      int goals,
+      int assists,
+      int minutes,
+      double goalsPer90,
+      double assistsPer90
+  ) {
+
+    /**
+     * 合計から90分あたりの値を計算して作成する（出場時間が0の場合は0）
+     * @param games 出場数
+     * @param goals 得点
+     * @param assists アシスト
+     * @param minutes 出場時間
+     * @return 期間の成績
+     */
+    public static FormWindow of(int games, int goals, int assists, int minutes) {
+      double goalsPer90 = minutes == 0 ? 0 : goals * 90.0 / minutes;
+      double assistsPer90 = minutes == 0 ? 0 : assists * 90.0 / minutes;
+      return new FormWindow(games, goals, assists, minutes, goalsPer90, assistsPer90);
+    }
+  }
+
+}
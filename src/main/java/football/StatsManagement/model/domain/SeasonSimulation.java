@@ -0,0 +1,38 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "シーズンの残り試合のシミュレーション結果を保持するレコードクラス")
+public record SeasonSimulation(
+    int leagueId,
+    int seasonId,
+    int iterations,
+    int remainingGames,
+    List<ClubSimulation> clubSimulations,
+    String leagueName,
+    String seasonName) {
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    SeasonSimulation that = (SeasonSimulation) o;
+
+    return leagueId == that.leagueId &&
+        seasonId == that.seasonId &&
+        iterations == that.iterations &&
+        remainingGames == that.remainingGames &&
+        leagueName.equals(that.leagueName) &&
+        seasonName.equals(that.seasonName) &&
+        clubSimulations.equals(that.clubSimulations);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(leagueId, seasonId, iterations, remainingGames, clubSimulations, leagueName, seasonName);
+  }
+}
@@ -0,0 +1,34 @@
+package football.StatsManagement.model.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "リーグの試合日ごとの順位推移情報を保持するレコードクラス")
+public record StandingHistory(
+    int leagueId,
+    int seasonId,
+    List<DayStanding> dayStandings,
+    String leagueName,
+    String seasonName) {
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    StandingHistory that = (StandingHistory) o;
+
+    return leagueId == that.leagueId &&
+        seasonId == that.seasonId &&
+        leagueName.equals(that.leagueName) &&
+        seasonName.equals(that.seasonName) &&
+        dayStandings.equals(that.dayStandings);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(leagueId, seasonId, dayStandings, leagueName, seasonName);
+  }
+}
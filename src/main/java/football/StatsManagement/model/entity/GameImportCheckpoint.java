@@ -0,0 +1,32 @@
+package football.StatsManagement.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "過去シーズンの取込の進捗（game_import_checkpointsテーブル）を保持するエンティティクラス")
+@Getter
+@AllArgsConstructor // @Select用
+public class GameImportCheckpoint {
+  private final String importKey;
+  private final String contentHash;
+  private final long lastLine;
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    GameImportCheckpoint that = (GameImportCheckpoint) o;
+    return lastLine == that.lastLine &&
+        Objects.equals(importKey, that.importKey) &&
+        Objects.equals(contentHash, that.contentHash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(importKey, contentHash, lastLine);
+  }
+
+}
@@ -11,7 +11,7 @@ import lombok.Setter;
 @Schema(description = "試合結果情報を保持するエンティティクラス")
 @Getter
 @Setter
-@AllArgsConstructor // テスト用
+@AllArgsConstructor // テスト用、クラブ名を含む@Select用
 public class GameResult {
   private final int id;
   private int homeClubId;
@@ -0,0 +1,90 @@
+package football.StatsManagement.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "選手試合成績と、その試合の試合結果（日付・クラブ名・スコア）を1行で保持するエンティティクラス")
+@Getter
+@AllArgsConstructor // @Select用
+public class PlayerGameStatWithGame {
+  // player_game_stats
+  private final int id;
+  private final int playerId;
+  private final int clubId;
+  private final int number;
+  private final boolean starter;
+  private final int goals;
+  private final int assists;
+  private final int ownGoals;
+  private final int minutes;
+  private final int yellowCards;
+  private final int redCards;
+  private final int gameId;
+  // game_results（クラブ名はclubsテーブルから取得）
+  private final int seasonId;
+  private final LocalDate gameDate;
+  private final int homeClubId;
+  private final int awayClubId;
+  private final int homeScore;
+  private final int awayScore;
+  private final Integer winnerClubId;
+  private final String homeClubName;
+  private final String awayClubName;
+
+  /**
+   * gameDate, opponentClubName, scoreを設定した選手試合成績を作成する
+   * @return 選手試合成績
+   */
+  public PlayerGameStat toPlayerGameStat() {
+    String opponentClubName = homeClubId == clubId ? awayClubName : homeClubName;
+    String score = homeScore + "-" + awayScore;
+    if (winnerClubId == null) {
+      score = "△" + score;
+    } else if (winnerClubId == clubId) {
+      score = "○" + score;
+    } else {
+      score = "●" + score;
+    }
+    return new PlayerGameStat(id, playerId, clubId, number, starter, goals, assists, ownGoals, minutes, yellowCards, redCards,
+        gameId, gameDate, opponentClubName, score);
+  }
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PlayerGameStatWithGame that = (PlayerGameStatWithGame) o;
+    return id == that.id &&
+        playerId == that.playerId &&
+        clubId == that.clubId &&
+        number == that.number &&
+        starter == that.starter &&
+        goals == that.goals &&
+        assists == that.assists &&
+        ownGoals == that.ownGoals &&
+        minutes == that.minutes &&
+        yellowCards == that.yellowCards &&
+        redCards == that.redCards &&
+        gameId == that.gameId &&
+        seasonId == that.seasonId &&
+        homeClubId == that.homeClubId &&
+        awayClubId == that.awayClubId &&
+        homeScore == that.homeScore &&
+        awayScore == that.awayScore &&
+        Objects.equals(gameDate, that.gameDate) &&
+        Objects.equals(winnerClubId, that.winnerClubId) &&
+        Objects.equals(homeClubName, that.homeClubName) &&
+        Objects.equals(awayClubName, that.awayClubName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, playerId, clubId, number, starter, goals, assists, ownGoals, minutes, yellowCards, redCards, gameId, seasonId,
+        gameDate, homeClubId, awayClubId, homeScore, awayScore, winnerClubId, homeClubName, awayClubName);
+  }
+
+}
@@ -0,0 +1,23 @@
+package football.StatsManagement.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "選手試合成績の集計用の項目と、その試合のシーズンIDを1行で保持するエンティティクラス")
+@Getter
+@AllArgsConstructor // @Select用
+public class PlayerGameStatWithSeason {
+  private final int id;
+  private final int playerId;
+  private final int clubId;
+  private final int gameId;
+  private final int seasonId;
+  private final boolean starter;
+  private final int goals;
+  private final int assists;
+  private final int minutes;
+  private final int yellowCards;
+  private final int redCards;
+
+}
@@ -0,0 +1,80 @@
+package football.StatsManagement.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "選手のシーズン・クラブごとの合計成績（player_season_totalsテーブル、取得時は名前を含む）を保持するエンティティクラス")
+@Getter
+@AllArgsConstructor // @Select用
+public class PlayerSeasonTotal {
+  private final int playerId;
+  private final int seasonId;
+  private final int clubId;
+  private final int games;
+  private final int starterGames;
+  private final int goals;
+  private final int assists;
+  private final int minutes;
+  private final int yellowCards;
+  private final int redCards;
+  private final String playerName;
+  private final String clubName;
+  private final String seasonName;
+
+  /**
+   * 1試合分の成績（player_season_totalsテーブルへの加算分）を作成する
+   * @param playerGameStat 選手試合成績（clubIdが設定済みのもの）
+   * @param seasonId シーズンID
+   * @return 1試合分の成績（名前はnull）
+   */
+  public static PlayerSeasonTotal of(PlayerGameStat playerGameStat, int seasonId) {
+    return new PlayerSeasonTotal(playerGameStat.getPlayerId(), seasonId, playerGameStat.getClubId(),
+        1, playerGameStat.isStarter() ? 1 : 0, playerGameStat.getGoals(), playerGameStat.getAssists(), playerGameStat.getMinutes(),
+        playerGameStat.getYellowCards(), playerGameStat.getRedCards(), null, null, null);
+  }
+
+  /**
+   * 同じ選手・シーズン・クラブの成績を加算した成績を作成する
+   * @param other 加算する成績
+   * @return 加算した成績（名前はこの成績のもの）
+   */
+  public PlayerSeasonTotal plus(PlayerSeasonTotal other) {
+    return new PlayerSeasonTotal(playerId, seasonId, clubId, games + other.games, starterGames + other.starterGames,
+        goals + other.goals, assists + other.assists, minutes + other.minutes, yellowCards + other.yellowCards,
+        redCards + other.redCards, playerName, clubName, seasonName);
+  }
+
+  public int getSubstituteGames() {
+    return games - starterGames;
+  }
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PlayerSeasonTotal that = (PlayerSeasonTotal) o;
+    return playerId == that.playerId &&
+        seasonId == that.seasonId &&
+        clubId == that.clubId &&
+        games == that.games &&
+        starterGames == that.starterGames &&
+        goals == that.goals &&
+        assists == that.assists &&
+        minutes == that.minutes &&
+        yellowCards == that.yellowCards &&
+        redCards == that.redCards &&
+        Objects.equals(playerName, that.playerName) &&
+        Objects.equals(clubName, that.clubName) &&
+        Objects.equals(seasonName, that.seasonName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(playerId, seasonId, clubId, games, starterGames, goals, assists, minutes, yellowCards, redCards,
+        playerName, clubName, seasonName);
+  }
+
+}
@@ -0,0 +1,81 @@
+package football.StatsManagement.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "リーグ・シーズン・クラブごとの集計済み成績（standingsテーブル）を保持するエンティティクラス")
+@Getter
+@AllArgsConstructor // @Select用
+public class StandingRecord {
+  private final int leagueId;
+  private final int seasonId;
+  private final int clubId;
+  private final int gamesPlayed;
+  private final int wins;
+  private final int draws;
+  private final int losses;
+  private final int goalsFor;
+  private final int goalsAgainst;
+  private final int points;
+
+  /**
+   * 1試合分の成績（standingsテーブルへの加算分）を作成する
+   * @param gameResult 試合結果
+   * @param clubId 対象クラブID（ホームまたはアウェイ）
+   * @return 1試合分の成績
+   */
+  public static StandingRecord of(GameResult gameResult, int clubId) {
+    boolean isHome = gameResult.getHomeClubId() == clubId;
+    int goalsFor = isHome ? gameResult.getHomeScore() : gameResult.getAwayScore();
+    int goalsAgainst = isHome ? gameResult.getAwayScore() : gameResult.getHomeScore();
+    int wins = 0;
+    int draws = 0;
+    int losses = 0;
+    if (gameResult.getWinnerClubId() == null) {
+      draws = 1;
+    } else if (gameResult.getWinnerClubId() == clubId) {
+      wins = 1;
+    } else {
+      losses = 1;
+    }
+    return new StandingRecord(gameResult.getLeagueId(), gameResult.getSeasonId(), clubId,
+        1, wins, draws, losses, goalsFor, goalsAgainst, wins * 3 + draws);
+  }
+
+  /**
+   * 同じリーグ・シーズン・クラブの成績を加算した成績を作成する
+   * @param other 加算する成績
+   * @return 加算した成績
+   */
+  public StandingRecord plus(StandingRecord other) {
+    return new StandingRecord(leagueId, seasonId, clubId, gamesPlayed + other.gamesPlayed, wins + other.wins,
+        draws + other.draws, losses + other.losses, goalsFor + other.goalsFor, goalsAgainst + other.goalsAgainst,
+        points + other.points);
+  }
+
+  // テスト用にequalsとhashCodeをオーバーライド
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    StandingRecord that = (StandingRecord) o;
+    return leagueId == that.leagueId &&
+        seasonId == that.seasonId &&
+        clubId == that.clubId &&
+        gamesPlayed == that.gamesPlayed &&
+        wins == that.wins &&
+        draws == that.draws &&
+        losses == that.losses &&
+        goalsFor == that.goalsFor &&
+        goalsAgainst == that.goalsAgainst &&
+        points == that.points;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(leagueId, seasonId, clubId, gamesPlayed, wins, draws, losses, goalsFor, goalsAgainst, points);
+  }
+
+}
@@ -11,6 +11,6 @@ public class LeagueRegulationForJson {
   @Positive
   private int leagueId;
 
-  // ToDo:Serviceでバリデーションを実施（NotNull, NotEmpty, Positive）
+  // Serviceでバリデーションを実施（空・重複・存在しない比較項目）
   private List<Integer> comparisonItemIds;
 }
@@ -0,0 +1,13 @@
+package football.StatsManagement.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "複数試合の登録結果を保持するレスポンス用レコードクラス")
+public record BatchGameRegistrationResult(
+    String mode, // 登録方式（ALL_OR_NOTHING: 一括、PER_GAME: 試合ごと）
+    int registeredCount,
+    List<GameRegistrationStatus> games // リクエストの順序
+) {
+
+}
@@ -0,0 +1,15 @@
+package football.StatsManagement.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "キャッシュのヒット数・ミス数・破棄数を保持するレスポンス用レコードクラス")
+public record CacheStatistics(
+    String name,
+    long size,
+    long hitCount,
+    long missCount,
+    long evictionCount, // サイズ・期限による破棄数
+    long invalidationCount // 更新処理による破棄数
+) {
+
+}
@@ -0,0 +1,43 @@
+package football.StatsManagement.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "複数試合の登録における試合ごとの登録状況を保持するレスポンス用レコードクラス")
+public record GameRegistrationStatus(
+    int index, // リクエスト内の位置（0始まり）
+    Status status,
+    Integer gameId, // 登録された試合ID（登録されていない場合はnull）
+    String message // 登録されなかった理由（登録された場合はnull）
+) {
+
+  public enum Status {
+    VALIDATED, // 検証済み（未登録）
+    REGISTERED, // 登録済み
+    INVALID, // 整合性に問題があるため登録しない
+    NOT_FOUND, // リーグ・クラブ・選手が存在しないため登録しない
+    SKIPPED, // 他の試合に問題があるため登録しない（一括登録の場合）
+    FAILED // 登録処理で失敗した（試合ごとに登録する場合）
+  }
+
+  public static GameRegistrationStatus validated(int index) {
+    return new GameRegistrationStatus(index, Status.VALIDATED, null, null);
+  }
+
+  public static GameRegistrationStatus rejected(int index, Status status, String message) {
+    return new GameRegistrationStatus(index, status, null, message);
+  }
+
+  /**
+   * 登録済みの状態を作成する
+   * @param gameId 登録された試合ID
+   * @return 登録済みの状態
+   */
+  public GameRegistrationStatus toRegistered(int gameId) {
+    return new GameRegistrationStatus(index, Status.REGISTERED, gameId, null);
+  }
+
+  public boolean isValidated() {
+    return status == Status.VALIDATED;
+  }
+
+}
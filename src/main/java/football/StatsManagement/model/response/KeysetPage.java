@@ -0,0 +1,66 @@
+package football.StatsManagement.model.response;
+
+import football.StatsManagement.exception.FootballException;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+@Schema(description = "IDの昇順でページ分割した一覧を保持するレスポンス用レコードクラス（キーセット方式）")
+public record KeysetPage<T>(
+    List<T> items,
+    String nextPageToken // 次ページの取得用トークン（最終ページの場合はnull）
+) {
+  private static final String TOKEN_PREFIX = "id:";
+
+  /**
+   * ページサイズより1件多く取得した一覧からページを作成する（超過分があれば次ページのトークンを設定する）
+   * @param rows ID昇順でpageSize + 1件まで取得した一覧
+   * @param pageSize ページサイズ
+   * @param idGetter IDの取得処理
+   * @return ページ
+   */
+  public static <T> KeysetPage<T> of(List<T> rows, int pageSize, ToIntFunction<T> idGetter) {
+    if (rows.size() <= pageSize) {
+      return new KeysetPage<>(rows, null);
+    }
+    List<T> items = rows.subList(0, pageSize);
+    return new KeysetPage<>(List.copyOf(items), encodeToken(idGetter.applyAsInt(items.getLast())));
+  }
+
+  /**
+   * 次ページの取得用トークンを作成する
+   * @param lastId ページの最後の要素のID
+   * @return トークン
+   */
+  public static String encodeToken(int lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((TOKEN_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * トークンから前ページの最後の要素のIDを取り出す
+   * @param pageToken トークン（nullの場合は先頭ページ）
+   * @return 前ページの最後の要素のID（先頭ページの場合は0）
+   * @throws FootballException トークンが不正な場合
+   */
+  public static int decodeToken(String pageToken) throws FootballException {
+    if (pageToken == null) {
+      return 0;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      if (decoded.startsWith(TOKEN_PREFIX)) {
+        int lastId = Integer.parseInt(decoded.substring(TOKEN_PREFIX.length()));
+        if (lastId > 0) {
+          return lastId;
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      // 下で不正なトークンとして扱う（NumberFormatExceptionを含む）
+    }
+    throw new FootballException("Invalid page token");
+  }
+
+}
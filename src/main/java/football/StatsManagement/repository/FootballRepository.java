@@ -3,20 +3,31 @@ package football.StatsManagement.repository;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.ComparisonItem;
 import football.StatsManagement.model.entity.Country;
+import football.StatsManagement.model.entity.GameImportCheckpoint;
 import football.StatsManagement.model.entity.GameResult;
 import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerGameStatWithGame;
+import football.StatsManagement.model.entity.PlayerGameStatWithSeason;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.MapKey;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface FootballRepository {
@@ -62,6 +73,19 @@ public interface FootballRepository {
   @Options(useGeneratedKeys = true, keyProperty = "id")
   void insertPlayerGameStat(PlayerGameStat playerGameStats);
 
+  /**
+   * 選手の試合成績の一括登録（1回のINSERTで登録し、採番されたIDを各選手の試合成績に設定する）
+   * @param playerGameStats 選手の試合成績一覧（1件以上）
+   */
+  @Insert({"<script>",
+      "INSERT INTO player_game_stats (player_id, club_id, number, starter, goals, assists, own_goals, minutes, yellow_cards, red_cards, game_id) VALUES",
+      "<foreach collection='list' item='stat' separator=','>",
+      "(#{stat.playerId}, #{stat.clubId}, #{stat.number}, #{stat.starter}, #{stat.goals}, #{stat.assists}, #{stat.ownGoals}, #{stat.minutes}, #{stat.yellowCards}, #{stat.redCards}, #{stat.gameId})",
+      "</foreach>",
+      "</script>"})
+  @Options(useGeneratedKeys = true, keyProperty = "id")
+  void insertPlayerGameStats(List<PlayerGameStat> playerGameStats);
+
   /**
    * 試合結果の登録
    * @param gameResult 試合結果
@@ -70,6 +94,19 @@ public interface FootballRepository {
   @Options(useGeneratedKeys = true, keyProperty = "id")
   void insertGameResult(GameResult gameResult);
 
+  /**
+   * 試合結果の一括登録（1回のINSERTで登録し、採番されたIDを各試合結果に設定する）
+   * @param gameResults 試合結果一覧（1件以上）
+   */
+  @Insert({"<script>",
+      "INSERT INTO game_results (home_club_id, away_club_id, home_score, away_score, winner_club_id, league_id, game_date, season_id) VALUES",
+      "<foreach collection='list' item='game' separator=','>",
+      "(#{game.homeClubId}, #{game.awayClubId}, #{game.homeScore}, #{game.awayScore}, #{game.winnerClubId}, #{game.leagueId}, #{game.gameDate}, #{game.seasonId})",
+      "</foreach>",
+      "</script>"})
+  @Options(useGeneratedKeys = true, keyProperty = "id")
+  void insertGameResults(List<GameResult> gameResults);
+
   /**
    * シーズンの登録
    * @param season シーズン
@@ -94,6 +131,56 @@ public interface FootballRepository {
   @Options(useGeneratedKeys = true, keyProperty = "id")
   void insertComparisonItem(ComparisonItem comparisonItem);
 
+  /**
+   * 集計済み成績の一括登録（1回のINSERTで登録し、既に行がある場合は各項目に加算する）
+   * @param standingRecords 加算する成績一覧（1件以上、リーグ・シーズン・クラブが重複しないもの）
+   */
+  @Insert({"<script>",
+      "INSERT INTO standings (league_id, season_id, club_id, games_played, wins, draws, losses, goals_for, goals_against, points) VALUES",
+      "<foreach collection='list' item='record' separator=','>",
+      "(#{record.leagueId}, #{record.seasonId}, #{record.clubId}, #{record.gamesPlayed}, #{record.wins}, #{record.draws}, #{record.losses}, #{record.goalsFor}, #{record.goalsAgainst}, #{record.points})",
+      "</foreach>",
+      "ON DUPLICATE KEY UPDATE",
+      "games_played = games_played + VALUES(games_played),",
+      "wins = wins + VALUES(wins),",
+      "draws = draws + VALUES(draws),",
+      "losses = losses + VALUES(losses),",
+      "goals_for = goals_for + VALUES(goals_for),",
+      "goals_against = goals_against + VALUES(goals_against),",
+      "points = points + VALUES(points)",
+      "</script>"})
+  void upsertStandings(List<StandingRecord> standingRecords);
+
+  /**
+   * 選手のシーズン合計成績の一括登録（1回のINSERTで登録し、既に行がある場合は各項目に加算する）
+   * @param playerSeasonTotals 加算する成績一覧（1件以上、選手・シーズン・クラブが重複しないもの）
+   */
+  @Insert({"<script>",
+      "INSERT INTO player_season_totals (player_id, season_id, club_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards) VALUES",
+      "<foreach collection='list' item='total' separator=','>",
+      "(#{total.playerId}, #{total.seasonId}, #{total.clubId}, #{total.games}, #{total.starterGames}, #{total.goals}, #{total.assists}, #{total.minutes}, #{total.yellowCards}, #{total.redCards})",
+      "</foreach>",
+      "ON DUPLICATE KEY UPDATE",
+      "games = games + VALUES(games),",
+      "starter_games = starter_games + VALUES(starter_games),",
+      "goals = goals + VALUES(goals),",
+      "assists = assists + VALUES(assists),",
+      "minutes = minutes + VALUES(minutes),",
+      "yellow_cards = yellow_cards + VALUES(yellow_cards),",
+      "red_cards = red_cards + VALUES(red_cards)",
+      "</script>"})
+  void upsertPlayerSeasonTotals(List<PlayerSeasonTotal> playerSeasonTotals);
+
+  /**
+   * 過去シーズンの取込の進捗の登録・更新（取込済みのバッチと同一トランザクション内で更新する）
+   * @param importKey 取込の識別子（ファイルの絶対パス）
+   * @param contentHash ファイルの内容のハッシュ値（内容が変わったファイルを先頭から取り込み直す場合は進捗ごと置き換える）
+   * @param lastLine 取込済みの最終行番号
+   */
+  @Insert("INSERT INTO game_import_checkpoints (import_key, content_hash, last_line) VALUES (#{importKey}, #{contentHash}, #{lastLine})" +
+      " ON DUPLICATE KEY UPDATE content_hash = #{contentHash}, last_line = #{lastLine}")
+  void upsertGameImportCheckpoint(String importKey, String contentHash, long lastLine);
+
 //  Select
 
   /**
@@ -128,6 +215,18 @@ public interface FootballRepository {
   @Select("SELECT * FROM players WHERE id = #{id}")
   Optional<Player> selectPlayer(int id);
 
+  /**
+   * 選手IDの一覧による選手の一括取得
+   * @param ids 選手ID一覧（1件以上）
+   * @return 選手IDをキーとした選手（存在しない選手IDは含まれない）
+   */
+  @Select({"<script>",
+      "SELECT * FROM players WHERE id IN",
+      "<foreach collection='list' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+      "</script>"})
+  @MapKey("id")
+  Map<Integer, Player> selectPlayersByIds(List<Integer> ids);
+
   /**
    * 選手の試合成績の取得
    * @param id 選手の試合成績ID
@@ -154,6 +253,29 @@ public interface FootballRepository {
   @Select("SELECT * FROM game_results WHERE season_id = #{seasonId} AND league_id = #{leagueId}")
   List<GameResult> selectGameResultsByLeagueAndSeason(int seasonId, int leagueId);
 
+  /**
+   * シーズンとリーグによる試合結果一覧の取得（両クラブ名を含む）
+   * @param seasonId シーズンID
+   * @param leagueId リーグID
+   * @return 試合結果一覧（試合日順）
+   */
+  @Select("SELECT gr.id, gr.home_club_id, gr.away_club_id, gr.home_score, gr.away_score, gr.winner_club_id," +
+      " gr.league_id, gr.game_date, gr.season_id, hc.name AS home_club_name, ac.name AS away_club_name" +
+      " FROM game_results gr" +
+      " JOIN clubs hc ON gr.home_club_id = hc.id" +
+      " JOIN clubs ac ON gr.away_club_id = ac.id" +
+      " WHERE gr.season_id = #{seasonId} AND gr.league_id = #{leagueId}" +
+      " ORDER BY gr.game_date, gr.id")
+  List<GameResult> selectGameResultsWithClubNamesByLeagueAndSeason(int seasonId, int leagueId);
+
+  /**
+   * シーズンによる試合結果一覧の取得（全リーグ）
+   * @param seasonId シーズンID
+   * @return 試合結果一覧
+   */
+  @Select("SELECT * FROM game_results WHERE season_id = #{seasonId}")
+  List<GameResult> selectGameResultsBySeason(int seasonId);
+
   /**
    * シーズンとリーグによる試合日一覧の取得
    * @param seasonId シーズンID
@@ -179,6 +301,16 @@ public interface FootballRepository {
   @Select("SELECT * FROM player_game_stats WHERE player_id = #{playerId}")
   List<PlayerGameStat> selectPlayerGameStatsByPlayer(int playerId);
 
+  /**
+   * 選手の試合成績一覧のページの取得（IDの昇順で、指定したIDより後のものをlimit件まで）
+   * @param playerId 選手ID
+   * @param afterId 前ページの最後の試合成績ID（先頭ページの場合は0）
+   * @param limit 件数
+   * @return 選手の試合成績一覧
+   */
+  @Select("SELECT * FROM player_game_stats WHERE player_id = #{playerId} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+  List<PlayerGameStat> selectPlayerGameStatsByPlayerAfter(int playerId, int afterId, int limit);
+
   /**
    * クラブの選手一覧の取得
    * @param clubId　クラブID
@@ -240,6 +372,39 @@ public interface FootballRepository {
   @Select("SELECT * FROM clubs")
   List<Club> selectClubs();
 
+  /**
+   * クラブ一覧のページの取得（IDの昇順で、指定したIDより後のものをlimit件まで）
+   * @param afterId 前ページの最後のクラブID（先頭ページの場合は0）
+   * @param limit 件数
+   * @return クラブ一覧
+   */
+  @Select("SELECT * FROM clubs WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+  List<Club> selectClubsAfter(int afterId, int limit);
+
+  /**
+   * リーグIDの一覧によるリーグの一括取得
+   * @param ids リーグID一覧（1件以上）
+   * @return リーグIDをキーとしたリーグ（存在しないリーグIDは含まれない）
+   */
+  @Select({"<script>",
+      "SELECT * FROM leagues WHERE id IN",
+      "<foreach collection='list' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+      "</script>"})
+  @MapKey("id")
+  Map<Integer, League> selectLeaguesByIds(List<Integer> ids);
+
+  /**
+   * クラブIDの一覧によるクラブの一括取得
+   * @param ids クラブID一覧（1件以上）
+   * @return クラブIDをキーとしたクラブ（存在しないクラブIDは含まれない）
+   */
+  @Select({"<script>",
+      "SELECT * FROM clubs WHERE id IN",
+      "<foreach collection='list' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+      "</script>"})
+  @MapKey("id")
+  Map<Integer, Club> selectClubsByIds(List<Integer> ids);
+
   /**
    * 選手一覧の取得
    * @return 選手一覧
@@ -247,6 +412,15 @@ public interface FootballRepository {
   @Select("SELECT * FROM players")
   List<Player> selectPlayers();
 
+  /**
+   * 選手一覧のページの取得（IDの昇順で、指定したIDより後のものをlimit件まで）
+   * @param afterId 前ページの最後の選手ID（先頭ページの場合は0）
+   * @param limit 件数
+   * @return 選手一覧
+   */
+  @Select("SELECT * FROM players WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+  List<Player> selectPlayersAfter(int afterId, int limit);
+
   /**
    * クラブIDがnullの選手一覧の取得
    * @return 選手一覧
@@ -261,6 +435,15 @@ public interface FootballRepository {
   @Select("SELECT * FROM game_results")
   List<GameResult> selectGameResults();
 
+  /**
+   * 試合結果一覧のページの取得（IDの昇順で、指定したIDより後のものをlimit件まで）
+   * @param afterId 前ページの最後の試合ID（先頭ページの場合は0）
+   * @param limit 件数
+   * @return 試合結果一覧
+   */
+  @Select("SELECT * FROM game_results WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+  List<GameResult> selectGameResultsAfter(int afterId, int limit);
+
   /**
    * 選手の試合成績一覧の取得
    * @return 選手の試合成績一覧
@@ -268,6 +451,15 @@ public interface FootballRepository {
   @Select("SELECT * FROM player_game_stats")
   List<PlayerGameStat> selectPlayerGameStats();
 
+  /**
+   * 選手の試合成績一覧のページの取得（IDの昇順で、指定したIDより後のものをlimit件まで）
+   * @param afterId 前ページの最後の試合成績ID（先頭ページの場合は0）
+   * @param limit 件数
+   * @return 選手の試合成績一覧
+   */
+  @Select("SELECT * FROM player_game_stats WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+  List<PlayerGameStat> selectPlayerGameStatsAfter(int afterId, int limit);
+
   /**
    * シーズン一覧の取得
    * @return シーズン一覧
@@ -275,6 +467,14 @@ public interface FootballRepository {
   @Select("SELECT * FROM seasons")
   List<Season> selectSeasons();
 
+  /**
+   * 過去シーズンの取込の進捗の取得
+   * @param importKey 取込の識別子（ファイルの絶対パス）
+   * @return 取込の進捗（取込を始めていない場合は空）
+   */
+  @Select("SELECT import_key, content_hash, last_line FROM game_import_checkpoints WHERE import_key = #{importKey}")
+  Optional<GameImportCheckpoint> selectGameImportCheckpoint(String importKey);
+
   /**
    * リーグ規定一覧の取得
    * @return リーグ規定一覧
@@ -320,6 +520,79 @@ public interface FootballRepository {
       "WHERE gr.season_id = #{seasonId} AND pgs.player_id = #{playerId}")
   List<PlayerGameStat> selectPlayerGameStatsByPlayerAndSeason(int playerId, int seasonId);
 
+  /**
+   * 選手IDとシーズンIDによる選手の試合成績一覧の取得（試合日・両クラブ名・スコアを含む）
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @return 試合結果を含む選手の試合成績一覧（試合日順）
+   */
+  @Select("SELECT pgs.id, pgs.player_id, pgs.club_id, pgs.number, pgs.starter, pgs.goals, pgs.assists, pgs.own_goals," +
+      " pgs.minutes, pgs.yellow_cards, pgs.red_cards, pgs.game_id," +
+      " gr.season_id, gr.game_date, gr.home_club_id, gr.away_club_id, gr.home_score, gr.away_score, gr.winner_club_id," +
+      " hc.name AS home_club_name, ac.name AS away_club_name" +
+      " FROM player_game_stats pgs" +
+      " JOIN game_results gr ON pgs.game_id = gr.id" +
+      " JOIN clubs hc ON gr.home_club_id = hc.id" +
+      " JOIN clubs ac ON gr.away_club_id = ac.id" +
+      " WHERE gr.season_id = #{seasonId} AND pgs.player_id = #{playerId}" +
+      " ORDER BY gr.game_date, pgs.id")
+  List<PlayerGameStatWithGame> selectPlayerGameStatsWithGameByPlayerAndSeason(int playerId, int seasonId);
+
+  /**
+   * 選手IDによる全シーズンの試合成績の取得（試合日・両クラブ名・スコアを含む）
+   * 一覧は作成せず、fetchSize件ずつDBから読み込むCursorで返す（トランザクション内で読み切ること）
+   * @param playerId 選手ID
+   * @return 試合結果を含む選手の試合成績のCursor（試合日順）
+   */
+  @Select("SELECT pgs.id, pgs.player_id, pgs.club_id, pgs.number, pgs.starter, pgs.goals, pgs.assists, pgs.own_goals," +
+      " pgs.minutes, pgs.yellow_cards, pgs.red_cards, pgs.game_id," +
+      " gr.season_id, gr.game_date, gr.home_club_id, gr.away_club_id, gr.home_score, gr.away_score, gr.winner_club_id," +
+      " hc.name AS home_club_name, ac.name AS away_club_name" +
+      " FROM player_game_stats pgs" +
+      " JOIN game_results gr ON pgs.game_id = gr.id" +
+      " JOIN clubs hc ON gr.home_club_id = hc.id" +
+      " JOIN clubs ac ON gr.away_club_id = ac.id" +
+      " WHERE pgs.player_id = #{playerId}" +
+      " ORDER BY gr.game_date, pgs.id")
+  @Options(fetchSize = 500)
+  Cursor<PlayerGameStatWithGame> selectPlayerGameStatsWithGameByPlayer(int playerId);
+
+  /**
+   * 選手IDによる全シーズンの試合成績一覧の取得（試合日・両クラブ名・スコアを含む）
+   * 通算成績の作成でシーズンごとにまとめるため、シーズン順に並べる
+   * @param playerId 選手ID
+   * @return 試合結果を含む選手の試合成績一覧（シーズン・試合日順）
+   */
+  @Select("SELECT pgs.id, pgs.player_id, pgs.club_id, pgs.number, pgs.starter, pgs.goals, pgs.assists, pgs.own_goals," +
+      " pgs.minutes, pgs.yellow_cards, pgs.red_cards, pgs.game_id," +
+      " gr.season_id, gr.game_date, gr.home_club_id, gr.away_club_id, gr.home_score, gr.away_score, gr.winner_club_id," +
+      " hc.name AS home_club_name, ac.name AS away_club_name" +
+      " FROM player_game_stats pgs" +
+      " JOIN game_results gr ON pgs.game_id = gr.id" +
+      " JOIN clubs hc ON gr.home_club_id = hc.id" +
+      " JOIN clubs ac ON gr.away_club_id = ac.id" +
+      " WHERE pgs.player_id = #{playerId}" +
+      " ORDER BY gr.season_id, gr.game_date, pgs.id")
+  List<PlayerGameStatWithGame> selectPlayerGameStatsWithGameByPlayerOrderBySeason(int playerId);
+
+  /**
+   * クラブ所属選手全員のシーズンでの試合成績一覧の取得（試合日・両クラブ名・スコアを含む）
+   * @param clubId クラブID
+   * @param seasonId シーズンID
+   * @return 試合結果を含む選手の試合成績一覧（試合日順）
+   */
+  @Select("SELECT pgs.id, pgs.player_id, pgs.club_id, pgs.number, pgs.starter, pgs.goals, pgs.assists, pgs.own_goals," +
+      " pgs.minutes, pgs.yellow_cards, pgs.red_cards, pgs.game_id," +
+      " gr.season_id, gr.game_date, gr.home_club_id, gr.away_club_id, gr.home_score, gr.away_score, gr.winner_club_id," +
+      " hc.name AS home_club_name, ac.name AS away_club_name" +
+      " FROM player_game_stats pgs" +
+      " JOIN game_results gr ON pgs.game_id = gr.id" +
+      " JOIN clubs hc ON gr.home_club_id = hc.id" +
+      " JOIN clubs ac ON gr.away_club_id = ac.id" +
+      " WHERE gr.season_id = #{seasonId} AND pgs.player_id IN (SELECT id FROM players WHERE club_id = #{clubId})" +
+      " ORDER BY gr.game_date, pgs.id")
+  List<PlayerGameStatWithGame> selectPlayerGameStatsWithGameByClubAndSeason(int clubId, int seasonId);
+
   /**
    * 現在シーズンの取得
    * @return 現在シーズン
@@ -347,6 +620,196 @@ public interface FootballRepository {
       " WHERE gr.season_id = #{seasonId} AND pgs.player_id = #{playerId}"))
   List<Integer> selectClubIdsByPlayerAndSeason(int playerId, int seasonId);
 
+  /**
+   * リーグとシーズンによる集計済み成績一覧の取得
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 集計済み成績一覧
+   */
+  @Select("SELECT league_id, season_id, club_id, games_played, wins, draws, losses, goals_for, goals_against, points" +
+      " FROM standings WHERE league_id = #{leagueId} AND season_id = #{seasonId}")
+  List<StandingRecord> selectStandingsByLeagueAndSeason(int leagueId, int seasonId);
+
+  /**
+   * シーズンによる集計済み成績一覧の取得（全リーグ）
+   * @param seasonId シーズンID
+   * @return 集計済み成績一覧
+   */
+  @Select("SELECT league_id, season_id, club_id, games_played, wins, draws, losses, goals_for, goals_against, points" +
+      " FROM standings WHERE season_id = #{seasonId}")
+  List<StandingRecord> selectStandingsBySeason(int seasonId);
+
+  /**
+   * リーグとシーズンの試合結果から集計した成績一覧の取得（standingsテーブルの再構築・差分確認用）
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 集計した成績一覧
+   */
+  @Select("SELECT league_id, season_id, club_id, COUNT(*) AS games_played, SUM(win) AS wins, SUM(draw) AS draws, SUM(loss) AS losses," +
+      " SUM(goals_for) AS goals_for, SUM(goals_against) AS goals_against, SUM(win * 3 + draw) AS points" +
+      " FROM (" +
+      "  SELECT league_id, season_id, home_club_id AS club_id," +
+      "  CASE WHEN winner_club_id = home_club_id THEN 1 ELSE 0 END AS win," +
+      "  CASE WHEN winner_club_id IS NULL THEN 1 ELSE 0 END AS draw," +
+      "  CASE WHEN winner_club_id = away_club_id THEN 1 ELSE 0 END AS loss," +
+      "  home_score AS goals_for, away_score AS goals_against" +
+      "  FROM game_results WHERE league_id = #{leagueId} AND season_id = #{seasonId}" +
+      "  UNION ALL" +
+      "  SELECT league_id, season_id, away_club_id AS club_id," +
+      "  CASE WHEN winner_club_id = away_club_id THEN 1 ELSE 0 END AS win," +
+      "  CASE WHEN winner_club_id IS NULL THEN 1 ELSE 0 END AS draw," +
+      "  CASE WHEN winner_club_id = home_club_id THEN 1 ELSE 0 END AS loss," +
+      "  away_score AS goals_for, home_score AS goals_against" +
+      "  FROM game_results WHERE league_id = #{leagueId} AND season_id = #{seasonId}" +
+      " ) club_game_results" +
+      " GROUP BY league_id, season_id, club_id")
+  List<StandingRecord> selectStandingsCalculatedFromGameResults(int leagueId, int seasonId);
+
+  /**
+   * 全リーグ・全シーズンの集計済み成績一覧の取得
+   * @return 集計済み成績一覧
+   */
+  @Select("SELECT league_id, season_id, club_id, games_played, wins, draws, losses, goals_for, goals_against, points" +
+      " FROM standings")
+  List<StandingRecord> selectStandings();
+
+  /**
+   * 全リーグ・全シーズンの試合結果から集計した成績一覧の取得（standingsテーブルの一括再構築・差分確認用）
+   * @return 集計した成績一覧
+   */
+  @Select("SELECT league_id, season_id, club_id, COUNT(*) AS games_played, SUM(win) AS wins, SUM(draw) AS draws, SUM(loss) AS losses," +
+      " SUM(goals_for) AS goals_for, SUM(goals_against) AS goals_against, SUM(win * 3 + draw) AS points" +
+      " FROM (" +
+      "  SELECT league_id, season_id, home_club_id AS club_id," +
+      "  CASE WHEN winner_club_id = home_club_id THEN 1 ELSE 0 END AS win," +
+      "  CASE WHEN winner_club_id IS NULL THEN 1 ELSE 0 END AS draw," +
+      "  CASE WHEN winner_club_id = away_club_id THEN 1 ELSE 0 END AS loss," +
+      "  home_score AS goals_for, away_score AS goals_against" +
+      "  FROM game_results WHERE league_id IS NOT NULL AND season_id IS NOT NULL" +
+      "  UNION ALL" +
+      "  SELECT league_id, season_id, away_club_id AS club_id," +
+      "  CASE WHEN winner_club_id = away_club_id THEN 1 ELSE 0 END AS win," +
+      "  CASE WHEN winner_club_id IS NULL THEN 1 ELSE 0 END AS draw," +
+      "  CASE WHEN winner_club_id = home_club_id THEN 1 ELSE 0 END AS loss," +
+      "  away_score AS goals_for, home_score AS goals_against" +
+      "  FROM game_results WHERE league_id IS NOT NULL AND season_id IS NOT NULL" +
+      " ) club_game_results" +
+      " WHERE club_id IS NOT NULL" +
+      " GROUP BY league_id, season_id, club_id")
+  List<StandingRecord> selectStandingsCalculatedFromAllGameResults();
+
+  /**
+   * 選手のシーズン・クラブごとの合計成績一覧の取得（選手・クラブ・シーズン名を含む）
+   * @param playerId 選手ID
+   * @return シーズン・クラブごとの合計成績一覧（シーズンID・クラブID順）
+   */
+  @Select("SELECT pst.player_id, pst.season_id, pst.club_id, pst.games, pst.starter_games, pst.goals, pst.assists, pst.minutes," +
+      " pst.yellow_cards, pst.red_cards, p.name AS player_name, c.name AS club_name, s.name AS season_name" +
+      " FROM player_season_totals pst" +
+      " JOIN players p ON pst.player_id = p.id" +
+      " JOIN clubs c ON pst.club_id = c.id" +
+      " JOIN seasons s ON pst.season_id = s.id" +
+      " WHERE pst.player_id = #{playerId}" +
+      " ORDER BY pst.season_id, pst.club_id")
+  List<PlayerSeasonTotal> selectPlayerSeasonTotalsByPlayer(int playerId);
+
+  /**
+   * 選手・シーズン・クラブによる合計成績の取得（選手・クラブ・シーズン名を含む）
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @param clubId クラブID
+   * @return 合計成績（出場がない場合は空）
+   */
+  @Select("SELECT pst.player_id, pst.season_id, pst.club_id, pst.games, pst.starter_games, pst.goals, pst.assists, pst.minutes," +
+      " pst.yellow_cards, pst.red_cards, p.name AS player_name, c.name AS club_name, s.name AS season_name" +
+      " FROM player_season_totals pst" +
+      " JOIN players p ON pst.player_id = p.id" +
+      " JOIN clubs c ON pst.club_id = c.id" +
+      " JOIN seasons s ON pst.season_id = s.id" +
+      " WHERE pst.player_id = #{playerId} AND pst.season_id = #{seasonId} AND pst.club_id = #{clubId}")
+  Optional<PlayerSeasonTotal> selectPlayerSeasonTotal(int playerId, int seasonId, int clubId);
+
+  /**
+   * 全選手のシーズン・クラブごとの合計成績一覧の取得（player_season_totalsテーブルの再構築・差分確認用）
+   * @return 合計成績一覧
+   */
+  @Select("SELECT pst.player_id, pst.season_id, pst.club_id, pst.games, pst.starter_games, pst.goals, pst.assists, pst.minutes," +
+      " pst.yellow_cards, pst.red_cards, p.name AS player_name, c.name AS club_name, s.name AS season_name" +
+      " FROM player_season_totals pst" +
+      " JOIN players p ON pst.player_id = p.id" +
+      " JOIN clubs c ON pst.club_id = c.id" +
+      " JOIN seasons s ON pst.season_id = s.id")
+  List<PlayerSeasonTotal> selectPlayerSeasonTotals();
+
+  /**
+   * 全選手試合成績の集計用の項目とシーズンIDの取得（1行ずつhandlerに渡し、一覧は作成しない）
+   * @param handler 1行ごとの処理
+   */
+  @Select("SELECT pgs.id, pgs.player_id, pgs.club_id, pgs.game_id, gr.season_id, pgs.starter," +
+      " pgs.goals, pgs.assists, pgs.minutes, pgs.yellow_cards, pgs.red_cards" +
+      " FROM player_game_stats pgs" +
+      " JOIN game_results gr ON pgs.game_id = gr.id" +
+      " ORDER BY pgs.id")
+  @ResultType(PlayerGameStatWithSeason.class)
+  void selectPlayerGameStatsWithSeason(ResultHandler<PlayerGameStatWithSeason> handler);
+
+  /**
+   * リーグ・シーズンの成績項目の上位選手の合計成績一覧の取得（選手・クラブ・シーズン名を含む）
+   * リーグの所属クラブはそのシーズンの集計済み成績（standingsテーブル）から判定する
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param statisticColumn 成績項目の列名（LeaderboardStatisticの定数のみを渡すこと）
+   * @param limit 件数
+   * @return 合計成績一覧（項目の値の降順、同じ値の場合は出場時間の昇順・選手ID順、値が0の選手は含まない）
+   */
+  @Select("SELECT pst.player_id, pst.season_id, pst.club_id, pst.games, pst.starter_games, pst.goals, pst.assists, pst.minutes," +
+      " pst.yellow_cards, pst.red_cards, p.name AS player_name, c.name AS club_name, s.name AS season_name" +
+      " FROM standings st" +
+      " JOIN player_season_totals pst ON pst.season_id = st.season_id AND pst.club_id = st.club_id" +
+      " JOIN players p ON pst.player_id = p.id" +
+      " JOIN clubs c ON pst.club_id = c.id" +
+      " JOIN seasons s ON pst.season_id = s.id" +
+      " WHERE st.league_id = #{leagueId} AND st.season_id = #{seasonId} AND pst.${statisticColumn} > 0" +
+      " ORDER BY pst.${statisticColumn} DESC, pst.minutes, pst.player_id" +
+      " LIMIT #{limit}")
+  List<PlayerSeasonTotal> selectPlayerSeasonTotalsForLeaderboard(int leagueId, int seasonId, String statisticColumn, int limit);
+
+  /**
+   * 選手試合成績から集計した全選手のシーズン・クラブごとの合計成績一覧の取得（player_season_totalsテーブルの再構築・差分確認用）
+   * @return 集計した合計成績一覧
+   */
+  @Select("SELECT pgs.player_id, gr.season_id, pgs.club_id, COUNT(*) AS games, SUM(pgs.starter) AS starter_games," +
+      " SUM(pgs.goals) AS goals, SUM(pgs.assists) AS assists, SUM(pgs.minutes) AS minutes," +
+      " SUM(pgs.yellow_cards) AS yellow_cards, SUM(pgs.red_cards) AS red_cards," +
+      " p.name AS player_name, c.name AS club_name, s.name AS season_name" +
+      " FROM player_game_stats pgs" +
+      " JOIN game_results gr ON pgs.game_id = gr.id" +
+      " JOIN players p ON pgs.player_id = p.id" +
+      " JOIN clubs c ON pgs.club_id = c.id" +
+      " JOIN seasons s ON gr.season_id = s.id" +
+      " GROUP BY pgs.player_id, gr.season_id, pgs.club_id, p.name, c.name, s.name")
+  List<PlayerSeasonTotal> selectPlayerSeasonTotalsCalculatedFromPlayerGameStats();
+
+  /**
+   * クラブ所属選手全員のシーズン合計成績一覧の取得（選手・クラブ・シーズン名を含む）
+   * 出場のない選手も全項目0の行として含む
+   * @param clubId クラブID
+   * @param seasonId シーズンID
+   * @return 選手ごとの合計成績一覧（背番号順）
+   */
+  @Select("SELECT p.id AS player_id, s.id AS season_id, c.id AS club_id, COALESCE(pst.games, 0) AS games," +
+      " COALESCE(pst.starter_games, 0) AS starter_games, COALESCE(pst.goals, 0) AS goals," +
+      " COALESCE(pst.assists, 0) AS assists, COALESCE(pst.minutes, 0) AS minutes," +
+      " COALESCE(pst.yellow_cards, 0) AS yellow_cards, COALESCE(pst.red_cards, 0) AS red_cards," +
+      " p.name AS player_name, c.name AS club_name, s.name AS season_name" +
+      " FROM players p" +
+      " JOIN clubs c ON p.club_id = c.id" +
+      " JOIN seasons s ON s.id = #{seasonId}" +
+      " LEFT JOIN player_season_totals pst ON pst.player_id = p.id AND pst.season_id = s.id AND pst.club_id = c.id" +
+      " WHERE p.club_id = #{clubId}" +
+      " ORDER BY p.number")
+  List<PlayerSeasonTotal> selectPlayerSeasonTotalsByClub(int clubId, int seasonId);
+
 //  update
 
   /**
@@ -394,4 +857,33 @@ public interface FootballRepository {
    */
   @Update("UPDATE players SET club_id = null WHERE id = #{id}")
   void updatePlayerClubIdNull(int id);
+
+//  delete
+
+  /**
+   * リーグとシーズンによる集計済み成績の削除
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   */
+  @Delete("DELETE FROM standings WHERE league_id = #{leagueId} AND season_id = #{seasonId}")
+  void deleteStandingsByLeagueAndSeason(int leagueId, int seasonId);
+
+  /**
+   * 全リーグ・全シーズンの集計済み成績の削除（standingsテーブルの一括再構築用）
+   */
+  @Delete("DELETE FROM standings")
+  void deleteStandings();
+
+  /**
+   * 全選手のシーズン合計成績の削除（player_season_totalsテーブルの再構築用）
+   */
+  @Delete("DELETE FROM player_season_totals")
+  void deletePlayerSeasonTotals();
+
+  /**
+   * リーグ規定の削除
+   * @param leagueId リーグID
+   */
+  @Delete("DELETE FROM league_regulations WHERE league_id = #{leagueId}")
+  void deleteLeagueRegulationsByLeague(int leagueId);
 }
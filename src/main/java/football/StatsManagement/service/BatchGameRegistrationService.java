@@ -0,0 +1,103 @@
+package football.StatsManagement.service;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.response.BatchGameRegistrationResult;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
+import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 複数試合（1節分など）の試合結果と選手試合成績をまとめて登録するServiceクラス
+ * 現在シーズン・リーグ・クラブ・選手をまとめて1度だけ取得して試合を確認し、登録を登録方式に応じたトランザクションで行う
+ */
+@Service
+public class BatchGameRegistrationService {
+  private final FootballService footballService;
+  private final FactoryService factoryService;
+
+  @Autowired
+  public BatchGameRegistrationService(FootballService footballService, FactoryService factoryService) {
+    this.footballService = footballService;
+    this.factoryService = factoryService;
+  }
+
+  /**
+   * 複数試合の試合結果と選手試合成績を登録
+   * @param gameResultsWithPlayerStatsForJson 試合結果と選手試合成績の一覧（リクエスト用）
+   * @param mode 登録方式
+   * @return 試合ごとの登録状況
+   * @throws ResourceNotFoundException 現在シーズンが見つからない場合
+   */
+  public BatchGameRegistrationResult register(List<GameResultWithPlayerStatsForJson> gameResultsWithPlayerStatsForJson, CommitMode mode)
+      throws ResourceNotFoundException {
+    List<GameResultWithPlayerStats> gameResultsWithPlayerStats = new ArrayList<>(gameResultsWithPlayerStatsForJson.size());
+    for (GameResultWithPlayerStatsForJson gameResultWithPlayerStatsForJson : gameResultsWithPlayerStatsForJson) {
+      gameResultsWithPlayerStats.add(factoryService.createGameResultWithPlayerStats(gameResultWithPlayerStatsForJson));
+    }
+    List<GameRegistrationStatus> statuses = mode == CommitMode.ALL_OR_NOTHING
+        ? registerAll(gameResultsWithPlayerStats)
+        : registerEach(gameResultsWithPlayerStats);
+    int registeredCount = (int) statuses.stream()
+        .filter(status -> status.status() == Status.REGISTERED)
+        .count();
+    return new BatchGameRegistrationResult(mode.name(), registeredCount, statuses);
+  }
+
+  /**
+   * 全試合を1つのトランザクションで確認・登録する（1試合でも問題があれば登録しない）
+   * @param gameResultsWithPlayerStats 試合結果と選手試合成績の一覧
+   * @return 試合ごとの登録状況
+   * @throws ResourceNotFoundException 現在シーズンが見つからない場合
+   */
+  private List<GameRegistrationStatus> registerAll(List<GameResultWithPlayerStats> gameResultsWithPlayerStats)
+      throws ResourceNotFoundException {
+    return footballService.confirmAndRegisterGameResults(gameResultsWithPlayerStats).stream()
+        .map(status -> status.isValidated()
+            ? GameRegistrationStatus.rejected(status.index(), Status.SKIPPED, "Other games in the batch were rejected")
+            : status)
+        .toList();
+  }
+
+  /**
+   * 全試合をまとめて確認し、問題のない試合を1試合ずつ別のトランザクションで登録する（問題のある試合や登録に失敗した試合は他の試合に影響しない）
+   * 確認に用いる現在シーズン・リーグ・クラブ・選手は試合ごとに取得し直さず、全試合分を1度だけ取得する
+   * @param gameResultsWithPlayerStats 試合結果と選手試合成績の一覧
+   * @return 試合ごとの登録状況
+   * @throws ResourceNotFoundException 現在シーズンが見つからない場合
+   */
+  private List<GameRegistrationStatus> registerEach(List<GameResultWithPlayerStats> gameResultsWithPlayerStats)
+      throws ResourceNotFoundException {
+    List<GameRegistrationStatus> confirmedStatuses = footballService.confirmGameResultsAndPlayerGameStats(gameResultsWithPlayerStats);
+    List<GameRegistrationStatus> statuses = new ArrayList<>(confirmedStatuses.size());
+    for (GameRegistrationStatus status : confirmedStatuses) {
+      if (!status.isValidated()) {
+        statuses.add(status);
+        continue;
+      }
+      GameResultWithPlayerStats gameResultWithPlayerStats = gameResultsWithPlayerStats.get(status.index());
+      try {
+        // このメソッドはトランザクション外で呼ばれるため、登録は試合ごとのトランザクションでコミットされる
+        footballService.registerConfirmedGameResults(List.of(gameResultWithPlayerStats));
+        statuses.add(status.toRegistered(gameResultWithPlayerStats.getGameResult().getId()));
+      } catch (DataAccessException e) {
+        statuses.add(GameRegistrationStatus.rejected(status.index(), Status.FAILED, "Failed to register game result"));
+      }
+    }
+    return statuses;
+  }
+
+  /**
+   * 登録方式
+   */
+  public enum CommitMode {
+    ALL_OR_NOTHING, // 全試合を1つのトランザクションで登録する
+    PER_GAME // 試合ごとにトランザクションを分けて登録する
+  }
+
+}
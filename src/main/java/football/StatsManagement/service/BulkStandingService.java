@@ -0,0 +1,119 @@
+package football.StatsManagement.service;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.model.entity.League;
+import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
+import football.StatsManagement.service.comparator.CompiledRanking;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 複数リーグの順位表をまとめて作成するServiceクラス
+ * シーズンの試合結果・集計済み成績・リーグ規定を1度だけ取得してリーグごとに振り分け、各リーグの順位表を並列に作成する
+ */
+@Service
+public class BulkStandingService {
+  private final FootballService footballService;
+  private final FactoryService factoryService;
+  private final ExecutorService standingExecutor;
+
+  @Autowired
+  public BulkStandingService(FootballService footballService, FactoryService factoryService,
+      @Qualifier("standingExecutor") ExecutorService standingExecutor) {
+    this.footballService = footballService;
+    this.factoryService = factoryService;
+    this.standingExecutor = standingExecutor;
+  }
+
+  /**
+   * リーグごとの順位表作成処理を準備する（DBからの取得はここで行い、各処理はDBを参照しない）
+   * @param countryId 国ID（nullの場合は全リーグ）
+   * @param seasonId シーズンID
+   * @return リーグごとの順位表作成処理一覧
+   * @throws ResourceNotFoundException 国またはシーズンが見つからない場合
+   */
+  public List<Callable<Standing>> createStandingTasks(Integer countryId, int seasonId) throws ResourceNotFoundException {
+    Season season = footballService.getSeason(seasonId);
+    List<League> leagues;
+    if (countryId == null) {
+      leagues = footballService.getLeagues();
+    } else {
+      footballService.getCountry(countryId);
+      leagues = footballService.getLeaguesByCountry(countryId);
+    }
+
+    Map<Integer, List<Club>> clubsByLeagueId = footballService.getClubs().stream()
+        .collect(Collectors.groupingBy(Club::getLeagueId));
+    Map<Integer, List<StandingRecord>> standingRecordsByLeagueId = footballService.getStandingRecordsBySeason(seasonId).stream()
+        .collect(Collectors.groupingBy(StandingRecord::getLeagueId));
+    Map<Integer, List<GameResult>> gameResultsByLeagueId = footballService.getGameResultsBySeason(seasonId).stream()
+        .collect(Collectors.groupingBy(GameResult::getLeagueId));
+    // リーグ規定はリーグごとに取得せず、コンパイル済み順位付けがないリーグの分をまとめて1度だけ取得する
+    Map<Integer, CompiledRanking> compiledRankings = factoryService.getCompiledRankings(
+        leagues.stream().map(League::getId).toList());
+
+    List<Callable<Standing>> tasks = new ArrayList<>();
+    for (League league : leagues) {
+      List<Club> clubs = clubsByLeagueId.getOrDefault(league.getId(), List.of());
+      List<StandingRecord> standingRecords = standingRecordsByLeagueId.getOrDefault(league.getId(), List.of());
+      List<GameResult> gameResults = gameResultsByLeagueId.getOrDefault(league.getId(), List.of());
+      CompiledRanking compiledRanking = compiledRankings.get(league.getId());
+      tasks.add(() -> factoryService.createStanding(league.getId(), seasonId, clubs, standingRecords, gameResults,
+          league.getName(), season.getName(), compiledRanking));
+    }
+    return tasks;
+  }
+
+  /**
+   * 順位表作成処理を並列に実行し、作成が終わった順に書き出す
+   * 書き出しに失敗した場合は、残りの処理を取り消す
+   * @param tasks 順位表作成処理一覧
+   * @param writer 順位表の書き出し処理
+   * @throws IOException 書き出しに失敗した場合、または中断された場合
+   */
+  public void runStandingTasks(List<Callable<Standing>> tasks, StandingWriter writer) throws IOException {
+    CompletionService<Standing> completionService = new ExecutorCompletionService<>(standingExecutor);
+    List<Future<Standing>> futures = new ArrayList<>(tasks.size());
+    try {
+      for (Callable<Standing> task : tasks) {
+        futures.add(completionService.submit(task));
+      }
+      for (int i = 0; i < tasks.size(); i++) {
+        writer.write(completionService.take().get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Standing creation was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to create standing", e.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  /**
+   * 順位表の書き出し処理
+   */
+  @FunctionalInterface
+  public interface StandingWriter {
+    void write(Standing standing) throws IOException;
+  }
+
+}
@@ -2,26 +2,46 @@ package football.StatsManagement.service;
 
 
 import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.domain.ClubPosition;
+import football.StatsManagement.model.domain.ClubSimulation;
+import football.StatsManagement.model.domain.DayStanding;
 import football.StatsManagement.model.domain.DayGameResult;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.LeaderboardEntry;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
 import football.StatsManagement.model.domain.PlayerCareerStat;
+import football.StatsManagement.model.domain.PlayerForm;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
 import football.StatsManagement.model.domain.PlayerTotalStat;
 import football.StatsManagement.model.domain.SeasonGameResult;
+import football.StatsManagement.model.domain.SeasonSimulation;
 import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.domain.StandingHistory;
 import football.StatsManagement.exception.ResourceNotFoundException;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.GameResult;
 import football.StatsManagement.model.entity.LeagueRegulation;
-import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
-import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import football.StatsManagement.model.entity.StandingRecord;
 import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.response.CacheStatistics;
 import football.StatsManagement.model.response.GameResultWithPlayerStats;
-import football.StatsManagement.service.comparator.ClubForStandingComparator;
+import football.StatsManagement.service.analytics.PlayerGameStatStore;
+import football.StatsManagement.service.cache.LeaderboardCache;
+import football.StatsManagement.service.cache.PlayerFormCache;
+import football.StatsManagement.service.cache.StandingCache;
+import football.StatsManagement.service.comparator.CompiledRanking;
+import football.StatsManagement.service.comparator.RankingEngine;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import football.StatsManagement.service.simulation.SeasonSimulator;
+import football.StatsManagement.service.simulation.SeasonSimulator.SimulationResult;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -31,20 +51,30 @@ import org.springframework.stereotype.Service;
 @Service
 public class FactoryService {
   private final FootballService footballService;
+  private final RankingEngine rankingEngine;
+  private final StandingCache standingCache;
+  private final LeaderboardCache leaderboardCache;
+  private final PlayerGameStatStore playerGameStatStore;
+  private final PlayerFormCache playerFormCache;
 
   @Autowired
-  public FactoryService(FootballService footballService) {
+  public FactoryService(FootballService footballService, RankingEngine rankingEngine, StandingCache standingCache,
+      LeaderboardCache leaderboardCache, PlayerGameStatStore playerGameStatStore, PlayerFormCache playerFormCache) {
     this.footballService = footballService;
+    this.rankingEngine = rankingEngine;
+    this.standingCache = standingCache;
+    this.leaderboardCache = leaderboardCache;
+    this.playerGameStatStore = playerGameStatStore;
+    this.playerFormCache = playerFormCache;
   }
 
   /**
    * 順位表作成に用いるクラブ情報を作成する
-   * @param seasonId シーズンID
    * @param club クラブ情報
+   * @param gameResults クラブの試合結果一覧
    * @return 順位表作成に用いるクラブ情報
    */
-  public ClubForStanding createClubForStanding (int seasonId, Club club) {
-    List<GameResult> gameResults = footballService.getGameResultsByClubAndSeason(seasonId, club.getId());
+  public ClubForStanding createClubForStanding(Club club, List<GameResult> gameResults) {
     int gamesPlayed = gameResults.size();
     int wins = getWins(gameResults, club.getId());
     int draws = getDraws(gameResults);
@@ -57,6 +87,76 @@ public class FactoryService {
     return new ClubForStanding(gameResults, club, gamesPlayed, wins, draws, losses, points, goalsFor, goalsAgainst, goalDifference);
   }
 
+  /**
+   * リーグ所属クラブ全ての順位表作成に用いるクラブ情報を作成する
+   * @param clubs リーグ所属クラブ一覧
+   * @param gameResults リーグのシーズン試合結果一覧
+   * @return 順位表作成に用いるクラブ情報一覧（clubsと同じ順序）
+   */
+  public List<ClubForStanding> createClubForStandings(List<Club> clubs, List<GameResult> gameResults) {
+    Map<Integer, List<GameResult>> gameResultsByClubId = groupGameResultsByClubId(clubs, gameResults);
+    List<ClubForStanding> clubForStandings = new ArrayList<>();
+    for (Club club : clubs) {
+      clubForStandings.add(createClubForStanding(club, gameResultsByClubId.get(club.getId())));
+    }
+    return clubForStandings;
+  }
+
+  /**
+   * 集計済み成績からリーグ所属クラブ全ての順位表作成に用いるクラブ情報を作成する
+   * @param clubs リーグ所属クラブ一覧
+   * @param standingRecords リーグのシーズン集計済み成績一覧
+   * @param gameResults リーグのシーズン試合結果一覧（当該クラブ間の比較とレスポンス用）
+   * @return 順位表作成に用いるクラブ情報一覧（clubsと同じ順序）
+   */
+  public List<ClubForStanding> createClubForStandings(List<Club> clubs, List<StandingRecord> standingRecords, List<GameResult> gameResults) {
+    Map<Integer, StandingRecord> standingRecordsByClubId = new HashMap<>();
+    for (StandingRecord standingRecord : standingRecords) {
+      standingRecordsByClubId.put(standingRecord.getClubId(), standingRecord);
+    }
+    Map<Integer, List<GameResult>> gameResultsByClubId = groupGameResultsByClubId(clubs, gameResults);
+
+    List<ClubForStanding> clubForStandings = new ArrayList<>();
+    for (Club club : clubs) {
+      StandingRecord standingRecord = standingRecordsByClubId.get(club.getId());
+      List<GameResult> clubGameResults = gameResultsByClubId.get(club.getId());
+      // 試合のないクラブはstandingsテーブルに行がないため、全項目0とする
+      if (standingRecord == null) {
+        clubForStandings.add(new ClubForStanding(clubGameResults, club, 0, 0, 0, 0, 0, 0, 0, 0));
+        continue;
+      }
+      clubForStandings.add(new ClubForStanding(clubGameResults, club,
+          standingRecord.getGamesPlayed(), standingRecord.getWins(), standingRecord.getDraws(), standingRecord.getLosses(),
+          standingRecord.getPoints(), standingRecord.getGoalsFor(), standingRecord.getGoalsAgainst(),
+          standingRecord.getGoalsFor() - standingRecord.getGoalsAgainst()));
+    }
+    return clubForStandings;
+  }
+
+  /**
+   * 試合結果を1回の走査でホーム・アウェイ双方のクラブに振り分ける
+   * @param clubs クラブ一覧
+   * @param gameResults 試合結果一覧
+   * @return クラブIDごとの試合結果一覧（clubsに含まれないクラブの試合は振り分けない）
+   */
+  private Map<Integer, List<GameResult>> groupGameResultsByClubId(List<Club> clubs, List<GameResult> gameResults) {
+    Map<Integer, List<GameResult>> gameResultsByClubId = new HashMap<>();
+    for (Club club : clubs) {
+      gameResultsByClubId.put(club.getId(), new ArrayList<>());
+    }
+    for (GameResult gameResult : gameResults) {
+      List<GameResult> homeClubGameResults = gameResultsByClubId.get(gameResult.getHomeClubId());
+      if (homeClubGameResults != null) {
+        homeClubGameResults.add(gameResult);
+      }
+      List<GameResult> awayClubGameResults = gameResultsByClubId.get(gameResult.getAwayClubId());
+      if (awayClubGameResults != null) {
+        awayClubGameResults.add(gameResult);
+      }
+    }
+    return gameResultsByClubId;
+  }
+
   // createClubForStandingメソッドで使用するメソッド
 
   /**
@@ -125,10 +225,14 @@ public class FactoryService {
    * @return new PlayerCareerStat 選手の通算成績
    */
   public PlayerCareerStat createPlayerCareerStat(int playerId) throws ResourceNotFoundException {
-    List<Season> seasons = footballService.getSeasons();
+    // シーズン・クラブごとの合計成績と名前は1回の集計クエリで取得する
+    List<PlayerSeasonTotal> playerSeasonTotals = footballService.getPlayerSeasonTotalsByPlayer(playerId);
+    // 全シーズンの試合成績一覧は1回のクエリで取得し、シーズンごとにまとめる（同一シーズンの複数クラブで共有）
+    Map<Integer, List<PlayerGameStat>> playerGameStatsBySeasonId = footballService.getPlayerGameStatsByPlayerGroupedBySeason(playerId);
     List<PlayerSeasonStat> playerSeasonStats = new ArrayList<>();
-    for (Season season : seasons) {
-      playerSeasonStats.addAll(createPlayerSeasonStats(playerId, season.getId()));
+    for (PlayerSeasonTotal playerSeasonTotal : playerSeasonTotals) {
+      List<PlayerGameStat> playerGameStats = playerGameStatsBySeasonId.getOrDefault(playerSeasonTotal.getSeasonId(), List.of());
+      playerSeasonStats.add(createPlayerSeasonStat(playerSeasonTotal, playerGameStats));
     }
     PlayerTotalStat playerTotalStat = createPlayerTotalStatFromPlayerSeasonStats(playerSeasonStats);
     return new PlayerCareerStat(playerSeasonStats, playerTotalStat);
@@ -143,35 +247,17 @@ public class FactoryService {
    */
   public PlayerSeasonStat createPlayerSeasonStat(int playerId, int seasonId, int clubId) throws ResourceNotFoundException {
     List<PlayerGameStat> playerGameStats = footballService.getPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
-    List<PlayerGameStat> playerGameStatsByClub = playerGameStats.stream()
-        .filter(playerGameStat -> playerGameStat.getClubId() == clubId)
-        .toList();
-    int games = playerGameStatsByClub.size();
-    int starterGames = (int) playerGameStatsByClub.stream()
-        .filter(PlayerGameStat::isStarter)
-        .count();
-    int substituteGames = games - starterGames;
-    int goals = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getGoals)
-        .sum();
-    int assists = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getAssists)
-        .sum();
-    int minutes = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getMinutes)
-        .sum();
-    int yellowCards = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getYellowCards)
-        .sum();
-    int redCards = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getRedCards)
-        .sum();
+    // 合計成績は試合登録時に更新されるplayer_season_totalsテーブルから取得する
+    PlayerSeasonTotal playerSeasonTotal = footballService.getPlayerSeasonTotal(playerId, seasonId, clubId)
+        .orElseGet(() -> new PlayerSeasonTotal(playerId, seasonId, clubId, 0, 0, 0, 0, 0, 0, 0, null, null, null));
     String playerName = footballService.getPlayer(playerId).getName();
     String clubName = footballService.getClub(clubId).getName();
     String seasonName = footballService.getSeason(seasonId).getName();
 
-    return new PlayerSeasonStat(playerId, playerGameStats, seasonId, clubId, games,
-        starterGames, substituteGames, goals, assists, minutes, yellowCards, redCards, playerName, clubName, seasonName);
+    return new PlayerSeasonStat(playerId, playerGameStats, seasonId, clubId, playerSeasonTotal.getGames(),
+        playerSeasonTotal.getStarterGames(), playerSeasonTotal.getSubstituteGames(), playerSeasonTotal.getGoals(),
+        playerSeasonTotal.getAssists(), playerSeasonTotal.getMinutes(), playerSeasonTotal.getYellowCards(),
+        playerSeasonTotal.getRedCards(), playerName, clubName, seasonName);
   }
 
   /**
@@ -196,14 +282,38 @@ public class FactoryService {
    * @return 選手のシーズン成績一覧
    */
   public List<PlayerSeasonStat> createPlayerSeasonStatsByClub(int clubId, int seasonId) throws ResourceNotFoundException {
-    List<Player> players = footballService.getPlayersByClub(clubId);
+    // シーズンが存在しない場合は例外を投げる（集計クエリは空のリストを返すため先に確認する）
+    footballService.getSeason(seasonId);
+    // 所属選手全員の合計成績と名前は1回の集計クエリで取得する（出場のない選手も含む）
+    List<PlayerSeasonTotal> playerSeasonTotals = footballService.getPlayerSeasonTotalsByClub(clubId, seasonId);
+    // 所属選手全員の試合成績一覧も1回のクエリで取得し、選手ごとに振り分ける
+    Map<Integer, List<PlayerGameStat>> playerGameStatsByPlayerId = new HashMap<>();
+    for (PlayerGameStat playerGameStat : footballService.getPlayerGameStatsByClubAndSeason(clubId, seasonId)) {
+      playerGameStatsByPlayerId.computeIfAbsent(playerGameStat.getPlayerId(), playerId -> new ArrayList<>()).add(playerGameStat);
+    }
+
     List<PlayerSeasonStat> playerSeasonStats = new ArrayList<>();
-    for (Player player : players) {
-      playerSeasonStats.add(createPlayerSeasonStat(player.getId(), seasonId, clubId));
+    for (PlayerSeasonTotal playerSeasonTotal : playerSeasonTotals) {
+      List<PlayerGameStat> playerGameStats = playerGameStatsByPlayerId.getOrDefault(playerSeasonTotal.getPlayerId(), new ArrayList<>());
+      playerSeasonStats.add(createPlayerSeasonStat(playerSeasonTotal, playerGameStats));
     }
     return playerSeasonStats;
   }
 
+  /**
+   * 集計済みの合計成績から選手のシーズン成績（1つのクラブに対応）を作成する
+   * @param playerSeasonTotal シーズン・クラブごとの合計成績
+   * @param playerGameStats 選手のシーズンでの試合成績一覧
+   * @return 選手のシーズン成績
+   */
+  private PlayerSeasonStat createPlayerSeasonStat(PlayerSeasonTotal playerSeasonTotal, List<PlayerGameStat> playerGameStats) {
+    return new PlayerSeasonStat(playerSeasonTotal.getPlayerId(), playerGameStats, playerSeasonTotal.getSeasonId(), playerSeasonTotal.getClubId(),
+        playerSeasonTotal.getGames(), playerSeasonTotal.getStarterGames(), playerSeasonTotal.getSubstituteGames(),
+        playerSeasonTotal.getGoals(), playerSeasonTotal.getAssists(), playerSeasonTotal.getMinutes(),
+        playerSeasonTotal.getYellowCards(), playerSeasonTotal.getRedCards(),
+        playerSeasonTotal.getPlayerName(), playerSeasonTotal.getClubName(), playerSeasonTotal.getSeasonName());
+  }
+
   /**
    * 各シーズン成績から選手の全シーズンでの合計成績を作成する
    * @param playerSeasonStats 選手のシーズン成績一覧
@@ -245,6 +355,69 @@ public class FactoryService {
     return new PlayerTotalStat(playerId, games, starterGames, substituteGames, goals, assists, minutes, yellowCards, redCards, playerName);
   }
 
+  /**
+   * 選手の複数シーズンでの合計成績を作成する
+   * インメモリストアが有効な場合はその列を走査して集計し、無効な場合はplayer_season_totalsテーブルの値を合計する
+   * @param playerId 選手ID
+   * @param fromSeasonId 集計するシーズンIDの下限（nullの場合は制限なし）
+   * @param toSeasonId 集計するシーズンIDの上限（nullの場合は制限なし）
+   * @return 選手の合計成績
+   */
+  public PlayerTotalStat createPlayerTotalStat(int playerId, Integer fromSeasonId, Integer toSeasonId) throws ResourceNotFoundException {
+    String playerName = footballService.getPlayer(playerId).getName();
+    int from = fromSeasonId == null ? Integer.MIN_VALUE : fromSeasonId;
+    int to = toSeasonId == null ? Integer.MAX_VALUE : toSeasonId;
+    List<PlayerSeasonTotal> playerSeasonTotals;
+    if (playerGameStatStore.isEnabled()) {
+      playerSeasonTotals = playerGameStatStore.aggregatePlayerSeasonTotals(playerId, from, to);
+    } else {
+      playerSeasonTotals = footballService.getPlayerSeasonTotalsByPlayer(playerId).stream()
+          .filter(playerSeasonTotal -> playerSeasonTotal.getSeasonId() >= from && playerSeasonTotal.getSeasonId() <= to)
+          .toList();
+    }
+
+    int games = 0;
+    int starterGames = 0;
+    int goals = 0;
+    int assists = 0;
+    int minutes = 0;
+    int yellowCards = 0;
+    int redCards = 0;
+    for (PlayerSeasonTotal playerSeasonTotal : playerSeasonTotals) {
+      games += playerSeasonTotal.getGames();
+      starterGames += playerSeasonTotal.getStarterGames();
+      goals += playerSeasonTotal.getGoals();
+      assists += playerSeasonTotal.getAssists();
+      minutes += playerSeasonTotal.getMinutes();
+      yellowCards += playerSeasonTotal.getYellowCards();
+      redCards += playerSeasonTotal.getRedCards();
+    }
+    return new PlayerTotalStat(playerId, games, starterGames, games - starterGames, goals, assists, minutes,
+        yellowCards, redCards, playerName);
+  }
+
+  /**
+   * 選手のシーズンのフォーム（90分あたりの成績と直近5試合・10試合の成績）を作成する
+   * フォームはキャッシュしたリングバッファから作成するため、出場数によらず一定の時間で返る
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @return 選手のフォーム
+   */
+  public PlayerForm createPlayerForm(int playerId, int seasonId) throws ResourceNotFoundException {
+    footballService.getPlayer(playerId);
+    footballService.getSeason(seasonId);
+    return playerFormCache.get(playerId, seasonId, () -> footballService.getPlayerGameStatsByPlayerAndSeason(playerId, seasonId))
+        .toPlayerForm(playerId, seasonId);
+  }
+
+  /**
+   * 選手フォームキャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getPlayerFormCacheStatistics() {
+    return playerFormCache.getStatistics();
+  }
+
   /**
    * シーズンの試合結果一覧を作成する
    * @param leagueId リーグID
@@ -252,24 +425,89 @@ public class FactoryService {
    * @return シーズンの試合結果一覧
    */
   public SeasonGameResult createSeasonGameResult(int leagueId, int seasonId) throws ResourceNotFoundException {
-    List<GameResult> gameResults = footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId);
-    List<LocalDate> gameDates = footballService.getGameDatesByLeagueAndSeason(leagueId, seasonId);
+    // クラブ名を含む試合結果を試合日順に取得し、日付が変わるごとに区切る
+    List<GameResult> gameResults = footballService.getGameResultsWithClubNamesByLeagueAndSeason(leagueId, seasonId);
+    List<DayGameResult> dayGameResults = new ArrayList<>();
+    int start = 0;
+    while (start < gameResults.size()) {
+      LocalDate gameDate = gameResults.get(start).getGameDate();
+      int end = start + 1;
+      while (end < gameResults.size() && gameResults.get(end).getGameDate().equals(gameDate)) {
+        end++;
+      }
+      dayGameResults.add(new DayGameResult(gameDate, new ArrayList<>(gameResults.subList(start, end))));
+      start = end;
+    }
 
-    // gameResultsにクラブ名をセット
-    for (GameResult gameResult : gameResults) {
-      footballService.setClubNamesToGameResult(gameResult);
+    return new SeasonGameResult(leagueId, seasonId, dayGameResults);
+  }
+
+  /**
+   * 順位表を取得する（キャッシュにない場合のみ作成する）
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 順位表
+   */
+  public Standing getStanding(int leagueId, int seasonId) throws ResourceNotFoundException {
+    return standingCache.get(leagueId, seasonId, () -> createStanding(leagueId, seasonId));
+  }
+
+  /**
+   * 順位表キャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getStandingCacheStatistics() {
+    return standingCache.getStatistics();
+  }
+
+  /**
+   * リーグ・シーズンの成績項目の選手ランキングを作成する
+   * 値と出場時間が同じ選手は同順位とする
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param statistic 成績項目
+   * @param limit 件数
+   * @return 選手ランキング
+   */
+  public Leaderboard createLeaderboard(int leagueId, int seasonId, LeaderboardStatistic statistic, int limit)
+      throws ResourceNotFoundException {
+    String leagueName = footballService.getLeague(leagueId).getName();
+    String seasonName = footballService.getSeason(seasonId).getName();
+    List<PlayerSeasonTotal> playerSeasonTotals = footballService.getPlayerSeasonTotalsForLeaderboard(leagueId, seasonId, statistic, limit);
+
+    List<LeaderboardEntry> entries = new ArrayList<>(playerSeasonTotals.size());
+    int rank = 0;
+    for (int i = 0; i < playerSeasonTotals.size(); i++) {
+      PlayerSeasonTotal playerSeasonTotal = playerSeasonTotals.get(i);
+      int value = statistic.getValue(playerSeasonTotal);
+      if (i == 0 || value != entries.get(i - 1).value() || playerSeasonTotal.getMinutes() != entries.get(i - 1).minutes()) {
+        rank = i + 1;
+      }
+      entries.add(new LeaderboardEntry(rank, playerSeasonTotal.getPlayerId(), playerSeasonTotal.getPlayerName(),
+          playerSeasonTotal.getClubId(), playerSeasonTotal.getClubName(), value, playerSeasonTotal.getGames(), playerSeasonTotal.getMinutes()));
     }
+    return new Leaderboard(leagueId, seasonId, statistic, limit, entries, leagueName, seasonName);
+  }
 
-    // gameDatesとgameResultsを元にdayGameResultsを作成
-    List<DayGameResult> dayGameResults = new ArrayList<>();
-    gameDates.forEach(gameDate -> {
-      List<GameResult> gameResultsOnDay = gameResults.stream()
-          .filter(gameResult -> gameResult.getGameDate().equals(gameDate))
-          .collect(Collectors.toList());
-      dayGameResults.add(new DayGameResult(gameDate, gameResultsOnDay));
-    });
+  /**
+   * 選手ランキングを取得する（キャッシュにない場合のみ作成する）
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param statistic 成績項目
+   * @param limit 件数
+   * @return 選手ランキング
+   */
+  public Leaderboard getLeaderboard(int leagueId, int seasonId, LeaderboardStatistic statistic, int limit)
+      throws ResourceNotFoundException {
+    return leaderboardCache.get(leagueId, seasonId, statistic, limit, () -> createLeaderboard(leagueId, seasonId, statistic, limit));
+  }
 
-    return new SeasonGameResult(leagueId, seasonId, dayGameResults);
+  /**
+   * 選手ランキングキャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getLeaderboardCacheStatistics() {
+    return leaderboardCache.getStatistics();
   }
 
   /**
@@ -280,38 +518,198 @@ public class FactoryService {
    */
   public Standing createStanding(int leagueId, int seasonId) throws ResourceNotFoundException {
     List<Club> clubs = footballService.getClubsByLeague(leagueId);
-    List<ClubForStanding> clubForStandings = clubs.stream()
-        .map(club -> createClubForStanding(seasonId, club))
-        .toList();
+    // 勝ち点・得失点などの合計は試合結果登録時に更新される集計済み成績を参照する
+    List<StandingRecord> standingRecords = footballService.getStandingRecordsByLeagueAndSeason(leagueId, seasonId);
+    // 試合結果一覧は当該クラブ間の比較とレスポンスに必要なため、1回のクエリでまとめて取得する
+    List<GameResult> gameResults = footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId);
+    String leagueName = footballService.getLeague(leagueId).getName();
+    String seasonName = footballService.getSeason(seasonId).getName();
 
-    System.out.println("Start if");
+    return createStanding(leagueId, seasonId, clubs, standingRecords, gameResults, leagueName, seasonName,
+        getCompiledRanking(leagueId));
+  }
+
+  /**
+   * 取得済みのクラブ・集計済み成績・試合結果・コンパイル済み順位付けから順位表を作成する（DBを参照しない）
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param clubs リーグのクラブ一覧
+   * @param standingRecords リーグ・シーズンの集計済み成績一覧
+   * @param gameResults リーグ・シーズンの試合結果一覧
+   * @param leagueName リーグ名
+   * @param seasonName シーズン名
+   * @param compiledRanking リーグ規定をコンパイルした順位付け
+   * @return 順位表
+   */
+  public Standing createStanding(int leagueId, int seasonId, List<Club> clubs, List<StandingRecord> standingRecords,
+      List<GameResult> gameResults, String leagueName, String seasonName, CompiledRanking compiledRanking) {
+    List<ClubForStanding> clubForStandings = createClubForStandings(clubs, standingRecords, gameResults);
 
     // 試合が存在しなければ順位表を作成しない（空のclubForStandingsからなるオブジェクトを返す）
     if (clubForStandings.stream().allMatch(clubForStanding -> clubForStanding.getGamesPlayed() == 0)) {
-      return new Standing(leagueId, seasonId, new ArrayList<>(), footballService.getLeague(leagueId).getName(), footballService.getSeason(seasonId).getName());
+      return new Standing(leagueId, seasonId, new ArrayList<>(), leagueName, seasonName);
     }
 
-    System.out.println("End if");
-
-    // リーグ規定を取得→Comparatorを作成→順位表を作成
-    List<LeagueRegulation> leagueRegulations = footballService.getLeagueRegulationsByLeague(leagueId);
-    List<Integer> comparisonItemIds = leagueRegulations.stream()
-        .map(LeagueRegulation::getComparisonItemId)
-        .toList();
-    ClubForStandingComparator clubForStandingComparator = new ClubForStandingComparator(comparisonItemIds);
-    List<ClubForStanding> rankedClubForStandings = clubForStandings.stream()
-        .sorted(clubForStandingComparator)
-        .collect(Collectors.toList());
+    // 当該クラブ間の成績は順位表作成ごとに1度だけ集計し、比較時にはそれを参照する
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, gameResults);
+    List<ClubForStanding> rankedClubForStandings = compiledRanking.rank(clubForStandings, headToHeadTable);
 
     // 順位をセット
     for (int i = 0; i < rankedClubForStandings.size(); i++) {
       rankedClubForStandings.get(i).setPosition(i + 1);
     }
 
+    return new Standing(leagueId, seasonId, rankedClubForStandings, leagueName, seasonName);
+  }
+
+  /**
+   * 試合日ごとの順位推移を作成する
+   * 試合結果を日付順に1度だけ走査して各クラブの成績を加算し、試合日の区切りごとに並び替える
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 試合日ごとの順位推移
+   */
+  public StandingHistory createStandingHistory(int leagueId, int seasonId) throws ResourceNotFoundException {
     String leagueName = footballService.getLeague(leagueId).getName();
     String seasonName = footballService.getSeason(seasonId).getName();
+    List<Club> clubs = footballService.getClubsByLeague(leagueId);
+    List<GameResult> gameResults = footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId).stream()
+        .sorted(Comparator.comparing(GameResult::getGameDate))
+        .toList();
+    if (gameResults.isEmpty()) {
+      return new StandingHistory(leagueId, seasonId, new ArrayList<>(), leagueName, seasonName);
+    }
 
-    return new Standing(leagueId, seasonId, rankedClubForStandings, leagueName, seasonName);
+    // 各クラブの累積成績（インデックスはHeadToHeadTableと同じくclubsの並び順）
+    HeadToHeadTable headToHeadTable = new HeadToHeadTable(clubs);
+    int clubCount = clubs.size();
+    int[] wins = new int[clubCount];
+    int[] draws = new int[clubCount];
+    int[] losses = new int[clubCount];
+    int[] goalsFor = new int[clubCount];
+    int[] goalsAgainst = new int[clubCount];
+    List<List<GameResult>> clubGameResults = new ArrayList<>();
+    for (int i = 0; i < clubCount; i++) {
+      clubGameResults.add(new ArrayList<>());
+    }
+    CompiledRanking compiledRanking = getCompiledRanking(leagueId);
+
+    List<DayStanding> dayStandings = new ArrayList<>();
+    for (int g = 0; g < gameResults.size(); g++) {
+      GameResult gameResult = gameResults.get(g);
+      headToHeadTable.addGameResult(gameResult);
+      int homeIndex = headToHeadTable.indexOf(gameResult.getHomeClubId());
+      int awayIndex = headToHeadTable.indexOf(gameResult.getAwayClubId());
+      for (int index : new int[] {homeIndex, awayIndex}) {
+        if (index < 0) {
+          continue;
+        }
+        int clubId = clubs.get(index).getId();
+        boolean isHome = index == homeIndex;
+        clubGameResults.get(index).add(gameResult);
+        goalsFor[index] += isHome ? gameResult.getHomeScore() : gameResult.getAwayScore();
+        goalsAgainst[index] += isHome ? gameResult.getAwayScore() : gameResult.getHomeScore();
+        if (gameResult.getWinnerClubId() == null) {
+          draws[index]++;
+        } else if (gameResult.getWinnerClubId() == clubId) {
+          wins[index]++;
+        } else {
+          losses[index]++;
+        }
+      }
+
+      // 試合日の最後の試合を加算したときだけ並び替える
+      boolean isLastGameOfDay = g == gameResults.size() - 1
+          || !gameResults.get(g + 1).getGameDate().equals(gameResult.getGameDate());
+      if (!isLastGameOfDay) {
+        continue;
+      }
+      List<ClubForStanding> clubForStandings = new ArrayList<>();
+      for (int i = 0; i < clubCount; i++) {
+        int gamesPlayed = wins[i] + draws[i] + losses[i];
+        clubForStandings.add(new ClubForStanding(clubGameResults.get(i), clubs.get(i), gamesPlayed, wins[i], draws[i], losses[i],
+            wins[i] * 3 + draws[i], goalsFor[i], goalsAgainst[i], goalsFor[i] - goalsAgainst[i]));
+      }
+      List<ClubForStanding> rankedClubForStandings = compiledRanking.rank(clubForStandings, headToHeadTable);
+      List<ClubPosition> clubPositions = new ArrayList<>();
+      for (int i = 0; i < rankedClubForStandings.size(); i++) {
+        ClubForStanding clubForStanding = rankedClubForStandings.get(i);
+        clubPositions.add(new ClubPosition(i + 1, clubForStanding.getClub().getId(), clubForStanding.getClub().getName(),
+            clubForStanding.getGamesPlayed(), clubForStanding.getPoints(), clubForStanding.getGoalDifference(), clubForStanding.getGoalsFor()));
+      }
+      dayStandings.add(new DayStanding(gameResult.getGameDate(), clubPositions));
+    }
+
+    return new StandingHistory(leagueId, seasonId, dayStandings, leagueName, seasonName);
+  }
+
+  /**
+   * シーズンの残り試合をシミュレーションし、各クラブの最終順位の確率分布を作成する
+   * 現時点の順位はcreateStandingと同じくリーグ規定で並び替え、各試行の順位付けにも同じリーグ規定を用いる
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param iterations 試行回数
+   * @param seed 乱数のシード
+   * @return シミュレーション結果
+   */
+  public SeasonSimulation createSeasonSimulation(int leagueId, int seasonId, int iterations, long seed) throws ResourceNotFoundException {
+    String leagueName = footballService.getLeague(leagueId).getName();
+    String seasonName = footballService.getSeason(seasonId).getName();
+    List<Club> clubs = footballService.getClubsByLeague(leagueId);
+    List<StandingRecord> standingRecords = footballService.getStandingRecordsByLeagueAndSeason(leagueId, seasonId);
+    List<GameResult> gameResults = footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId);
+
+    CompiledRanking compiledRanking = getCompiledRanking(leagueId);
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, gameResults);
+    List<ClubForStanding> rankedClubForStandings = compiledRanking.rank(
+        createClubForStandings(clubs, standingRecords, gameResults), headToHeadTable);
+
+    SeasonSimulator seasonSimulator = new SeasonSimulator(rankedClubForStandings, headToHeadTable, compiledRanking.getComparisonItemIds());
+    SimulationResult simulationResult = seasonSimulator.simulate(iterations, seed);
+
+    List<ClubSimulation> clubSimulations = new ArrayList<>();
+    for (int i = 0; i < rankedClubForStandings.size(); i++) {
+      ClubForStanding clubForStanding = rankedClubForStandings.get(i);
+      List<Double> positionProbabilities = new ArrayList<>();
+      for (int position = 0; position < rankedClubForStandings.size(); position++) {
+        positionProbabilities.add(simulationResult.getPositionProbability(i, position));
+      }
+      clubSimulations.add(new ClubSimulation(i + 1, clubForStanding.getClub().getId(), clubForStanding.getClub().getName(),
+          clubForStanding.getPoints(), simulationResult.getExpectedPoints(i), positionProbabilities));
+    }
+
+    return new SeasonSimulation(leagueId, seasonId, iterations, seasonSimulator.getRemainingGames(), clubSimulations, leagueName, seasonName);
+  }
+
+  /**
+   * 複数リーグのリーグ規定をコンパイルした順位付けを取得する
+   * コンパイル済み順位付けがないリーグがある場合のみ、全リーグのリーグ規定を1回のクエリでまとめて取得する
+   * @param leagueIds リーグID一覧
+   * @return リーグIDをキーとしたコンパイル済み順位付け
+   */
+  public Map<Integer, CompiledRanking> getCompiledRankings(List<Integer> leagueIds) {
+    Map<Integer, List<Integer>> comparisonItemIdsByLeagueId = new HashMap<>();
+    Map<Integer, CompiledRanking> compiledRankings = new HashMap<>();
+    for (int leagueId : leagueIds) {
+      compiledRankings.put(leagueId, rankingEngine.getCompiledRanking(leagueId, () -> {
+        if (comparisonItemIdsByLeagueId.isEmpty()) {
+          comparisonItemIdsByLeagueId.putAll(footballService.getComparisonItemIdsByLeagues(leagueIds));
+        }
+        return comparisonItemIdsByLeagueId.get(leagueId);
+      }));
+    }
+    return compiledRankings;
+  }
+
+  /**
+   * リーグ規定をコンパイルした順位付けを取得する（リーグ規定はコンパイル済み順位付けがない場合のみ取得する）
+   * @param leagueId リーグID
+   * @return コンパイル済み順位付け
+   */
+  private CompiledRanking getCompiledRanking(int leagueId) {
+    return rankingEngine.getCompiledRanking(leagueId, () -> footballService.getLeagueRegulationsByLeague(leagueId).stream()
+        .map(LeagueRegulation::getComparisonItemId)
+        .toList());
   }
 
   /**
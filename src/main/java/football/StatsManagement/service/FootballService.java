@@ -3,25 +3,56 @@ package football.StatsManagement.service;
 import football.StatsManagement.exception.FootballException;
 import football.StatsManagement.exception.ResourceConflictException;
 import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.ComparisonItem;
 import football.StatsManagement.model.entity.Country;
+import football.StatsManagement.model.entity.GameImportCheckpoint;
 import football.StatsManagement.model.entity.GameResult;
 import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerGameStatWithGame;
+import football.StatsManagement.model.entity.PlayerGameStatWithSeason;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
+import football.StatsManagement.model.response.CacheStatistics;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
 import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.model.response.KeysetPage;
 import football.StatsManagement.model.json.PlayerGameStatForJson;
 import football.StatsManagement.repository.FootballRepository;
+import football.StatsManagement.service.analytics.PlayerGameStatsRegisteredEvent;
+import football.StatsManagement.service.backfill.GameImportDictionary;
+import football.StatsManagement.service.cache.PlayerSeasonTotalsRebuiltEvent;
+import football.StatsManagement.service.cache.ReferenceDataCache;
+import football.StatsManagement.service.cache.ReferenceDataCache.Kind;
+import football.StatsManagement.service.cache.ReferenceDataChangedEvent;
+import football.StatsManagement.service.cache.StandingChangedEvent;
+import football.StatsManagement.service.comparator.LeagueRegulationsChangedEvent;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,11 +61,21 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 public class FootballService {
+  // リーグ規定がないリーグで用いる比較項目（勝ち点）
+  private static final int DEFAULT_COMPARISON_ITEM_ID = 1;
+
   private final FootballRepository repository;
+  // 順位表が変わる更新を通知する（StandingCacheが該当する順位表を破棄する）
+  private final ApplicationEventPublisher eventPublisher;
+  // 国・リーグ・クラブ・シーズン・順位比較項目の取得結果を保持する（参照データの更新はReferenceDataChangedEventで通知する）
+  private final ReferenceDataCache referenceDataCache;
 
   @Autowired
-  public FootballService(FootballRepository repository) {
+  public FootballService(FootballRepository repository, ApplicationEventPublisher eventPublisher,
+      ReferenceDataCache referenceDataCache) {
     this.repository = repository;
+    this.eventPublisher = eventPublisher;
+    this.referenceDataCache = referenceDataCache;
   }
 
 //  register
@@ -45,6 +86,7 @@ public class FootballService {
   @Transactional
   public void registerCountry(Country country) {
     repository.insertCountry(country);
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(Kind.COUNTRY, country.getId()));
   }
 
   /**
@@ -54,6 +96,7 @@ public class FootballService {
   @Transactional
   public void registerLeague(League league) {
     repository.insertLeague(league);
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(Kind.LEAGUE, league.getId()));
   }
 
   /**
@@ -63,6 +106,7 @@ public class FootballService {
   @Transactional
   public void registerClub(Club club) {
     repository.insertClub(club);
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(Kind.CLUB, club.getId()));
   }
 
   /**
@@ -92,12 +136,27 @@ public class FootballService {
   }
 
   /**
-   * 試合結果の登録
+   * 選手試合成績の一括登録（1回のINSERTで登録し、採番されたIDを各選手試合成績に設定する）
+   * @param playerGameStats 選手試合成績一覧
+   */
+  @Transactional
+  public void registerPlayerGameStats(List<PlayerGameStat> playerGameStats) {
+    if (playerGameStats.isEmpty()) {
+      return;
+    }
+    repository.insertPlayerGameStats(playerGameStats);
+  }
+
+  /**
+   * 試合結果の登録（同一トランザクション内で集計済み成績も更新する）
    * @param gameResult 試合結果
    */
   @Transactional
   public void registerGameResult(GameResult gameResult) {
     repository.insertGameResult(gameResult);
+    upsertStandings(List.of(StandingRecord.of(gameResult, gameResult.getHomeClubId()),
+        StandingRecord.of(gameResult, gameResult.getAwayClubId())));
+    eventPublisher.publishEvent(new StandingChangedEvent(gameResult.getLeagueId(), gameResult.getSeasonId()));
   }
 
   /**
@@ -137,6 +196,43 @@ public class FootballService {
     // ここまで確認フェーズ、以降は登録処理
     updateSeasonsCurrentFalse();
     repository.insertSeason(season);
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(Kind.SEASON, season.getId()));
+  }
+
+  /**
+   * リーグ規定の登録（既存のリーグ規定は置き換える）
+   * @param leagueId リーグID
+   * @param comparisonItemIds 比較項目ID一覧（順位決定に用いる順序）
+   * @return 登録されたリーグ規定一覧
+   * @throws FootballException 比較項目IDが空または重複している場合
+   * @throws ResourceNotFoundException リーグまたは比較項目が見つからない場合
+   */
+  @Transactional
+  public List<LeagueRegulation> registerLeagueRegulations(int leagueId, List<Integer> comparisonItemIds)
+      throws FootballException, ResourceNotFoundException {
+    if (comparisonItemIds == null || comparisonItemIds.isEmpty()) {
+      throw new FootballException("Comparison item ids must not be empty");
+    }
+    if (new HashSet<>(comparisonItemIds).size() != comparisonItemIds.size()) {
+      throw new FootballException("Comparison item ids must not be duplicated");
+    }
+    getLeague(leagueId);
+    for (Integer comparisonItemId : comparisonItemIds) {
+      if (comparisonItemId == null || repository.selectComparisonItem(comparisonItemId).isEmpty()) {
+        throw new ResourceNotFoundException("Comparison item not found");
+      }
+    }
+    // ここまで確認フェーズ、以降は登録処理
+    repository.deleteLeagueRegulationsByLeague(leagueId);
+    List<LeagueRegulation> leagueRegulations = new ArrayList<>();
+    for (int i = 0; i < comparisonItemIds.size(); i++) {
+      LeagueRegulation leagueRegulation = new LeagueRegulation(0, leagueId, i + 1, comparisonItemIds.get(i));
+      repository.insertLeagueRegulation(leagueRegulation);
+      leagueRegulations.add(leagueRegulation);
+    }
+    eventPublisher.publishEvent(new LeagueRegulationsChangedEvent(leagueId));
+    eventPublisher.publishEvent(StandingChangedEvent.ofLeague(leagueId));
+    return leagueRegulations;
   }
 
   /**
@@ -165,7 +261,7 @@ public class FootballService {
    * @throws ResourceNotFoundException 国が見つからない場合
    */
   public Country getCountry(int id) throws ResourceNotFoundException {
-    return repository.selectCountry(id)
+    return referenceDataCache.get(Kind.COUNTRY, id, () -> repository.selectCountry(id), FootballService::copyCountry)
         .orElseThrow(() -> new ResourceNotFoundException("Country not found"));
   }
 
@@ -176,7 +272,7 @@ public class FootballService {
    * @throws ResourceNotFoundException リーグが見つからない場合
    */
   public League getLeague(int id) throws ResourceNotFoundException {
-    return repository.selectLeague(id)
+    return referenceDataCache.get(Kind.LEAGUE, id, () -> repository.selectLeague(id), FootballService::copyLeague)
         .orElseThrow(() -> new ResourceNotFoundException("League not found"));
   }
 
@@ -187,7 +283,7 @@ public class FootballService {
     * @throws ResourceNotFoundException クラブが見つからない場合
     */
   public Club getClub(int id) throws ResourceNotFoundException {
-    return repository.selectClub(id)
+    return referenceDataCache.get(Kind.CLUB, id, () -> repository.selectClub(id), FootballService::copyClub)
         .orElseThrow(() -> new ResourceNotFoundException("Club not found"));
   }
 
@@ -202,6 +298,78 @@ public class FootballService {
         .orElseThrow(() -> new ResourceNotFoundException("Player not found"));
   }
 
+  /**
+   * 選手IDの一覧による選手の一括取得（1回のクエリで取得する）
+   * @param ids 選手ID一覧（重複可）
+   * @return 選手IDをキーとした選手
+   * @throws ResourceNotFoundException 存在しない選手IDがある場合（該当する選手IDをすべてメッセージに含める）
+   */
+  public Map<Integer, Player> getPlayersByIds(Collection<Integer> ids) throws ResourceNotFoundException {
+    List<Integer> uniqueIds = ids.stream().distinct().toList();
+    if (uniqueIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Integer, Player> players = repository.selectPlayersByIds(uniqueIds);
+    List<Integer> missingIds = uniqueIds.stream()
+        .filter(id -> !players.containsKey(id))
+        .sorted()
+        .toList();
+    if (!missingIds.isEmpty()) {
+      throw new ResourceNotFoundException("Players not found: " + missingIds);
+    }
+    return players;
+  }
+
+  /**
+   * 選手のシーズン・クラブごとの合計成績一覧の取得
+   * @param playerId 選手ID
+   * @return シーズン・クラブごとの合計成績一覧
+   */
+  public List<PlayerSeasonTotal> getPlayerSeasonTotalsByPlayer(int playerId) {
+    return repository.selectPlayerSeasonTotalsByPlayer(playerId);
+  }
+
+  /**
+   * クラブ所属選手全員のシーズン合計成績一覧の取得
+   * @param clubId クラブID
+   * @param seasonId シーズンID
+   * @return 選手ごとの合計成績一覧
+   */
+  public List<PlayerSeasonTotal> getPlayerSeasonTotalsByClub(int clubId, int seasonId) {
+    return repository.selectPlayerSeasonTotalsByClub(clubId, seasonId);
+  }
+
+  /**
+   * 全選手試合成績を集計用の項目とシーズンIDで1行ずつ処理する（一覧を作成せずにDBから順に渡す）
+   * @param consumer 1行ごとの処理
+   */
+  public void forEachPlayerGameStatWithSeason(Consumer<PlayerGameStatWithSeason> consumer) {
+    repository.selectPlayerGameStatsWithSeason(context -> consumer.accept(context.getResultObject()));
+  }
+
+  /**
+   * リーグ・シーズンの成績項目の上位選手の合計成績一覧の取得
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param statistic 成績項目
+   * @param limit 件数
+   * @return 合計成績一覧（順位順）
+   */
+  public List<PlayerSeasonTotal> getPlayerSeasonTotalsForLeaderboard(int leagueId, int seasonId, LeaderboardStatistic statistic, int limit) {
+    return repository.selectPlayerSeasonTotalsForLeaderboard(leagueId, seasonId, statistic.getColumnName(), limit);
+  }
+
+  /**
+   * 選手・シーズン・クラブによる合計成績の取得
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @param clubId クラブID
+   * @return 合計成績（出場がない場合は空）
+   */
+  public Optional<PlayerSeasonTotal> getPlayerSeasonTotal(int playerId, int seasonId, int clubId) {
+    return repository.selectPlayerSeasonTotal(playerId, seasonId, clubId);
+  }
+
   /**
     * シーズン試合結果一覧の取得
     * @param leagueId リーグID
@@ -212,6 +380,25 @@ public class FootballService {
     return repository.selectGameResultsByLeagueAndSeason(seasonId, leagueId);
   }
 
+  /**
+   * リーグ・シーズンの試合結果一覧の取得（1回のクエリで両クラブ名も設定する）
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 試合結果一覧（試合日順）
+   */
+  public List<GameResult> getGameResultsWithClubNamesByLeagueAndSeason(int leagueId, int seasonId) {
+    return repository.selectGameResultsWithClubNamesByLeagueAndSeason(seasonId, leagueId);
+  }
+
+  /**
+   * シーズンの全リーグの試合結果一覧の取得
+   * @param seasonId シーズンID
+   * @return 試合結果一覧
+   */
+  public List<GameResult> getGameResultsBySeason(int seasonId) {
+    return repository.selectGameResultsBySeason(seasonId);
+  }
+
   /**
     * シーズン試合日一覧の取得
     * @param leagueId リーグID
@@ -311,6 +498,31 @@ public class FootballService {
     return repository.selectLeaguesByCountry(countryId);
   }
 
+  /**
+   * リーグ一覧の取得
+   * @return リーグ一覧
+   */
+  public List<League> getLeagues() {
+    return repository.selectLeagues();
+  }
+
+  /**
+   * 複数リーグの比較項目ID一覧の取得（全リーグのリーグ規定を1回のクエリで取得する）
+   * @param leagueIds リーグID一覧
+   * @return リーグIDをキーとした比較項目ID一覧（リーグ規定の順序。リーグ規定がないリーグはデフォルトの比較項目）
+   */
+  public Map<Integer, List<Integer>> getComparisonItemIdsByLeagues(Collection<Integer> leagueIds) {
+    Map<Integer, List<Integer>> comparisonItemIdsByLeagueId = repository.selectLeagueRegulations().stream()
+        .sorted(Comparator.comparingInt(LeagueRegulation::getComparisonItemOrder))
+        .collect(Collectors.groupingBy(LeagueRegulation::getLeagueId,
+            Collectors.mapping(LeagueRegulation::getComparisonItemId, Collectors.toList())));
+    Map<Integer, List<Integer>> result = new HashMap<>();
+    for (int leagueId : leagueIds) {
+      result.put(leagueId, comparisonItemIdsByLeagueId.getOrDefault(leagueId, List.of(DEFAULT_COMPARISON_ITEM_ID)));
+    }
+    return result;
+  }
+
   /**
    * リーグ規定一覧の取得
    * @param leagueId リーグID
@@ -322,7 +534,7 @@ public class FootballService {
     // リーグ規定がない場合は、デフォルトのリーグ規定を返す
     if (leagueRegulations.isEmpty()) {
       leagueRegulations = List.of(
-          new LeagueRegulation(1, leagueId, 1, 1)
+          new LeagueRegulation(1, leagueId, 1, DEFAULT_COMPARISON_ITEM_ID)
       );
     }
 
@@ -344,7 +556,7 @@ public class FootballService {
    * @return 国一覧
    */
   public List<Country> getCountries() {
-    return repository.selectCountries();
+    return referenceDataCache.getList(Kind.COUNTRY, repository::selectCountries, FootballService::copyCountry);
   }
 
   /**
@@ -352,7 +564,7 @@ public class FootballService {
    * @return シーズン一覧
    */
   public List<Season> getSeasons() {
-    return repository.selectSeasons();
+    return referenceDataCache.getList(Kind.SEASON, repository::selectSeasons, FootballService::copySeason);
   }
 
   /**
@@ -360,7 +572,15 @@ public class FootballService {
    * @return 順位比較項目一覧
    */
   public List<ComparisonItem> getComparisonItems() {
-    return repository.selectComparisonItems();
+    return referenceDataCache.getList(Kind.COMPARISON_ITEM, repository::selectComparisonItems, FootballService::copyComparisonItem);
+  }
+
+  /**
+   * 参照データキャッシュの統計情報の取得
+   * @return 統計情報
+   */
+  public CacheStatistics getReferenceDataCacheStatistics() {
+    return referenceDataCache.getStatistics();
   }
 
   /**
@@ -389,16 +609,106 @@ public class FootballService {
    * @throws ResourceNotFoundException シーズンが見つからない場合
    */
   public Season getSeason(int id) throws ResourceNotFoundException {
-    return repository.selectSeason(id)
+    return referenceDataCache.get(Kind.SEASON, id, () -> repository.selectSeason(id), FootballService::copySeason)
         .orElseThrow(() -> new ResourceNotFoundException("Season not found"));
   }
 
+  /**
+   * 選手一覧の取得
+   * @return 選手一覧
+   */
+  public List<Player> getPlayers() {
+    return repository.selectPlayers();
+  }
+
   /**
    * クラブ一覧の取得
    * @return クラブ一覧
    */
   public List<Club> getClubs() {
-    return repository.selectClubs();
+    return referenceDataCache.getList(Kind.CLUB, repository::selectClubs, FootballService::copyClub);
+  }
+
+  /**
+   * クラブ一覧のページの取得（IDの昇順）
+   * @param pageToken 前ページで返されたトークン（先頭ページの場合はnull）
+   * @param pageSize ページサイズ
+   * @return クラブ一覧のページ
+   * @throws FootballException トークンが不正な場合
+   */
+  public KeysetPage<Club> getClubPage(String pageToken, int pageSize) throws FootballException {
+    int afterId = KeysetPage.decodeToken(pageToken);
+    return KeysetPage.of(repository.selectClubsAfter(afterId, pageSize + 1), pageSize, Club::getId);
+  }
+
+  /**
+   * 選手一覧のページの取得（IDの昇順）
+   * @param pageToken 前ページで返されたトークン（先頭ページの場合はnull）
+   * @param pageSize ページサイズ
+   * @return 選手一覧のページ
+   * @throws FootballException トークンが不正な場合
+   */
+  public KeysetPage<Player> getPlayerPage(String pageToken, int pageSize) throws FootballException {
+    int afterId = KeysetPage.decodeToken(pageToken);
+    return KeysetPage.of(repository.selectPlayersAfter(afterId, pageSize + 1), pageSize, Player::getId);
+  }
+
+  /**
+   * 試合結果一覧のページの取得（IDの昇順）
+   * @param pageToken 前ページで返されたトークン（先頭ページの場合はnull）
+   * @param pageSize ページサイズ
+   * @return 試合結果一覧のページ
+   * @throws FootballException トークンが不正な場合
+   */
+  public KeysetPage<GameResult> getGameResultPage(String pageToken, int pageSize) throws FootballException {
+    int afterId = KeysetPage.decodeToken(pageToken);
+    return KeysetPage.of(repository.selectGameResultsAfter(afterId, pageSize + 1), pageSize, GameResult::getId);
+  }
+
+  /**
+   * 選手試合成績一覧のページの取得（IDの昇順）
+   * @param pageToken 前ページで返されたトークン（先頭ページの場合はnull）
+   * @param pageSize ページサイズ
+   * @return 選手試合成績一覧のページ
+   * @throws FootballException トークンが不正な場合
+   */
+  public KeysetPage<PlayerGameStat> getPlayerGameStatPage(String pageToken, int pageSize) throws FootballException {
+    int afterId = KeysetPage.decodeToken(pageToken);
+    return KeysetPage.of(repository.selectPlayerGameStatsAfter(afterId, pageSize + 1), pageSize, PlayerGameStat::getId);
+  }
+
+  /**
+   * 選手の選手試合成績一覧のページの取得（IDの昇順）
+   * @param playerId 選手ID
+   * @param pageToken 前ページで返されたトークン（先頭ページの場合はnull）
+   * @param pageSize ページサイズ
+   * @return 選手試合成績一覧のページ
+   * @throws FootballException トークンが不正な場合
+   */
+  public KeysetPage<PlayerGameStat> getPlayerGameStatPageByPlayer(int playerId, String pageToken, int pageSize)
+      throws FootballException {
+    int afterId = KeysetPage.decodeToken(pageToken);
+    return KeysetPage.of(repository.selectPlayerGameStatsByPlayerAfter(playerId, afterId, pageSize + 1), pageSize,
+        PlayerGameStat::getId);
+  }
+
+  /**
+   * 集計済み成績一覧の取得
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 集計済み成績一覧（試合のないクラブの行は含まれない）
+   */
+  public List<StandingRecord> getStandingRecordsByLeagueAndSeason(int leagueId, int seasonId) {
+    return repository.selectStandingsByLeagueAndSeason(leagueId, seasonId);
+  }
+
+  /**
+   * シーズンの全リーグの集計済み成績一覧の取得
+   * @param seasonId シーズンID
+   * @return 集計済み成績一覧（試合のないクラブの行は含まれない）
+   */
+  public List<StandingRecord> getStandingRecordsBySeason(int seasonId) {
+    return repository.selectStandingsBySeason(seasonId);
   }
 
   /**
@@ -419,6 +729,7 @@ public class FootballService {
   @Transactional
   public void updateSeasonsCurrentFalse() {
     repository.updateSeasonsCurrentFalse();
+    eventPublisher.publishEvent(ReferenceDataChangedEvent.ofKind(Kind.SEASON));
   }
 
   /**
@@ -487,6 +798,10 @@ public class FootballService {
       throw new ResourceConflictException("There is no change");
     }
     repository.updateClubLeague(id, leagueId);
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(Kind.CLUB, id));
+    // 移籍元・移籍先の両リーグの順位表が変わる
+    eventPublisher.publishEvent(StandingChangedEvent.ofLeague(club.getLeagueId()));
+    eventPublisher.publishEvent(StandingChangedEvent.ofLeague(leagueId));
   }
 
   /**
@@ -504,44 +819,200 @@ public class FootballService {
     repository.updatePlayerClubIdNull(id);
   }
 
+  /**
+   * 集計済み成績を試合結果から再構築
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @return 再構築前の値と食い違っていた成績一覧（再構築後の値）
+   * @throws ResourceNotFoundException リーグまたはシーズンが見つからない場合
+   */
+  @Transactional
+  public List<StandingRecord> rebuildStandings(int leagueId, int seasonId) throws ResourceNotFoundException {
+    getLeague(leagueId);
+    getSeason(seasonId);
+    Map<Integer, StandingRecord> storedByClubId = repository.selectStandingsByLeagueAndSeason(leagueId, seasonId).stream()
+        .collect(Collectors.toMap(StandingRecord::getClubId, Function.identity()));
+    List<StandingRecord> calculated = repository.selectStandingsCalculatedFromGameResults(leagueId, seasonId);
+
+    List<StandingRecord> driftedRecords = new ArrayList<>();
+    for (StandingRecord standingRecord : calculated) {
+      StandingRecord stored = storedByClubId.remove(standingRecord.getClubId());
+      if (!Objects.equals(standingRecord, stored)) {
+        driftedRecords.add(standingRecord);
+      }
+    }
+    // 試合結果に存在しないクラブの行が残っていた場合は、0件の成績として扱う
+    for (StandingRecord stored : storedByClubId.values()) {
+      driftedRecords.add(new StandingRecord(leagueId, seasonId, stored.getClubId(), 0, 0, 0, 0, 0, 0, 0));
+    }
+
+    repository.deleteStandingsByLeagueAndSeason(leagueId, seasonId);
+    upsertStandings(calculated);
+    eventPublisher.publishEvent(new StandingChangedEvent(leagueId, seasonId));
+    return driftedRecords;
+  }
+
+  /**
+   * 全リーグ・全シーズンの集計済み成績を試合結果から再構築（standingsテーブル追加時の初期作成にも使う）
+   * @return 再構築前の値と食い違っていた成績一覧（再構築後の値）
+   */
+  @Transactional
+  public List<StandingRecord> rebuildAllStandings() {
+    Map<List<Integer>, StandingRecord> storedByKey = repository.selectStandings().stream()
+        .collect(Collectors.toMap(FootballService::standingRecordKey, Function.identity()));
+    List<StandingRecord> calculated = repository.selectStandingsCalculatedFromAllGameResults();
+
+    List<StandingRecord> driftedRecords = new ArrayList<>();
+    for (StandingRecord standingRecord : calculated) {
+      StandingRecord stored = storedByKey.remove(standingRecordKey(standingRecord));
+      if (!Objects.equals(standingRecord, stored)) {
+        driftedRecords.add(standingRecord);
+      }
+    }
+    // 試合結果に存在しないクラブの行が残っていた場合は、0件の成績として扱う
+    for (StandingRecord stored : storedByKey.values()) {
+      driftedRecords.add(new StandingRecord(stored.getLeagueId(), stored.getSeasonId(), stored.getClubId(), 0, 0, 0, 0, 0, 0, 0));
+    }
+
+    repository.deleteStandings();
+    upsertStandings(calculated);
+    // 食い違っていたリーグ・シーズンの順位表のみ変わる
+    driftedRecords.stream()
+        .map(standingRecord -> new StandingChangedEvent(standingRecord.getLeagueId(), standingRecord.getSeasonId()))
+        .distinct()
+        .forEach(eventPublisher::publishEvent);
+    return driftedRecords;
+  }
+
+  /**
+   * 全選手のシーズン合計成績を選手試合成績から再構築
+   * @return 再構築前の値と食い違っていた合計成績一覧（再構築後の値）
+   */
+  @Transactional
+  public List<PlayerSeasonTotal> rebuildPlayerSeasonTotals() {
+    Map<List<Integer>, PlayerSeasonTotal> storedByKey = repository.selectPlayerSeasonTotals().stream()
+        .collect(Collectors.toMap(FootballService::playerSeasonTotalKey, Function.identity()));
+    List<PlayerSeasonTotal> calculated = repository.selectPlayerSeasonTotalsCalculatedFromPlayerGameStats();
+
+    List<PlayerSeasonTotal> driftedTotals = new ArrayList<>();
+    for (PlayerSeasonTotal playerSeasonTotal : calculated) {
+      PlayerSeasonTotal stored = storedByKey.remove(playerSeasonTotalKey(playerSeasonTotal));
+      if (!Objects.equals(playerSeasonTotal, stored)) {
+        driftedTotals.add(playerSeasonTotal);
+      }
+    }
+    // 選手試合成績に存在しない行が残っていた場合は、0件の成績として扱う
+    for (PlayerSeasonTotal stored : storedByKey.values()) {
+      driftedTotals.add(new PlayerSeasonTotal(stored.getPlayerId(), stored.getSeasonId(), stored.getClubId(),
+          0, 0, 0, 0, 0, 0, 0, stored.getPlayerName(), stored.getClubName(), stored.getSeasonName()));
+    }
+
+    repository.deletePlayerSeasonTotals();
+    upsertPlayerSeasonTotals(calculated);
+    eventPublisher.publishEvent(new PlayerSeasonTotalsRebuiltEvent());
+    return driftedTotals;
+  }
+
+  /**
+   * 集計済み成績をリーグ・シーズン・クラブごとに合算し、1回のINSERTで加算する
+   * 同じクラブが1回の登録に複数試合含まれている場合も、行ごとの加算にならないよう事前に合算する
+   * @param standingRecords 加算する成績一覧（空の場合は何もしない）
+   */
+  private void upsertStandings(List<StandingRecord> standingRecords) {
+    if (standingRecords.isEmpty()) {
+      return;
+    }
+    Map<List<Integer>, StandingRecord> summedByKey = new LinkedHashMap<>();
+    for (StandingRecord standingRecord : standingRecords) {
+      summedByKey.merge(standingRecordKey(standingRecord), standingRecord, StandingRecord::plus);
+    }
+    repository.upsertStandings(new ArrayList<>(summedByKey.values()));
+  }
+
+  /**
+   * 選手のシーズン合計成績を選手・シーズン・クラブごとに合算し、1回のINSERTで加算する
+   * 同じ選手が1回の登録に複数試合出場している場合も、行ごとの加算にならないよう事前に合算する
+   * @param playerSeasonTotals 加算する成績一覧（空の場合は何もしない）
+   */
+  private void upsertPlayerSeasonTotals(List<PlayerSeasonTotal> playerSeasonTotals) {
+    if (playerSeasonTotals.isEmpty()) {
+      return;
+    }
+    Map<List<Integer>, PlayerSeasonTotal> summedByKey = new LinkedHashMap<>();
+    for (PlayerSeasonTotal playerSeasonTotal : playerSeasonTotals) {
+      summedByKey.merge(playerSeasonTotalKey(playerSeasonTotal), playerSeasonTotal, PlayerSeasonTotal::plus);
+    }
+    repository.upsertPlayerSeasonTotals(new ArrayList<>(summedByKey.values()));
+  }
+
+  private static List<Integer> standingRecordKey(StandingRecord standingRecord) {
+    return List.of(standingRecord.getLeagueId(), standingRecord.getSeasonId(), standingRecord.getClubId());
+  }
+
+  private static List<Integer> playerSeasonTotalKey(PlayerSeasonTotal playerSeasonTotal) {
+    return List.of(playerSeasonTotal.getPlayerId(), playerSeasonTotal.getSeasonId(), playerSeasonTotal.getClubId());
+  }
+
 //  other
 
   /**
    * 選手とシーズンに基づく選手試合成績一覧の取得
+   * GetMapping用のgameDate, opponentClubName, scoreは試合結果・クラブと結合した1回のクエリの結果から設定する
    * @param playerId 選手ID
    * @param seasonId シーズンID
    * @return 選手試合成績一覧
    */
-  public List<PlayerGameStat> getPlayerGameStatsByPlayerAndSeason(int playerId, int seasonId) throws ResourceNotFoundException {
-    List<PlayerGameStat> playerGameStats = repository.selectPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
-    // @GetMapping用にgameDate, opponentClubName, scoreを追加
-    for (PlayerGameStat playerGameStat : playerGameStats) {
-      setFieldsToPlayerGameStat(playerGameStat);
+  public List<PlayerGameStat> getPlayerGameStatsByPlayerAndSeason(int playerId, int seasonId) {
+    List<PlayerGameStatWithGame> playerGameStatsWithGame = repository.selectPlayerGameStatsWithGameByPlayerAndSeason(playerId, seasonId);
+    List<PlayerGameStat> playerGameStats = new ArrayList<>(playerGameStatsWithGame.size());
+    for (PlayerGameStatWithGame playerGameStatWithGame : playerGameStatsWithGame) {
+      playerGameStats.add(playerGameStatWithGame.toPlayerGameStat());
     }
     return playerGameStats;
   }
 
   /**
-   * 選手試合成績にgameDate, opponentClubName, scoreを設定
-   * @param playerGameStat 選手試合成績
+   * 選手の全シーズンの選手試合成績をシーズンごとにまとめて取得する（試合結果・クラブと結合した1回のクエリで取得する）
+   * @param playerId 選手ID
+   * @return シーズンIDごとの選手試合成績一覧（シーズン順、各一覧は試合日順）
    */
-  private void setFieldsToPlayerGameStat(PlayerGameStat playerGameStat) throws ResourceNotFoundException {
-    GameResult gameResult = getGameResult(playerGameStat.getGameId());
-    // gameDate
-    playerGameStat.setGameDate(gameResult.getGameDate());
-    // opponentClubName
-    int opponentClubId = gameResult.getHomeClubId() == playerGameStat.getClubId() ? gameResult.getAwayClubId() : gameResult.getHomeClubId();
-    playerGameStat.setOpponentClubName(getClub(opponentClubId).getName());
-    // score
-    String score = gameResult.getHomeScore() + "-" + gameResult.getAwayScore();
-    if (gameResult.getWinnerClubId() == null) {
-      score = "△" + score;
-    } else if (gameResult.getWinnerClubId() == playerGameStat.getClubId()) {
-      score = "○" + score;
-    } else {
-      score = "●" + score;
+  public Map<Integer, List<PlayerGameStat>> getPlayerGameStatsByPlayerGroupedBySeason(int playerId) {
+    Map<Integer, List<PlayerGameStat>> playerGameStatsBySeason = new LinkedHashMap<>();
+    for (PlayerGameStatWithGame playerGameStatWithGame : repository.selectPlayerGameStatsWithGameByPlayerOrderBySeason(playerId)) {
+      playerGameStatsBySeason.computeIfAbsent(playerGameStatWithGame.getSeasonId(), seasonId -> new ArrayList<>())
+          .add(playerGameStatWithGame.toPlayerGameStat());
+    }
+    return playerGameStatsBySeason;
+  }
+
+  /**
+   * 選手の全シーズンの選手試合成績を試合日順に1件ずつ書き出す（一覧を作成せず、Cursorで一定件数ずつDBから読み込む）
+   * @param playerId 選手ID
+   * @param writer 1件ごとの書き出し処理
+   * @throws IOException 書き出しに失敗した場合
+   */
+  @Transactional(readOnly = true)
+  public void writePlayerGameLog(int playerId, PlayerGameStatWriter writer) throws IOException {
+    try (Cursor<PlayerGameStatWithGame> cursor = repository.selectPlayerGameStatsWithGameByPlayer(playerId)) {
+      for (PlayerGameStatWithGame playerGameStatWithGame : cursor) {
+        writer.write(playerGameStatWithGame.toPlayerGameStat());
+      }
+    }
+  }
+
+  /**
+   * クラブ所属選手全員のシーズンでの選手試合成績一覧の取得（1回のクエリで取得し、gameDate, opponentClubName, scoreを設定する）
+   * @param clubId クラブID
+   * @param seasonId シーズンID
+   * @return 選手試合成績一覧
+   */
+  public List<PlayerGameStat> getPlayerGameStatsByClubAndSeason(int clubId, int seasonId) {
+    List<PlayerGameStatWithGame> playerGameStatsWithGame = repository.selectPlayerGameStatsWithGameByClubAndSeason(clubId, seasonId);
+    List<PlayerGameStat> playerGameStats = new ArrayList<>(playerGameStatsWithGame.size());
+    for (PlayerGameStatWithGame playerGameStatWithGame : playerGameStatsWithGame) {
+      playerGameStats.add(playerGameStatWithGame.toPlayerGameStat());
     }
-    playerGameStat.setScore(score);
+    return playerGameStats;
   }
 
   /**
@@ -580,6 +1051,7 @@ public class FootballService {
    * 試合結果と選手試合成績を登録
    * @param gameResultWithPlayerStats 試合結果と選手試合成績
    * @throws FootballException 試合結果及び選手試合成績の整合性に問題がある場合
+   * @throws ResourceNotFoundException 存在しない選手が含まれる場合（該当する選手IDをすべてメッセージに含める）
    */
   @Transactional(rollbackFor = FootballException.class)
   public void registerGameResultAndPlayerGameStats(GameResultWithPlayerStats gameResultWithPlayerStats)
@@ -592,13 +1064,17 @@ public class FootballService {
     homeClubStats = getPlayerGameStatsExceptAbsent(homeClubStats);
     awayClubStats = getPlayerGameStatsExceptAbsent(awayClubStats);
 
-    // clubIdとnumberをplayer情報から設定
+    // clubIdとnumberをplayer情報から設定（両クラブの選手を1回のクエリでまとめて取得する）
+    List<Integer> playerIds = new ArrayList<>(homeClubStats.size() + awayClubStats.size());
+    homeClubStats.forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    awayClubStats.forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    Map<Integer, Player> players = getPlayersByIds(playerIds);
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      Player player = getPlayer(playerGameStat.getPlayerId());
+      Player player = players.get(playerGameStat.getPlayerId());
       playerGameStat.setPlayerInfo(player.getClubId(), player.getNumber());
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      Player player = getPlayer(playerGameStat.getPlayerId());
+      Player player = players.get(playerGameStat.getPlayerId());
       playerGameStat.setPlayerInfo(player.getClubId(), player.getNumber());
     }
 
@@ -608,15 +1084,18 @@ public class FootballService {
 //    試合結果を登録
     registerGameResult(gameResult);
 
-//    個人成績を登録（登録前にgameIdを設定）
-    for (PlayerGameStat playerGameStat : homeClubStats) {
-      playerGameStat.setGameId(gameResult.getId());
-      registerPlayerGameStat(playerGameStat);
-    }
-    for (PlayerGameStat playerGameStat : awayClubStats) {
+//    個人成績を両クラブ分まとめて登録（登録前にgameIdを設定）
+//    選手のシーズン合計成績も同一トランザクション内で更新する
+    List<PlayerGameStat> registeredStats = new ArrayList<>(homeClubStats);
+    registeredStats.addAll(awayClubStats);
+    for (PlayerGameStat playerGameStat : registeredStats) {
       playerGameStat.setGameId(gameResult.getId());
-      registerPlayerGameStat(playerGameStat);
     }
+    registerPlayerGameStats(registeredStats);
+    upsertPlayerSeasonTotals(registeredStats.stream()
+        .map(playerGameStat -> PlayerSeasonTotal.of(playerGameStat, gameResult.getSeasonId()))
+        .toList());
+    eventPublisher.publishEvent(new PlayerGameStatsRegisteredEvent(gameResult.getSeasonId(), gameResult.getGameDate(), registeredStats));
 
     // 更新された情報を gameResultWithPlayerStats に設定（Response用）
     gameResultWithPlayerStats.setGameResult(gameResult);
@@ -634,16 +1113,39 @@ public class FootballService {
     */
   private void confirmGameResultAndPlayerGameStats(GameResult gameResult, List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats) throws FootballException, ResourceNotFoundException {
     // gameDateが今シーズンの範囲内か確認
-    Season season = getCurrentSeason();
-    if (gameResult.getGameDate().isBefore(season.getStartDate()) || gameResult.getGameDate().isAfter(season.getEndDate())) {
-      throw new FootballException("Game date must be in the current season period");
-    }
+    confirmGameDate(gameResult, getCurrentSeason());
     // リーグが存在するか確認（明示的に例外をスローするため、あえて内部メソッドではなくrepositoryを使用）
     repository.selectLeague(gameResult.getLeagueId())
         .orElseThrow(() -> new ResourceNotFoundException("League not found"));
-    // リーグとクラブが紐づいているかを確認
     Club homeClub = getClub(gameResult.getHomeClubId());
     Club awayClub = getClub(gameResult.getAwayClubId());
+    confirmClubsAndPlayerGameStats(gameResult, homeClubStats, awayClubStats, homeClub, awayClub);
+  }
+
+  /**
+   * 試合日が現在シーズンの期間内か確認
+   * @param gameResult 試合結果
+   * @param season 現在シーズン
+   * @throws FootballException 試合日が現在シーズンの期間外の場合
+   */
+  private void confirmGameDate(GameResult gameResult, Season season) throws FootballException {
+    if (gameResult.getGameDate().isBefore(season.getStartDate()) || gameResult.getGameDate().isAfter(season.getEndDate())) {
+      throw new FootballException("Game date must be in the current season period");
+    }
+  }
+
+  /**
+   * 試合結果・クラブ・選手試合成績の整合性を確認（リーグ・クラブ・選手の存在は確認済みであること）
+   * @param gameResult 試合結果
+   * @param homeClubStats ホームクラブの選手試合成績（clubIdが設定済みのもの）
+   * @param awayClubStats アウェイクラブの選手試合成績（clubIdが設定済みのもの）
+   * @param homeClub ホームクラブ
+   * @param awayClub アウェイクラブ
+   * @throws FootballException 試合結果及び選手試合成績の整合性に問題がある場合
+   */
+  private void confirmClubsAndPlayerGameStats(GameResult gameResult, List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats,
+      Club homeClub, Club awayClub) throws FootballException {
+    // リーグとクラブが紐づいているかを確認
     if (homeClub.getLeagueId() != gameResult.getLeagueId()) {
       throw new FootballException("Home club is not in the league");
     }
@@ -661,6 +1163,18 @@ public class FootballService {
         throw new FootballException("Away club and player are not matched");
       }
     }
+    confirmPlayerGameStats(gameResult, homeClubStats, awayClubStats);
+  }
+
+  /**
+   * 試合結果と選手試合成績の整合性を確認（重複選手・スコア・アシスト・先発人数・出場時間）
+   * @param gameResult 試合結果
+   * @param homeClubStats ホームクラブの選手試合成績
+   * @param awayClubStats アウェイクラブの選手試合成績
+   * @throws FootballException 試合結果及び選手試合成績の整合性に問題がある場合
+   */
+  private void confirmPlayerGameStats(GameResult gameResult, List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats)
+      throws FootballException {
     // ホームとアウェイそれぞれで重複する選手がいないか確認
     List<Integer> homePlayerIds = homeClubStats.stream().map(PlayerGameStat::getPlayerId).toList();
     Set<Integer> homePlayerIdsSet = new HashSet<>(homePlayerIds);
@@ -712,6 +1226,271 @@ public class FootballService {
     }
   }
 
+  /**
+   * 複数試合の試合結果と選手試合成績の整合性を確認
+   * 現在シーズン・リーグ・クラブ・選手はまとめて1度だけ取得し、各試合の選手試合成績から欠場選手を除外してclubIdとnumberを設定する
+   * @param gameResultsWithPlayerStats 試合結果と選手試合成績の一覧
+   * @return 試合ごとの確認結果（リクエストの順序）
+   * @throws ResourceNotFoundException 現在シーズンが見つからない場合
+   */
+  public List<GameRegistrationStatus> confirmGameResultsAndPlayerGameStats(List<GameResultWithPlayerStats> gameResultsWithPlayerStats)
+      throws ResourceNotFoundException {
+    Season season = getCurrentSeason();
+    Set<Integer> leagueIds = new HashSet<>();
+    Set<Integer> clubIds = new HashSet<>();
+    Set<Integer> playerIds = new HashSet<>();
+    for (GameResultWithPlayerStats gameResultWithPlayerStats : gameResultsWithPlayerStats) {
+      GameResult gameResult = gameResultWithPlayerStats.getGameResult();
+      gameResultWithPlayerStats.setHomePlayerGameStats(getPlayerGameStatsExceptAbsent(gameResultWithPlayerStats.getHomePlayerGameStats()));
+      gameResultWithPlayerStats.setAwayPlayerGameStats(getPlayerGameStatsExceptAbsent(gameResultWithPlayerStats.getAwayPlayerGameStats()));
+      leagueIds.add(gameResult.getLeagueId());
+      clubIds.add(gameResult.getHomeClubId());
+      clubIds.add(gameResult.getAwayClubId());
+      gameResultWithPlayerStats.getHomePlayerGameStats().forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+      gameResultWithPlayerStats.getAwayPlayerGameStats().forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    }
+    Set<Integer> existingLeagueIds = leagueIds.isEmpty() ? Set.of() : repository.selectLeaguesByIds(new ArrayList<>(leagueIds)).keySet();
+    Map<Integer, Club> clubs = clubIds.isEmpty() ? Map.of() : repository.selectClubsByIds(new ArrayList<>(clubIds));
+    Map<Integer, Player> players = playerIds.isEmpty() ? Map.of() : repository.selectPlayersByIds(new ArrayList<>(playerIds));
+
+    List<GameRegistrationStatus> statuses = new ArrayList<>(gameResultsWithPlayerStats.size());
+    for (int i = 0; i < gameResultsWithPlayerStats.size(); i++) {
+      statuses.add(confirmPreloadedGameResult(i, gameResultsWithPlayerStats.get(i), season, existingLeagueIds, clubs, players));
+    }
+    return statuses;
+  }
+
+  /**
+   * 取得済みの現在シーズン・リーグ・クラブ・選手を使って1試合分の整合性を確認（単一試合の登録と同じ順序で確認する）
+   * @param index リクエスト内の位置
+   * @param gameResultWithPlayerStats 試合結果と選手試合成績（欠場選手を除外済みのもの）
+   * @param season 現在シーズン
+   * @param existingLeagueIds 存在するリーグのID
+   * @param clubs クラブIDをキーとしたクラブ
+   * @param players 選手IDをキーとした選手
+   * @return 確認結果
+   */
+  private GameRegistrationStatus confirmPreloadedGameResult(int index, GameResultWithPlayerStats gameResultWithPlayerStats,
+      Season season, Set<Integer> existingLeagueIds, Map<Integer, Club> clubs, Map<Integer, Player> players) {
+    GameResult gameResult = gameResultWithPlayerStats.getGameResult();
+    List<PlayerGameStat> homeClubStats = gameResultWithPlayerStats.getHomePlayerGameStats();
+    List<PlayerGameStat> awayClubStats = gameResultWithPlayerStats.getAwayPlayerGameStats();
+
+    List<Integer> missingPlayerIds = new ArrayList<>();
+    for (PlayerGameStat playerGameStat : homeClubStats) {
+      collectMissingPlayerId(playerGameStat, players, missingPlayerIds);
+    }
+    for (PlayerGameStat playerGameStat : awayClubStats) {
+      collectMissingPlayerId(playerGameStat, players, missingPlayerIds);
+    }
+    if (!missingPlayerIds.isEmpty()) {
+      return GameRegistrationStatus.rejected(index, Status.NOT_FOUND,
+          "Players not found: " + missingPlayerIds.stream().distinct().sorted().toList());
+    }
+    try {
+      confirmGameDate(gameResult, season);
+      if (!existingLeagueIds.contains(gameResult.getLeagueId())) {
+        return GameRegistrationStatus.rejected(index, Status.NOT_FOUND, "League not found");
+      }
+      Club homeClub = clubs.get(gameResult.getHomeClubId());
+      Club awayClub = clubs.get(gameResult.getAwayClubId());
+      if (homeClub == null || awayClub == null) {
+        return GameRegistrationStatus.rejected(index, Status.NOT_FOUND, "Club not found");
+      }
+      confirmClubsAndPlayerGameStats(gameResult, homeClubStats, awayClubStats, homeClub, awayClub);
+    } catch (FootballException e) {
+      return GameRegistrationStatus.rejected(index, Status.INVALID, e.getMessage());
+    }
+    return GameRegistrationStatus.validated(index);
+  }
+
+  /**
+   * 選手が存在すればclubIdとnumberを設定し、存在しなければ選手IDを追加する
+   * @param playerGameStat 選手試合成績
+   * @param players 選手IDをキーとした選手
+   * @param missingPlayerIds 存在しない選手ID一覧
+   */
+  private void collectMissingPlayerId(PlayerGameStat playerGameStat, Map<Integer, Player> players, List<Integer> missingPlayerIds) {
+    Player player = players.get(playerGameStat.getPlayerId());
+    if (player == null) {
+      missingPlayerIds.add(playerGameStat.getPlayerId());
+    } else {
+      playerGameStat.setPlayerInfo(player.getClubId(), player.getNumber());
+    }
+  }
+
+  /**
+   * 複数試合の試合結果と選手試合成績の整合性を確認し、全試合に問題がなければ登録する
+   * 確認に用いたリーグ・クラブ・選手と登録を同一トランザクション内で扱う（確認後の更新で不整合なデータが登録されないように）
+   * @param gameResultsWithPlayerStats 試合結果と選手試合成績の一覧
+   * @return 試合ごとの登録状況（問題のある試合がある場合、問題のない試合は確認済みのまま登録されない）
+   * @throws ResourceNotFoundException 現在シーズンが見つからない場合
+   */
+  @Transactional
+  public List<GameRegistrationStatus> confirmAndRegisterGameResults(List<GameResultWithPlayerStats> gameResultsWithPlayerStats)
+      throws ResourceNotFoundException {
+    List<GameRegistrationStatus> statuses = confirmGameResultsAndPlayerGameStats(gameResultsWithPlayerStats);
+    if (!statuses.stream().allMatch(GameRegistrationStatus::isValidated)) {
+      return statuses;
+    }
+    registerConfirmedGameResults(gameResultsWithPlayerStats);
+    return statuses.stream()
+        .map(status -> status.toRegistered(gameResultsWithPlayerStats.get(status.index()).getGameResult().getId()))
+        .toList();
+  }
+
+  /**
+   * 整合性を確認済みの複数試合の試合結果と選手試合成績を登録
+   * 試合結果と選手試合成績はそれぞれ1回のINSERTでまとめて登録し、集計済み成績も同一トランザクション内で更新する
+   * @param gameResultsWithPlayerStats 試合結果と選手試合成績の一覧（confirmGameResultsAndPlayerGameStatsで確認済みのもの）
+   */
+  @Transactional
+  public void registerConfirmedGameResults(List<GameResultWithPlayerStats> gameResultsWithPlayerStats) {
+    if (gameResultsWithPlayerStats.isEmpty()) {
+      return;
+    }
+    List<GameResult> gameResults = gameResultsWithPlayerStats.stream()
+        .map(GameResultWithPlayerStats::getGameResult)
+        .toList();
+    repository.insertGameResults(gameResults);
+    // 順位表のイベントはリーグ・シーズンごとに1回だけ通知する
+    Set<StandingChangedEvent> standingChangedEvents = new LinkedHashSet<>();
+    List<StandingRecord> standingRecords = new ArrayList<>(gameResults.size() * 2);
+    for (GameResult gameResult : gameResults) {
+      standingRecords.add(StandingRecord.of(gameResult, gameResult.getHomeClubId()));
+      standingRecords.add(StandingRecord.of(gameResult, gameResult.getAwayClubId()));
+      standingChangedEvents.add(new StandingChangedEvent(gameResult.getLeagueId(), gameResult.getSeasonId()));
+    }
+    upsertStandings(standingRecords);
+    standingChangedEvents.forEach(eventPublisher::publishEvent);
+
+    List<PlayerGameStat> registeredStats = new ArrayList<>();
+    for (GameResultWithPlayerStats gameResultWithPlayerStats : gameResultsWithPlayerStats) {
+      int gameId = gameResultWithPlayerStats.getGameResult().getId();
+      gameResultWithPlayerStats.getHomePlayerGameStats().forEach(playerGameStat -> playerGameStat.setGameId(gameId));
+      gameResultWithPlayerStats.getAwayPlayerGameStats().forEach(playerGameStat -> playerGameStat.setGameId(gameId));
+      registeredStats.addAll(gameResultWithPlayerStats.getHomePlayerGameStats());
+      registeredStats.addAll(gameResultWithPlayerStats.getAwayPlayerGameStats());
+    }
+    registerPlayerGameStats(registeredStats);
+    List<PlayerSeasonTotal> playerSeasonTotals = new ArrayList<>(registeredStats.size());
+    for (GameResultWithPlayerStats gameResultWithPlayerStats : gameResultsWithPlayerStats) {
+      GameResult gameResult = gameResultWithPlayerStats.getGameResult();
+      List<PlayerGameStat> playerGameStats = new ArrayList<>(gameResultWithPlayerStats.getHomePlayerGameStats());
+      playerGameStats.addAll(gameResultWithPlayerStats.getAwayPlayerGameStats());
+      for (PlayerGameStat playerGameStat : playerGameStats) {
+        playerSeasonTotals.add(PlayerSeasonTotal.of(playerGameStat, gameResult.getSeasonId()));
+      }
+      eventPublisher.publishEvent(new PlayerGameStatsRegisteredEvent(gameResult.getSeasonId(), gameResult.getGameDate(), playerGameStats));
+    }
+    upsertPlayerSeasonTotals(playerSeasonTotals);
+  }
+
+  /**
+   * 過去シーズンの複数試合の試合結果と選手試合成績の整合性を確認（取込用、DBを参照しない）
+   * クラブのリーグ・選手のクラブは現在の所属と異なりうるため確認せず、試合日は試合のシーズンの期間内か確認する
+   * 各試合の選手試合成績から欠場選手を除外し、clubIdに試合のクラブを、numberに選手の背番号を設定する
+   * @param gameResultsWithPlayerStats 試合結果と選手試合成績の一覧
+   * @param dictionary シーズン・リーグ・クラブ・選手の辞書
+   * @return 試合ごとの確認結果（一覧の順序）
+   */
+  public List<GameRegistrationStatus> confirmHistoricalGameResultsAndPlayerGameStats(
+      List<GameResultWithPlayerStats> gameResultsWithPlayerStats, GameImportDictionary dictionary) {
+    List<GameRegistrationStatus> statuses = new ArrayList<>(gameResultsWithPlayerStats.size());
+    for (int i = 0; i < gameResultsWithPlayerStats.size(); i++) {
+      GameResultWithPlayerStats gameResultWithPlayerStats = gameResultsWithPlayerStats.get(i);
+      GameResult gameResult = gameResultWithPlayerStats.getGameResult();
+      List<PlayerGameStat> homeClubStats = getPlayerGameStatsExceptAbsent(gameResultWithPlayerStats.getHomePlayerGameStats());
+      List<PlayerGameStat> awayClubStats = getPlayerGameStatsExceptAbsent(gameResultWithPlayerStats.getAwayPlayerGameStats());
+      gameResultWithPlayerStats.setHomePlayerGameStats(homeClubStats);
+      gameResultWithPlayerStats.setAwayPlayerGameStats(awayClubStats);
+      statuses.add(confirmHistoricalGameResult(i, gameResult, homeClubStats, awayClubStats, dictionary));
+    }
+    return statuses;
+  }
+
+  /**
+   * 辞書を使って過去シーズンの1試合分の整合性を確認
+   * @param index 一覧内の位置
+   * @param gameResult 試合結果
+   * @param homeClubStats ホームクラブの選手試合成績（欠場選手を除外済みのもの）
+   * @param awayClubStats アウェイクラブの選手試合成績（欠場選手を除外済みのもの）
+   * @param dictionary シーズン・リーグ・クラブ・選手の辞書
+   * @return 確認結果
+   */
+  private GameRegistrationStatus confirmHistoricalGameResult(int index, GameResult gameResult,
+      List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats, GameImportDictionary dictionary) {
+    List<Integer> missingPlayerIds = new ArrayList<>();
+    for (PlayerGameStat playerGameStat : homeClubStats) {
+      setHistoricalPlayerInfo(playerGameStat, gameResult.getHomeClubId(), dictionary.players(), missingPlayerIds);
+    }
+    for (PlayerGameStat playerGameStat : awayClubStats) {
+      setHistoricalPlayerInfo(playerGameStat, gameResult.getAwayClubId(), dictionary.players(), missingPlayerIds);
+    }
+    if (!missingPlayerIds.isEmpty()) {
+      return GameRegistrationStatus.rejected(index, Status.NOT_FOUND,
+          "Players not found: " + missingPlayerIds.stream().distinct().sorted().toList());
+    }
+    Season season = dictionary.seasons().get(gameResult.getSeasonId());
+    if (season == null) {
+      return GameRegistrationStatus.rejected(index, Status.NOT_FOUND, "Season not found");
+    }
+    if (!dictionary.leagueIds().contains(gameResult.getLeagueId())) {
+      return GameRegistrationStatus.rejected(index, Status.NOT_FOUND, "League not found");
+    }
+    if (!dictionary.clubs().containsKey(gameResult.getHomeClubId()) || !dictionary.clubs().containsKey(gameResult.getAwayClubId())) {
+      return GameRegistrationStatus.rejected(index, Status.NOT_FOUND, "Club not found");
+    }
+    try {
+      if (gameResult.getGameDate().isBefore(season.getStartDate()) || gameResult.getGameDate().isAfter(season.getEndDate())) {
+        throw new FootballException("Game date must be in the season period");
+      }
+      confirmPlayerGameStats(gameResult, homeClubStats, awayClubStats);
+    } catch (FootballException e) {
+      return GameRegistrationStatus.rejected(index, Status.INVALID, e.getMessage());
+    }
+    return GameRegistrationStatus.validated(index);
+  }
+
+  /**
+   * 選手が存在すればclubIdに試合のクラブを、numberに選手の背番号を設定し、存在しなければ選手IDを追加する
+   * @param playerGameStat 選手試合成績
+   * @param clubId 試合のクラブID
+   * @param players 選手IDをキーとした選手
+   * @param missingPlayerIds 存在しない選手ID一覧
+   */
+  private void setHistoricalPlayerInfo(PlayerGameStat playerGameStat, int clubId, Map<Integer, Player> players, List<Integer> missingPlayerIds) {
+    Player player = players.get(playerGameStat.getPlayerId());
+    if (player == null) {
+      missingPlayerIds.add(playerGameStat.getPlayerId());
+    } else {
+      playerGameStat.setPlayerInfo(clubId, player.getNumber());
+    }
+  }
+
+  /**
+   * 過去シーズンの取込の1バッチ分を登録（取込済みの最終行番号も同一トランザクション内で更新する）
+   * @param importKey 取込の識別子（ファイルの絶対パス）
+   * @param contentHash ファイルの内容のハッシュ値
+   * @param gameResultsWithPlayerStats 整合性を確認済みの試合結果と選手試合成績の一覧（空の場合は最終行番号のみ更新する）
+   * @param lastLine バッチの最終行番号
+   */
+  @Transactional
+  public void registerImportedGameResults(String importKey, String contentHash,
+      List<GameResultWithPlayerStats> gameResultsWithPlayerStats, long lastLine) {
+    registerConfirmedGameResults(gameResultsWithPlayerStats);
+    repository.upsertGameImportCheckpoint(importKey, contentHash, lastLine);
+  }
+
+  /**
+   * 過去シーズンの取込の進捗の取得
+   * @param importKey 取込の識別子（ファイルの絶対パス）
+   * @return 取込の進捗（取込を始めていない場合は空）
+   */
+  public Optional<GameImportCheckpoint> getGameImportCheckpoint(String importKey) {
+    return repository.selectGameImportCheckpoint(importKey);
+  }
+
   /**
    * 選手試合成績一覧をリクエスト用形式から登録用形式に変換
    * @param playerGameStatsForJson 選手試合成績一覧（リクエスト用）
@@ -743,4 +1522,33 @@ public class FootballService {
     return new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
   }
 
+  // 参照データキャッシュが保持するエンティティは共有されるため、呼び出し元には複製を返す
+  private static Country copyCountry(Country country) {
+    return new Country(country.getId(), country.getName());
+  }
+
+  private static League copyLeague(League league) {
+    return new League(league.getId(), league.getCountryId(), league.getName());
+  }
+
+  private static Club copyClub(Club club) {
+    return new Club(club.getId(), club.getLeagueId(), club.getName());
+  }
+
+  private static Season copySeason(Season season) {
+    return new Season(season.getId(), season.getName(), season.getStartDate(), season.getEndDate(), season.isCurrent());
+  }
+
+  private static ComparisonItem copyComparisonItem(ComparisonItem comparisonItem) {
+    return new ComparisonItem(comparisonItem.getId(), comparisonItem.getName());
+  }
+
+  /**
+   * 選手試合成績の書き出し処理
+   */
+  @FunctionalInterface
+  public interface PlayerGameStatWriter {
+    void write(PlayerGameStat playerGameStat) throws IOException;
+  }
+
 }
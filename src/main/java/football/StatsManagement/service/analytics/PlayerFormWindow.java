@@ -0,0 +1,97 @@
+package football.StatsManagement.service.analytics;
+
+import football.StatsManagement.model.domain.PlayerForm;
+import football.StatsManagement.model.domain.PlayerForm.FormWindow;
+import java.time.LocalDate;
+
+/**
+ * 選手の1シーズンの直近の出場成績を保持するリングバッファ
+ * 直近5試合・10試合とシーズン全体の合計を出場の追加ごとに差分で更新するため、取得は出場数によらず定数時間で行える
+ */
+public class PlayerFormWindow {
+  static final int CAPACITY = 10;
+  static final int SHORT_WINDOW = 5;
+
+  // 直近CAPACITY試合の成績（headが次に書き込む位置、つまり最も古い出場の位置）
+  private final int[] goals = new int[CAPACITY];
+  private final int[] assists = new int[CAPACITY];
+  private final int[] minutes = new int[CAPACITY];
+  private int head;
+  private int count;
+
+  // 直近5試合・10試合の合計（goals, assists, minutesの順）
+  private final int[] shortSums = new int[3];
+  private final int[] longSums = new int[3];
+
+  private int seasonGames;
+  private int seasonGoals;
+  private int seasonAssists;
+  private int seasonMinutes;
+
+  // 最後に追加した出場（試合日・選手試合成績ID）
+  private LocalDate lastGameDate;
+  private int lastId;
+
+  /**
+   * 出場を1試合追加する
+   * 最後に追加した出場より前（試合日・選手試合成績IDの順）の出場は追加しない（呼び出し側で作り直すこと）
+   * @param id 選手試合成績ID
+   * @param gameDate 試合日
+   * @param goals 得点
+   * @param assists アシスト
+   * @param minutes 出場時間
+   * @return 追加した場合true
+   */
+  public synchronized boolean append(int id, LocalDate gameDate, int goals, int assists, int minutes) {
+    if (lastGameDate != null && (gameDate.isBefore(lastGameDate) || (gameDate.equals(lastGameDate) && id <= lastId))) {
+      return false;
+    }
+    if (count >= SHORT_WINDOW) {
+      subtract(shortSums, (head + CAPACITY - SHORT_WINDOW) % CAPACITY);
+    }
+    if (count == CAPACITY) {
+      subtract(longSums, head);
+    }
+    this.goals[head] = goals;
+    this.assists[head] = assists;
+    this.minutes[head] = minutes;
+    add(shortSums, head);
+    add(longSums, head);
+    head = (head + 1) % CAPACITY;
+    count = Math.min(count + 1, CAPACITY);
+
+    seasonGames++;
+    seasonGoals += goals;
+    seasonAssists += assists;
+    seasonMinutes += minutes;
+    lastGameDate = gameDate;
+    lastId = id;
+    return true;
+  }
+
+  /**
+   * 現在の成績から選手のフォームを作成する
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @return 選手のフォーム
+   */
+  public synchronized PlayerForm toPlayerForm(int playerId, int seasonId) {
+    return new PlayerForm(playerId, seasonId,
+        FormWindow.of(seasonGames, seasonGoals, seasonAssists, seasonMinutes),
+        FormWindow.of(Math.min(count, SHORT_WINDOW), shortSums[0], shortSums[1], shortSums[2]),
+        FormWindow.of(count, longSums[0], longSums[1], longSums[2]));
+  }
+
+  private void add(int[] sums, int index) {
+    sums[0] += goals[index];
+    sums[1] += assists[index];
+    sums[2] += minutes[index];
+  }
+
+  private void subtract(int[] sums, int index) {
+    sums[0] -= goals[index];
+    sums[1] -= assists[index];
+    sums[2] -= minutes[index];
+  }
+
+}
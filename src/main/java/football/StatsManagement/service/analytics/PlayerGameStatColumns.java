@@ -0,0 +1,195 @@
+package football.StatsManagement.service.analytics;
+
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 選手試合成績を項目ごとのint配列（列）で保持するクラス
+ * 1行ごとにオブジェクトを作らず、選手・シーズンごとの行番号の索引から列を直接走査して集計する
+ * スレッドセーフではないため、呼び出し側で排他制御すること
+ */
+public class PlayerGameStatColumns {
+  private static final int INITIAL_CAPACITY = 1024;
+  // 索引1件あたりの固定の使用量の見積もり（HashMap・TreeMapのエントリとRowListオブジェクト）
+  static final int INDEX_ENTRY_OVERHEAD_BYTES = 112;
+
+  private int size;
+  private int[] playerIds = new int[INITIAL_CAPACITY];
+  private int[] clubIds = new int[INITIAL_CAPACITY];
+  private int[] gameIds = new int[INITIAL_CAPACITY];
+  private int[] seasonIds = new int[INITIAL_CAPACITY];
+  private int[] goals = new int[INITIAL_CAPACITY];
+  private int[] assists = new int[INITIAL_CAPACITY];
+  private int[] minutes = new int[INITIAL_CAPACITY];
+  private int[] yellowCards = new int[INITIAL_CAPACITY];
+  private int[] redCards = new int[INITIAL_CAPACITY];
+  private final BitSet starters = new BitSet();
+  private final BitSet storedIds = new BitSet(); // 同じ選手試合成績を2度追加しないための選手試合成績IDの集合
+  // 選手ID -> シーズンID（昇順） -> 行番号一覧
+  private final Map<Integer, TreeMap<Integer, RowList>> rowsByPlayerAndSeason = new HashMap<>();
+  private int indexEntryCount;
+
+  /**
+   * 選手試合成績を1行追加する
+   * @return 追加した場合true（同じIDの行が既にある場合はfalse）
+   */
+  public boolean append(int id, int playerId, int clubId, int gameId, int seasonId, boolean starter,
+      int goals, int assists, int minutes, int yellowCards, int redCards) {
+    if (storedIds.get(id)) {
+      return false;
+    }
+    if (size == playerIds.length) {
+      grow();
+    }
+    int row = size++;
+    this.playerIds[row] = playerId;
+    this.clubIds[row] = clubId;
+    this.gameIds[row] = gameId;
+    this.seasonIds[row] = seasonId;
+    this.goals[row] = goals;
+    this.assists[row] = assists;
+    this.minutes[row] = minutes;
+    this.yellowCards[row] = yellowCards;
+    this.redCards[row] = redCards;
+    if (starter) {
+      starters.set(row);
+    }
+    storedIds.set(id);
+
+    RowList rows = rowsByPlayerAndSeason.computeIfAbsent(playerId, key -> new TreeMap<>()).get(seasonId);
+    if (rows == null) {
+      rows = new RowList();
+      rowsByPlayerAndSeason.get(playerId).put(seasonId, rows);
+      indexEntryCount++;
+    }
+    rows.add(row);
+    return true;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 選手のシーズン・クラブごとの合計成績一覧を集計する
+   * @param playerId 選手ID
+   * @param fromSeasonId 集計するシーズンIDの下限（含む）
+   * @param toSeasonId 集計するシーズンIDの上限（含む）
+   * @return シーズン・クラブごとの合計成績一覧（シーズンID・クラブID順、名前はnull）
+   */
+  public List<PlayerSeasonTotal> aggregatePlayerSeasonTotals(int playerId, int fromSeasonId, int toSeasonId) {
+    TreeMap<Integer, RowList> rowsBySeason = rowsByPlayerAndSeason.get(playerId);
+    if (rowsBySeason == null || fromSeasonId > toSeasonId) {
+      return List.of();
+    }
+    List<PlayerSeasonTotal> playerSeasonTotals = new ArrayList<>();
+    for (Map.Entry<Integer, RowList> entry : rowsBySeason.subMap(fromSeasonId, true, toSeasonId, true).entrySet()) {
+      int seasonId = entry.getKey();
+      RowList rows = entry.getValue();
+      // シーズン中の所属クラブは通常1～2なので、行をクラブID順に並べてから連続する範囲ごとに集計する
+      int[] sortedRows = rows.sortedByClub(clubIds);
+      int start = 0;
+      while (start < sortedRows.length) {
+        int clubId = clubIds[sortedRows[start]];
+        int games = 0;
+        int starterGames = 0;
+        int goalsSum = 0;
+        int assistsSum = 0;
+        int minutesSum = 0;
+        int yellowCardsSum = 0;
+        int redCardsSum = 0;
+        int i = start;
+        for (; i < sortedRows.length && clubIds[sortedRows[i]] == clubId; i++) {
+          int row = sortedRows[i];
+          games++;
+          if (starters.get(row)) {
+            starterGames++;
+          }
+          goalsSum += goals[row];
+          assistsSum += assists[row];
+          minutesSum += minutes[row];
+          yellowCardsSum += yellowCards[row];
+          redCardsSum += redCards[row];
+        }
+        playerSeasonTotals.add(new PlayerSeasonTotal(playerId, seasonId, clubId, games, starterGames,
+            goalsSum, assistsSum, minutesSum, yellowCardsSum, redCardsSum, null, null, null));
+        start = i;
+      }
+    }
+    return playerSeasonTotals;
+  }
+
+  /**
+   * 使用メモリ量の見積もりを取得する（確保済みの配列の容量とBitSet、索引を含む）
+   * @return 見積もり（バイト）
+   */
+  public long estimateFootprintBytes() {
+    long columnBytes = 9L * Integer.BYTES * playerIds.length;
+    long bitSetBytes = (starters.size() + storedIds.size()) / Byte.SIZE;
+    long indexBytes = 0;
+    for (TreeMap<Integer, RowList> rowsBySeason : rowsByPlayerAndSeason.values()) {
+      for (RowList rows : rowsBySeason.values()) {
+        indexBytes += (long) Integer.BYTES * rows.capacity();
+      }
+    }
+    indexBytes += (long) INDEX_ENTRY_OVERHEAD_BYTES * indexEntryCount;
+    return columnBytes + bitSetBytes + indexBytes;
+  }
+
+  private void grow() {
+    int capacity = playerIds.length * 2;
+    playerIds = Arrays.copyOf(playerIds, capacity);
+    clubIds = Arrays.copyOf(clubIds, capacity);
+    gameIds = Arrays.copyOf(gameIds, capacity);
+    seasonIds = Arrays.copyOf(seasonIds, capacity);
+    goals = Arrays.copyOf(goals, capacity);
+    assists = Arrays.copyOf(assists, capacity);
+    minutes = Arrays.copyOf(minutes, capacity);
+    yellowCards = Arrays.copyOf(yellowCards, capacity);
+    redCards = Arrays.copyOf(redCards, capacity);
+  }
+
+  /**
+   * 行番号の可変長リスト
+   */
+  private static class RowList {
+    private int[] rows = new int[8];
+    private int size;
+
+    void add(int row) {
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, size * 2);
+      }
+      rows[size++] = row;
+    }
+
+    int capacity() {
+      return rows.length;
+    }
+
+    /**
+     * クラブIDの昇順（同じクラブ内は追加順）に並べた行番号を取得する
+     */
+    int[] sortedByClub(int[] clubIds) {
+      // 挿入ソート（1選手1シーズンの行数は多くても数十のため）
+      int[] sorted = Arrays.copyOf(rows, size);
+      for (int i = 1; i < sorted.length; i++) {
+        int row = sorted[i];
+        int j = i - 1;
+        while (j >= 0 && clubIds[sorted[j]] > clubIds[row]) {
+          sorted[j + 1] = sorted[j];
+          j--;
+        }
+        sorted[j + 1] = row;
+      }
+      return sorted;
+    }
+  }
+
+}
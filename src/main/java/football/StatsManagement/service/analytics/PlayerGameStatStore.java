@@ -0,0 +1,130 @@
+package football.StatsManagement.service.analytics;
+
+import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import football.StatsManagement.service.FootballService;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 選手試合成績の集計用のインメモリストア（player-game-stat-store.enabled=trueの場合のみ使用する）
+ * 初回の集計時に全選手試合成績をPlayerGameStatColumnsに読み込み、以降は試合の登録ごとに行を追加する
+ */
+@Component
+public class PlayerGameStatStore {
+  private final FootballService footballService;
+  private final boolean enabled;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private PlayerGameStatColumns columns; // 読み込み前はnull
+
+  @Autowired
+  public PlayerGameStatStore(FootballService footballService,
+      @Value("${player-game-stat-store.enabled:false}") boolean enabled) {
+    this.footballService = footballService;
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 選手のシーズン・クラブごとの合計成績一覧を集計する
+   * @param playerId 選手ID
+   * @param fromSeasonId 集計するシーズンIDの下限（含む）
+   * @param toSeasonId 集計するシーズンIDの上限（含む）
+   * @return シーズン・クラブごとの合計成績一覧（シーズンID・クラブID順、名前はnull）
+   */
+  public List<PlayerSeasonTotal> aggregatePlayerSeasonTotals(int playerId, int fromSeasonId, int toSeasonId) {
+    PlayerGameStatColumns loaded = load();
+    lock.readLock().lock();
+    try {
+      return loaded.aggregatePlayerSeasonTotals(playerId, fromSeasonId, toSeasonId);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 保持している行数を取得する（読み込み前は0）
+   * @return 行数
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return columns == null ? 0 : columns.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 使用メモリ量の見積もりを取得する（読み込み前は0）
+   * @return 見積もり（バイト）
+   */
+  public long estimateFootprintBytes() {
+    lock.readLock().lock();
+    try {
+      return columns == null ? 0 : columns.estimateFootprintBytes();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 試合の登録がコミットされた後に、登録された選手試合成績を追加する
+   * 読み込み前の場合は、読み込み時にDBから取得されるため何もしない
+   * @param event 選手試合成績登録イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPlayerGameStatsRegistered(PlayerGameStatsRegisteredEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (columns == null) {
+        return;
+      }
+      // 読み込みと登録が重なった場合、同じ行が読み込み済みのことがあるが、IDで重複を除く
+      for (PlayerGameStat playerGameStat : event.playerGameStats()) {
+        columns.append(playerGameStat.getId(), playerGameStat.getPlayerId(), playerGameStat.getClubId(),
+            playerGameStat.getGameId(), event.seasonId(), playerGameStat.isStarter(), playerGameStat.getGoals(),
+            playerGameStat.getAssists(), playerGameStat.getMinutes(), playerGameStat.getYellowCards(), playerGameStat.getRedCards());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 全選手試合成績を読み込む（読み込み済みの場合は何もしない）
+   * @return 読み込んだ列
+   */
+  private PlayerGameStatColumns load() {
+    lock.readLock().lock();
+    try {
+      if (columns != null) {
+        return columns;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      if (columns == null) {
+        PlayerGameStatColumns loading = new PlayerGameStatColumns();
+        footballService.forEachPlayerGameStatWithSeason(row -> loading.append(row.getId(), row.getPlayerId(), row.getClubId(),
+            row.getGameId(), row.getSeasonId(), row.isStarter(), row.getGoals(), row.getAssists(), row.getMinutes(),
+            row.getYellowCards(), row.getRedCards()));
+        columns = loading;
+      }
+      return columns;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+}
@@ -0,0 +1,15 @@
+package football.StatsManagement.service.analytics;
+
+import football.StatsManagement.model.entity.PlayerGameStat;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 試合の選手試合成績が登録されたことを通知するイベント
+ * @param seasonId 試合のシーズンID
+ * @param gameDate 試合日
+ * @param playerGameStats 登録された選手試合成績一覧（ID・clubId・gameIdが設定済みのもの）
+ */
+public record PlayerGameStatsRegisteredEvent(int seasonId, LocalDate gameDate, List<PlayerGameStat> playerGameStats) {
+
+}
@@ -0,0 +1,43 @@
+package football.StatsManagement.service.backfill;
+
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.League;
+import football.StatsManagement.model.entity.Player;
+import football.StatsManagement.model.entity.Season;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 過去シーズンの取込で参照するシーズン・リーグ・クラブ・選手の辞書（取込の開始時に1度だけ読み込み、以降はDBを参照しない）
+ * @param seasons シーズンIDをキーとしたシーズン
+ * @param leagueIds 存在するリーグのID
+ * @param clubs クラブIDをキーとしたクラブ
+ * @param players 選手IDをキーとした選手
+ */
+public record GameImportDictionary(
+    Map<Integer, Season> seasons,
+    Set<Integer> leagueIds,
+    Map<Integer, Club> clubs,
+    Map<Integer, Player> players
+) {
+
+  /**
+   * 一覧から辞書を作成する
+   * @param seasons シーズン一覧
+   * @param leagues リーグ一覧
+   * @param clubs クラブ一覧
+   * @param players 選手一覧
+   * @return 辞書
+   */
+  public static GameImportDictionary of(List<Season> seasons, List<League> leagues, List<Club> clubs, List<Player> players) {
+    return new GameImportDictionary(
+        seasons.stream().collect(Collectors.toUnmodifiableMap(Season::getId, Function.identity())),
+        leagues.stream().map(League::getId).collect(Collectors.toUnmodifiableSet()),
+        clubs.stream().collect(Collectors.toUnmodifiableMap(Club::getId, Function.identity())),
+        players.stream().collect(Collectors.toUnmodifiableMap(Player::getId, Function.identity())));
+  }
+
+}
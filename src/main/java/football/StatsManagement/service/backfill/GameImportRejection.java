@@ -0,0 +1,13 @@
+package football.StatsManagement.service.backfill;
+
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
+
+/**
+ * 過去シーズンの取込で登録しなかった行
+ * @param lineNumber 行番号（1始まり）
+ * @param status 登録しなかった理由の種別（INVALIDまたはNOT_FOUND）
+ * @param message 登録しなかった理由
+ */
+public record GameImportRejection(long lineNumber, Status status, String message) {
+
+}
@@ -0,0 +1,33 @@
+package football.StatsManagement.service.backfill;
+
+import java.util.List;
+
+/**
+ * 過去シーズンの取込の進捗（バッチのコミットごと及び取込の完了時に作成する）
+ * @param importKey 取込の識別子（ファイルの絶対パス）
+ * @param resumedFromLine 再開した位置（前回までに取込済みの最終行番号、初回は0）
+ * @param lastCommittedLine 取込済みの最終行番号
+ * @param importedCount 今回登録した試合数
+ * @param rejectedCount 今回登録しなかった行数
+ * @param elapsedMillis 今回の経過時間（ミリ秒）
+ * @param rejections 登録しなかった行（先頭から上限件数まで）
+ */
+public record GameImportReport(
+    String importKey,
+    long resumedFromLine,
+    long lastCommittedLine,
+    int importedCount,
+    int rejectedCount,
+    long elapsedMillis,
+    List<GameImportRejection> rejections
+) {
+
+  /**
+   * 1秒あたりの登録試合数を取得する
+   * @return 1秒あたりの登録試合数（経過時間が0の場合は0）
+   */
+  public double gamesPerSecond() {
+    return elapsedMillis == 0 ? 0 : importedCount * 1000.0 / elapsedMillis;
+  }
+
+}
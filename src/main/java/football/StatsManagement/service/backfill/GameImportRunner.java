@@ -0,0 +1,49 @@
+package football.StatsManagement.service.backfill;
+
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 起動時に過去シーズンの試合結果を取り込むRunnerクラス（game-import.fileを指定した場合のみ取り込む）
+ * 例: java -jar StatsManagement.war --game-import.file=/data/seasons.ndjson --game-import.batch-size=1000
+ * 前回の取込から内容が変わったファイルは、取り込んだ試合を削除したうえで --game-import.restart=true を指定すると先頭から取り込み直す
+ */
+@Component
+public class GameImportRunner implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(GameImportRunner.class);
+
+  private final GameImportService gameImportService;
+  private final String file;
+  private final boolean restart;
+
+  @Autowired
+  public GameImportRunner(GameImportService gameImportService, @Value("${game-import.file:}") String file,
+      @Value("${game-import.restart:false}") boolean restart) {
+    this.gameImportService = gameImportService;
+    this.file = file;
+    this.restart = restart;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    if (file.isBlank()) {
+      return;
+    }
+    GameImportReport report = gameImportService.importFile(Path.of(file), restart, progress -> log.info(
+        "Imported {} games up to line {} ({} rejected, {} games/s)",
+        progress.importedCount(), progress.lastCommittedLine(), progress.rejectedCount(),
+        String.format("%.1f", progress.gamesPerSecond())));
+    for (GameImportRejection rejection : report.rejections()) {
+      log.warn("Line {} was not imported: {} {}", rejection.lineNumber(), rejection.status(), rejection.message());
+    }
+    log.info("Finished importing {} from line {}: {} games imported, {} lines rejected in {} ms",
+        report.importKey(), report.resumedFromLine() + 1, report.importedCount(), report.rejectedCount(), report.elapsedMillis());
+  }
+
+}
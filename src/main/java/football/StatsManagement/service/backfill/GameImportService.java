@@ -0,0 +1,232 @@
+package football.StatsManagement.service.backfill;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import football.StatsManagement.exception.ResourceConflictException;
+import football.StatsManagement.model.entity.GameImportCheckpoint;
+import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
+import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.service.FactoryService;
+import football.StatsManagement.service.FootballService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 過去シーズンの試合結果と選手試合成績をNDJSONファイルから取り込むServiceクラス
+ * 1行に1試合（POST /game-resultのリクエストと同じ形式）を記載したファイルを先頭から読み、バッチサイズごとにコミットする
+ * コミットごとに取込済みの最終行番号をファイルの絶対パスと内容のハッシュ値と共に記録し、中断した取込は次の行から再開する
+ * 前回の取込からファイルの内容が変わった場合は、記録した行番号が同じ行を指さず、先頭から取り込むと取込済みの試合を
+ * 二重に登録するため、先頭から取り込み直すことを明示した場合を除いて取り込まない
+ */
+@Service
+public class GameImportService {
+  // 取込結果に含める登録しなかった行の上限
+  private static final int MAX_REPORTED_REJECTIONS = 100;
+  // ファイルの内容のハッシュ値の算出方式
+  private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+  private final FootballService footballService;
+  private final FactoryService factoryService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final int batchSize;
+
+  @Autowired
+  public GameImportService(FootballService footballService, FactoryService factoryService,
+      ObjectMapper objectMapper, Validator validator,
+      @Value("${game-import.batch-size:500}") int batchSize) {
+    this.footballService = footballService;
+    this.factoryService = factoryService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * ファイルを取り込む（前回の取込が中断していた場合は、取込済みの最終行の次の行から再開する）
+   * 整合性に問題のある行は登録せずに取込結果に含め、残りの行の取込を続ける
+   * @param file 取り込むファイル
+   * @param restart 前回の取込から内容が変わったファイルを先頭から取り込み直す場合はtrue（前回の内容で取り込んだ試合は事前に削除しておくこと）
+   * @param listener バッチのコミットごとの通知先
+   * @return 取込結果
+   * @throws IOException ファイルの読み込みに失敗した場合
+   * @throws ResourceConflictException 前回の取込から内容が変わったファイルで、restartがfalseの場合
+   */
+  public GameImportReport importFile(Path file, boolean restart, ProgressListener listener)
+      throws IOException, ResourceConflictException {
+    // 同じ名前の別のファイルと区別するため、絶対パスと内容のハッシュ値で取込を識別する
+    String importKey = file.toAbsolutePath().normalize().toString();
+    String contentHash = contentHash(file);
+    long resumedFromLine = 0;
+    Optional<GameImportCheckpoint> checkpoint = footballService.getGameImportCheckpoint(importKey);
+    if (checkpoint.isPresent()) {
+      if (checkpoint.get().getContentHash().equals(contentHash)) {
+        resumedFromLine = checkpoint.get().getLastLine();
+      } else if (!restart) {
+        throw new ResourceConflictException("File content has changed after importing up to line "
+            + checkpoint.get().getLastLine() + ": " + importKey);
+      }
+    }
+    GameImportDictionary dictionary = GameImportDictionary.of(footballService.getSeasons(), footballService.getLeagues(),
+        footballService.getClubs(), footballService.getPlayers());
+    ImportRun run = new ImportRun(importKey, contentHash, resumedFromLine, dictionary);
+    try (BufferedReader reader = Files.newBufferedReader(file)) {
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (lineNumber <= run.resumedFromLine || line.isBlank()) {
+          continue;
+        }
+        readLine(run, lineNumber, line);
+        if (run.batch.size() >= batchSize) {
+          commit(run, lineNumber, listener);
+        }
+      }
+      if (lineNumber > run.lastCommittedLine) {
+        commit(run, lineNumber, listener);
+      }
+    }
+    return run.toReport();
+  }
+
+  /**
+   * 1行を試合結果と選手試合成績に変換してバッチに追加する（形式に問題がある場合は登録しない行とする）
+   * @param run 取込の状態
+   * @param lineNumber 行番号
+   * @param line 行
+   */
+  private void readLine(ImportRun run, long lineNumber, String line) {
+    GameResultWithPlayerStatsForJson gameResultWithPlayerStatsForJson;
+    try {
+      gameResultWithPlayerStatsForJson = objectMapper.readValue(line, GameResultWithPlayerStatsForJson.class);
+    } catch (JsonProcessingException e) {
+      run.reject(lineNumber, Status.INVALID, "Malformed JSON");
+      return;
+    }
+    // リクエストと同じバリデーションを行う（最初の違反のみ報告する）
+    Set<ConstraintViolation<GameResultWithPlayerStatsForJson>> violations = validator.validate(gameResultWithPlayerStatsForJson);
+    if (!violations.isEmpty()) {
+      ConstraintViolation<GameResultWithPlayerStatsForJson> violation = violations.stream()
+          .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+          .orElseThrow();
+      run.reject(lineNumber, Status.INVALID, violation.getPropertyPath() + ": " + violation.getMessage());
+      return;
+    }
+    run.batch.add(factoryService.createGameResultWithPlayerStats(gameResultWithPlayerStatsForJson));
+    run.batchLineNumbers.add(lineNumber);
+  }
+
+  /**
+   * バッチの整合性を確認し、問題のない試合を取込済みの最終行番号と共にコミットする
+   * @param run 取込の状態
+   * @param lastLine バッチの最終行番号
+   * @param listener コミットの通知先
+   */
+  private void commit(ImportRun run, long lastLine, ProgressListener listener) {
+    List<GameRegistrationStatus> statuses = footballService.confirmHistoricalGameResultsAndPlayerGameStats(run.batch, run.dictionary);
+    List<GameResultWithPlayerStats> confirmed = new ArrayList<>(run.batch.size());
+    for (GameRegistrationStatus status : statuses) {
+      if (status.isValidated()) {
+        confirmed.add(run.batch.get(status.index()));
+      } else {
+        run.reject(run.batchLineNumbers.get(status.index()), status.status(), status.message());
+      }
+    }
+    footballService.registerImportedGameResults(run.importKey, run.contentHash, confirmed, lastLine);
+    run.importedCount += confirmed.size();
+    run.lastCommittedLine = lastLine;
+    run.batch.clear();
+    run.batchLineNumbers.clear();
+    listener.onCommitted(run.toReport());
+  }
+
+  /**
+   * ファイルの内容のハッシュ値を算出する
+   * @param file ファイル
+   * @return ハッシュ値（16進数）
+   * @throws IOException ファイルの読み込みに失敗した場合
+   */
+  private static String contentHash(Path file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256はすべてのJava実装で利用できる
+      throw new IllegalStateException(e);
+    }
+    try (InputStream in = Files.newInputStream(file)) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 取込の状態（1回の取込の間だけ保持する）
+   */
+  private static class ImportRun {
+    private final String importKey;
+    private final String contentHash;
+    private final long resumedFromLine;
+    private final GameImportDictionary dictionary;
+    private final long startNanos = System.nanoTime();
+    private final List<GameResultWithPlayerStats> batch = new ArrayList<>();
+    private final List<Long> batchLineNumbers = new ArrayList<>();
+    private final List<GameImportRejection> rejections = new ArrayList<>();
+    private long lastCommittedLine;
+    private int importedCount;
+    private int rejectedCount;
+
+    private ImportRun(String importKey, String contentHash, long resumedFromLine, GameImportDictionary dictionary) {
+      this.importKey = importKey;
+      this.contentHash = contentHash;
+      this.resumedFromLine = resumedFromLine;
+      this.dictionary = dictionary;
+      this.lastCommittedLine = resumedFromLine;
+    }
+
+    private void reject(long lineNumber, Status status, String message) {
+      rejectedCount++;
+      if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+        rejections.add(new GameImportRejection(lineNumber, status, message));
+      }
+    }
+
+    private GameImportReport toReport() {
+      return new GameImportReport(importKey, resumedFromLine, lastCommittedLine, importedCount, rejectedCount,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), List.copyOf(rejections));
+    }
+  }
+
+  /**
+   * バッチのコミットごとの通知先
+   */
+  @FunctionalInterface
+  public interface ProgressListener {
+    void onCommitted(GameImportReport progress);
+  }
+
+}
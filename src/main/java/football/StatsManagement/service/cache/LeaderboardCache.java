@@ -0,0 +1,109 @@
+package football.StatsManagement.service.cache;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
+import football.StatsManagement.model.response.CacheStatistics;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 選手ランキングをリーグID・シーズンID・成績項目・件数ごとに保持するキャッシュクラス
+ * 試合の登録（StandingChangedEvent）で該当するリーグ・シーズンのランキングを、
+ * 合計成績の再構築（PlayerSeasonTotalsRebuiltEvent）で全ランキングを破棄する
+ */
+@Component
+public class LeaderboardCache {
+  private final VersionedCache<Key, Leaderboard> cache;
+
+  @Autowired
+  public LeaderboardCache(
+      @Value("${leaderboard-cache.maximum-size:1000}") long maximumSize,
+      @Value("${leaderboard-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+    // リーグ単位・リーグとシーズンの組単位で破棄できるよう、それぞれを範囲とする
+    this.cache = new VersionedCache<>("leaderboards", maximumSize, Duration.ofSeconds(expireAfterWriteSeconds),
+        key -> List.of(key.leagueId(), new LeagueSeason(key.leagueId(), key.seasonId())));
+  }
+
+  /**
+   * ランキングを取得する（キャッシュにない場合は作成して保持する）
+   * 同じランキングを同時に要求された場合、作成は1度だけ行われる
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param statistic 成績項目
+   * @param limit 件数
+   * @param loader ランキングの作成処理
+   * @return ランキング
+   * @throws ResourceNotFoundException 作成処理でリーグまたはシーズンが見つからない場合
+   */
+  public Leaderboard get(int leagueId, int seasonId, LeaderboardStatistic statistic, int limit, LeaderboardLoader loader)
+      throws ResourceNotFoundException {
+    return cache.get(new Key(leagueId, seasonId, statistic, limit), loader::load);
+  }
+
+  /**
+   * リーグ・シーズンの全項目のランキングを破棄する（作成中のランキングも以降の取得では返されない）
+   * @param leagueId リーグID
+   * @param seasonId シーズンID（nullの場合はリーグの全シーズン）
+   */
+  public void invalidate(int leagueId, Integer seasonId) {
+    if (seasonId == null) {
+      cache.invalidateScope(leagueId);
+    } else {
+      cache.invalidateScope(new LeagueSeason(leagueId, seasonId));
+    }
+  }
+
+  /**
+   * 全ランキングを破棄する
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * 試合の登録などのトランザクション完了後に、該当するリーグ・シーズンのランキングを破棄する
+   * @param event 順位表変更イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+  public void onStandingChanged(StandingChangedEvent event) {
+    invalidate(event.leagueId(), event.seasonId());
+  }
+
+  /**
+   * 合計成績の再構築のトランザクション完了後に、全ランキングを破棄する
+   * @param event 合計成績再構築イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+  public void onPlayerSeasonTotalsRebuilt(PlayerSeasonTotalsRebuiltEvent event) {
+    invalidateAll();
+  }
+
+  /**
+   * キャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getStatistics() {
+    return cache.getStatistics();
+  }
+
+  /**
+   * ランキングの作成処理
+   */
+  @FunctionalInterface
+  public interface LeaderboardLoader {
+    Leaderboard load() throws ResourceNotFoundException;
+  }
+
+  private record Key(int leagueId, int seasonId, LeaderboardStatistic statistic, int limit) {
+  }
+
+  private record LeagueSeason(int leagueId, int seasonId) {
+  }
+
+}
@@ -0,0 +1,91 @@
+package football.StatsManagement.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.response.CacheStatistics;
+import football.StatsManagement.service.analytics.PlayerFormWindow;
+import football.StatsManagement.service.analytics.PlayerGameStatsRegisteredEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 選手のフォーム（直近の出場成績のリングバッファ）を選手ID・シーズンIDごとに保持するキャッシュクラス
+ * 試合の登録（PlayerGameStatsRegisteredEvent）では破棄せず、保持している選手のリングバッファに出場を追加する
+ */
+@Component
+public class PlayerFormCache {
+  private final Cache<Key, PlayerFormWindow> cache;
+  private final LongAdder invalidationCount = new LongAdder();
+
+  @Autowired
+  public PlayerFormCache(
+      @Value("${player-form-cache.maximum-size:10000}") long maximumSize,
+      @Value("${player-form-cache.expire-after-access-seconds:3600}") long expireAfterAccessSeconds) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterAccess(Duration.ofSeconds(expireAfterAccessSeconds))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 選手のフォームを取得する（キャッシュにない場合はシーズンの全出場から作成して保持する）
+   * @param playerId 選手ID
+   * @param seasonId シーズンID
+   * @param loader シーズンの選手試合成績一覧（試合日順）の取得処理
+   * @return 選手のフォーム
+   */
+  public PlayerFormWindow get(int playerId, int seasonId, Supplier<List<PlayerGameStat>> loader) {
+    return cache.get(new Key(playerId, seasonId), key -> {
+      PlayerFormWindow window = new PlayerFormWindow();
+      for (PlayerGameStat playerGameStat : loader.get()) {
+        window.append(playerGameStat.getId(), playerGameStat.getGameDate(), playerGameStat.getGoals(),
+            playerGameStat.getAssists(), playerGameStat.getMinutes());
+      }
+      return window;
+    });
+  }
+
+  /**
+   * 試合の登録のコミット後に、保持している選手のフォームに出場を追加する
+   * 作成中のフォームがある場合は作成が終わるまで待ってから追加する
+   * 作成時に既に取得済みの出場や、より後の試合日の出場が既にある場合は追加できないため破棄し、次の取得時に作り直す
+   * @param event 選手試合成績登録イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPlayerGameStatsRegistered(PlayerGameStatsRegisteredEvent event) {
+    for (PlayerGameStat playerGameStat : event.playerGameStats()) {
+      cache.asMap().computeIfPresent(new Key(playerGameStat.getPlayerId(), event.seasonId()), (key, window) -> {
+        if (window.append(playerGameStat.getId(), event.gameDate(), playerGameStat.getGoals(),
+            playerGameStat.getAssists(), playerGameStat.getMinutes())) {
+          return window;
+        }
+        invalidationCount.increment();
+        return null;
+      });
+    }
+  }
+
+  /**
+   * キャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getStatistics() {
+    CacheStats stats = cache.stats();
+    return new CacheStatistics("player-forms", cache.estimatedSize(),
+        stats.hitCount(), stats.missCount(), stats.evictionCount(), invalidationCount.sum());
+  }
+
+  private record Key(int playerId, int seasonId) {
+  }
+
+}
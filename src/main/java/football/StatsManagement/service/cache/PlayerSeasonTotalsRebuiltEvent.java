@@ -0,0 +1,8 @@
+package football.StatsManagement.service.cache;
+
+/**
+ * 全選手のシーズン合計成績が再構築されたことを通知するイベント
+ */
+public record PlayerSeasonTotalsRebuiltEvent() {
+
+}
@@ -0,0 +1,155 @@
+package football.StatsManagement.service.cache;
+
+import football.StatsManagement.model.response.CacheStatistics;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 国・リーグ・クラブ・シーズン・順位比較項目（ほとんど更新されない参照データ）をIDごと・一覧ごとに保持するキャッシュクラス
+ * 件数と登録からの経過時間で破棄するほか、参照データの更新（ReferenceDataChangedEvent）で該当するデータと一覧を破棄する
+ * 保持したエンティティは変更可能なため、呼び出し元には複製を返す
+ */
+@Component
+public class ReferenceDataCache {
+  private final VersionedCache<Key, Object> cache;
+
+  @Autowired
+  public ReferenceDataCache(
+      @Value("${reference-data-cache.maximum-size:2000}") long maximumSize,
+      @Value("${reference-data-cache.expire-after-write-seconds:3600}") long expireAfterWriteSeconds) {
+    // 種類単位で破棄できるよう、種類を範囲とする
+    this.cache = new VersionedCache<>("reference-data", maximumSize, Duration.ofSeconds(expireAfterWriteSeconds),
+        key -> List.of(key.kind()));
+  }
+
+  /**
+   * IDに対応する参照データを取得する（キャッシュにない場合は読み込んで保持する）
+   * 見つからなかった結果は保持しない（後から登録された場合に見つからないままにならないように）
+   * 現在のトランザクションで同じ種類の参照データを更新している場合は、コミット前の内容を読むためキャッシュを使わない
+   * @param kind 参照データの種類
+   * @param id ID
+   * @param loader 読み込み処理
+   * @param copier 参照データの複製処理
+   * @return 参照データ（複製）
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Optional<T> get(Kind kind, int id, Supplier<Optional<T>> loader, UnaryOperator<T> copier) {
+    if (isChangedInCurrentTransaction(kind)) {
+      return loader.get();
+    }
+    return Optional.ofNullable((T) cache.get(new Key(kind, id), () -> loader.get().orElse(null))).map(copier);
+  }
+
+  /**
+   * 参照データの一覧を取得する（キャッシュにない場合は読み込んで保持する）
+   * 現在のトランザクションで同じ種類の参照データを更新している場合は、コミット前の内容を読むためキャッシュを使わない
+   * @param kind 参照データの種類
+   * @param loader 読み込み処理
+   * @param copier 参照データの複製処理
+   * @return 参照データの一覧（各要素を複製した変更できない一覧）
+   */
+  @SuppressWarnings("unchecked")
+  public <T> List<T> getList(Kind kind, Supplier<List<T>> loader, UnaryOperator<T> copier) {
+    if (isChangedInCurrentTransaction(kind)) {
+      return loader.get();
+    }
+    List<T> list = (List<T>) cache.get(new Key(kind, null), () -> List.copyOf(loader.get()));
+    return list.stream().map(copier).toList();
+  }
+
+  /**
+   * IDに対応する参照データと、その種類の一覧を破棄する（読み込み中の場合は読み込みの完了を待って破棄する）
+   * @param kind 参照データの種類
+   * @param id ID
+   */
+  public void invalidate(Kind kind, int id) {
+    cache.invalidate(new Key(kind, id));
+    cache.invalidate(new Key(kind, null));
+  }
+
+  /**
+   * 種類に該当する参照データと一覧をすべて破棄する（読み込み中の参照データも以降の取得では返されない）
+   * @param kind 参照データの種類
+   */
+  public void invalidateKind(Kind kind) {
+    cache.invalidateScope(kind);
+  }
+
+  /**
+   * 参照データの更新時に、更新した種類をトランザクションの完了まで記録する
+   * 記録した種類は同じトランザクション内の取得でキャッシュを使わない（更新前のデータを返さないように）
+   * @param event 参照データ変更イベント
+   */
+  @EventListener
+  @SuppressWarnings("unchecked")
+  public void onReferenceDataChanging(ReferenceDataChangedEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    Set<Kind> changedKinds = (Set<Kind>) TransactionSynchronizationManager.getResource(this);
+    if (changedKinds == null) {
+      changedKinds = EnumSet.noneOf(Kind.class);
+      TransactionSynchronizationManager.bindResource(this, changedKinds);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceDataCache.this);
+        }
+      });
+    }
+    changedKinds.add(event.kind());
+  }
+
+  /**
+   * 参照データの更新のトランザクション完了後に、該当するデータと一覧を破棄する
+   * コミット前に破棄すると、他のリクエストが更新前のデータを再びキャッシュする可能性があるため完了後に行う
+   * @param event 参照データ変更イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    if (event.id() == null) {
+      invalidateKind(event.kind());
+    } else {
+      invalidate(event.kind(), event.id());
+    }
+  }
+
+  /**
+   * キャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getStatistics() {
+    return cache.getStatistics();
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean isChangedInCurrentTransaction(Kind kind) {
+    Set<Kind> changedKinds = (Set<Kind>) TransactionSynchronizationManager.getResource(this);
+    return changedKinds != null && changedKinds.contains(kind);
+  }
+
+  /**
+   * 参照データの種類
+   */
+  public enum Kind {
+    COUNTRY, LEAGUE, CLUB, SEASON, COMPARISON_ITEM
+  }
+
+  // idがnullの場合は一覧
+  private record Key(Kind kind, Integer id) {
+  }
+
+}
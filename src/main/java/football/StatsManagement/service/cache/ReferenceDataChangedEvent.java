@@ -0,0 +1,21 @@
+package football.StatsManagement.service.cache;
+
+import football.StatsManagement.service.cache.ReferenceDataCache.Kind;
+
+/**
+ * 参照データ（国・リーグ・クラブ・シーズン）の登録・更新が行われたことを通知するイベント
+ * @param kind 参照データの種類
+ * @param id ID（nullの場合は種類に該当するすべてのデータ）
+ */
+public record ReferenceDataChangedEvent(Kind kind, Integer id) {
+
+  /**
+   * 種類に該当するすべてのデータが変わったことを通知するイベントを作成する
+   * @param kind 参照データの種類
+   * @return イベント
+   */
+  public static ReferenceDataChangedEvent ofKind(Kind kind) {
+    return new ReferenceDataChangedEvent(kind, null);
+  }
+
+}
@@ -0,0 +1,94 @@
+package football.StatsManagement.service.cache;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.response.CacheStatistics;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 順位表をリーグID・シーズンIDごとに保持するキャッシュクラス
+ * 件数と登録からの経過時間で破棄するほか、順位表が変わる更新（StandingChangedEvent）で該当する順位表を破棄する
+ */
+@Component
+public class StandingCache {
+  private final VersionedCache<Key, Standing> cache;
+
+  @Autowired
+  public StandingCache(
+      @Value("${standing-cache.maximum-size:500}") long maximumSize,
+      @Value("${standing-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+    // リーグ単位で破棄できるよう、リーグIDを範囲とする
+    this.cache = new VersionedCache<>("standings", maximumSize, Duration.ofSeconds(expireAfterWriteSeconds),
+        key -> List.of(key.leagueId()));
+  }
+
+  /**
+   * 順位表を取得する（キャッシュにない場合は作成して保持する）
+   * 同じ順位表を同時に要求された場合、作成は1度だけ行われる
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   * @param loader 順位表の作成処理
+   * @return 順位表
+   * @throws ResourceNotFoundException 作成処理でリーグまたはシーズンが見つからない場合
+   */
+  public Standing get(int leagueId, int seasonId, StandingLoader loader) throws ResourceNotFoundException {
+    return cache.get(new Key(leagueId, seasonId), loader::load);
+  }
+
+  /**
+   * 順位表を破棄する
+   * @param leagueId リーグID
+   * @param seasonId シーズンID
+   */
+  public void invalidate(int leagueId, int seasonId) {
+    cache.invalidate(new Key(leagueId, seasonId));
+  }
+
+  /**
+   * リーグの全シーズンの順位表を破棄する（作成中の順位表も以降の取得では返されない）
+   * @param leagueId リーグID
+   */
+  public void invalidateLeague(int leagueId) {
+    cache.invalidateScope(leagueId);
+  }
+
+  /**
+   * 順位表が変わる更新のトランザクション完了後に、該当する順位表を破棄する
+   * コミット前に破棄すると、他のリクエストが更新前の順位表を再びキャッシュする可能性があるため完了後に行う
+   * @param event 順位表変更イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+  public void onStandingChanged(StandingChangedEvent event) {
+    if (event.seasonId() == null) {
+      invalidateLeague(event.leagueId());
+    } else {
+      invalidate(event.leagueId(), event.seasonId());
+    }
+  }
+
+  /**
+   * キャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  public CacheStatistics getStatistics() {
+    return cache.getStatistics();
+  }
+
+  /**
+   * 順位表の作成処理
+   */
+  @FunctionalInterface
+  public interface StandingLoader {
+    Standing load() throws ResourceNotFoundException;
+  }
+
+  private record Key(int leagueId, int seasonId) {
+  }
+
+}
@@ -0,0 +1,19 @@
+package football.StatsManagement.service.cache;
+
+/**
+ * 順位表が変わる更新が行われたことを通知するイベント
+ * @param leagueId リーグID
+ * @param seasonId シーズンID（nullの場合はリーグの全シーズン）
+ */
+public record StandingChangedEvent(int leagueId, Integer seasonId) {
+
+  /**
+   * リーグの全シーズンの順位表が変わったことを通知するイベントを作成する
+   * @param leagueId リーグID
+   * @return イベント
+   */
+  public static StandingChangedEvent ofLeague(int leagueId) {
+    return new StandingChangedEvent(leagueId, null);
+  }
+
+}
@@ -0,0 +1,148 @@
+package football.StatsManagement.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import football.StatsManagement.model.response.CacheStatistics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 件数と登録からの経過時間で破棄し、キー単位・範囲（リーグなど）単位・全体で破棄できるキャッシュ
+ * 範囲ごとのバージョンを保持キーに含め、範囲の破棄ではバージョンを上げる
+ * 破棄の時点で作成中の値は古いバージョンで保持されるため、破棄後の取得で返されることはない
+ * @param <K> キー
+ * @param <V> 値
+ */
+class VersionedCache<K, V> {
+  private final String name;
+  private final Function<K, List<?>> scopesOf;
+  private final Cache<Entry<K>, V> cache;
+  private final Map<Object, Long> scopeVersions = new ConcurrentHashMap<>();
+  private final AtomicLong allVersion = new AtomicLong();
+  private final LongAdder invalidationCount = new LongAdder();
+
+  /**
+   * @param name 統計情報に用いる名前
+   * @param maximumSize 件数上限
+   * @param expireAfterWrite 登録からの保持期間
+   * @param scopesOf キーが属する範囲一覧（範囲単位で破棄しない場合は空）
+   */
+  VersionedCache(String name, long maximumSize, Duration expireAfterWrite, Function<K, List<?>> scopesOf) {
+    this.name = name;
+    this.scopesOf = scopesOf;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 値を取得する（キャッシュにない場合は作成して保持する。作成処理がnullを返した場合は保持しない）
+   * 同じキーの値を同時に要求された場合、作成は1度だけ行われる
+   * @param key キー
+   * @param loader 作成処理
+   * @return 値
+   * @throws E 作成処理で例外が発生した場合（例外はそのまま投げられ、キャッシュされない）
+   */
+  @SuppressWarnings("unchecked")
+  <E extends Exception> V get(K key, Loader<V, E> loader) throws E {
+    try {
+      return cache.get(currentEntry(key), entry -> {
+        try {
+          return loader.load();
+        } catch (RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new LoadException(e);
+        }
+      });
+    } catch (LoadException e) {
+      throw (E) e.getCause();
+    }
+  }
+
+  /**
+   * キーの値を破棄する（作成中の場合は作成の完了を待って破棄する）
+   * @param key キー
+   */
+  void invalidate(K key) {
+    if (cache.asMap().remove(currentEntry(key)) != null) {
+      invalidationCount.increment();
+    }
+  }
+
+  /**
+   * 範囲に属する値をすべて破棄する
+   * @param scope 範囲
+   */
+  void invalidateScope(Object scope) {
+    scopeVersions.merge(scope, 1L, Long::sum);
+    // 以降は新しいバージョンで取得されるため、古いバージョンの値は容量を空けるために取り除くだけ
+    cache.asMap().keySet().removeIf(entry -> {
+      if (!scopesOf.apply(entry.key()).contains(scope)) {
+        return false;
+      }
+      invalidationCount.increment();
+      return true;
+    });
+  }
+
+  /**
+   * すべての値を破棄する
+   */
+  void invalidateAll() {
+    allVersion.incrementAndGet();
+    invalidationCount.add(cache.asMap().size());
+    cache.invalidateAll();
+  }
+
+  /**
+   * キャッシュの統計情報を取得する
+   * @return 統計情報
+   */
+  CacheStatistics getStatistics() {
+    CacheStats stats = cache.stats();
+    return new CacheStatistics(name, cache.estimatedSize(),
+        stats.hitCount(), stats.missCount(), stats.evictionCount(), invalidationCount.sum());
+  }
+
+  // 現在のバージョンでの保持キー
+  private Entry<K> currentEntry(K key) {
+    List<?> scopes = scopesOf.apply(key);
+    List<Long> versions = new ArrayList<>(scopes.size() + 1);
+    versions.add(allVersion.get());
+    for (Object scope : scopes) {
+      versions.add(scopeVersions.getOrDefault(scope, 0L));
+    }
+    return new Entry<>(key, versions);
+  }
+
+  /**
+   * 値の作成処理
+   * @param <V> 値
+   * @param <E> 作成処理で発生する例外
+   */
+  @FunctionalInterface
+  interface Loader<V, E extends Exception> {
+    V load() throws E;
+  }
+
+  private record Entry<K>(K key, List<Long> versions) {
+  }
+
+  // 作成処理の検査例外をキャッシュの外に伝えるための例外
+  private static class LoadException extends RuntimeException {
+    LoadException(Exception cause) {
+      super(cause);
+    }
+  }
+
+}
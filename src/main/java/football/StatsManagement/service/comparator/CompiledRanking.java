@@ -0,0 +1,137 @@
+package football.StatsManagement.service.comparator;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * リーグ規定（比較項目ID一覧）をコンパイルした順位付けクラス
+ * 当該クラブ間の成績に依存しない先頭の比較項目（勝ち点・得失点差・得点）を1つのlong値のソートキーにまとめ、
+ * キーが同じクラブのグループ内でのみ残りの比較項目をTieGroupResolverで適用する
+ */
+public class CompiledRanking {
+  // キーの下位ビットにはクラブのインデックス（入力順）を入れ、キーが同じ場合でも入力順を保つ
+  private static final int INDEX_BITS = 16;
+  private static final int FIELD_BITS = 15;
+  private static final int FIELD_MAX = (1 << FIELD_BITS) - 1;
+  private static final int MAX_KEY_ITEMS = 3;
+  // 得失点差は負の値を取るため、この値を足してから格納する
+  private static final int GOAL_DIFFERENCE_BIAS = 1 << (FIELD_BITS - 1);
+
+  private final List<Integer> comparisonItemIds;
+  private final int[] keyItemIds; // ソートキーにまとめた比較項目ID
+  private final boolean hasPairwiseItems; // キー以降に比較項目が残っているか
+  private final TieGroupResolver tieGroupResolver; // キー以降の比較項目を適用する
+  private final TieGroupResolver fallbackResolver; // 全比較項目を適用する（値がキーに収まらない場合用）
+
+  /**
+   * 比較項目ID一覧をコンパイルする
+   * @param comparisonItemIds 比較項目ID一覧（リーグ規定の順序）
+   */
+  public CompiledRanking(List<Integer> comparisonItemIds) {
+    this.comparisonItemIds = List.copyOf(comparisonItemIds);
+    List<Integer> keyItems = new ArrayList<>();
+    for (int comparisonItemId : this.comparisonItemIds) {
+      if (!isPairIndependent(comparisonItemId) || keyItems.size() == MAX_KEY_ITEMS) {
+        break;
+      }
+      keyItems.add(comparisonItemId);
+    }
+    this.keyItemIds = keyItems.stream().mapToInt(Integer::intValue).toArray();
+    this.hasPairwiseItems = keyItems.size() < this.comparisonItemIds.size();
+    this.tieGroupResolver = new TieGroupResolver(this.comparisonItemIds.subList(keyItems.size(), this.comparisonItemIds.size()));
+    this.fallbackResolver = new TieGroupResolver(this.comparisonItemIds);
+  }
+
+  /**
+   * 当該クラブ間の成績に依存しない比較項目か
+   * @param comparisonItemId 比較項目ID
+   * @return 1: Points, 4: Goal Differences, 5: Goals For の場合true
+   */
+  static boolean isPairIndependent(int comparisonItemId) {
+    return comparisonItemId == 1 || comparisonItemId == 4 || comparisonItemId == 5;
+  }
+
+  public List<Integer> getComparisonItemIds() {
+    return comparisonItemIds;
+  }
+
+  /**
+   * クラブを順位順に並び替える（全項目で並んだクラブは入力順を保つ）
+   * @param clubForStandings 順位表作成のためのクラブ情報一覧
+   * @param headToHeadTable 当該クラブ間の成績表
+   * @return 順位順に並び替えたクラブ情報一覧
+   */
+  public List<ClubForStanding> rank(List<ClubForStanding> clubForStandings, HeadToHeadTable headToHeadTable) {
+    int size = clubForStandings.size();
+    if (size >= (1 << INDEX_BITS)) {
+      return fallbackResolver.resolve(clubForStandings, headToHeadTable);
+    }
+
+    long[] keys = new long[size];
+    for (int i = 0; i < size; i++) {
+      long key = encodeKey(clubForStandings.get(i));
+      if (key < 0) {
+        // 値がキーの範囲に収まらない場合は全体を1つのグループとして並び替える
+        return fallbackResolver.resolve(clubForStandings, headToHeadTable);
+      }
+      keys[i] = (key << INDEX_BITS) | i;
+    }
+    Arrays.sort(keys);
+
+    List<ClubForStanding> ranked = new ArrayList<>(size);
+    int start = 0;
+    while (start < size) {
+      int end = start + 1;
+      if (hasPairwiseItems) {
+        while (end < size && (keys[end] >>> INDEX_BITS) == (keys[start] >>> INDEX_BITS)) {
+          end++;
+        }
+      }
+      if (end - start == 1) {
+        ranked.add(clubForStandings.get(indexOf(keys[start])));
+      } else {
+        // キーが同じグループ内のみミニリーグ表で比較する（グループはインデックス昇順に並んでいる）
+        List<ClubForStanding> tiedGroup = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+          tiedGroup.add(clubForStandings.get(indexOf(keys[i])));
+        }
+        ranked.addAll(tieGroupResolver.resolve(tiedGroup, headToHeadTable));
+      }
+      start = end;
+    }
+    return ranked;
+  }
+
+  /**
+   * ソートキーを作成する（昇順で並べると順位順になるよう、値が大きいほど小さいキーにする）
+   * @param clubForStanding 順位表作成のためのクラブ情報
+   * @return ソートキー（値が範囲外の場合は-1）
+   */
+  private long encodeKey(ClubForStanding clubForStanding) {
+    long key = 0;
+    for (int i = 0; i < MAX_KEY_ITEMS; i++) {
+      int field = 0;
+      if (i < keyItemIds.length) {
+        int value = switch (keyItemIds[i]) {
+          case 1 -> clubForStanding.getPoints();
+          case 4 -> clubForStanding.getGoalDifference() + GOAL_DIFFERENCE_BIAS;
+          default -> clubForStanding.getGoalsFor();
+        };
+        if (value < 0 || value > FIELD_MAX) {
+          return -1;
+        }
+        field = FIELD_MAX - value;
+      }
+      key = (key << FIELD_BITS) | field;
+    }
+    return key;
+  }
+
+  private static int indexOf(long key) {
+    return (int) (key & ((1L << INDEX_BITS) - 1));
+  }
+
+}
@@ -0,0 +1,8 @@
+package football.StatsManagement.service.comparator;
+
+/**
+ * リーグ規定が更新されたことを通知するイベント
+ * @param leagueId リーグID
+ */
+public record LeagueRegulationsChangedEvent(int leagueId) {
+}
@@ -0,0 +1,47 @@
+package football.StatsManagement.service.comparator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * リーグごとにコンパイル済みの順位付け（CompiledRanking）を保持するクラス
+ * リーグ規定はコンパイル済み順位付けがない場合のみ読み込み、リーグ規定の更新（LeagueRegulationsChangedEvent）で破棄する
+ */
+@Component
+public class RankingEngine {
+  private final Map<Integer, CompiledRanking> compiledRankings = new ConcurrentHashMap<>();
+
+  /**
+   * リーグのコンパイル済み順位付けを取得する（ない場合は比較項目を読み込んでコンパイルする）
+   * 読み込み中の破棄は読み込みの完了を待って行われるため、破棄前の比較項目が残ることはない
+   * @param leagueId リーグID
+   * @param comparisonItemIdsLoader 比較項目ID一覧（リーグ規定の順序）の読み込み処理
+   * @return コンパイル済み順位付け
+   */
+  public CompiledRanking getCompiledRanking(int leagueId, Supplier<List<Integer>> comparisonItemIdsLoader) {
+    return compiledRankings.computeIfAbsent(leagueId, id -> new CompiledRanking(comparisonItemIdsLoader.get()));
+  }
+
+  /**
+   * リーグのコンパイル済み順位付けを破棄する
+   * @param leagueId リーグID
+   */
+  public void evict(int leagueId) {
+    compiledRankings.remove(leagueId);
+  }
+
+  /**
+   * リーグ規定の更新のトランザクション完了後に、該当するリーグのコンパイル済み順位付けを破棄する
+   * @param event リーグ規定変更イベント
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+  public void onLeagueRegulationsChanged(LeagueRegulationsChangedEvent event) {
+    evict(event.leagueId());
+  }
+
+}
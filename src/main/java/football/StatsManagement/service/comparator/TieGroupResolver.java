@@ -0,0 +1,154 @@
+package football.StatsManagement.service.comparator;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 同順位のクラブのグループを、グループ内の試合のみで作成したミニリーグ表で順位付けするクラス
+ * 2クラブ間の比較を繰り返す方法と異なり、3クラブ以上が並んだ場合でも順序が一意に定まる
+ */
+public class TieGroupResolver {
+  private final List<Integer> comparisonItemIds;
+
+  /**
+   * @param comparisonItemIds グループ内で適用する比較項目ID一覧（リーグ規定の順序）
+   */
+  public TieGroupResolver(List<Integer> comparisonItemIds) {
+    this.comparisonItemIds = List.copyOf(comparisonItemIds);
+  }
+
+  /**
+   * 同順位のクラブのグループを順位順に並び替える
+   * 比較項目で分かれたグループのうち2クラブ以上が並んだものは、そのクラブ間の試合のみで改めて比較する
+   * @param tiedGroup 同順位のクラブ一覧（全項目で並んだ場合はこの順序を保つ）
+   * @param headToHeadTable 当該クラブ間の成績表
+   * @return 順位順に並び替えたクラブ一覧
+   */
+  public List<ClubForStanding> resolve(List<ClubForStanding> tiedGroup, HeadToHeadTable headToHeadTable) {
+    if (tiedGroup.size() <= 1) {
+      return new ArrayList<>(tiedGroup);
+    }
+
+    MiniTable miniTable = new MiniTable(tiedGroup, headToHeadTable);
+    for (int comparisonItemId : comparisonItemIds) {
+      int[] values = miniTable.valuesOf(comparisonItemId);
+      List<List<ClubForStanding>> subGroups = splitByValueDescending(tiedGroup, values);
+      if (subGroups.size() == 1) {
+        continue;
+      }
+      List<ClubForStanding> resolved = new ArrayList<>(tiedGroup.size());
+      for (List<ClubForStanding> subGroup : subGroups) {
+        // 分かれたグループはより小さいため、再帰は必ず終了する
+        resolved.addAll(resolve(subGroup, headToHeadTable));
+      }
+      return resolved;
+    }
+    return new ArrayList<>(tiedGroup);
+  }
+
+  /**
+   * 値の降順にグループを分割する（同じ値のクラブは元の順序を保つ）
+   * @param group クラブ一覧
+   * @param values 各クラブの値（groupと同じ順序）
+   * @return 分割したグループ一覧
+   */
+  private static List<List<ClubForStanding>> splitByValueDescending(List<ClubForStanding> group, int[] values) {
+    int size = group.size();
+    Integer[] order = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    // 安定ソートなので同じ値の場合はインデックス順になる
+    Arrays.sort(order, (a, b) -> Integer.compare(values[b], values[a]));
+
+    List<List<ClubForStanding>> subGroups = new ArrayList<>();
+    List<ClubForStanding> current = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      if (i > 0 && values[order[i]] != values[order[i - 1]]) {
+        subGroups.add(current);
+        current = new ArrayList<>();
+      }
+      current.add(group.get(order[i]));
+    }
+    subGroups.add(current);
+    return subGroups;
+  }
+
+  /**
+   * グループ内の試合のみで集計したミニリーグ表（グループごとに1度だけ集計する）
+   */
+  private static class MiniTable {
+    private final List<ClubForStanding> group;
+    private final int[] points;
+    private final int[] goalDifferences;
+    private final int[] awayGoals;
+    private final boolean allPairsPlayedAtLeast2Games;
+
+    MiniTable(List<ClubForStanding> group, HeadToHeadTable headToHeadTable) {
+      int size = group.size();
+      this.group = group;
+      this.points = new int[size];
+      this.goalDifferences = new int[size];
+      this.awayGoals = new int[size];
+      int[] indexes = new int[size];
+      for (int i = 0; i < size; i++) {
+        indexes[i] = headToHeadTable.indexOf(group.get(i).getClub().getId());
+      }
+
+      boolean atLeast2Games = true;
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          if (i == j) {
+            continue;
+          }
+          if (indexes[i] < 0 || indexes[j] < 0) {
+            atLeast2Games = false;
+            continue;
+          }
+          points[i] += headToHeadTable.getPoints(indexes[i], indexes[j]);
+          goalDifferences[i] += headToHeadTable.getGoalDifference(indexes[i], indexes[j]);
+          awayGoals[i] += headToHeadTable.getAwayGoals(indexes[i], indexes[j]);
+          if (headToHeadTable.getGames(indexes[i], indexes[j]) < 2) {
+            atLeast2Games = false;
+          }
+        }
+      }
+      this.allPairsPlayedAtLeast2Games = atLeast2Games;
+    }
+
+    /**
+     * 比較項目に対応する各クラブの値を返す（値が大きいほど上位）
+     * @param comparisonItemId 比較項目ID
+     * @return 各クラブの値（groupと同じ順序）
+     */
+    int[] valuesOf(int comparisonItemId) {
+      int size = group.size();
+      int[] values = new int[size];
+      for (int i = 0; i < size; i++) {
+        ClubForStanding clubForStanding = group.get(i);
+        values[i] = switch (comparisonItemId) {
+          case 1 -> // Points
+              clubForStanding.getPoints();
+          case 2 -> // Points Head-to-head (At least 2 Games)
+              allPairsPlayedAtLeast2Games ? points[i] : 0;
+          case 3 -> // Goal Differences Head-to-head (At least 2 Games)
+              allPairsPlayedAtLeast2Games ? goalDifferences[i] : 0;
+          case 4 -> // Goal Differences
+              clubForStanding.getGoalDifference();
+          case 5 -> // Goals For
+              clubForStanding.getGoalsFor();
+          case 6 -> // Away Goals Head-to-head
+              awayGoals[i];
+          case 7 -> // Points Head-to-head
+              points[i];
+          default -> 0;
+        };
+      }
+      return values;
+    }
+  }
+
+}
@@ -0,0 +1,140 @@
+package football.StatsManagement.service.comparator.calculator;
+
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 順位表作成時の当該クラブ間の成績を保持するクラス
+ * クラブ一覧の並び順をインデックスとして、各成績をn×nの行列（1次元配列）で保持する
+ */
+public class HeadToHeadTable {
+  private final Map<Integer, Integer> indexByClubId;
+  private final int size;
+
+  // [clubIndex * size + opponentIndex] の形式で保持する
+  private final int[] points; // クラブが対戦相手から得た勝ち点
+  private final int[] goalDifferences; // クラブの対戦相手に対する得失点差
+  private final int[] awayGoals; // クラブが対戦相手のホームで挙げた得点
+  private final int[] games; // 対戦数
+
+  /**
+   * 対戦成績が空の状態で作成する
+   * @param clubs クラブ一覧（この並び順がインデックスとなる）
+   */
+  public HeadToHeadTable(List<Club> clubs) {
+    this.size = clubs.size();
+    this.indexByClubId = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      indexByClubId.put(clubs.get(i).getId(), i);
+    }
+    this.points = new int[size * size];
+    this.goalDifferences = new int[size * size];
+    this.awayGoals = new int[size * size];
+    this.games = new int[size * size];
+  }
+
+  /**
+   * 試合結果一覧から当該クラブ間の成績を集計して作成する
+   * @param clubs クラブ一覧（この並び順がインデックスとなる）
+   * @param gameResults 試合結果一覧
+   * @return 当該クラブ間の成績
+   */
+  public static HeadToHeadTable of(List<Club> clubs, List<GameResult> gameResults) {
+    HeadToHeadTable headToHeadTable = new HeadToHeadTable(clubs);
+    for (GameResult gameResult : gameResults) {
+      headToHeadTable.addGameResult(gameResult);
+    }
+    return headToHeadTable;
+  }
+
+  /**
+   * 試合結果を集計に加える（いずれかのクラブが対象外の場合は何もしない）
+   * @param gameResult 試合結果
+   */
+  public void addGameResult(GameResult gameResult) {
+    int homeIndex = indexOf(gameResult.getHomeClubId());
+    int awayIndex = indexOf(gameResult.getAwayClubId());
+    if (homeIndex < 0 || awayIndex < 0) {
+      return;
+    }
+    int homeCell = homeIndex * size + awayIndex;
+    int awayCell = awayIndex * size + homeIndex;
+    int homeGoalDifference = gameResult.getHomeScore() - gameResult.getAwayScore();
+
+    if (gameResult.getWinnerClubId() == null) {
+      points[homeCell] += 1;
+      points[awayCell] += 1;
+    } else if (gameResult.getWinnerClubId() == gameResult.getHomeClubId()) {
+      points[homeCell] += 3;
+    } else {
+      points[awayCell] += 3;
+    }
+    goalDifferences[homeCell] += homeGoalDifference;
+    goalDifferences[awayCell] -= homeGoalDifference;
+    awayGoals[awayCell] += gameResult.getAwayScore();
+    games[homeCell] += 1;
+    games[awayCell] += 1;
+  }
+
+  /**
+   * クラブIDに対応するインデックスを返す
+   * @param clubId クラブID
+   * @return インデックス（対象外のクラブの場合は-1）
+   */
+  public int indexOf(int clubId) {
+    Integer index = indexByClubId.get(clubId);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * 対象クラブ数を返す
+   * @return 対象クラブ数
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 対戦相手に対して得た勝ち点を返す
+   * @param clubIndex クラブのインデックス
+   * @param opponentIndex 対戦相手のインデックス
+   * @return 対戦相手に対して得た勝ち点
+   */
+  public int getPoints(int clubIndex, int opponentIndex) {
+    return points[clubIndex * size + opponentIndex];
+  }
+
+  /**
+   * 対戦相手に対して得た得失点差を返す
+   * @param clubIndex クラブのインデックス
+   * @param opponentIndex 対戦相手のインデックス
+   * @return 対戦相手に対して得た得失点差
+   */
+  public int getGoalDifference(int clubIndex, int opponentIndex) {
+    return goalDifferences[clubIndex * size + opponentIndex];
+  }
+
+  /**
+   * 対戦相手に対して得たアウェーゴール数を返す
+   * @param clubIndex クラブのインデックス
+   * @param opponentIndex 対戦相手のインデックス
+   * @return 対戦相手に対して得たアウェーゴール数
+   */
+  public int getAwayGoals(int clubIndex, int opponentIndex) {
+    return awayGoals[clubIndex * size + opponentIndex];
+  }
+
+  /**
+   * 対戦数を返す
+   * @param clubIndex クラブのインデックス
+   * @param opponentIndex 対戦相手のインデックス
+   * @return 対戦数
+   */
+  public int getGames(int clubIndex, int opponentIndex) {
+    return games[clubIndex * size + opponentIndex];
+  }
+
+}
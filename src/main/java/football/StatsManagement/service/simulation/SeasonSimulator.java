@@ -0,0 +1,403 @@
+package football.StatsManagement.service.simulation;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * シーズンの残り試合をモンテカルロ法でシミュレーションし、各クラブの最終順位の分布を求めるクラス
+ * 1回のシミュレーションはプリミティブ配列のみで行い（ループ内でオブジェクトを生成しない）、
+ * 試行回数をfork/joinで分割して並列に実行する
+ * 順位付けはTieGroupResolverと同じく、並んだクラブ間の試合のみで集計したミニリーグ表で行う
+ */
+public class SeasonSimulator {
+  // これ以下の試行回数になるまでタスクを分割する
+  private static final int ITERATIONS_PER_TASK = 2_000;
+  // ホームチームの得点の期待値に掛ける係数（アウェイチームには逆数を掛ける）
+  private static final double HOME_ADVANTAGE = 1.1;
+  // 試合がない場合の1クラブ1試合あたりの得点の期待値
+  private static final double DEFAULT_GOALS_PER_GAME = 1.3;
+
+  private final int clubCount;
+  private final int[] comparisonItemIds;
+  private final boolean usesHeadToHead; // 当該クラブ間の比較項目を含むか
+
+  // 現時点の成績（clubForStandingsの並び順をインデックスとする）
+  private final int[] basePoints;
+  private final int[] baseGoalsFor;
+  private final int[] baseGoalsAgainst;
+  // 現時点の当該クラブ間の成績（[clubIndex * clubCount + opponentIndex]）
+  private final int[] baseHeadToHeadPoints;
+  private final int[] baseHeadToHeadGoalDifferences;
+  private final int[] baseHeadToHeadAwayGoals;
+  private final int[] baseHeadToHeadGames;
+
+  // 残り試合（ホーム・アウェイのインデックスと、得点の期待値λから求めたexp(-λ)）
+  private final int[] fixtureHomes;
+  private final int[] fixtureAways;
+  private final double[] homeExpNegLambdas;
+  private final double[] awayExpNegLambdas;
+
+  /**
+   * 現時点の成績から残り試合と得点モデルを作成する
+   * 残り試合は全クラブがホーム・アウェイで1試合ずつ対戦する日程から消化済みの試合を除いたものとする
+   * 得点の期待値は、リーグ平均を1試合分加えて平滑化した各クラブの得点力・失点率から求める
+   * @param clubForStandings 順位表作成のためのクラブ情報一覧（全項目で並んだ場合はこの順序を保つ）
+   * @param headToHeadTable 当該クラブ間の成績表
+   * @param comparisonItemIds 比較項目ID一覧（リーグ規定の順序）
+   */
+  public SeasonSimulator(List<ClubForStanding> clubForStandings, HeadToHeadTable headToHeadTable, List<Integer> comparisonItemIds) {
+    this.clubCount = clubForStandings.size();
+    this.comparisonItemIds = comparisonItemIds.stream().mapToInt(Integer::intValue).toArray();
+    boolean usesHeadToHead = false;
+    for (int comparisonItemId : this.comparisonItemIds) {
+      if (comparisonItemId == 2 || comparisonItemId == 3 || comparisonItemId == 6 || comparisonItemId == 7) {
+        usesHeadToHead = true;
+      }
+    }
+    this.usesHeadToHead = usesHeadToHead;
+
+    int n = clubCount;
+    this.basePoints = new int[n];
+    this.baseGoalsFor = new int[n];
+    this.baseGoalsAgainst = new int[n];
+    this.baseHeadToHeadPoints = new int[n * n];
+    this.baseHeadToHeadGoalDifferences = new int[n * n];
+    this.baseHeadToHeadAwayGoals = new int[n * n];
+    this.baseHeadToHeadGames = new int[n * n];
+    int[] tableIndexes = new int[n];
+    int totalGoals = 0;
+    int totalGames = 0;
+    for (int i = 0; i < n; i++) {
+      ClubForStanding clubForStanding = clubForStandings.get(i);
+      basePoints[i] = clubForStanding.getPoints();
+      baseGoalsFor[i] = clubForStanding.getGoalsFor();
+      baseGoalsAgainst[i] = clubForStanding.getGoalsAgainst();
+      tableIndexes[i] = headToHeadTable.indexOf(clubForStanding.getClub().getId());
+      totalGoals += clubForStanding.getGoalsFor();
+      totalGames += clubForStanding.getGamesPlayed();
+    }
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        if (i == j || tableIndexes[i] < 0 || tableIndexes[j] < 0) {
+          continue;
+        }
+        baseHeadToHeadPoints[i * n + j] = headToHeadTable.getPoints(tableIndexes[i], tableIndexes[j]);
+        baseHeadToHeadGoalDifferences[i * n + j] = headToHeadTable.getGoalDifference(tableIndexes[i], tableIndexes[j]);
+        baseHeadToHeadAwayGoals[i * n + j] = headToHeadTable.getAwayGoals(tableIndexes[i], tableIndexes[j]);
+        baseHeadToHeadGames[i * n + j] = headToHeadTable.getGames(tableIndexes[i], tableIndexes[j]);
+      }
+    }
+
+    // 消化済みのホームゲーム（[homeIndex * clubCount + awayIndex]）
+    boolean[] played = new boolean[n * n];
+    for (int i = 0; i < n; i++) {
+      int clubId = clubForStandings.get(i).getClub().getId();
+      for (GameResult gameResult : clubForStandings.get(i).getGameResults()) {
+        if (gameResult.getHomeClubId() != clubId) {
+          continue;
+        }
+        for (int j = 0; j < n; j++) {
+          if (clubForStandings.get(j).getClub().getId() == gameResult.getAwayClubId()) {
+            played[i * n + j] = true;
+          }
+        }
+      }
+    }
+
+    double averageGoals = totalGames == 0 ? DEFAULT_GOALS_PER_GAME : (double) totalGoals / totalGames;
+    double[] attacks = new double[n];
+    double[] defences = new double[n];
+    for (int i = 0; i < n; i++) {
+      int gamesPlayed = clubForStandings.get(i).getGamesPlayed();
+      attacks[i] = (baseGoalsFor[i] + averageGoals) / (gamesPlayed + 1) / averageGoals;
+      defences[i] = (baseGoalsAgainst[i] + averageGoals) / (gamesPlayed + 1) / averageGoals;
+    }
+
+    int fixtureCount = 0;
+    for (int cell = 0; cell < n * n; cell++) {
+      if (cell / n != cell % n && !played[cell]) {
+        fixtureCount++;
+      }
+    }
+    this.fixtureHomes = new int[fixtureCount];
+    this.fixtureAways = new int[fixtureCount];
+    this.homeExpNegLambdas = new double[fixtureCount];
+    this.awayExpNegLambdas = new double[fixtureCount];
+    int fixture = 0;
+    for (int home = 0; home < n; home++) {
+      for (int away = 0; away < n; away++) {
+        if (home == away || played[home * n + away]) {
+          continue;
+        }
+        fixtureHomes[fixture] = home;
+        fixtureAways[fixture] = away;
+        homeExpNegLambdas[fixture] = Math.exp(-averageGoals * attacks[home] * defences[away] * HOME_ADVANTAGE);
+        awayExpNegLambdas[fixture] = Math.exp(-averageGoals * attacks[away] * defences[home] / HOME_ADVANTAGE);
+        fixture++;
+      }
+    }
+  }
+
+  /**
+   * 残り試合数を返す
+   * @return 残り試合数
+   */
+  public int getRemainingGames() {
+    return fixtureHomes.length;
+  }
+
+  /**
+   * 残り試合を指定回数シミュレーションする
+   * @param iterations 試行回数
+   * @param seed 乱数のシード（同じシードでは同じ結果になる）
+   * @return 各クラブの最終順位の回数と勝ち点の合計
+   */
+  public SimulationResult simulate(int iterations, long seed) {
+    long[] totals = ForkJoinPool.commonPool().invoke(new SimulationTask(iterations, new SplittableRandom(seed)));
+    return new SimulationResult(clubCount, iterations, totals);
+  }
+
+  /**
+   * 試行回数を分割して並列に実行するタスク
+   * 結果は[clubIndex * clubCount + position]に最終順位の回数、その後ろにクラブごとの勝ち点の合計を持つ配列とする
+   */
+  private class SimulationTask extends RecursiveTask<long[]> {
+    private final int iterations;
+    private final SplittableRandom random;
+
+    SimulationTask(int iterations, SplittableRandom random) {
+      this.iterations = iterations;
+      this.random = random;
+    }
+
+    @Override
+    protected long[] compute() {
+      if (iterations <= ITERATIONS_PER_TASK) {
+        return new Worker().run(iterations, random);
+      }
+      int half = iterations / 2;
+      // 分割の前に乱数を分岐させ、スレッドの実行順によらず同じ結果にする
+      SimulationTask left = new SimulationTask(half, random.split());
+      SimulationTask right = new SimulationTask(iterations - half, random.split());
+      left.fork();
+      long[] rightTotals = right.compute();
+      long[] leftTotals = left.join();
+      for (int i = 0; i < leftTotals.length; i++) {
+        leftTotals[i] += rightTotals[i];
+      }
+      return leftTotals;
+    }
+  }
+
+  /**
+   * 1タスク分のシミュレーションを行う作業領域（配列は作成時に1度だけ確保する）
+   */
+  private class Worker {
+    private final int n = clubCount;
+    private final int[] points = new int[n];
+    private final int[] goalsFor = new int[n];
+    private final int[] goalsAgainst = new int[n];
+    private final int[] headToHeadPoints = new int[n * n];
+    private final int[] headToHeadGoalDifferences = new int[n * n];
+    private final int[] headToHeadAwayGoals = new int[n * n];
+    private final int[] headToHeadGames = new int[n * n];
+    private final int[] order = new int[n]; // 順位順のクラブのインデックス
+    private final int[] values = new int[n]; // 比較項目の値（クラブのインデックスごと）
+    private final long[] totals = new long[n * n + n];
+
+    long[] run(int iterations, SplittableRandom random) {
+      for (int iteration = 0; iteration < iterations; iteration++) {
+        simulateRemainingGames(random);
+        rank();
+        for (int position = 0; position < n; position++) {
+          totals[order[position] * n + position]++;
+        }
+        for (int i = 0; i < n; i++) {
+          totals[n * n + i] += points[i];
+        }
+      }
+      return totals;
+    }
+
+    private void simulateRemainingGames(SplittableRandom random) {
+      System.arraycopy(basePoints, 0, points, 0, n);
+      System.arraycopy(baseGoalsFor, 0, goalsFor, 0, n);
+      System.arraycopy(baseGoalsAgainst, 0, goalsAgainst, 0, n);
+      if (usesHeadToHead) {
+        System.arraycopy(baseHeadToHeadPoints, 0, headToHeadPoints, 0, n * n);
+        System.arraycopy(baseHeadToHeadGoalDifferences, 0, headToHeadGoalDifferences, 0, n * n);
+        System.arraycopy(baseHeadToHeadAwayGoals, 0, headToHeadAwayGoals, 0, n * n);
+        System.arraycopy(baseHeadToHeadGames, 0, headToHeadGames, 0, n * n);
+      }
+
+      for (int fixture = 0; fixture < fixtureHomes.length; fixture++) {
+        int home = fixtureHomes[fixture];
+        int away = fixtureAways[fixture];
+        int homeScore = samplePoisson(random, homeExpNegLambdas[fixture]);
+        int awayScore = samplePoisson(random, awayExpNegLambdas[fixture]);
+        int homePoints = homeScore > awayScore ? 3 : homeScore == awayScore ? 1 : 0;
+        int awayPoints = homeScore < awayScore ? 3 : homeScore == awayScore ? 1 : 0;
+        points[home] += homePoints;
+        points[away] += awayPoints;
+        goalsFor[home] += homeScore;
+        goalsAgainst[home] += awayScore;
+        goalsFor[away] += awayScore;
+        goalsAgainst[away] += homeScore;
+        if (usesHeadToHead) {
+          int homeCell = home * n + away;
+          int awayCell = away * n + home;
+          headToHeadPoints[homeCell] += homePoints;
+          headToHeadPoints[awayCell] += awayPoints;
+          headToHeadGoalDifferences[homeCell] += homeScore - awayScore;
+          headToHeadGoalDifferences[awayCell] += awayScore - homeScore;
+          headToHeadAwayGoals[awayCell] += awayScore;
+          headToHeadGames[homeCell]++;
+          headToHeadGames[awayCell]++;
+        }
+      }
+    }
+
+    private void rank() {
+      for (int i = 0; i < n; i++) {
+        order[i] = i;
+      }
+      rankRange(0, n);
+    }
+
+    /**
+     * order[from, to)のクラブを比較項目で並び替える
+     * 最初に差がついた比較項目で分割し、並んだままのクラブは改めてそのクラブ間の試合のみで比較する
+     */
+    private void rankRange(int from, int to) {
+      if (to - from <= 1) {
+        return;
+      }
+      for (int comparisonItemId : comparisonItemIds) {
+        if (!fillValues(comparisonItemId, from, to)) {
+          continue;
+        }
+        sortByValuesDescending(from, to);
+        int start = from;
+        while (start < to) {
+          int end = start + 1;
+          while (end < to && values[order[end]] == values[order[start]]) {
+            end++;
+          }
+          // 再帰で上書きされるのは[start, end)のクラブの値のみ
+          rankRange(start, end);
+          start = end;
+        }
+        return;
+      }
+    }
+
+    /**
+     * order[from, to)のクラブの比較項目の値をvaluesに格納する
+     * @return クラブ間で値に差がある場合true
+     */
+    private boolean fillValues(int comparisonItemId, int from, int to) {
+      boolean atLeast2Games = (comparisonItemId == 2 || comparisonItemId == 3) && allPairsPlayedAtLeast2Games(from, to);
+      for (int k = from; k < to; k++) {
+        int club = order[k];
+        values[club] = switch (comparisonItemId) {
+          case 1 -> points[club];
+          case 2 -> atLeast2Games ? sumAgainstGroup(headToHeadPoints, club, from, to) : 0;
+          case 3 -> atLeast2Games ? sumAgainstGroup(headToHeadGoalDifferences, club, from, to) : 0;
+          case 4 -> goalsFor[club] - goalsAgainst[club];
+          case 5 -> goalsFor[club];
+          case 6 -> sumAgainstGroup(headToHeadAwayGoals, club, from, to);
+          case 7 -> sumAgainstGroup(headToHeadPoints, club, from, to);
+          default -> 0;
+        };
+      }
+      for (int k = from + 1; k < to; k++) {
+        if (values[order[k]] != values[order[from]]) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int sumAgainstGroup(int[] matrix, int club, int from, int to) {
+      int sum = 0;
+      for (int k = from; k < to; k++) {
+        sum += matrix[club * n + order[k]];
+      }
+      return sum;
+    }
+
+    private boolean allPairsPlayedAtLeast2Games(int from, int to) {
+      for (int k = from; k < to; k++) {
+        for (int l = from; l < to; l++) {
+          if (k != l && headToHeadGames[order[k] * n + order[l]] < 2) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    // 挿入ソート（安定ソートなので同じ値の場合は元の順序を保つ）
+    private void sortByValuesDescending(int from, int to) {
+      for (int k = from + 1; k < to; k++) {
+        int club = order[k];
+        int l = k - 1;
+        while (l >= from && values[order[l]] < values[club]) {
+          order[l + 1] = order[l];
+          l--;
+        }
+        order[l + 1] = club;
+      }
+    }
+  }
+
+  /**
+   * ポアソン分布に従う得点を生成する（Knuthの方法）
+   * @param random 乱数
+   * @param expNegLambda exp(-λ)
+   * @return 得点
+   */
+  private static int samplePoisson(SplittableRandom random, double expNegLambda) {
+    int goals = 0;
+    double product = random.nextDouble();
+    while (product > expNegLambda) {
+      goals++;
+      product *= random.nextDouble();
+    }
+    return goals;
+  }
+
+  /**
+   * シミュレーション結果
+   * @param clubCount クラブ数
+   * @param iterations 試行回数
+   * @param totals [clubIndex * clubCount + position]に最終順位の回数、その後ろにクラブごとの勝ち点の合計
+   */
+  public record SimulationResult(int clubCount, int iterations, long[] totals) {
+
+    /**
+     * クラブが指定した順位で終えた確率を返す
+     * @param clubIndex クラブのインデックス
+     * @param position 順位（0始まり）
+     * @return 確率
+     */
+    public double getPositionProbability(int clubIndex, int position) {
+      return (double) totals[clubIndex * clubCount + position] / iterations;
+    }
+
+    /**
+     * クラブの最終勝ち点の期待値を返す
+     * @param clubIndex クラブのインデックス
+     * @return 最終勝ち点の期待値
+     */
+    public double getExpectedPoints(int clubIndex) {
+      return (double) totals[clubCount * clubCount + clubIndex] / iterations;
+    }
+  }
+
+}
@@ -0,0 +1,18 @@
+-- 順位表の集計結果（試合結果登録時に加算で更新する）
+-- 適用後、POST /standings-rebuild で既存の試合結果から全リーグ・全シーズン分を作成する
+CREATE TABLE `standings` (
+  `league_id` int NOT NULL,
+  `season_id` int NOT NULL,
+  `club_id` int NOT NULL,
+  `games_played` int NOT NULL DEFAULT 0,
+  `wins` int NOT NULL DEFAULT 0,
+  `draws` int NOT NULL DEFAULT 0,
+  `losses` int NOT NULL DEFAULT 0,
+  `goals_for` int NOT NULL DEFAULT 0,
+  `goals_against` int NOT NULL DEFAULT 0,
+  `points` int NOT NULL DEFAULT 0,
+  PRIMARY KEY (`league_id`, `season_id`, `club_id`),
+  FOREIGN KEY (`league_id`) REFERENCES `leagues`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`season_id`) REFERENCES `seasons`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`club_id`) REFERENCES `clubs`(`id`) ON DELETE CASCADE ON UPDATE CASCADE
+);
@@ -0,0 +1,21 @@
+-- 選手のシーズン・クラブごとの合計成績（試合結果と選手試合成績の登録時に加算で更新する）
+-- 適用後、POST /player-season-totals-rebuild で既存の選手試合成績から全選手分を作成する
+CREATE TABLE `player_season_totals` (
+  `player_id` int NOT NULL,
+  `season_id` int NOT NULL,
+  `club_id` int NOT NULL,
+  `games` int NOT NULL DEFAULT 0,
+  `starter_games` int NOT NULL DEFAULT 0,
+  `goals` int NOT NULL DEFAULT 0,
+  `assists` int NOT NULL DEFAULT 0,
+  `minutes` int NOT NULL DEFAULT 0,
+  `yellow_cards` int NOT NULL DEFAULT 0,
+  `red_cards` int NOT NULL DEFAULT 0,
+  PRIMARY KEY (`player_id`, `season_id`, `club_id`),
+  FOREIGN KEY (`player_id`) REFERENCES `players`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`season_id`) REFERENCES `seasons`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`club_id`) REFERENCES `clubs`(`id`) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+-- リーグ・シーズンの選手ランキング用（standingsのクラブと結合する）
+CREATE INDEX `idx_player_season_totals_season_club` ON `player_season_totals` (`season_id`, `club_id`);
@@ -0,0 +1,2 @@
+-- 選手ごとの試合成績のページ取得用（player_idで絞り込み、idの順に読む）
+CREATE INDEX `idx_player_game_stats_player_id` ON `player_game_stats` (`player_id`, `id`);
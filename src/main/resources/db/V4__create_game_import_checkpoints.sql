@@ -0,0 +1,7 @@
+-- 過去シーズンの取込の進捗（中断した取込を最後にコミットしたバッチの次の行から再開する）
+CREATE TABLE `game_import_checkpoints` (
+  `import_key` varchar(512) NOT NULL,
+  `content_hash` char(64) NOT NULL,
+  `last_line` bigint NOT NULL,
+  PRIMARY KEY (`import_key`)
+);
@@ -3,14 +3,23 @@ package football.StatsManagement;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import football.StatsManagement.exception.FootballException;
 import football.StatsManagement.exception.ResourceConflictException;
 import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.LeaderboardEntry;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
 import football.StatsManagement.model.domain.PlayerCareerStat;
+import football.StatsManagement.model.domain.PlayerForm;
+import football.StatsManagement.model.domain.PlayerForm.FormWindow;
 import football.StatsManagement.model.domain.PlayerTotalStat;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.ComparisonItem;
@@ -21,16 +30,25 @@ import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import football.StatsManagement.model.entity.StandingRecord;
 import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.domain.ClubPosition;
+import football.StatsManagement.model.domain.ClubSimulation;
+import football.StatsManagement.model.domain.DayStanding;
 import football.StatsManagement.model.domain.DayGameResult;
 import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.model.response.KeysetPage;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
 import football.StatsManagement.model.domain.SeasonGameResult;
+import football.StatsManagement.model.domain.SeasonSimulation;
 import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.domain.StandingHistory;
 import football.StatsManagement.model.json.GameResultForJson;
 import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
 import football.StatsManagement.model.json.PlayerGameStatForJson;
 import football.StatsManagement.utils.TestUtils;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +56,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
@@ -46,6 +65,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,8 +73,8 @@ import org.springframework.transaction.annotation.Transactional;
 // Controllerのバリデーションテストはここでは実施しない
 @SpringBootTest
 @AutoConfigureMockMvc
-// RepositoryTestで用いたH2データベースを利用する
-@AutoConfigureTestDatabase(replace = Replace.ANY)
+// application.propertiesのMySQL互換モードのH2データベースを利用する
+@AutoConfigureTestDatabase(replace = Replace.NONE)
 // メソッドごとにDBの状態を元に戻す
 @Transactional
 class FootballIntegrationTest {
@@ -236,6 +256,50 @@ class FootballIntegrationTest {
         .andExpect(content().json(expectedJson));
   }
 
+  @Test
+  @DisplayName("【正常系】リーグ規定が登録できること_既存のリーグ規定が置き換えられること")
+  void registerLeagueRegulations() throws Exception {
+    String requestBody = """
+        {
+          "leagueId": 1,
+          "comparisonItemIds": [4, 5]
+        }
+        """;
+
+    // Act
+    mockMvc.perform(MockMvcRequestBuilders.post("/league-regulations")
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().isOk());
+
+    // Assert
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/league-regulations/1"))
+        .andExpect(status().isOk())
+        .andReturn();
+    JsonNode actual = objectMapper.readTree(result.getResponse().getContentAsString());
+    assertEquals(2, actual.size());
+    assertEquals(4, actual.get(0).get("comparisonItemId").asInt());
+    assertEquals("Goal Differences", actual.get(0).get("comparisonItemName").asText());
+    assertEquals(5, actual.get(1).get("comparisonItemId").asInt());
+    assertEquals(2, actual.get(1).get("comparisonItemOrder").asInt());
+  }
+
+  @Test
+  @DisplayName("【異常系】リーグ規定の登録_存在しない比較項目の場合に404エラーが返却されること")
+  void registerLeagueRegulations_NotFound() throws Exception {
+    String requestBody = """
+        {
+          "leagueId": 1,
+          "comparisonItemIds": [1, 99]
+        }
+        """;
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/league-regulations")
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   @DisplayName("【異常系】リーグIDに紐づくリーグ規定の取得_DBにデータがない場合にデフォルトのリーグ規定が取得できること")
   void getLeagueRegulationByLeague_Default() throws Exception {
@@ -290,6 +354,72 @@ class FootballIntegrationTest {
         .andExpect(content().json(expectedJson));
   }
 
+  @Test
+  @DisplayName("【正常系】クラブ一覧をページ分割して取得できること_次ページのトークンが返されること")
+  void getClubsByPage() throws Exception {
+    KeysetPage<Club> expected = new KeysetPage<>(List.of(
+        new Club(3, 2, "ClubABA"),
+        new Club(4, 2, "ClubABB")
+    ), KeysetPage.encodeToken(4));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/page")
+            .param("pageToken", KeysetPage.encodeToken(2)).param("pageSize", "2"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手一覧をページ分割して取得できること_次ページのトークンを辿ると全選手が1度ずつ取得されること")
+  void getPlayersByPage() throws Exception {
+    // Arrange
+    List<Integer> expected = jdbcTemplate.queryForList("SELECT id FROM players ORDER BY id", Integer.class);
+    int pageSize = 5;
+    List<Integer> playerIds = new ArrayList<>();
+    String pageToken = null;
+    int pageCount = 0;
+
+    // Act
+    do {
+      MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get("/players/page").param("pageSize", String.valueOf(pageSize));
+      if (pageToken != null) {
+        request.param("pageToken", pageToken);
+      }
+      String response = mockMvc.perform(request)
+          .andExpect(status().isOk())
+          .andReturn().getResponse().getContentAsString();
+      JsonNode page = objectMapper.readTree(response);
+      page.get("items").forEach(player -> playerIds.add(player.get("id").asInt()));
+      pageToken = page.get("nextPageToken").isNull() ? null : page.get("nextPageToken").asText();
+      pageCount++;
+    } while (pageToken != null);
+
+    // Assert
+    assertEquals(expected, playerIds);
+    // 最後のページは次ページの有無を先読みで判定するため、空のページは返されない
+    assertEquals((expected.size() + pageSize - 1) / pageSize, pageCount);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手IDに基づく全シーズンの選手試合成績をページ分割して取得できること")
+  void getPlayerGameStatsByPlayerByPage() throws Exception {
+    KeysetPage<PlayerGameStat> expected = new KeysetPage<>(List.of(
+        new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(9, 1, 1, 1, true, 0, 0, 0, 90, 0, 0, 3, null, null, null)
+    ), KeysetPage.encodeToken(9));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-game-stats/page").param("pageSize", "2"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【異常系】不正なトークンで試合結果一覧を取得しようとした場合、400エラーが返却されること")
+  void getGameResultsWithInvalidPageToken() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/game-results/page").param("pageToken", "not-a-token"))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(FootballException.class, result.getResolvedException()));
+  }
+
   @Test
   @DisplayName("【正常系】リーグIDとシーズンIDに基づく順位表が取得できること")
   void getStanding() throws Exception {
@@ -332,6 +462,40 @@ class FootballIntegrationTest {
     return new Standing(leagueId, seasonId, List.of(clubForStanding1, clubForStanding2), "LeagueAA", "2019-20");
   }
 
+  @Test
+  @DisplayName("【正常系】国IDとシーズンIDに基づく複数リーグの順位表が1行1リーグで取得できること")
+  void getStandings() throws Exception {
+    // Act
+    MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/standings/201920").param("countryId", "1"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    // Assert
+    // 作成が終わった順に返るため、リーグIDで振り分けて検証する
+    String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    for (String line : lines) {
+      JsonNode standing = objectMapper.readTree(line);
+      if (standing.get("leagueId").asInt() == 1) {
+        JSONAssert.assertEquals(objectMapper.writeValueAsString(getStanding(1, 201920)), line, false);
+      } else {
+        assertEquals(2, standing.get("leagueId").asInt());
+        assertEquals("LeagueAB", standing.get("leagueName").asText());
+        assertEquals(4, standing.get("clubForStandings").get(0).get("club").get("id").asInt());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("【異常系】複数リーグの順位表の取得_国が存在しない場合は404エラーが返ること")
+  void getStandings_NotFound() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/standings/201920").param("countryId", "99"))
+        .andExpect(status().isNotFound());
+  }
+
   @ParameterizedTest
   @CsvSource({
       "99, 201920",
@@ -343,6 +507,134 @@ class FootballIntegrationTest {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName("【正常系】リーグIDとシーズンIDに基づく順位推移が取得できること")
+  void getStandingHistory() throws Exception {
+//    (1, 2, 2, 1, 1   , 1, '2019-08-01', 201920),
+//    (2, 1, 2, 2, null, 1, '2019-08-02', 201920),
+    StandingHistory expected = new StandingHistory(1, 201920, List.of(
+        new DayStanding(LocalDate.of(2019, 8, 1), List.of(
+            new ClubPosition(1, 1, "ClubAAA", 1, 3, 1, 2),
+            new ClubPosition(2, 2, "ClubAAB", 1, 0, -1, 1)
+        )),
+        new DayStanding(LocalDate.of(2019, 8, 2), List.of(
+            new ClubPosition(1, 1, "ClubAAA", 2, 4, 1, 4),
+            new ClubPosition(2, 2, "ClubAAB", 2, 1, -1, 3)
+        ))
+    ), "LeagueAA", "2019-20");
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/standing-history/201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【正常系】リーグIDとシーズンIDに基づくシーズンのシミュレーション結果が取得できること_残り試合がない場合")
+  void getSeasonSimulation() throws Exception {
+//    (1, 2, 2, 1, 1   , 1, '2019-08-01', 201920),
+//    (2, 1, 2, 2, null, 1, '2019-08-02', 201920),
+    SeasonSimulation expected = new SeasonSimulation(1, 201920, 1000, 0, List.of(
+        new ClubSimulation(1, 1, "ClubAAA", 4, 4.0, List.of(1.0, 0.0)),
+        new ClubSimulation(2, 2, "ClubAAB", 1, 1.0, List.of(0.0, 1.0))
+    ), "LeagueAA", "2019-20");
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/season-simulation/201920").param("iterations", "1000"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【正常系】集計済み成績を再構築できること_試合結果と食い違いがない場合は空のリストが返ること")
+  void rebuildStandings() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/leagues/1/standings-rebuild/201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("[]"));
+  }
+
+  @Test
+  @DisplayName("【正常系】集計済み成績を再構築できること_食い違いのある成績が返り、順位表に反映されること")
+  void rebuildStandingsWithDrift() throws Exception {
+    // club1の成績を意図的に壊す
+    jdbcTemplate.update("UPDATE standings SET wins = 0, points = 1 WHERE league_id = 1 AND season_id = 201920 AND club_id = 1");
+    StandingRecord expected = new StandingRecord(1, 201920, 1, 2, 1, 1, 0, 4, 3, 4);
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/leagues/1/standings-rebuild/201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(List.of(expected))));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/standings/201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(getStanding(1, 201920))));
+  }
+
+  @Test
+  @DisplayName("【正常系】全リーグ・全シーズンの集計済み成績を再構築できること_空のstandingsから作成した順位表が元の順位表と一致すること")
+  void rebuildAllStandingsFromEmpty() throws Exception {
+    Standing expected = getStanding(1, 201920);
+    // standingsテーブル追加直後（未作成）の状態
+    jdbcTemplate.update("DELETE FROM standings");
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/standings-rebuild"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/standings-rebuild"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("[]"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/standings/201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手のシーズン合計成績を再構築できること_食い違いのある成績が返り、選手成績に反映されること")
+  void rebuildPlayerSeasonTotalsWithDrift() throws Exception {
+    // player1の2019-20の合計成績を意図的に壊す
+    jdbcTemplate.update("UPDATE player_season_totals SET goals = 0 WHERE player_id = 1 AND season_id = 201920 AND club_id = 1");
+    PlayerSeasonTotal expected = new PlayerSeasonTotal(1, 201920, 1, 2, 2, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20");
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/player-season-totals-rebuild"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(List.of(expected))));
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/player-season-totals-rebuild"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("[]"));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手のシーズンのフォームが取得できること")
+  void getPlayerForm() throws Exception {
+    FormWindow expectedWindow = FormWindow.of(2, 1, 0, 180);
+    PlayerForm expected = new PlayerForm(1, 201920, expectedWindow, expectedWindow, expectedWindow);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-form/201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の指定した範囲のシーズンでの合計成績が取得できること")
+  void getPlayerTotalStat() throws Exception {
+    PlayerTotalStat expected = new PlayerTotalStat(1, 1, 0, 1, 0, 0, 90, 0, 0, "PlayerAAAA");
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-total-stat").param("fromSeasonId", "202021"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("【正常系】リーグ・シーズンの得点ランキングが取得できること")
+  void getLeaderboard() throws Exception {
+    Leaderboard expected = new Leaderboard(1, 201920, LeaderboardStatistic.GOALS, 10, List.of(
+        new LeaderboardEntry(1, 1, "PlayerAAAA", 1, "ClubAAA", 1, 2, 180)
+    ), "LeagueAA", "2019-20");
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaderboards/201920/goals"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
   @Test
   @DisplayName("【正常系】クラブIDに基づく選手一覧が取得できること")
   void getPlayersByClub() throws Exception {
@@ -391,6 +683,42 @@ class FootballIntegrationTest {
         .andExpect(content().json(expectedJson));
   }
 
+  @Test
+  @DisplayName("【正常系】選手IDに基づく全シーズンの選手試合成績が試合日順にNDJSON形式で取得できること")
+  void getPlayerGameLog() throws Exception {
+    int playerId = 1;
+
+    List<PlayerGameStat> expected = List.of(
+        new PlayerGameStat(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, LocalDate.of(2019, 8, 1), "ClubAAB", "○2-1"),
+        new PlayerGameStat(9, playerId, 1, 1, true, 0, 0, 0, 90, 0, 0, 3, LocalDate.of(2019, 8, 2), "ClubAAB", "△2-2"),
+        new PlayerGameStat(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4, LocalDate.of(2020, 8, 3), "ClubAAB", "●1-2")
+    );
+
+    // Act
+    MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-game-log"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+        .andReturn();
+
+    // Assert
+    String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(expected.size(), lines.length);
+    for (int i = 0; i < lines.length; i++) {
+      JSONAssert.assertEquals(objectMapper.writeValueAsString(expected.get(i)), lines[i], true);
+    }
+  }
+
+  @Test
+  @DisplayName("【異常系】存在しない選手IDで全シーズンの選手試合成績を取得しようとした場合、ストリーム開始前に404エラーが返却されること")
+  void getPlayerGameLogWithNonExistPlayerId() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/999/player-game-log"))
+        .andExpect(request().asyncNotStarted())
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   @DisplayName("【正常系】クラブIDに基づく選手シーズン成績一覧が取得できること")
   void getPlayerSeasonStatsByClubId() throws Exception {
@@ -689,43 +1017,6 @@ class FootballIntegrationTest {
         gameResultForJson, homeClubPlayerGameStatsForJson, awayClubPlayerGameStatsForJson);
     String requestBody = objectMapper.writeValueAsString(gameResultWithPlayerStatsForJson);
 
-    GameResult expectedGameResult = new GameResult(7, homeClubId, awayClubId, 3, 2, homeClubId, leagueId, gameDate, 202021);
-    List<PlayerGameStat> expectedHomePlayerGameStats = List.of(
-        new PlayerGameStat(25, 17, 9, 1, true, 1, 2, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(26, 18, 9, 2, true, 1, 1, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(27, 19, 9, 3, true, 1, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(28, 20, 9, 4, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(29, 21, 9, 5, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(30, 22, 9, 6, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(31, 23, 9, 7, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(32, 24, 9, 8, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(33, 25, 9, 9, true, 0, 0, 0, 80, 0, 0, 7, null, null, null),
-        new PlayerGameStat(34, 26, 9, 10, true, 0, 0, 0, 70, 0, 0, 7, null, null, null),
-        new PlayerGameStat(35, 27, 9, 11, true, 0, 0, 0, 60, 0, 0, 7, null, null, null),
-        new PlayerGameStat(36, 28, 9, 12, false, 0, 0, 0, 10, 0, 0, 7, null, null, null),
-        new PlayerGameStat(37, 29, 9, 13, false, 0, 0, 0, 20, 0, 0, 7, null, null, null),
-        new PlayerGameStat(38, homeTriggerPlayerId, 9, 14, homeTriggerPlayerStarter, homeTriggerPlayerGoals, homeTriggerPlayerAssists, homeTriggerPlayerOwnGoals, homeTriggerPlayerMinutes, 0, 0, 7, null, null, null)
-    );
-    List<PlayerGameStat> expectedAwayPlayerGameStats = List.of(
-        new PlayerGameStat(39, 32, 10, 1, true, 1, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(40, 33, 10, 2, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(41, 34, 10, 3, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(42, 35, 10, 4, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(43, 36, 10, 5, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(44, 37, 10, 6, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(45, 38, 10, 7, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(46, 39, 10, 8, true, 0, 0, 0, 90, 0, 0, 7, null, null, null),
-        new PlayerGameStat(47, 40, 10, 9, true, 0, 0, 0, 85, 0, 0, 7, null, null, null),
-        new PlayerGameStat(48, 41, 10, 10, true, 0, 0, 0, 75, 0, 0, 7, null, null, null),
-        new PlayerGameStat(49, 42, 10, 11, true, 0, 0, 0, 65, 0, 0, 7, null, null, null),
-        new PlayerGameStat(50, 43, 10, 12, false, 0, 0, 0, 5, 0, 0, 7, null, null, null),
-        new PlayerGameStat(51, 44, 10, 13, false, 0, 0, 0, 15, 0, 0, 7, null, null, null),
-        new PlayerGameStat(52, awayTriggerPlayerId, 10, 14, awayTriggerPlayerStarter, awayTriggerPlayerGoals, awayTriggerPlayerAssists, awayTriggerPlayerOwnGoals, awayTriggerPlayerMinutes, 0, 0, 7, null, null, null)
-    );
-
-    GameResultWithPlayerStats expected = new GameResultWithPlayerStats(expectedGameResult, expectedHomePlayerGameStats, expectedAwayPlayerGameStats);
-    String expectedJson = objectMapper.writeValueAsString(expected);
-
     // 検証：andExpect(content().json(expectedJson))で比較に失敗するため、独自に比較メソッドを作成
 
     MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/game-result")
@@ -735,6 +1026,48 @@ class FootballIntegrationTest {
         .andReturn();
 
     String actualJson = result.getResponse().getContentAsString();
+    // IDは自動採番のため、他のテストで採番された分（ロールバックされても戻らない）だけずれる
+    JsonNode actualNode = objectMapper.readTree(actualJson);
+    int gameId = actualNode.get("gameResult").get("id").asInt();
+    int firstStatId = actualNode.get("homePlayerGameStats").get(0).get("id").asInt();
+
+    GameResult expectedGameResult = new GameResult(gameId, homeClubId, awayClubId, 3, 2, homeClubId, leagueId, gameDate, 202021);
+    List<PlayerGameStat> expectedHomePlayerGameStats = List.of(
+        new PlayerGameStat(firstStatId, 17, 9, 1, true, 1, 2, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 1, 18, 9, 2, true, 1, 1, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 2, 19, 9, 3, true, 1, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 3, 20, 9, 4, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 4, 21, 9, 5, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 5, 22, 9, 6, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 6, 23, 9, 7, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 7, 24, 9, 8, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 8, 25, 9, 9, true, 0, 0, 0, 80, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 9, 26, 9, 10, true, 0, 0, 0, 70, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 10, 27, 9, 11, true, 0, 0, 0, 60, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 11, 28, 9, 12, false, 0, 0, 0, 10, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 12, 29, 9, 13, false, 0, 0, 0, 20, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 13, homeTriggerPlayerId, 9, 14, homeTriggerPlayerStarter, homeTriggerPlayerGoals, homeTriggerPlayerAssists, homeTriggerPlayerOwnGoals, homeTriggerPlayerMinutes, 0, 0, gameId, null, null, null)
+    );
+    List<PlayerGameStat> expectedAwayPlayerGameStats = List.of(
+        new PlayerGameStat(firstStatId + 14, 32, 10, 1, true, 1, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 15, 33, 10, 2, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 16, 34, 10, 3, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 17, 35, 10, 4, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 18, 36, 10, 5, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 19, 37, 10, 6, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 20, 38, 10, 7, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 21, 39, 10, 8, true, 0, 0, 0, 90, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 22, 40, 10, 9, true, 0, 0, 0, 85, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 23, 41, 10, 10, true, 0, 0, 0, 75, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 24, 42, 10, 11, true, 0, 0, 0, 65, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 25, 43, 10, 12, false, 0, 0, 0, 5, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 26, 44, 10, 13, false, 0, 0, 0, 15, 0, 0, gameId, null, null, null),
+        new PlayerGameStat(firstStatId + 27, awayTriggerPlayerId, 10, 14, awayTriggerPlayerStarter, awayTriggerPlayerGoals, awayTriggerPlayerAssists, awayTriggerPlayerOwnGoals, awayTriggerPlayerMinutes, 0, 0, gameId, null, null, null)
+    );
+
+    GameResultWithPlayerStats expected = new GameResultWithPlayerStats(expectedGameResult, expectedHomePlayerGameStats, expectedAwayPlayerGameStats);
+    String expectedJson = objectMapper.writeValueAsString(expected);
+
     TestUtils.compareJson(expectedJson, actualJson);
   }
 
@@ -820,8 +1153,10 @@ class FootballIntegrationTest {
   // 例外種別がこれのみ異なる
   @CsvSource({
       "2020-08-01, 99, 1,  2,  1, 1, 1, 0,  true, 29,  2, 1, 2, 0,  true, 24, 'League not found'",
+      // 存在しない選手はすべてまとめて報告される
+      "2020-08-01, 1 , 1,  2, 998, 1, 1, 0, true, 29, 999, 1, 2, 0, true, 24, 'Players not found: [998, 999]'",
   })
-  @DisplayName("【異常系】試合結果の登録_サービス内で例外処理を発生させるパターン_リーグが存在しない場合")
+  @DisplayName("【異常系】試合結果の登録_サービス内で例外処理を発生させるパターン_リーグまたは選手が存在しない場合")
   void registerGameResultWithExceptionInService_404(
       LocalDate gameDate, int leagueId, int homeClubId, int awayClubId,
       int homeTriggerPlayerId, int homeTriggerPlayerGoals, int homeTriggerPlayerAssists, int homeTriggerPlayerOwnGoals,
@@ -879,6 +1214,93 @@ class FootballIntegrationTest {
 
 
 
+  @ParameterizedTest
+  @CsvSource({
+      "ALL_OR_NOTHING, 400, 0, SKIPPED", // 2試合目に問題があるため何も登録しない
+      "PER_GAME, 200, 1, REGISTERED" // 1試合目のみ登録する
+  })
+  @DisplayName("【正常系】複数試合の試合結果の登録_登録方式に応じて問題のない試合が登録され、試合ごとの登録状況が返されること")
+  void registerGameResults(String mode, int expectedStatus, int expectedRegisteredCount, String expectedFirstStatus) throws Exception {
+    // 1試合目は問題なし、2試合目はホームクラブの出場時間が不足
+    String requestBody = objectMapper.writeValueAsString(List.of(
+        createGameResultWithPlayerStatsForJson(30), createGameResultWithPlayerStatsForJson(29)));
+    int gameResultCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM game_results", Integer.class);
+    int playerGameStatCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player_game_stats", Integer.class);
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/batch")
+            .param("mode", mode)
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().is(expectedStatus))
+        .andExpect(jsonPath("$.registeredCount").value(expectedRegisteredCount))
+        .andExpect(jsonPath("$.games[0].status").value(expectedFirstStatus))
+        .andExpect(jsonPath("$.games[1].status").value("INVALID"))
+        .andExpect(jsonPath("$.games[1].message").value("Home minutes must be between 990 and 1000"));
+
+    assertEquals(gameResultCount + expectedRegisteredCount,
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM game_results", Integer.class));
+    assertEquals(playerGameStatCount + 28 * expectedRegisteredCount,
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player_game_stats", Integer.class));
+  }
+
+  @Test
+  @DisplayName("【正常系】複数試合の試合結果の登録_一括登録で全試合に問題がない場合、すべて登録されること")
+  void registerGameResultsAllOrNothing() throws Exception {
+    String requestBody = objectMapper.writeValueAsString(List.of(
+        createGameResultWithPlayerStatsForJson(30), createGameResultWithPlayerStatsForJson(30)));
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/batch")
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.mode").value("ALL_OR_NOTHING"))
+        .andExpect(jsonPath("$.registeredCount").value(2))
+        .andExpect(jsonPath("$.games[0].status").value("REGISTERED"))
+        .andExpect(jsonPath("$.games[1].status").value("REGISTERED"));
+
+    // 2試合分が順位表に反映される
+    assertEquals(2, jdbcTemplate.queryForObject(
+        "SELECT games_played FROM standings WHERE league_id = 4 AND season_id = 202021 AND club_id = 9", Integer.class));
+  }
+
+  // registerGameResultの正常系と同じ3-2の試合（homeTriggerPlayerMinutesが30の場合のみ問題なし）
+  private GameResultWithPlayerStatsForJson createGameResultWithPlayerStatsForJson(int homeTriggerPlayerMinutes) {
+    GameResultForJson gameResultForJson = new GameResultForJson(9, 10, 3, 2, 4, LocalDate.of(2020, 8, 1), 202021);
+    List<PlayerGameStatForJson> homeClubPlayerGameStatsForJson = List.of(
+        new PlayerGameStatForJson(17, true, 1, 2, 0, 90, 0, 0),
+        new PlayerGameStatForJson(18, true, 1, 1, 0, 90, 0, 0),
+        new PlayerGameStatForJson(19, true, 1, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(20, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(21, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(22, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(23, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(24, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(25, true, 0, 0, 0, 80, 0, 0),
+        new PlayerGameStatForJson(26, true, 0, 0, 0, 70, 0, 0),
+        new PlayerGameStatForJson(27, true, 0, 0, 0, 60, 0, 0),
+        new PlayerGameStatForJson(28, false, 0, 0, 0, 10, 0, 0),
+        new PlayerGameStatForJson(29, false, 0, 0, 0, 20, 0, 0),
+        new PlayerGameStatForJson(30, false, 0, 0, 1, homeTriggerPlayerMinutes, 0, 0)
+    );
+    List<PlayerGameStatForJson> awayClubPlayerGameStatsForJson = List.of(
+        new PlayerGameStatForJson(32, true, 1, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(33, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(34, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(35, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(36, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(37, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(38, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(39, true, 0, 0, 0, 90, 0, 0),
+        new PlayerGameStatForJson(40, true, 0, 0, 0, 85, 0, 0),
+        new PlayerGameStatForJson(41, true, 0, 0, 0, 75, 0, 0),
+        new PlayerGameStatForJson(42, true, 0, 0, 0, 65, 0, 0),
+        new PlayerGameStatForJson(43, false, 0, 0, 0, 5, 0, 0),
+        new PlayerGameStatForJson(44, false, 0, 0, 0, 15, 0, 0),
+        new PlayerGameStatForJson(45, false, 0, 0, 0, 25, 0, 0)
+    );
+    return new GameResultWithPlayerStatsForJson(gameResultForJson, homeClubPlayerGameStatsForJson, awayClubPlayerGameStatsForJson);
+  }
+
   @Test
   @DisplayName("【正常系】シーズンが登録できること")
   void registerSeason() throws Exception {
@@ -2,17 +2,28 @@ package football.StatsManagement.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import football.StatsManagement.model.domain.LeaderboardStatistic;
 import football.StatsManagement.model.entity.Country;
 import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.Season;
 import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.response.BatchGameRegistrationResult;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
 import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.service.BatchGameRegistrationService;
+import football.StatsManagement.service.BatchGameRegistrationService.CommitMode;
+import football.StatsManagement.service.BulkStandingService;
 import football.StatsManagement.service.FactoryService;
 import football.StatsManagement.service.FootballService;
 import jakarta.validation.ConstraintViolationException;
@@ -23,6 +34,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -43,6 +55,10 @@ class FootballControllerTest {
   private FootballService footballService;
   @MockBean
   private FactoryService factoryService;
+  @MockBean
+  private BulkStandingService bulkStandingService;
+  @MockBean
+  private BatchGameRegistrationService batchGameRegistrationService;
 
   @Test
   @DisplayName("【正常系】現在シーズンを取得できること")
@@ -209,6 +225,55 @@ class FootballControllerTest {
     verify(footballService, times(1)).getClubs();
   }
 
+  @Test
+  @DisplayName("【正常系】クラブ一覧をページ分割して取得できること_省略時は先頭ページを既定のページサイズで取得すること")
+  void getClubPage() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/page"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).getClubPage(null, 100);
+  }
+
+  @Test
+  @DisplayName("【正常系】トークンとページサイズを指定してクラブ一覧のページを取得できること")
+  void getClubPageWithPageToken() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/page").param("pageToken", "aWQ6Mg").param("pageSize", "20"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).getClubPage("aWQ6Mg", 20);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手一覧・試合結果一覧・選手試合成績一覧をページ分割して取得できること")
+  void getPages() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/page"))
+        .andExpect(status().isOk());
+    mockMvc.perform(MockMvcRequestBuilders.get("/game-results/page").param("pageSize", "1000"))
+        .andExpect(status().isOk());
+    mockMvc.perform(MockMvcRequestBuilders.get("/player-game-stats/page").param("pageToken", "aWQ6Mg"))
+        .andExpect(status().isOk());
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-game-stats/page").param("pageSize", "1"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).getPlayerPage(null, 100);
+    verify(footballService, times(1)).getGameResultPage(null, 1000);
+    verify(footballService, times(1)).getPlayerGameStatPage("aWQ6Mg", 100);
+    verify(footballService, times(1)).getPlayerGameStatPageByPlayer(1, null, 1);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "/clubs/page, 0",
+      "/players/page, 1001",
+      "/game-results/page, 0",
+      "/player-game-stats/page, 1001",
+      "/players/1/player-game-stats/page, 0"
+  })
+  @DisplayName("【異常系】一覧をページ分割して取得する際にページサイズが範囲外の場合、400エラーが返却されること")
+  void getPagesWithInvalidPageSize(String path, int pageSize) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get(path).param("pageSize", String.valueOf(pageSize)))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
   @Test
   @DisplayName("【正常系】リーグIDとシーズンIDに紐づく順位表を取得できること")
   void getStanding() throws Exception {
@@ -216,7 +281,166 @@ class FootballControllerTest {
     int seasonId = 100001;
     mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId))
         .andExpect(status().isOk());
-    verify(factoryService, times(1)).createStanding(leagueId, seasonId);
+    verify(factoryService, times(1)).getStanding(leagueId, seasonId);
+  }
+
+  @Test
+  @DisplayName("【正常系】国IDとシーズンIDに紐づく複数リーグの順位表を取得できること")
+  void getStandings() throws Exception {
+    int countryId = 1;
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.get("/standings/" + seasonId).param("countryId", String.valueOf(countryId)))
+        .andExpect(status().isOk());
+    verify(bulkStandingService, times(1)).createStandingTasks(countryId, seasonId);
+  }
+
+  @Test
+  @DisplayName("【正常系】国IDを省略した場合_全リーグの順位表を取得できること")
+  void getStandingsWithoutCountryId() throws Exception {
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.get("/standings/" + seasonId))
+        .andExpect(status().isOk());
+    verify(bulkStandingService, times(1)).createStandingTasks(null, seasonId);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 100001",
+      "1, 99999"
+  })
+  @DisplayName("【異常系】複数リーグの順位表を取得する際に国IDが0以下またはシーズンIDが不正な場合、400エラーが返却されること")
+  void getStandingsWithInvalidId(int countryId, int seasonId) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/standings/" + seasonId).param("countryId", String.valueOf(countryId)))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
+  @Test
+  @DisplayName("【正常系】リーグIDとシーズンIDに紐づくシーズンのシミュレーション結果を取得できること")
+  void getSeasonSimulation() throws Exception {
+    int leagueId = 1;
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/season-simulation/" + seasonId)
+            .param("iterations", "500")
+            .param("seed", "42"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).createSeasonSimulation(leagueId, seasonId, 500, 42L);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 100001, 10000",
+      "1, 99999, 10000",
+      "1, 100001, 0",
+      "1, 100001, 1000001"
+  })
+  @DisplayName("【異常系】シーズンのシミュレーションの際にIDまたは試行回数が不正な場合、400エラーが返却されること")
+  void getSeasonSimulationWithInvalidParameter(int leagueId, int seasonId, int iterations) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/season-simulation/" + seasonId)
+            .param("iterations", String.valueOf(iterations)))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の全シーズンの試合成績を取得できること_ストリーム開始前に選手の存在確認が行われること")
+  void getPlayerGameLog() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-game-log"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).getPlayer(1);
+  }
+
+  @Test
+  @DisplayName("【異常系】選手の全シーズンの試合成績を取得する際に選手IDが0以下の場合、400エラーが返却されること")
+  void getPlayerGameLogWithInvalidId() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/0/player-game-log"))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手のフォームを取得できること")
+  void getPlayerForm() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-form/201920"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).createPlayerForm(1, 201920);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手フォームキャッシュの統計情報を取得できること")
+  void getPlayerFormCacheStatistics() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/cache-statistics/player-forms"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).getPlayerFormCacheStatistics();
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の合計成績を取得できること_シーズンの範囲を省略した場合はnullが渡されること")
+  void getPlayerTotalStat() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-total-stat"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).createPlayerTotalStat(1, null, null);
+  }
+
+  @Test
+  @DisplayName("【異常系】選手の合計成績を取得する際にシーズンIDが不正な場合、400エラーが返却されること")
+  void getPlayerTotalStatWithInvalidSeasonId() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/1/player-total-stat").param("fromSeasonId", "2019"))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手ランキングを取得できること_件数を省略した場合は10件となること")
+  void getLeaderboard() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaderboards/201920/yellow-cards"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).getLeaderboard(1, 201920, LeaderboardStatistic.YELLOW_CARDS, 10);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 201920, goals, 10",
+      "1, 0, goals, 10",
+      "1, 201920, saves, 10",
+      "1, 201920, goals, 0",
+      "1, 201920, goals, 101"
+  })
+  @DisplayName("【異常系】選手ランキングを取得する際にバリデーションエラーが発生すること")
+  void getLeaderboardWithInvalidParameter(int leagueId, int seasonId, String statistic, int limit) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/leaderboards/" + seasonId + "/" + statistic)
+            .param("limit", String.valueOf(limit)))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手ランキングキャッシュの統計情報を取得できること")
+  void getLeaderboardCacheStatistics() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/cache-statistics/leaderboards"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).getLeaderboardCacheStatistics();
+  }
+
+  @Test
+  @DisplayName("【正常系】参照データキャッシュの統計情報を取得できること")
+  void getReferenceDataCacheStatistics() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/cache-statistics/reference-data"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).getReferenceDataCacheStatistics();
+  }
+
+  @Test
+  @DisplayName("【正常系】順位表キャッシュの統計情報を取得できること")
+  void getStandingCacheStatistics() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/cache-statistics/standings"))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).getStandingCacheStatistics();
   }
 
   @ParameterizedTest
@@ -232,6 +456,29 @@ class FootballControllerTest {
             result.getResolvedException()));
   }
 
+  @Test
+  @DisplayName("【正常系】リーグIDとシーズンIDに紐づく順位推移を取得できること")
+  void getStandingHistory() throws Exception {
+    int leagueId = 1;
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standing-history/" + seasonId))
+        .andExpect(status().isOk());
+    verify(factoryService, times(1)).createStandingHistory(leagueId, seasonId);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 100001",
+      "1, 0"
+  })
+  @DisplayName("【異常系】順位推移を取得する際にIDが不正な場合、400エラーが返却されること")
+  void getStandingHistoryWithInvalidId(int leagueId, int seasonId) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standing-history/" + seasonId))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
   @Test
   @DisplayName("【正常系】クラブIDに紐づく選手一覧を取得できること")
   void getPlayersByClub() throws Exception {
@@ -880,6 +1127,79 @@ class FootballControllerTest {
         .andExpect(result -> assertMethodArgumentNotValidExceptions(expectedErrorMessages, result));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+      "'', ALL_OR_NOTHING, 1, 200", // 登録方式の省略時は一括
+      "?mode=ALL_OR_NOTHING, ALL_OR_NOTHING, 0, 400", // 一括で登録しなかった場合
+      "?mode=PER_GAME, PER_GAME, 0, 200" // 試合ごとの場合は登録がなくても200
+  })
+  @DisplayName("【正常系】複数試合の試合結果の登録ができ、登録方式と登録件数に応じたステータスが返却されること")
+  void registerGameResults(String query, CommitMode mode, int registeredCount, int expectedStatus) throws Exception {
+    // Arrange
+    String requestBody = """
+        [
+          {
+            "gameResultForJson": {
+              "homeClubId": 1,
+              "awayClubId": 2,
+              "homeScore": 1,
+              "awayScore": 0,
+              "leagueId": 100,
+              "gameDate": "2024-10-01",
+              "seasonId": 202425
+            },
+            "homeClubPlayerGameStatsForJson": [
+              {
+                "playerId": 101,
+                "starter": true,
+                "goals": 1,
+                "assists": 0,
+                "minutes": 90,
+                "yellowCards": 0,
+                "redCards": 0
+              }
+            ],
+            "awayClubPlayerGameStatsForJson": []
+          }
+        ]
+        """;
+    BatchGameRegistrationResult result = new BatchGameRegistrationResult(mode.name(), registeredCount, List.of(
+        registeredCount == 1
+            ? new GameRegistrationStatus(0, Status.REGISTERED, 7, null)
+            : GameRegistrationStatus.rejected(0, Status.INVALID, "Home starter count must be 11")));
+    when(batchGameRegistrationService.register(anyList(), eq(mode))).thenReturn(result);
+
+    // Act & Assert
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/batch" + query)
+        .contentType("application/json")
+        .content(requestBody))
+        .andExpect(status().is(expectedStatus))
+        .andExpect(jsonPath("$.registeredCount").value(registeredCount))
+        .andExpect(jsonPath("$.games[0].status").value(result.games().getFirst().status().name()));
+    verify(batchGameRegistrationService, times(1)).register(anyList(), eq(mode));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "[]", // 空の一覧
+      """
+      [{"gameResultForJson": {"homeClubId": 0, "awayClubId": 2, "homeScore": 0, "awayScore": 0,
+        "leagueId": 100, "gameDate": "2024-10-01", "seasonId": 202425},
+        "homeClubPlayerGameStatsForJson": [], "awayClubPlayerGameStatsForJson": []}]
+      """ // homeClubIdが0の試合を含む
+  })
+  @DisplayName("【異常系】複数試合の試合結果の登録の際に一覧が空または不正な試合を含む場合、400エラーが返却されること")
+  void registerGameResultsWithInvalidRequest(String requestBody) throws Exception {
+    // Act & Assert
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/batch")
+        .contentType("application/json")
+        .content(requestBody))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            Objects.requireNonNull(result.getResolvedException())));
+    verify(batchGameRegistrationService, never()).register(anyList(), any(CommitMode.class));
+  }
+
   @Test
   @DisplayName("【正常系】シーズンの登録ができること")
   void registerSeason() throws Exception {
@@ -924,6 +1244,45 @@ class FootballControllerTest {
         .andExpect(result -> assertMethodArgumentNotValidExceptions(expectedErrorMessages, result));
   }
 
+  @Test
+  @DisplayName("【正常系】リーグ規定の登録ができること")
+  void registerLeagueRegulations() throws Exception {
+    String requestBody = """
+        {
+          "leagueId": 1,
+          "comparisonItemIds": [1, 4, 5]
+        }
+        """;
+    mockMvc.perform(MockMvcRequestBuilders.post("/league-regulations")
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).registerLeagueRegulations(1, List.of(1, 4, 5));
+  }
+
+  @Test
+  @DisplayName("【異常系】リーグ規定の登録の際にバリデーションエラーが発生すること")
+  void registerLeagueRegulationsWithInvalidRequest() throws Exception {
+    // Arrange
+    String requestBody = """
+        {
+          "leagueId": 0,
+          "comparisonItemIds": [1]
+        }
+        """;
+
+    Map<String, String> expectedErrorMessages = Map.of(
+        "leagueId", "must be greater than 0"
+    );
+
+    // Act & Assert
+    mockMvc.perform(MockMvcRequestBuilders.post("/league-regulations")
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertMethodArgumentNotValidExceptions(expectedErrorMessages, result));
+  }
+
   @Test
   @DisplayName("【正常系】選手の更新ができること")
   void patchPlayer() throws Exception {
@@ -1111,6 +1470,46 @@ class FootballControllerTest {
             result.getResolvedException()));
   }
 
+  @Test
+  @DisplayName("【正常系】順位表の集計済み成績を再構築できること")
+  void rebuildStandings() throws Exception {
+    int leagueId = 1;
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.post("/leagues/" + leagueId + "/standings-rebuild/" + seasonId))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).rebuildStandings(leagueId, seasonId);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 100001",
+      "1, 0"
+  })
+  @DisplayName("【異常系】順位表の集計済み成績を再構築する際にパスバリアブルのバリデーションエラーが発生すること")
+  void rebuildStandingsWithInvalidPathVariable(int leagueId, int seasonId) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/leagues/" + leagueId + "/standings-rebuild/" + seasonId))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertInstanceOf(ConstraintViolationException.class,
+            result.getResolvedException()));
+  }
+
+
+  @Test
+  @DisplayName("【正常系】全リーグ・全シーズンの順位表の集計済み成績を再構築できること")
+  void rebuildAllStandings() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/standings-rebuild"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).rebuildAllStandings();
+  }
+
+
+  @Test
+  @DisplayName("【正常系】選手のシーズン合計成績を再構築できること")
+  void rebuildPlayerSeasonTotals() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/player-season-totals-rebuild"))
+        .andExpect(status().isOk());
+    verify(footballService, times(1)).rebuildPlayerSeasonTotals();
+  }
 
   // 複数のフィールドのバリデーションエラーを検証するためのヘルパーメソッド
   private void assertMethodArgumentNotValidExceptions(
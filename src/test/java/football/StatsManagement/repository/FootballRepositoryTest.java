@@ -8,22 +8,35 @@ import static org.mockito.Mockito.when;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.ComparisonItem;
 import football.StatsManagement.model.entity.Country;
+import football.StatsManagement.model.entity.GameImportCheckpoint;
 import football.StatsManagement.model.entity.GameResult;
 import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerGameStatWithGame;
+import football.StatsManagement.model.entity.PlayerGameStatWithSeason;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 
 
 @MybatisTest
+// application.propertiesのMySQL互換モードのH2データベースを利用する
+@AutoConfigureTestDatabase(replace = Replace.NONE)
 class FootballRepositoryTest {
 
   @Autowired
@@ -110,6 +123,32 @@ class FootballRepositoryTest {
     assertEquals(expectedCount, actualCount);
   }
 
+  @Test
+  @DisplayName("選手試合成績を一括で挿入できること_挿入した件数分増え、採番されたIDが各選手試合成績に設定されること")
+  void insertPlayerGameStats() {
+    // Arrange
+    List<PlayerGameStat> playerGameStats = List.of(
+        new PlayerGameStat(0, 1, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(0, 2, 1, 2, false, 0, 1, 0, 30, 1, 0, 1, null, null, null),
+        new PlayerGameStat(0, 3, 2, 1, true, 0, 0, 0, 90, 0, 0, 1, null, null, null)
+    );
+    int expectedCount = sut.selectPlayerGameStats().size() + playerGameStats.size();
+
+    // Act
+    sut.insertPlayerGameStats(playerGameStats);
+    int actualCount = sut.selectPlayerGameStats().size();
+
+    // Assert
+    assertEquals(expectedCount, actualCount);
+    for (PlayerGameStat playerGameStat : playerGameStats) {
+      assertThat(playerGameStat.getId()).isPositive();
+      PlayerGameStat inserted = sut.selectPlayerGameStat(playerGameStat.getId()).orElseThrow();
+      assertEquals(playerGameStat.getPlayerId(), inserted.getPlayerId());
+      assertEquals(playerGameStat.getMinutes(), inserted.getMinutes());
+    }
+    assertThat(playerGameStats).extracting(PlayerGameStat::getId).doesNotHaveDuplicates();
+  }
+
   @Test
   @DisplayName("試合結果を挿入できること_挿入前後で件数が1件増えていること_winnerClubIdがintの場合")
   void insertGameResultWhenWinnerClubIdInt() {
@@ -150,6 +189,60 @@ class FootballRepositoryTest {
     assertEquals(expectedCount, actualCount);
   }
 
+  @Test
+  @DisplayName("試合結果を一括で挿入できること_挿入した件数分増え、採番されたIDが各試合結果に設定されること")
+  void insertGameResults() {
+    // Arrange
+    List<GameResult> gameResults = List.of(
+        new GameResult(0, 1, 2, 2, 1, 1, 1, LocalDate.of(2020, 9, 1), 202021),
+        new GameResult(0, 3, 4, 0, 0, null, 1, LocalDate.of(2020, 9, 1), 202021)
+    );
+    int expectedCount = sut.selectGameResults().size() + gameResults.size();
+
+    // Act
+    sut.insertGameResults(gameResults);
+    int actualCount = sut.selectGameResults().size();
+
+    // Assert
+    assertEquals(expectedCount, actualCount);
+    for (GameResult gameResult : gameResults) {
+      assertThat(gameResult.getId()).isPositive();
+      assertEquals(gameResult, sut.selectGameResult(gameResult.getId()).orElseThrow());
+    }
+    assertThat(gameResults).extracting(GameResult::getId).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("過去シーズンの取込の進捗を登録・更新できること_未登録の場合は空であること")
+  void upsertGameImportCheckpoint() {
+    // Arrange
+    String importKey = "/data/import/games.ndjson";
+    String contentHash = "a".repeat(64);
+    assertEquals(Optional.empty(), sut.selectGameImportCheckpoint(importKey));
+
+    // Act
+    sut.upsertGameImportCheckpoint(importKey, contentHash, 500);
+    sut.upsertGameImportCheckpoint(importKey, contentHash, 1000);
+
+    // Assert
+    assertEquals(Optional.of(new GameImportCheckpoint(importKey, contentHash, 1000)), sut.selectGameImportCheckpoint(importKey));
+  }
+
+  @Test
+  @DisplayName("過去シーズンの取込の進捗を登録・更新できること_ファイルの内容のハッシュ値が異なる場合は新しいハッシュ値で置き換えられること")
+  void upsertGameImportCheckpointWhenContentChanged() {
+    // Arrange
+    String importKey = "/data/import/games.ndjson";
+    String newContentHash = "b".repeat(64);
+    sut.upsertGameImportCheckpoint(importKey, "a".repeat(64), 1000);
+
+    // Act
+    sut.upsertGameImportCheckpoint(importKey, newContentHash, 200);
+
+    // Assert
+    assertEquals(Optional.of(new GameImportCheckpoint(importKey, newContentHash, 200)), sut.selectGameImportCheckpoint(importKey));
+  }
+
   @Test
   @DisplayName("シーズンを挿入できること_挿入前後で件数が1件増えていること")
   void insertSeason() {
@@ -197,6 +290,122 @@ class FootballRepositoryTest {
     assertEquals(expectedCount, actualCount);
   }
 
+  @Test
+  @DisplayName("集計済み成績を一括挿入できること_行がない場合は新規に挿入されること")
+  void upsertStandingsWhenNotExists() {
+    // Arrange
+    StandingRecord expected = new StandingRecord(3, 201920, 5, 1, 1, 0, 0, 2, 0, 3);
+
+    // Act
+    sut.upsertStandings(List.of(expected));
+    List<StandingRecord> actual = sut.selectStandingsByLeagueAndSeason(3, 201920);
+
+    // Assert
+    assertThat(actual).containsExactly(expected);
+  }
+
+  @Test
+  @DisplayName("集計済み成績を一括挿入できること_行がある場合は各項目に加算されること")
+  void upsertStandingsWhenExists() {
+    // Arrange
+    // 既存行: (1, 201920, 1, 2, 1, 1, 0, 4, 3, 4)
+    StandingRecord standingRecord = new StandingRecord(1, 201920, 1, 1, 0, 0, 1, 1, 2, 0);
+    StandingRecord expected = new StandingRecord(1, 201920, 1, 3, 1, 1, 1, 5, 5, 4);
+
+    // Act
+    sut.upsertStandings(List.of(standingRecord));
+    List<StandingRecord> actual = sut.selectStandingsByLeagueAndSeason(1, 201920);
+
+    // Assert
+    assertThat(actual).contains(expected);
+  }
+
+  @Test
+  @DisplayName("集計済み成績を一括挿入できること_既存の行と新規の行が混在する場合、既存の行は加算され新規の行は挿入されること")
+  void upsertStandingsWithExistingAndNewRows() {
+    // Arrange
+    // 既存行: (1, 201920, 1, 2, 1, 1, 0, 4, 3, 4)
+    StandingRecord newRecord = new StandingRecord(3, 201920, 5, 1, 1, 0, 0, 2, 0, 3);
+    List<StandingRecord> standingRecords = List.of(new StandingRecord(1, 201920, 1, 1, 0, 0, 1, 1, 2, 0), newRecord);
+
+    // Act
+    sut.upsertStandings(standingRecords);
+
+    // Assert
+    assertThat(sut.selectStandingsByLeagueAndSeason(1, 201920)).contains(new StandingRecord(1, 201920, 1, 3, 1, 1, 1, 5, 5, 4));
+    assertThat(sut.selectStandingsByLeagueAndSeason(3, 201920)).containsExactly(newRecord);
+  }
+
+  @Test
+  @DisplayName("選手のシーズン合計成績を一括挿入できること_行がない場合は新規に挿入されること")
+  void upsertPlayerSeasonTotalsWhenNotExists() {
+    // Arrange
+    PlayerSeasonTotal playerSeasonTotal = new PlayerSeasonTotal(9, 201920, 5, 1, 1, 1, 0, 90, 0, 0, null, null, null);
+    PlayerSeasonTotal expected = new PlayerSeasonTotal(9, 201920, 5, 1, 1, 1, 0, 90, 0, 0, "PlayerBAAA", "ClubBAA", "2019-20");
+
+    // Act
+    sut.upsertPlayerSeasonTotals(List.of(playerSeasonTotal));
+    Optional<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotal(9, 201920, 5);
+
+    // Assert
+    assertThat(actual).contains(expected);
+  }
+
+  @Test
+  @DisplayName("選手のシーズン合計成績を一括挿入できること_行がある場合は各項目に加算されること")
+  void upsertPlayerSeasonTotalsWhenExists() {
+    // Arrange
+    // 既存行: (1, 201920, 1, 2, 2, 1, 0, 180, 0, 0)
+    PlayerSeasonTotal playerSeasonTotal = new PlayerSeasonTotal(1, 201920, 1, 1, 0, 1, 1, 30, 1, 0, null, null, null);
+    PlayerSeasonTotal expected = new PlayerSeasonTotal(1, 201920, 1, 3, 2, 2, 1, 210, 1, 0, "PlayerAAAA", "ClubAAA", "2019-20");
+
+    // Act
+    sut.upsertPlayerSeasonTotals(List.of(playerSeasonTotal));
+    Optional<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotal(1, 201920, 1);
+
+    // Assert
+    assertThat(actual).contains(expected);
+  }
+
+  @Test
+  @DisplayName("選手のシーズン合計成績を一括挿入できること_既存の行と新規の行が混在する場合、既存の行は加算され新規の行は挿入されること")
+  void upsertPlayerSeasonTotalsWithExistingAndNewRows() {
+    // Arrange
+    // 既存行: (1, 201920, 1, 2, 2, 1, 0, 180, 0, 0)
+    List<PlayerSeasonTotal> playerSeasonTotals = List.of(
+        new PlayerSeasonTotal(1, 201920, 1, 1, 0, 1, 1, 30, 1, 0, null, null, null),
+        new PlayerSeasonTotal(9, 201920, 5, 1, 1, 1, 0, 90, 0, 0, null, null, null),
+        new PlayerSeasonTotal(10, 201920, 5, 1, 0, 0, 2, 45, 0, 1, null, null, null));
+
+    // Act
+    sut.upsertPlayerSeasonTotals(playerSeasonTotals);
+
+    // Assert
+    assertThat(sut.selectPlayerSeasonTotal(1, 201920, 1))
+        .contains(new PlayerSeasonTotal(1, 201920, 1, 3, 2, 2, 1, 210, 1, 0, "PlayerAAAA", "ClubAAA", "2019-20"));
+    assertThat(sut.selectPlayerSeasonTotal(9, 201920, 5).map(PlayerSeasonTotal::getGoals)).contains(1);
+    assertThat(sut.selectPlayerSeasonTotal(10, 201920, 5).map(PlayerSeasonTotal::getAssists)).contains(2);
+  }
+
+  @Test
+  @DisplayName("選手のシーズン合計成績を一括挿入できること_同じ選手・シーズン・クラブで繰り返し挿入した場合は全て加算されること")
+  void upsertPlayerSeasonTotalsRepeatedly() {
+    // Arrange
+    PlayerSeasonTotal firstGame = new PlayerSeasonTotal(9, 201920, 5, 1, 1, 1, 0, 90, 0, 0, null, null, null);
+    PlayerSeasonTotal secondGame = new PlayerSeasonTotal(9, 201920, 5, 1, 0, 2, 1, 45, 1, 0, null, null, null);
+    PlayerSeasonTotal thirdGame = new PlayerSeasonTotal(9, 201920, 5, 0, 0, 0, 0, 0, 0, 1, null, null, null);
+    PlayerSeasonTotal expected = new PlayerSeasonTotal(9, 201920, 5, 2, 1, 3, 1, 135, 1, 1, "PlayerBAAA", "ClubBAA", "2019-20");
+
+    // Act
+    sut.upsertPlayerSeasonTotals(List.of(firstGame));
+    sut.upsertPlayerSeasonTotals(List.of(secondGame));
+    sut.upsertPlayerSeasonTotals(List.of(thirdGame));
+    Optional<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotal(9, 201920, 5);
+
+    // Assert
+    assertThat(actual).contains(expected);
+  }
+
   @Test
   @DisplayName("IDを指定して国を検索できること_情報が適切であること")
   void selectCountry() {
@@ -261,6 +470,39 @@ class FootballRepositoryTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  @DisplayName("IDの一覧を指定して選手をまとめて検索できること_存在しないIDは含まれないこと")
+  void selectPlayersByIds() {
+    // Act
+    Map<Integer, Player> actual = sut.selectPlayersByIds(List.of(1, 2, 999));
+
+    // Assert
+    assertThat(actual).containsOnlyKeys(1, 2);
+    assertEquals(new Player(1, 1, "PlayerAAAA", 1), actual.get(1));
+  }
+
+  @Test
+  @DisplayName("IDの一覧を指定してリーグをまとめて検索できること_存在しないIDは含まれないこと")
+  void selectLeaguesByIds() {
+    // Act
+    Map<Integer, League> actual = sut.selectLeaguesByIds(List.of(1, 2, 999));
+
+    // Assert
+    assertThat(actual).containsOnlyKeys(1, 2);
+    assertEquals(new League(1, 1, "LeagueAA"), actual.get(1));
+  }
+
+  @Test
+  @DisplayName("IDの一覧を指定してクラブをまとめて検索できること_存在しないIDは含まれないこと")
+  void selectClubsByIds() {
+    // Act
+    Map<Integer, Club> actual = sut.selectClubsByIds(List.of(1, 3, 999));
+
+    // Assert
+    assertThat(actual).containsOnlyKeys(1, 3);
+    assertEquals(new Club(1, 1, "ClubAAA"), actual.get(1));
+  }
+
   @Test
   @DisplayName("IDを指定して選手試合成績を検索できること_情報が適切であること")
   void selectPlayerGameStat() {
@@ -317,6 +559,45 @@ class FootballRepositoryTest {
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  @DisplayName("シーズンIDとリーグIDに紐づく試合結果を両クラブ名と共に試合日順に取得できること")
+  void selectGameResultsWithClubNamesByLeagueAndSeason() {
+    int seasonId = 201920;
+    int leagueId = 1;
+
+    // Arrange
+    List<GameResult> expected = List.of(
+        new GameResult(1, 1, 2, 2, 1, 1   , leagueId, LocalDate.of(2019, 8, 1), seasonId, "ClubAAA", "ClubAAB"),
+        new GameResult(3, 2, 1, 2, 2, null, leagueId, LocalDate.of(2019, 8, 2), seasonId, "ClubAAB", "ClubAAA")
+    );
+
+    // Act
+    List<GameResult> actual = sut.selectGameResultsWithClubNamesByLeagueAndSeason(seasonId, leagueId);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("シーズンIDに紐づく全リーグの試合結果を取得できること")
+  void selectGameResultsBySeason() {
+    int seasonId = 201920;
+
+    // Arrange
+    List<GameResult> expected = List.of(
+        new GameResult(1, 1, 2, 2, 1, 1   , 1, LocalDate.of(2019, 8, 1), seasonId),
+        new GameResult(2, 3, 4, 1, 2, 4   , 2, LocalDate.of(2019, 8, 1), seasonId),
+        new GameResult(3, 2, 1, 2, 2, null, 1, LocalDate.of(2019, 8, 2), seasonId)
+    );
+
+    // Act
+    List<GameResult> actual = sut.selectGameResultsBySeason(seasonId);
+
+    // Assert
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @Test
   @DisplayName("リーグとシーズンを指定して試合日一覧を検索できること_件数と情報が適切であること")
   void selectGameDatesByLeagueAndSeason() {
@@ -373,6 +654,197 @@ class FootballRepositoryTest {
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  @DisplayName("選手IDとシーズンIDを指定して試合結果を含む選手試合成績を検索できること_情報と順番が適切であること")
+  void selectPlayerGameStatsWithGameByPlayerAndSeason() {
+    int playerId = 1;
+    int seasonId = 201920;
+
+    // Arrange
+    List<PlayerGameStatWithGame> expected = List.of(
+        new PlayerGameStatWithGame(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1,
+            201920, LocalDate.of(2019, 8, 1), 1, 2, 2, 1, 1, "ClubAAA", "ClubAAB"),
+        new PlayerGameStatWithGame(9, playerId, 1, 1, true, 0, 0, 0, 90, 0, 0, 3,
+            201920, LocalDate.of(2019, 8, 2), 2, 1, 2, 2, null, "ClubAAB", "ClubAAA")
+    );
+
+    // Act
+    List<PlayerGameStatWithGame> actual = sut.selectPlayerGameStatsWithGameByPlayerAndSeason(playerId, seasonId);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("IDを指定してそれより後のクラブをID順に指定した件数まで検索できること")
+  void selectClubsAfter() {
+    // Act
+    List<Club> actual = sut.selectClubsAfter(2, 3);
+
+    // Assert
+    assertThat(actual).extracting(Club::getId).containsExactly(3, 4, 5);
+  }
+
+  @Test
+  @DisplayName("IDを指定してそれより後の選手をID順に指定した件数まで検索できること_最後のページでは件数未満になること")
+  void selectPlayersAfter() {
+    // Arrange
+    // 登録済みの選手のうち、最後の2人の直前の選手IDを指定する
+    List<Integer> playerIds = sut.selectPlayers().stream().map(Player::getId).sorted().toList();
+    int afterId = playerIds.get(playerIds.size() - 3);
+
+    // Act
+    List<Player> actual = sut.selectPlayersAfter(afterId, 5);
+
+    // Assert
+    assertThat(actual).extracting(Player::getId).containsExactlyElementsOf(playerIds.subList(playerIds.size() - 2, playerIds.size()));
+  }
+
+  @Test
+  @DisplayName("IDを指定してそれより後の試合結果をID順に指定した件数まで検索できること")
+  void selectGameResultsAfter() {
+    // Act
+    List<GameResult> actual = sut.selectGameResultsAfter(0, 2);
+
+    // Assert
+    assertThat(actual).extracting(GameResult::getId).containsExactly(1, 2);
+  }
+
+  @Test
+  @DisplayName("IDを指定してそれより後の試合成績をID順に指定した件数まで検索できること")
+  void selectPlayerGameStatsAfter() {
+    // Act
+    List<PlayerGameStat> actual = sut.selectPlayerGameStatsAfter(22, 5);
+
+    // Assert
+    assertThat(actual).extracting(PlayerGameStat::getId).containsExactly(23, 24);
+  }
+
+  @Test
+  @DisplayName("選手IDとIDを指定してそれより後の選手の試合成績をID順に指定した件数まで検索できること")
+  void selectPlayerGameStatsByPlayerAfter() {
+    // Act
+    List<PlayerGameStat> actual = sut.selectPlayerGameStatsByPlayerAfter(1, 1, 1);
+
+    // Assert
+    assertThat(actual).extracting(PlayerGameStat::getId).containsExactly(9);
+  }
+
+  @Test
+  @DisplayName("選手IDを指定して全シーズンの試合結果を含む試合成績をCursorで検索できること_試合日順であること")
+  void selectPlayerGameStatsWithGameByPlayer() throws IOException {
+    int playerId = 1;
+
+    // Arrange
+    List<PlayerGameStatWithGame> expected = List.of(
+        new PlayerGameStatWithGame(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1,
+            201920, LocalDate.of(2019, 8, 1), 1, 2, 2, 1, 1, "ClubAAA", "ClubAAB"),
+        new PlayerGameStatWithGame(9, playerId, 1, 1, true, 0, 0, 0, 90, 0, 0, 3,
+            201920, LocalDate.of(2019, 8, 2), 2, 1, 2, 2, null, "ClubAAB", "ClubAAA"),
+        new PlayerGameStatWithGame(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4,
+            202021, LocalDate.of(2020, 8, 3), 1, 2, 1, 2, 2, "ClubAAA", "ClubAAB")
+    );
+
+    // Act
+    List<PlayerGameStatWithGame> actual = new ArrayList<>();
+    try (Cursor<PlayerGameStatWithGame> cursor = sut.selectPlayerGameStatsWithGameByPlayer(playerId)) {
+      cursor.forEach(actual::add);
+    }
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("選手IDを指定して全シーズンの試合結果を含む試合成績を検索できること_シーズン・試合日順であること")
+  void selectPlayerGameStatsWithGameByPlayerOrderBySeason() {
+    int playerId = 1;
+
+    // Arrange
+    List<PlayerGameStatWithGame> expected = List.of(
+        new PlayerGameStatWithGame(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1,
+            201920, LocalDate.of(2019, 8, 1), 1, 2, 2, 1, 1, "ClubAAA", "ClubAAB"),
+        new PlayerGameStatWithGame(9, playerId, 1, 1, true, 0, 0, 0, 90, 0, 0, 3,
+            201920, LocalDate.of(2019, 8, 2), 2, 1, 2, 2, null, "ClubAAB", "ClubAAA"),
+        new PlayerGameStatWithGame(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4,
+            202021, LocalDate.of(2020, 8, 3), 1, 2, 1, 2, 2, "ClubAAA", "ClubAAB")
+    );
+
+    // Act
+    List<PlayerGameStatWithGame> actual = sut.selectPlayerGameStatsWithGameByPlayerOrderBySeason(playerId);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("選手IDを指定してシーズン・クラブごとの合計成績を検索できること_集計結果と順番が適切であること")
+  void selectPlayerSeasonTotalsByPlayer() {
+    int playerId = 1;
+
+    // Arrange
+    // 201920: game_id 1, 3（いずれも先発）、202021: game_id 4（途中出場）
+    List<PlayerSeasonTotal> expected = List.of(
+        new PlayerSeasonTotal(playerId, 201920, 1, 2, 2, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20"),
+        new PlayerSeasonTotal(playerId, 202021, 1, 1, 0, 0, 0, 90, 0, 0, "PlayerAAAA", "ClubAAA", "2020-21")
+    );
+
+    // Act
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotalsByPlayer(playerId);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDを指定して所属選手全員の合計成績を検索できること_集計結果と順番が適切であること")
+  void selectPlayerSeasonTotalsByClub() {
+    int clubId = 1;
+    int seasonId = 201920;
+
+    // Arrange
+    List<PlayerSeasonTotal> expected = List.of(
+        new PlayerSeasonTotal(1, seasonId, clubId, 2, 2, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20"),
+        new PlayerSeasonTotal(2, seasonId, clubId, 2, 1, 0, 1, 180, 0, 0, "PlayerAAAB", "ClubAAA", "2019-20")
+    );
+
+    // Act
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotalsByClub(clubId, seasonId);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDを指定して所属選手全員の合計成績を検索できること_出場のない選手は全項目0で含まれること")
+  void selectPlayerSeasonTotalsByClubWithoutGames() {
+    int clubId = 5;
+    int seasonId = 201920;
+
+    // Arrange
+    List<PlayerSeasonTotal> expected = List.of(
+        new PlayerSeasonTotal(9, seasonId, clubId, 0, 0, 0, 0, 0, 0, 0, "PlayerBAAA", "ClubBAA", "2019-20"),
+        new PlayerSeasonTotal(10, seasonId, clubId, 0, 0, 0, 0, 0, 0, 0, "PlayerBAAB", "ClubBAA", "2019-20")
+    );
+
+    // Act
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotalsByClub(clubId, seasonId);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDを指定して所属選手全員の試合結果を含む選手試合成績を検索できること_件数が適切であること")
+  void selectPlayerGameStatsWithGameByClubAndSeason() {
+    // Act
+    List<PlayerGameStatWithGame> actual = sut.selectPlayerGameStatsWithGameByClubAndSeason(1, 201920);
+
+    // Assert
+    // 選手1, 2がそれぞれgame_id 1, 3に出場
+    assertThat(actual).extracting(PlayerGameStatWithGame::getId).containsExactly(1, 2, 9, 10);
+  }
+
   @Test
   @DisplayName("クラブIDを指定して選手を検索できること_件数と情報と順番が適切であること")
   void selectPlayersByClub() {
@@ -860,6 +1332,146 @@ class FootballRepositoryTest {
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  @DisplayName("リーグとシーズンを指定して集計済み成績一覧を検索できること_件数と情報が適切であること")
+  void selectStandingsByLeagueAndSeason() {
+    int leagueId = 1;
+    int seasonId = 201920;
+
+    // Arrange
+    List<StandingRecord> expected = List.of(
+        new StandingRecord(leagueId, seasonId, 1, 2, 1, 1, 0, 4, 3, 4),
+        new StandingRecord(leagueId, seasonId, 2, 2, 0, 1, 1, 3, 4, 1)
+    );
+
+    // Act
+    List<StandingRecord> actual = sut.selectStandingsByLeagueAndSeason(leagueId, seasonId);
+
+    // Assert
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("シーズンIDに紐づく全リーグの集計済み成績を取得できること")
+  void selectStandingsBySeason() {
+    int seasonId = 201920;
+
+    // Arrange
+    List<StandingRecord> expected = List.of(
+        new StandingRecord(1, seasonId, 1, 2, 1, 1, 0, 4, 3, 4),
+        new StandingRecord(1, seasonId, 2, 2, 0, 1, 1, 3, 4, 1),
+        new StandingRecord(2, seasonId, 3, 1, 0, 0, 1, 1, 2, 0),
+        new StandingRecord(2, seasonId, 4, 1, 1, 0, 0, 2, 1, 3)
+    );
+
+    // Act
+    List<StandingRecord> actual = sut.selectStandingsBySeason(seasonId);
+
+    // Assert
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("リーグとシーズンを指定して試合結果から成績一覧を集計できること_集計済み成績と一致すること")
+  void selectStandingsCalculatedFromGameResults() {
+    int leagueId = 2;
+    int seasonId = 202021;
+
+    // Arrange
+    List<StandingRecord> expected = sut.selectStandingsByLeagueAndSeason(leagueId, seasonId);
+
+    // Act
+    List<StandingRecord> actual = sut.selectStandingsCalculatedFromGameResults(leagueId, seasonId);
+
+    // Assert
+    assertThat(actual.size()).isEqualTo(2);
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("全リーグ・全シーズンの試合結果から成績一覧を集計できること_集計済み成績と一致すること")
+  void selectStandingsCalculatedFromAllGameResults() {
+    // Arrange
+    List<StandingRecord> expected = sut.selectStandings();
+
+    // Act
+    List<StandingRecord> actual = sut.selectStandingsCalculatedFromAllGameResults();
+
+    // Assert
+    assertThat(actual).isNotEmpty();
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("選手・シーズン・クラブを指定して合計成績を検索できること_出場がない場合は空であること")
+  void selectPlayerSeasonTotalWhenNotExists() {
+    // Act
+    Optional<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotal(9, 201920, 5);
+
+    // Assert
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  @DisplayName("全選手試合成績をシーズンIDとともに1行ずつ取得できること_ID順に全件が渡されること")
+  void selectPlayerGameStatsWithSeason() {
+    // Arrange
+    List<PlayerGameStatWithSeason> actual = new ArrayList<>();
+
+    // Act
+    sut.selectPlayerGameStatsWithSeason(context -> actual.add(context.getResultObject()));
+
+    // Assert
+    assertThat(actual).hasSize(24);
+    assertThat(actual).extracting(PlayerGameStatWithSeason::getId).isSorted();
+    assertThat(actual.getFirst()).usingRecursiveComparison()
+        .isEqualTo(new PlayerGameStatWithSeason(1, 1, 1, 1, 201920, true, 1, 0, 90, 0, 0));
+    assertThat(actual.getLast()).usingRecursiveComparison()
+        .isEqualTo(new PlayerGameStatWithSeason(24, 8, 4, 6, 202021, false, 0, 0, 90, 0, 0));
+  }
+
+  @Test
+  @DisplayName("リーグ・シーズン・成績項目を指定して上位選手の合計成績を検索できること_値が0の選手は含まれないこと")
+  void selectPlayerSeasonTotalsForLeaderboard() {
+    // Arrange
+    List<PlayerSeasonTotal> expected = List.of(
+        new PlayerSeasonTotal(1, 201920, 1, 2, 2, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20")
+    );
+
+    // Act
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotalsForLeaderboard(1, 201920, "goals", 10);
+
+    // Assert
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("リーグ・シーズン・成績項目を指定して上位選手の合計成績を検索できること_同じ値の場合は選手ID順に件数分取得できること")
+  void selectPlayerSeasonTotalsForLeaderboardWithLimit() {
+    // Act
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotalsForLeaderboard(1, 201920, "minutes", 3);
+
+    // Assert
+    // 選手1～4はすべて180分出場で、リーグ2のクラブの選手は含まれない
+    assertThat(actual).extracting(PlayerSeasonTotal::getPlayerId).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("選手試合成績から全選手の合計成績一覧を集計できること_保存済みの合計成績と一致すること")
+  void selectPlayerSeasonTotalsCalculatedFromPlayerGameStats() {
+    // Arrange
+    List<PlayerSeasonTotal> expected = sut.selectPlayerSeasonTotals();
+
+    // Act
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotalsCalculatedFromPlayerGameStats();
+
+    // Assert
+    assertThat(actual.size()).isEqualTo(16);
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @Test
   @DisplayName("選手情報を更新できること_更新後の情報が適切であること")
   void updatePlayer() {
@@ -958,4 +1570,46 @@ class FootballRepositoryTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  @DisplayName("リーグとシーズンを指定して集計済み成績を削除できること_他のリーグ・シーズンの行は残ること")
+  void deleteStandingsByLeagueAndSeason() {
+    // Act
+    sut.deleteStandingsByLeagueAndSeason(1, 201920);
+
+    // Assert
+    assertThat(sut.selectStandingsByLeagueAndSeason(1, 201920)).isEmpty();
+    assertThat(sut.selectStandingsByLeagueAndSeason(1, 202021)).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("全リーグ・全シーズンの集計済み成績を削除できること")
+  void deleteStandings() {
+    // Act
+    sut.deleteStandings();
+
+    // Assert
+    assertThat(sut.selectStandings()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("全選手のシーズン合計成績を削除できること")
+  void deletePlayerSeasonTotals() {
+    // Act
+    sut.deletePlayerSeasonTotals();
+
+    // Assert
+    assertThat(sut.selectPlayerSeasonTotals()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("リーグを指定してリーグ規定を削除できること_他のリーグの規定は残ること")
+  void deleteLeagueRegulationsByLeague() {
+    // Act
+    sut.deleteLeagueRegulationsByLeague(1);
+
+    // Assert
+    assertThat(sut.selectLeagueRegulationsByLeague(1)).isEmpty();
+    assertThat(sut.selectLeagueRegulationsByLeague(2)).isNotEmpty();
+  }
+
 }
@@ -0,0 +1,125 @@
+package football.StatsManagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.response.BatchGameRegistrationResult;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
+import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.service.BatchGameRegistrationService.CommitMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class BatchGameRegistrationServiceTest {
+
+  @Mock
+  private FootballService footballService;
+
+  @Mock
+  private FactoryService factoryService;
+
+  private BatchGameRegistrationService sut;
+
+  private final List<GameResultWithPlayerStatsForJson> gamesForJson = new ArrayList<>();
+  private final List<GameResultWithPlayerStats> games = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    sut = new BatchGameRegistrationService(footballService, factoryService);
+    // 登録処理はモックのため、試合IDは登録済みの値を設定しておく
+    for (int i = 0; i < 3; i++) {
+      GameResultWithPlayerStatsForJson gameForJson = mock(GameResultWithPlayerStatsForJson.class);
+      GameResult gameResult = new GameResult(10 + i, 1 + 2 * i, 2 + 2 * i, 1, 0, 1 + 2 * i, 1, LocalDate.of(2020, 8, 1), 202021);
+      GameResultWithPlayerStats game = new GameResultWithPlayerStats(gameResult, List.of(), List.of());
+      when(factoryService.createGameResultWithPlayerStats(gameForJson)).thenReturn(game);
+      gamesForJson.add(gameForJson);
+      games.add(game);
+    }
+  }
+
+  @Test
+  @DisplayName("【正常系】一括登録_全試合に問題がない場合、1回の確認・登録処理ですべて登録されること")
+  void registerAllOrNothing() throws Exception {
+    // Arrange
+    when(footballService.confirmAndRegisterGameResults(games)).thenReturn(List.of(
+        new GameRegistrationStatus(0, Status.REGISTERED, 10, null),
+        new GameRegistrationStatus(1, Status.REGISTERED, 11, null),
+        new GameRegistrationStatus(2, Status.REGISTERED, 12, null)));
+
+    // Act
+    BatchGameRegistrationResult actual = sut.register(gamesForJson, CommitMode.ALL_OR_NOTHING);
+
+    // Assert
+    assertEquals(new BatchGameRegistrationResult("ALL_OR_NOTHING", 3, List.of(
+        new GameRegistrationStatus(0, Status.REGISTERED, 10, null),
+        new GameRegistrationStatus(1, Status.REGISTERED, 11, null),
+        new GameRegistrationStatus(2, Status.REGISTERED, 12, null))), actual);
+    verify(footballService, times(1)).confirmAndRegisterGameResults(anyList());
+  }
+
+  @Test
+  @DisplayName("【異常系】一括登録_問題のある試合がある場合、問題のない試合もスキップされ、何も登録されないこと")
+  void registerAllOrNothingWhenRejected() throws Exception {
+    // Arrange
+    when(footballService.confirmAndRegisterGameResults(games)).thenReturn(List.of(
+        GameRegistrationStatus.validated(0),
+        GameRegistrationStatus.rejected(1, Status.INVALID, "Home starter count must be 11"),
+        GameRegistrationStatus.rejected(2, Status.NOT_FOUND, "Players not found: [998]")));
+
+    // Act
+    BatchGameRegistrationResult actual = sut.register(gamesForJson, CommitMode.ALL_OR_NOTHING);
+
+    // Assert
+    assertEquals(new BatchGameRegistrationResult("ALL_OR_NOTHING", 0, List.of(
+        GameRegistrationStatus.rejected(0, Status.SKIPPED, "Other games in the batch were rejected"),
+        GameRegistrationStatus.rejected(1, Status.INVALID, "Home starter count must be 11"),
+        GameRegistrationStatus.rejected(2, Status.NOT_FOUND, "Players not found: [998]"))), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】試合ごとの登録_全試合をまとめて1度だけ確認し、問題のない試合が1試合ずつ登録され、問題のある試合や登録に失敗した試合は他の試合に影響しないこと")
+  void registerPerGame() throws Exception {
+    // Arrange
+    // 2試合目は確認で問題があり、3試合目は登録で失敗する
+    when(footballService.confirmGameResultsAndPlayerGameStats(games)).thenReturn(List.of(
+        GameRegistrationStatus.validated(0),
+        GameRegistrationStatus.rejected(1, Status.INVALID, "Home starter count must be 11"),
+        GameRegistrationStatus.validated(2)));
+    lenient().doThrow(new DataIntegrityViolationException("Duplicate entry"))
+        .when(footballService).registerConfirmedGameResults(List.of(games.get(2)));
+
+    // Act
+    BatchGameRegistrationResult actual = sut.register(gamesForJson, CommitMode.PER_GAME);
+
+    // Assert
+    assertEquals(new BatchGameRegistrationResult("PER_GAME", 1, List.of(
+        new GameRegistrationStatus(0, Status.REGISTERED, 10, null),
+        GameRegistrationStatus.rejected(1, Status.INVALID, "Home starter count must be 11"),
+        GameRegistrationStatus.rejected(2, Status.FAILED, "Failed to register game result"))), actual);
+    // 現在シーズン・リーグ・クラブ・選手の取得を伴う確認は試合ごとに行わない
+    verify(footballService, times(1)).confirmGameResultsAndPlayerGameStats(anyList());
+    verify(footballService, never()).confirmAndRegisterGameResults(anyList());
+    verify(footballService, times(1)).registerConfirmedGameResults(List.of(games.get(0)));
+    verify(footballService, never()).registerConfirmedGameResults(List.of(games.get(1)));
+  }
+
+}
@@ -0,0 +1,174 @@
+package football.StatsManagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.Country;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.model.entity.League;
+import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
+import football.StatsManagement.service.comparator.CompiledRanking;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BulkStandingServiceTest {
+
+  @Mock
+  private FootballService footballService;
+
+  @Mock
+  private FactoryService factoryService;
+
+  private ExecutorService executor;
+
+  private BulkStandingService sut;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    sut = new BulkStandingService(footballService, factoryService, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("【正常系】順位表作成処理の準備_シーズンのデータを1度だけ取得し、リーグごとに振り分けること")
+  void createStandingTasks() throws Exception {
+    // Arrange
+    int seasonId = 201920;
+    Season season = new Season(seasonId, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false);
+    when(footballService.getSeason(seasonId)).thenReturn(season);
+    League league1 = new League(1, 1, "LeagueAA");
+    League league2 = new League(2, 1, "LeagueAB");
+    when(footballService.getLeagues()).thenReturn(List.of(league1, league2));
+    Club club1 = new Club(1, 1, "ClubAAA");
+    Club club3 = new Club(3, 2, "ClubABA");
+    when(footballService.getClubs()).thenReturn(List.of(club1, club3));
+    StandingRecord standingRecord1 = new StandingRecord(1, seasonId, 1, 1, 1, 0, 0, 2, 1, 3);
+    when(footballService.getStandingRecordsBySeason(seasonId)).thenReturn(List.of(standingRecord1));
+    GameResult gameResult1 = new GameResult(1, 1, 2, 2, 1, 1, 1, LocalDate.of(2019, 8, 1), seasonId);
+    when(footballService.getGameResultsBySeason(seasonId)).thenReturn(List.of(gameResult1));
+    CompiledRanking compiledRanking1 = new CompiledRanking(List.of(1));
+    CompiledRanking compiledRanking2 = new CompiledRanking(List.of(1, 2));
+    when(factoryService.getCompiledRankings(List.of(1, 2))).thenReturn(Map.of(1, compiledRanking1, 2, compiledRanking2));
+
+    // Act
+    List<Callable<Standing>> actual = sut.createStandingTasks(null, seasonId);
+    for (Callable<Standing> task : actual) {
+      task.call();
+    }
+
+    // Assert
+    assertEquals(2, actual.size());
+    verify(factoryService, times(1)).createStanding(1, seasonId, List.of(club1), List.of(standingRecord1), List.of(gameResult1), "LeagueAA", "2019-20", compiledRanking1);
+    verify(factoryService, times(1)).createStanding(2, seasonId, List.of(club3), List.of(), List.of(), "LeagueAB", "2019-20", compiledRanking2);
+    // リーグ規定は全リーグ分をまとめて1度だけ取得する
+    verify(factoryService, times(1)).getCompiledRankings(List.of(1, 2));
+    verify(footballService, never()).getCountry(1);
+  }
+
+  @Test
+  @DisplayName("【正常系】順位表作成処理の準備_国IDを指定した場合、その国のリーグのみが対象となること")
+  void createStandingTasksByCountry() throws Exception {
+    // Arrange
+    int seasonId = 201920;
+    when(footballService.getSeason(seasonId)).thenReturn(
+        new Season(seasonId, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false));
+    when(footballService.getCountry(2)).thenReturn(new Country(2, "CountryB"));
+    when(footballService.getLeaguesByCountry(2)).thenReturn(List.of(new League(3, 2, "LeagueBA")));
+
+    // Act
+    List<Callable<Standing>> actual = sut.createStandingTasks(2, seasonId);
+
+    // Assert
+    assertEquals(1, actual.size());
+    verify(footballService, never()).getLeagues();
+  }
+
+  @Test
+  @DisplayName("【異常系】順位表作成処理の準備_国が存在しない場合に適切に例外処理されること")
+  void createStandingTasksWhenCountryNotFound() throws Exception {
+    // Arrange
+    when(footballService.getSeason(201920)).thenReturn(
+        new Season(201920, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false));
+    when(footballService.getCountry(99)).thenThrow(new ResourceNotFoundException("Country not found"));
+
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> sut.createStandingTasks(99, 201920));
+    verify(footballService, never()).getGameResultsBySeason(201920);
+  }
+
+  @Test
+  @DisplayName("【正常系】順位表作成処理の実行_作成が終わった順に書き出されること")
+  void runStandingTasksInCompletionOrder() throws IOException {
+    // Arrange
+    Standing standing1 = new Standing(1, 201920, List.of(), "LeagueAA", "2019-20");
+    Standing standing2 = new Standing(2, 201920, List.of(), "LeagueAB", "2019-20");
+    // standing1の作成はstanding2の書き出しが終わるまで完了しない
+    CountDownLatch latch = new CountDownLatch(1);
+    List<Callable<Standing>> tasks = List.of(
+        () -> {
+          latch.await();
+          return standing1;
+        },
+        () -> standing2
+    );
+    List<Standing> written = Collections.synchronizedList(new ArrayList<>());
+
+    // Act
+    sut.runStandingTasks(tasks, standing -> {
+      written.add(standing);
+      latch.countDown();
+    });
+
+    // Assert
+    assertEquals(List.of(standing2, standing1), written);
+  }
+
+  @Test
+  @DisplayName("【異常系】順位表作成処理の実行_書き出しに失敗した場合に例外がそのまま投げられること")
+  void runStandingTasksWhenWriterFails() {
+    // Arrange
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    List<Callable<Standing>> tasks = List.of(
+        () -> {
+          neverReleased.await();
+          return null;
+        },
+        () -> new Standing(2, 201920, List.of(), "LeagueAB", "2019-20")
+    );
+
+    // Act & Assert
+    IOException thrown = assertThrows(IOException.class, () -> sut.runStandingTasks(tasks, standing -> {
+      throw new IOException("Broken pipe");
+    }));
+    assertEquals("Broken pipe", thrown.getMessage());
+  }
+
+}
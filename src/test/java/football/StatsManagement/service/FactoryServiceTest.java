@@ -2,18 +2,31 @@ package football.StatsManagement.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.domain.ClubPosition;
+import football.StatsManagement.model.domain.ClubSimulation;
+import football.StatsManagement.model.domain.DayStanding;
 import football.StatsManagement.model.domain.DayGameResult;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.LeaderboardEntry;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
+import football.StatsManagement.model.domain.PlayerCareerStat;
+import football.StatsManagement.model.domain.PlayerForm;
+import football.StatsManagement.model.domain.PlayerForm.FormWindow;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
 import football.StatsManagement.model.domain.PlayerTotalStat;
 import football.StatsManagement.model.domain.SeasonGameResult;
+import football.StatsManagement.model.domain.SeasonSimulation;
 import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.domain.StandingHistory;
 import football.StatsManagement.exception.ResourceNotFoundException;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.GameResult;
@@ -21,13 +34,23 @@ import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
 import football.StatsManagement.model.json.GameResultForJson;
 import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
 import football.StatsManagement.model.json.PlayerGameStatForJson;
+import football.StatsManagement.service.analytics.PlayerGameStatStore;
+import football.StatsManagement.service.cache.LeaderboardCache;
+import football.StatsManagement.service.cache.PlayerFormCache;
+import football.StatsManagement.service.cache.StandingCache;
+import football.StatsManagement.service.comparator.CompiledRanking;
+import football.StatsManagement.service.comparator.RankingEngine;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,11 +69,13 @@ class FactoryServiceTest {
 
   @BeforeEach
   void setUp() {
-    this.sut = new FactoryService(footballService);
+    this.sut = new FactoryService(footballService, new RankingEngine(), new StandingCache(100, 600),
+        new LeaderboardCache(100, 600), new PlayerGameStatStore(footballService, false),
+        new PlayerFormCache(100, 600));
   }
 
   @Test
-  @DisplayName("【正常系】順位表のためのクラブ情報を作成できること_モックオブジェクトの呼び出しおよび結果の検証")
+  @DisplayName("【正常系】順位表のためのクラブ情報を作成できること_結果の検証")
   void createClubForStanding() {
     int seasonId = 1;
 
@@ -62,47 +87,105 @@ class FactoryServiceTest {
       new GameResult(1, 1, 2, 2, 1, 1, 1, LocalDate.now(), seasonId, "null", "null"),
       new GameResult(2, 3, 1, 1, 1, null, 1, LocalDate.now(), seasonId, "null", "null")
     );
-    when(footballService.getGameResultsByClubAndSeason(seasonId, 1)).thenReturn(gameResults);
 
     ClubForStanding expected = new ClubForStanding(gameResults, club, 2, 1, 1, 0, 4, 3, 2, 1);
 
     // Act
-    ClubForStanding actual = sut.createClubForStanding(seasonId, club);
+    ClubForStanding actual = sut.createClubForStanding(club, gameResults);
 
     // Assert
     assertEquals(expected, actual);
-    verify(footballService, times(1)).getGameResultsByClubAndSeason(1, 1);
   }
 
   @Test
-  @DisplayName("【正常系】選手の通算成績を作成できること_モックオブジェクトの呼び出しの検証")
-  void createPlayerCareerStat() throws ResourceNotFoundException {
-    int playerId = 1;
+  @DisplayName("【正常系】リーグ所属クラブ全ての順位表のためのクラブ情報を作成できること_試合結果が各クラブに振り分けられること")
+  void createClubForStandings() {
+    int seasonId = 1;
 
     // Arrange
-    FactoryService spySut = spy(sut);
+    Club club1 = new Club(1, 1, "Club1");
+    Club club2 = new Club(2, 1, "Club2");
+    Club club3 = new Club(3, 1, "Club3");
+
+    GameResult gameResult1 = new GameResult(1, 1, 2, 2, 1, 1, 1, LocalDate.now(), seasonId, "null", "null");
+    GameResult gameResult2 = new GameResult(2, 3, 1, 1, 1, null, 1, LocalDate.now(), seasonId, "null", "null");
+    List<GameResult> gameResults = List.of(gameResult1, gameResult2);
+
+    List<ClubForStanding> expected = List.of(
+        new ClubForStanding(List.of(gameResult1, gameResult2), club1, 2, 1, 1, 0, 4, 3, 2, 1),
+        new ClubForStanding(List.of(gameResult1), club2, 1, 0, 0, 1, 0, 1, 2, -1),
+        new ClubForStanding(List.of(gameResult2), club3, 1, 0, 1, 0, 1, 1, 1, 0)
+    );
+
+    // Act
+    List<ClubForStanding> actual = sut.createClubForStandings(List.of(club1, club2, club3), gameResults);
 
-    Season season1 = mock(Season.class);
-    when(season1.getId()).thenReturn(1);
-    Season season2 = mock(Season.class);
-    when(season2.getId()).thenReturn(2);
-    when(footballService.getSeasons()).thenReturn(List.of(season1, season2));
+    // Assert
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】集計済み成績から順位表のためのクラブ情報を作成できること_集計済み成績のないクラブは全項目0となること")
+  void createClubForStandingsFromStandingRecords() {
+    int seasonId = 1;
 
-    doReturn(new ArrayList<>()).when(spySut).createPlayerSeasonStats(playerId, 1);
-    doReturn(new ArrayList<>()).when(spySut).createPlayerSeasonStats(playerId, 2);
+    // Arrange
+    Club club1 = new Club(1, 1, "Club1");
+    Club club2 = new Club(2, 1, "Club2");
+    Club club3 = new Club(3, 1, "Club3");
+
+    GameResult gameResult1 = new GameResult(1, 1, 2, 2, 1, 1, 1, LocalDate.now(), seasonId, "null", "null");
+    List<GameResult> gameResults = List.of(gameResult1);
+    List<StandingRecord> standingRecords = List.of(
+        new StandingRecord(1, seasonId, 2, 1, 0, 0, 1, 1, 2, 0),
+        new StandingRecord(1, seasonId, 1, 1, 1, 0, 0, 2, 1, 3)
+    );
 
-    doReturn(mock(PlayerTotalStat.class)).when(spySut).createPlayerTotalStatFromPlayerSeasonStats(any());
+    List<ClubForStanding> expected = List.of(
+        new ClubForStanding(List.of(gameResult1), club1, 1, 1, 0, 0, 3, 2, 1, 1),
+        new ClubForStanding(List.of(gameResult1), club2, 1, 0, 0, 1, 0, 1, 2, -1),
+        new ClubForStanding(List.of(), club3, 0, 0, 0, 0, 0, 0, 0, 0)
+    );
 
     // Act
-    spySut.createPlayerCareerStat(playerId);
+    List<ClubForStanding> actual = sut.createClubForStandings(List.of(club1, club2, club3), standingRecords, gameResults);
 
     // Assert
-    verify(footballService, times(1)).getSeasons();
-    verify(spySut, times(1)).createPlayerSeasonStats(playerId, 1);
-    verify(spySut, times(1)).createPlayerSeasonStats(playerId, 2);
-    verify(spySut, times(1)).createPlayerTotalStatFromPlayerSeasonStats(any());
+    assertEquals(expected, actual);
   }
 
+  @Test
+  @DisplayName("【正常系】選手通算成績を作成できること_集計結果からシーズン成績が作成され、試合成績はシーズンごとに1度だけ取得されること")
+  void createPlayerCareerStat() throws ResourceNotFoundException {
+    int playerId = 1;
+
+    // Arrange
+    // シーズン1は2クラブに所属
+    when(footballService.getPlayerSeasonTotalsByPlayer(playerId)).thenReturn(List.of(
+        new PlayerSeasonTotal(playerId, 1, 1, 2, 1, 1, 0, 120, 0, 0, "Player1", "Club1", "Season1"),
+        new PlayerSeasonTotal(playerId, 1, 2, 1, 1, 0, 1, 90, 1, 0, "Player1", "Club2", "Season1"),
+        new PlayerSeasonTotal(playerId, 2, 2, 1, 0, 0, 0, 30, 0, 0, "Player1", "Club2", "Season2")
+    ));
+    List<PlayerGameStat> playerGameStats1 = List.of(mock(PlayerGameStat.class));
+    List<PlayerGameStat> playerGameStats2 = List.of(mock(PlayerGameStat.class));
+    when(footballService.getPlayerGameStatsByPlayerGroupedBySeason(playerId)).thenReturn(Map.of(1, playerGameStats1, 2, playerGameStats2));
+
+    List<PlayerSeasonStat> playerSeasonStats = List.of(
+        new PlayerSeasonStat(playerId, playerGameStats1, 1, 1, 2, 1, 1, 1, 0, 120, 0, 0, "Player1", "Club1", "Season1"),
+        new PlayerSeasonStat(playerId, playerGameStats1, 1, 2, 1, 1, 0, 0, 1, 90, 1, 0, "Player1", "Club2", "Season1"),
+        new PlayerSeasonStat(playerId, playerGameStats2, 2, 2, 1, 0, 1, 0, 0, 30, 0, 0, "Player1", "Club2", "Season2")
+    );
+    PlayerCareerStat expected = new PlayerCareerStat(playerSeasonStats,
+        new PlayerTotalStat(playerId, 4, 2, 2, 1, 1, 240, 1, 0, "Player1"));
+
+    // Act
+    PlayerCareerStat actual = sut.createPlayerCareerStat(playerId);
+
+    // Assert
+    assertEquals(expected, actual);
+    verify(footballService, times(1)).getPlayerGameStatsByPlayerGroupedBySeason(playerId);
+    verify(footballService, never()).getPlayerGameStatsByPlayerAndSeason(anyInt(), anyInt());
+  }
 
   @Test
   @DisplayName("【正常系】選手シーズン成績を作成できること_クラブが1つの場合_モックオブジェクトの呼び出しおよび結果の検証")
@@ -118,6 +201,8 @@ class FactoryServiceTest {
         new PlayerGameStat(3, playerId, 99, 1, true, 1, 1, 1, 90, 1, 1, 3, null, "null", "null")
     );
     when(footballService.getPlayerGameStatsByPlayerAndSeason(playerId, seasonId)).thenReturn(playerGameStats);
+    when(footballService.getPlayerSeasonTotal(playerId, seasonId, clubId)).thenReturn(
+        Optional.of(new PlayerSeasonTotal(playerId, seasonId, clubId, 2, 1, 2, 1, 90, 1, 1, null, null, null)));
 
     Player player = mock(Player.class);
     when(footballService.getPlayer(playerId)).thenReturn(player);
@@ -143,6 +228,7 @@ class FactoryServiceTest {
     // Assert
     assertEquals(expected, actual);
     verify(footballService).getPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
+    verify(footballService).getPlayerSeasonTotal(playerId, seasonId, clubId);
     verify(footballService).getPlayer(playerId);
     verify(footballService).getClub(clubId);
     verify(footballService).getSeason(seasonId);
@@ -175,32 +261,44 @@ class FactoryServiceTest {
   }
 
   @Test
-  @DisplayName("【正常系】クラブごとの選手シーズン成績を作成できること_モックオブジェクトの呼び出しの検証")
+  @DisplayName("【正常系】クラブごとの選手シーズン成績を作成できること_集計結果と選手ごとに振り分けた試合成績から作成されること")
   void createPlayerSeasonStatsByClub() throws ResourceNotFoundException {
     int clubId = 1;
     int seasonId = 1;
 
     // Arrange
-    FactoryService spySut = spy(sut);
+    when(footballService.getSeason(seasonId)).thenReturn(mock(Season.class));
+    // 選手2は出場なし
+    when(footballService.getPlayerSeasonTotalsByClub(clubId, seasonId)).thenReturn(List.of(
+        new PlayerSeasonTotal(1, seasonId, clubId, 2, 1, 1, 0, 120, 0, 0, "Player1", "Club1", "Season1"),
+        new PlayerSeasonTotal(2, seasonId, clubId, 0, 0, 0, 0, 0, 0, 0, "Player2", "Club1", "Season1")
+    ));
+    PlayerGameStat playerGameStat1 = new PlayerGameStat(1, 1, clubId, 1, true, 1, 0, 0, 90, 0, 0, 1, null, null, null);
+    PlayerGameStat playerGameStat2 = new PlayerGameStat(2, 1, clubId, 1, false, 0, 0, 0, 30, 0, 0, 2, null, null, null);
+    when(footballService.getPlayerGameStatsByClubAndSeason(clubId, seasonId)).thenReturn(List.of(playerGameStat1, playerGameStat2));
 
-    List<Player> players = List.of(
-        new Player(1, clubId, "Sample Player1", 1),
-        new Player(2, clubId, "Sample Player2", 2)
+    List<PlayerSeasonStat> expected = List.of(
+        new PlayerSeasonStat(1, List.of(playerGameStat1, playerGameStat2), seasonId, clubId, 2, 1, 1, 1, 0, 120, 0, 0, "Player1", "Club1", "Season1"),
+        new PlayerSeasonStat(2, List.of(), seasonId, clubId, 0, 0, 0, 0, 0, 0, 0, 0, "Player2", "Club1", "Season1")
     );
-    when(footballService.getPlayersByClub(clubId)).thenReturn(players);
-
-    PlayerSeasonStat playerSeasonStat1 = mock(PlayerSeasonStat.class);
-    doReturn(playerSeasonStat1).when(spySut).createPlayerSeasonStat(1, seasonId, clubId);
-    PlayerSeasonStat playerSeasonStat2 = mock(PlayerSeasonStat.class);
-    doReturn(playerSeasonStat2).when(spySut).createPlayerSeasonStat(2, seasonId, clubId);
 
     // Act
-    List<PlayerSeasonStat> actual = spySut.createPlayerSeasonStatsByClub(clubId, seasonId);
+    List<PlayerSeasonStat> actual = sut.createPlayerSeasonStatsByClub(clubId, seasonId);
 
     // Assert
-    verify(footballService, times(1)).getPlayersByClub(clubId);
-    verify(spySut, times(1)).createPlayerSeasonStat(1, seasonId, clubId);
-    verify(spySut, times(1)).createPlayerSeasonStat(2, seasonId, clubId);
+    assertEquals(expected, actual);
+    verify(footballService, never()).getPlayersByClub(clubId);
+  }
+
+  @Test
+  @DisplayName("【異常系】クラブごとの選手シーズン成績の作成_シーズンが存在しない場合に適切に例外処理されること")
+  void createPlayerSeasonStatsByClubWhenSeasonNotFound() throws ResourceNotFoundException {
+    // Arrange
+    when(footballService.getSeason(99)).thenThrow(new ResourceNotFoundException("Season not found"));
+
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> sut.createPlayerSeasonStatsByClub(1, 99));
+    verify(footballService, never()).getPlayerSeasonTotalsByClub(1, 99);
   }
 
   @Test
@@ -240,29 +338,26 @@ class FactoryServiceTest {
   }
 
   @Test
-  @DisplayName("【正常系】シーズンの試合結果一覧を作成できること_モックオブジェクトの呼び出しおよび結果の検証")
+  @DisplayName("【正常系】シーズンの試合結果一覧を作成できること_試合日順の試合結果が日付ごとに区切られること")
   void createSeasonGameResult() throws ResourceNotFoundException {
     int leagueId = 1;
     int seasonId = 1;
 
     // Arrange
-    GameResult gameResult1 = mock(GameResult.class);
-    GameResult gameResult2 = mock(GameResult.class);
-    GameResult gameResult3 = mock(GameResult.class);
-    List<GameResult> gameResults = List.of(gameResult1, gameResult2, gameResult3);
-    when(footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId)).thenReturn(gameResults);
-
     LocalDate gameDate1 = LocalDate.of(2021, 1, 1);
     LocalDate gameDate2 = LocalDate.of(2021, 1, 2);
-    when(footballService.getGameDatesByLeagueAndSeason(leagueId, seasonId)).thenReturn(List.of(gameDate1, gameDate2));
-
-    when(gameResult1.getGameDate()).thenReturn(gameDate1);
-    when(gameResult2.getGameDate()).thenReturn(gameDate2);
-    when(gameResult3.getGameDate()).thenReturn(gameDate1);
+    LocalDate gameDate3 = LocalDate.of(2021, 1, 5);
+    GameResult gameResult1 = new GameResult(1, 1, 2, 1, 0, 1, leagueId, gameDate1, seasonId, "ClubA", "ClubB");
+    GameResult gameResult2 = new GameResult(2, 3, 4, 0, 0, null, leagueId, gameDate1, seasonId, "ClubC", "ClubD");
+    GameResult gameResult3 = new GameResult(3, 2, 3, 0, 2, 3, leagueId, gameDate2, seasonId, "ClubB", "ClubC");
+    GameResult gameResult4 = new GameResult(4, 4, 1, 1, 1, null, leagueId, gameDate3, seasonId, "ClubD", "ClubA");
+    when(footballService.getGameResultsWithClubNamesByLeagueAndSeason(leagueId, seasonId))
+        .thenReturn(List.of(gameResult1, gameResult2, gameResult3, gameResult4));
 
     SeasonGameResult expected = new SeasonGameResult(leagueId, seasonId, List.of(
-        new DayGameResult(gameDate1, List.of(gameResult1, gameResult3)),
-        new DayGameResult(gameDate2, List.of(gameResult2))
+        new DayGameResult(gameDate1, List.of(gameResult1, gameResult2)),
+        new DayGameResult(gameDate2, List.of(gameResult3)),
+        new DayGameResult(gameDate3, List.of(gameResult4))
     ));
 
     // Act
@@ -270,11 +365,166 @@ class FactoryServiceTest {
 
     // Assert
     assertEquals(expected, actual);
-    verify(footballService, times(1)).getGameResultsByLeagueAndSeason(leagueId, seasonId);
-    verify(footballService, times(1)).getGameDatesByLeagueAndSeason(leagueId, seasonId);
-    for (GameResult gameResult : gameResults) {
-      verify(footballService, times(1)).setClubNamesToGameResult(gameResult);
-    }
+    // 試合日・クラブ名を別に取得しないこと
+    verify(footballService, never()).getGameDatesByLeagueAndSeason(leagueId, seasonId);
+    verify(footballService, never()).setClubNamesToGameResult(any());
+  }
+
+  @Test
+  @DisplayName("【正常系】シーズンの試合結果一覧を作成できること_試合がない場合は空の一覧になること")
+  void createSeasonGameResultWhenNoGames() throws ResourceNotFoundException {
+    // Arrange
+    when(footballService.getGameResultsWithClubNamesByLeagueAndSeason(1, 1)).thenReturn(List.of());
+
+    // Act
+    SeasonGameResult actual = sut.createSeasonGameResult(1, 1);
+
+    // Assert
+    assertEquals(new SeasonGameResult(1, 1, List.of()), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】順位表を取得できること_2回目以降はキャッシュから返り、順位表が作成されないこと")
+  void getStanding() throws Exception {
+    int leagueId = 1;
+    int seasonId = 201920;
+
+    // Arrange
+    FactoryService spySut = spy(sut);
+    Standing standing = new Standing(leagueId, seasonId, List.of(), "Sample League", "Sample Season");
+    doReturn(standing).when(spySut).createStanding(leagueId, seasonId);
+
+    // Act
+    Standing actual1 = spySut.getStanding(leagueId, seasonId);
+    Standing actual2 = spySut.getStanding(leagueId, seasonId);
+
+    // Assert
+    assertSame(standing, actual1);
+    assertSame(standing, actual2);
+    verify(spySut, times(1)).createStanding(leagueId, seasonId);
+    assertEquals(1, spySut.getStandingCacheStatistics().hitCount());
+    assertEquals(1, spySut.getStandingCacheStatistics().missCount());
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の合計成績を作成できること_インメモリストアが無効な場合は指定した範囲のシーズンの合計成績が合計されること")
+  void createPlayerTotalStat() throws ResourceNotFoundException {
+    int playerId = 1;
+
+    // Arrange
+    when(footballService.getPlayer(playerId)).thenReturn(new Player(playerId, 1, "PlayerAAAA", 1));
+    when(footballService.getPlayerSeasonTotalsByPlayer(playerId)).thenReturn(List.of(
+        new PlayerSeasonTotal(playerId, 201920, 1, 2, 2, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20"),
+        new PlayerSeasonTotal(playerId, 202021, 1, 1, 0, 0, 1, 90, 1, 0, "PlayerAAAA", "ClubAAA", "2020-21"),
+        new PlayerSeasonTotal(playerId, 202122, 2, 3, 3, 2, 0, 270, 0, 1, "PlayerAAAA", "ClubAAB", "2021-22")
+    ));
+
+    // Act
+    PlayerTotalStat actual = sut.createPlayerTotalStat(playerId, 202021, null);
+
+    // Assert
+    assertEquals(new PlayerTotalStat(playerId, 4, 3, 1, 2, 1, 360, 1, 1, "PlayerAAAA"), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の合計成績を作成できること_インメモリストアが有効な場合はストアの集計結果が使われること")
+  void createPlayerTotalStatWithStore() throws ResourceNotFoundException {
+    int playerId = 1;
+
+    // Arrange
+    PlayerGameStatStore playerGameStatStore = mock(PlayerGameStatStore.class);
+    when(playerGameStatStore.isEnabled()).thenReturn(true);
+    when(playerGameStatStore.aggregatePlayerSeasonTotals(playerId, Integer.MIN_VALUE, Integer.MAX_VALUE)).thenReturn(List.of(
+        new PlayerSeasonTotal(playerId, 201920, 1, 2, 2, 1, 0, 180, 0, 0, null, null, null)
+    ));
+    when(footballService.getPlayer(playerId)).thenReturn(new Player(playerId, 1, "PlayerAAAA", 1));
+    FactoryService sutWithStore = new FactoryService(footballService, new RankingEngine(), new StandingCache(100, 600),
+        new LeaderboardCache(100, 600), playerGameStatStore, new PlayerFormCache(100, 600));
+
+    // Act
+    PlayerTotalStat actual = sutWithStore.createPlayerTotalStat(playerId, null, null);
+
+    // Assert
+    assertEquals(new PlayerTotalStat(playerId, 2, 2, 0, 1, 0, 180, 0, 0, "PlayerAAAA"), actual);
+    verify(footballService, never()).getPlayerSeasonTotalsByPlayer(playerId);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手のフォームを作成できること_選手試合成績の取得は初回のみ行われること")
+  void createPlayerForm() throws ResourceNotFoundException {
+    int playerId = 1;
+    int seasonId = 201920;
+
+    // Arrange
+    when(footballService.getPlayer(playerId)).thenReturn(new Player(playerId, 1, "PlayerAAAA", 1));
+    when(footballService.getSeason(seasonId)).thenReturn(
+        new Season(seasonId, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false));
+    when(footballService.getPlayerGameStatsByPlayerAndSeason(playerId, seasonId)).thenReturn(List.of(
+        new PlayerGameStat(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, LocalDate.of(2019, 8, 1), "ClubAAB", "○2-1"),
+        new PlayerGameStat(9, playerId, 1, 1, true, 0, 1, 0, 45, 0, 0, 3, LocalDate.of(2019, 8, 2), "ClubAAB", "△2-2")
+    ));
+    FormWindow expectedWindow = FormWindow.of(2, 1, 1, 135);
+
+    // Act
+    PlayerForm actual1 = sut.createPlayerForm(playerId, seasonId);
+    PlayerForm actual2 = sut.createPlayerForm(playerId, seasonId);
+
+    // Assert
+    assertEquals(new PlayerForm(playerId, seasonId, expectedWindow, expectedWindow, expectedWindow), actual1);
+    assertEquals(actual1, actual2);
+    verify(footballService, times(1)).getPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
+  }
+
+  @Test
+  @DisplayName("【異常系】選手のフォームを作成する際に選手が存在しない場合_適切に例外処理されること")
+  void createPlayerFormWhenPlayerNotFound() throws ResourceNotFoundException {
+    // Arrange
+    when(footballService.getPlayer(99)).thenThrow(new ResourceNotFoundException("Player not found"));
+
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> sut.createPlayerForm(99, 201920));
+    verify(footballService, never()).getPlayerGameStatsByPlayerAndSeason(99, 201920);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手ランキングを作成できること_値と出場時間が同じ選手は同順位になること")
+  void createLeaderboard() throws ResourceNotFoundException {
+    int leagueId = 1;
+    int seasonId = 201920;
+
+    // Arrange
+    when(footballService.getLeague(leagueId)).thenReturn(new League(leagueId, 1, "LeagueAA"));
+    when(footballService.getSeason(seasonId)).thenReturn(
+        new Season(seasonId, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false));
+    when(footballService.getPlayerSeasonTotalsForLeaderboard(leagueId, seasonId, LeaderboardStatistic.GOALS, 4)).thenReturn(List.of(
+        new PlayerSeasonTotal(1, seasonId, 1, 3, 3, 5, 0, 270, 0, 0, "Player1", "Club1", "2019-20"),
+        new PlayerSeasonTotal(2, seasonId, 1, 3, 2, 3, 0, 200, 0, 0, "Player2", "Club1", "2019-20"),
+        new PlayerSeasonTotal(3, seasonId, 2, 3, 2, 3, 0, 200, 0, 0, "Player3", "Club2", "2019-20"),
+        new PlayerSeasonTotal(4, seasonId, 2, 3, 3, 3, 0, 270, 0, 0, "Player4", "Club2", "2019-20")
+    ));
+    Leaderboard expected = new Leaderboard(leagueId, seasonId, LeaderboardStatistic.GOALS, 4, List.of(
+        new LeaderboardEntry(1, 1, "Player1", 1, "Club1", 5, 3, 270),
+        new LeaderboardEntry(2, 2, "Player2", 1, "Club1", 3, 3, 200),
+        new LeaderboardEntry(2, 3, "Player3", 2, "Club2", 3, 3, 200),
+        new LeaderboardEntry(4, 4, "Player4", 2, "Club2", 3, 3, 270)
+    ), "LeagueAA", "2019-20");
+
+    // Act
+    Leaderboard actual = sut.createLeaderboard(leagueId, seasonId, LeaderboardStatistic.GOALS, 4);
+
+    // Assert
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  @DisplayName("【異常系】選手ランキングを作成する際にリーグが存在しない場合_適切に例外処理されること")
+  void createLeaderboardWhenLeagueNotFound() throws ResourceNotFoundException {
+    // Arrange
+    when(footballService.getLeague(99)).thenThrow(new ResourceNotFoundException("League not found"));
+
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> sut.createLeaderboard(99, 201920, LeaderboardStatistic.GOALS, 10));
+    verify(footballService, never()).getPlayerSeasonTotalsForLeaderboard(99, 201920, LeaderboardStatistic.GOALS, 10);
   }
 
   @Test
@@ -286,16 +536,20 @@ class FactoryServiceTest {
     // Arrange
     FactoryService spySut = spy(sut);
 
-    Club club1 = mock(Club.class);
-    Club club2 = mock(Club.class);
-    when(footballService.getClubsByLeague(leagueId)).thenReturn(List.of(club1, club2));
+    List<Club> clubs = List.of(mock(Club.class), mock(Club.class));
+    when(footballService.getClubsByLeague(leagueId)).thenReturn(clubs);
+
+    List<StandingRecord> standingRecords = List.of(mock(StandingRecord.class));
+    when(footballService.getStandingRecordsByLeagueAndSeason(leagueId, seasonId)).thenReturn(standingRecords);
+
+    List<GameResult> gameResults = List.of(mock(GameResult.class));
+    when(footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId)).thenReturn(gameResults);
 
     ClubForStanding clubForStanding1 = mock(ClubForStanding.class);
     when(clubForStanding1.getGamesPlayed()).thenReturn(1); // allMatchがtrueになるように設定（最初のクラブ以外の設定は過剰）
-    when(spySut.createClubForStanding(seasonId, club1)).thenReturn(clubForStanding1);
     ClubForStanding clubForStanding2 = mock(ClubForStanding.class);
-    when(spySut.createClubForStanding(seasonId, club2)).thenReturn(clubForStanding2);
     List<ClubForStanding> clubForStandings = List.of(clubForStanding1, clubForStanding2);
+    doReturn(clubForStandings).when(spySut).createClubForStandings(clubs, standingRecords, gameResults);
 
     List<LeagueRegulation> leagueRegulations = mock(List.class);
     when(footballService.getLeagueRegulationsByLeague(leagueId)).thenReturn(leagueRegulations);
@@ -315,14 +569,151 @@ class FactoryServiceTest {
 
     // Assert
     assertEquals(expected, actual);
-    verify(spySut, times(1)).createClubForStanding(seasonId, club1);
-    verify(spySut, times(1)).createClubForStanding(seasonId, club2);
+    verify(spySut, times(1)).createClubForStandings(clubs, standingRecords, gameResults);
     verify(footballService, times(1)).getClubsByLeague(leagueId);
+    verify(footballService, times(1)).getStandingRecordsByLeagueAndSeason(leagueId, seasonId);
+    verify(footballService, times(1)).getGameResultsByLeagueAndSeason(leagueId, seasonId);
     verify(footballService, times(1)).getLeagueRegulationsByLeague(leagueId);
     verify(footballService, times(1)).getLeague(leagueId);
     verify(footballService, times(1)).getSeason(seasonId);
   }
 
+  @Test
+  @DisplayName("【正常系】順位推移を作成できること_試合日ごとに累積成績で順位付けされること")
+  void createStandingHistory() throws ResourceNotFoundException {
+    int leagueId = 1;
+    int seasonId = 1;
+
+    // Arrange
+    Club club1 = new Club(1, leagueId, "Club1");
+    Club club2 = new Club(2, leagueId, "Club2");
+    Club club3 = new Club(3, leagueId, "Club3");
+    when(footballService.getClubsByLeague(leagueId)).thenReturn(List.of(club1, club2, club3));
+    // 日付順に並んでいなくても日付順に処理されること
+    when(footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId)).thenReturn(List.of(
+        new GameResult(2, 3, 1, 3, 0, 3, leagueId, LocalDate.of(2024, 8, 8), seasonId),
+        new GameResult(1, 1, 2, 2, 1, 1, leagueId, LocalDate.of(2024, 8, 1), seasonId)
+    ));
+    // 勝ち点→得失点差の順で比較
+    when(footballService.getLeagueRegulationsByLeague(leagueId)).thenReturn(List.of(
+        new LeagueRegulation(1, leagueId, 1, 1),
+        new LeagueRegulation(2, leagueId, 2, 4)
+    ));
+    League league = mock(League.class);
+    when(footballService.getLeague(leagueId)).thenReturn(league);
+    when(league.getName()).thenReturn("Sample League");
+    Season season = mock(Season.class);
+    when(footballService.getSeason(seasonId)).thenReturn(season);
+    when(season.getName()).thenReturn("Sample Season");
+
+    StandingHistory expected = new StandingHistory(leagueId, seasonId, List.of(
+        new DayStanding(LocalDate.of(2024, 8, 1), List.of(
+            new ClubPosition(1, 1, "Club1", 1, 3, 1, 2),
+            new ClubPosition(2, 3, "Club3", 0, 0, 0, 0),
+            new ClubPosition(3, 2, "Club2", 1, 0, -1, 1)
+        )),
+        new DayStanding(LocalDate.of(2024, 8, 8), List.of(
+            new ClubPosition(1, 3, "Club3", 1, 3, 3, 3),
+            new ClubPosition(2, 1, "Club1", 2, 3, -2, 2),
+            new ClubPosition(3, 2, "Club2", 1, 0, -1, 1)
+        ))
+    ), "Sample League", "Sample Season");
+
+    // Act
+    StandingHistory actual = sut.createStandingHistory(leagueId, seasonId);
+
+    // Assert
+    assertEquals(expected, actual);
+    verify(footballService, times(1)).getGameResultsByLeagueAndSeason(leagueId, seasonId);
+    verify(footballService, times(1)).getLeagueRegulationsByLeague(leagueId);
+  }
+
+  @Test
+  @DisplayName("【正常系】シーズンのシミュレーション_残り試合がない場合に現在の順位が確率1となること")
+  void createSeasonSimulationWhenNoRemainingGames() throws ResourceNotFoundException {
+    int leagueId = 1;
+    int seasonId = 1;
+
+    // Arrange
+    Club club1 = new Club(1, leagueId, "Club1");
+    Club club2 = new Club(2, leagueId, "Club2");
+    when(footballService.getClubsByLeague(leagueId)).thenReturn(List.of(club2, club1));
+    when(footballService.getStandingRecordsByLeagueAndSeason(leagueId, seasonId)).thenReturn(List.of(
+        new StandingRecord(leagueId, seasonId, 1, 2, 2, 0, 0, 3, 1, 6),
+        new StandingRecord(leagueId, seasonId, 2, 2, 0, 0, 2, 1, 3, 0)
+    ));
+    // ホーム・アウェイの2試合とも消化済み
+    when(footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId)).thenReturn(List.of(
+        new GameResult(1, 1, 2, 2, 1, 1, leagueId, LocalDate.of(2024, 8, 1), seasonId),
+        new GameResult(2, 2, 1, 0, 1, 1, leagueId, LocalDate.of(2024, 8, 8), seasonId)
+    ));
+    when(footballService.getLeagueRegulationsByLeague(leagueId)).thenReturn(List.of(
+        new LeagueRegulation(1, leagueId, 1, 1),
+        new LeagueRegulation(2, leagueId, 2, 4)
+    ));
+    League league = mock(League.class);
+    when(footballService.getLeague(leagueId)).thenReturn(league);
+    when(league.getName()).thenReturn("Sample League");
+    Season season = mock(Season.class);
+    when(footballService.getSeason(seasonId)).thenReturn(season);
+    when(season.getName()).thenReturn("Sample Season");
+
+    SeasonSimulation expected = new SeasonSimulation(leagueId, seasonId, 100, 0, List.of(
+        new ClubSimulation(1, 1, "Club1", 6, 6.0, List.of(1.0, 0.0)),
+        new ClubSimulation(2, 2, "Club2", 0, 0.0, List.of(0.0, 1.0))
+    ), "Sample League", "Sample Season");
+
+    // Act
+    SeasonSimulation actual = sut.createSeasonSimulation(leagueId, seasonId, 100, 42L);
+
+    // Assert
+    assertEquals(expected, actual);
+    verify(footballService, times(1)).getLeagueRegulationsByLeague(leagueId);
+  }
+
+  @Test
+  @DisplayName("【正常系】順位推移の作成_試合が存在しない場合に空のdayStandingsからなるオブジェクトを返すこと")
+  void createStandingHistoryWhenNoGameResults() throws ResourceNotFoundException {
+    int leagueId = 1;
+    int seasonId = 1;
+
+    // Arrange
+    when(footballService.getClubsByLeague(leagueId)).thenReturn(List.of(new Club(1, leagueId, "Club1")));
+    when(footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId)).thenReturn(new ArrayList<>());
+    League league = mock(League.class);
+    when(footballService.getLeague(leagueId)).thenReturn(league);
+    when(league.getName()).thenReturn("Sample League");
+    Season season = mock(Season.class);
+    when(footballService.getSeason(seasonId)).thenReturn(season);
+    when(season.getName()).thenReturn("Sample Season");
+
+    StandingHistory expected = new StandingHistory(leagueId, seasonId, new ArrayList<>(), "Sample League", "Sample Season");
+
+    // Act
+    StandingHistory actual = sut.createStandingHistory(leagueId, seasonId);
+
+    // Assert
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】複数リーグのコンパイル済み順位付けの取得_リーグ規定は全リーグ分をまとめて1度だけ取得され、以降はコンパイル済みのものが使われること")
+  void getCompiledRankings() {
+    // Arrange
+    when(footballService.getComparisonItemIdsByLeagues(List.of(1, 2))).thenReturn(Map.of(1, List.of(1, 3), 2, List.of(2)));
+
+    // Act
+    Map<Integer, CompiledRanking> actual1 = sut.getCompiledRankings(List.of(1, 2));
+    Map<Integer, CompiledRanking> actual2 = sut.getCompiledRankings(List.of(1, 2));
+
+    // Assert
+    assertEquals(List.of(1, 3), actual1.get(1).getComparisonItemIds());
+    assertEquals(List.of(2), actual1.get(2).getComparisonItemIds());
+    assertSame(actual1.get(1), actual2.get(1));
+    verify(footballService, times(1)).getComparisonItemIdsByLeagues(List.of(1, 2));
+    verify(footballService, never()).getLeagueRegulationsByLeague(anyInt());
+  }
+
   @Test
   @DisplayName("【正常系】順位表の作成_試合が存在しない場合に空のclubForStandingsからなるオブジェクトを返すこと")
   void createStandingWhenNoGameResults() throws ResourceNotFoundException {
@@ -330,18 +721,13 @@ class FactoryServiceTest {
     int seasonId = 1;
 
     // Arrange
-    FactoryService spySut = spy(sut);
-
     Club club1 = mock(Club.class);
+    when(club1.getId()).thenReturn(1);
     Club club2 = mock(Club.class);
+    when(club2.getId()).thenReturn(2);
     when(footballService.getClubsByLeague(leagueId)).thenReturn(List.of(club1, club2));
-
-    ClubForStanding clubForStanding1 = mock(ClubForStanding.class);
-    when(clubForStanding1.getGamesPlayed()).thenReturn(0);
-    doReturn(clubForStanding1).when(spySut).createClubForStanding(seasonId, club1);
-    ClubForStanding clubForStanding2 = mock(ClubForStanding.class);
-    when(clubForStanding2.getGamesPlayed()).thenReturn(0);
-    doReturn(clubForStanding2).when(spySut).createClubForStanding(seasonId, club2);
+    when(footballService.getStandingRecordsByLeagueAndSeason(leagueId, seasonId)).thenReturn(new ArrayList<>());
+    when(footballService.getGameResultsByLeagueAndSeason(leagueId, seasonId)).thenReturn(new ArrayList<>());
 
     League league = mock(League.class);
     when(footballService.getLeague(leagueId)).thenReturn(league);
@@ -354,13 +740,12 @@ class FactoryServiceTest {
     Standing expected = new Standing(leagueId, seasonId, new ArrayList<>(), "Sample League", "Sample Season");
 
     // Act
-    Standing actual = spySut.createStanding(leagueId, seasonId);
+    Standing actual = sut.createStanding(leagueId, seasonId);
 
     // Assert
     assertEquals(expected, actual);
     verify(footballService, times(1)).getClubsByLeague(leagueId);
-    verify(spySut, times(1)).createClubForStanding(seasonId, club1);
-    verify(spySut, times(1)).createClubForStanding(seasonId, club2);
+    verify(footballService, times(1)).getGameResultsByLeagueAndSeason(leagueId, seasonId);
     verify(footballService, times(1)).getLeague(leagueId);
     verify(footballService, times(1)).getSeason(seasonId);
   }
@@ -1,11 +1,16 @@
 package football.StatsManagement.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -14,6 +19,7 @@ import static org.mockito.Mockito.when;
 import football.StatsManagement.exception.FootballException;
 import football.StatsManagement.exception.ResourceConflictException;
 import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
 import football.StatsManagement.model.entity.Club;
 import football.StatsManagement.model.entity.ComparisonItem;
 import football.StatsManagement.model.entity.Country;
@@ -22,23 +28,44 @@ import football.StatsManagement.model.entity.League;
 import football.StatsManagement.model.entity.LeagueRegulation;
 import football.StatsManagement.model.entity.Player;
 import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerGameStatWithGame;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
 import football.StatsManagement.model.entity.Season;
+import football.StatsManagement.model.entity.StandingRecord;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
 import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.model.response.KeysetPage;
 import football.StatsManagement.model.json.PlayerGameStatForJson;
 import football.StatsManagement.model.json.SeasonForJson;
 import football.StatsManagement.repository.FootballRepository;
+import football.StatsManagement.service.analytics.PlayerGameStatsRegisteredEvent;
+import football.StatsManagement.service.backfill.GameImportDictionary;
+import football.StatsManagement.service.cache.PlayerSeasonTotalsRebuiltEvent;
+import football.StatsManagement.service.cache.ReferenceDataCache;
+import football.StatsManagement.service.cache.ReferenceDataCache.Kind;
+import football.StatsManagement.service.cache.ReferenceDataChangedEvent;
+import football.StatsManagement.service.cache.StandingChangedEvent;
+import football.StatsManagement.service.comparator.LeagueRegulationsChangedEvent;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,10 +74,13 @@ class FootballServiceTest {
   @Mock
   private FootballRepository repository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private FootballService sut;
   @BeforeEach
   void setUp() {
-    this.sut = new FootballService(repository);
+    this.sut = new FootballService(repository, eventPublisher, new ReferenceDataCache(100, 600));
   }
 
   @Test
@@ -73,8 +103,10 @@ class FootballServiceTest {
   @DisplayName("【正常系】クラブが登録できる_リポジトリが適切に処理されること")
   void registerClub() {
     Club club = mock(Club.class);
+    when(club.getId()).thenReturn(10);
     sut.registerClub(club);
     verify(repository, times(1)).insertClub(club);
+    verify(eventPublisher, times(1)).publishEvent(new ReferenceDataChangedEvent(Kind.CLUB, 10));
   }
 
   @Test
@@ -109,12 +141,31 @@ class FootballServiceTest {
     verify(repository, times(1)).insertPlayerGameStat(playerGameStat);
   }
 
+  @Test
+  @DisplayName("【正常系】選手試合成績の一括登録_リポジトリが1回だけ呼ばれること")
+  void registerPlayerGameStats() {
+    List<PlayerGameStat> playerGameStats = List.of(mock(PlayerGameStat.class), mock(PlayerGameStat.class));
+    sut.registerPlayerGameStats(playerGameStats);
+    verify(repository, times(1)).insertPlayerGameStats(playerGameStats);
+  }
+
+  @Test
+  @DisplayName("【正常系】選手試合成績の一括登録_空の場合はリポジトリが呼ばれないこと")
+  void registerPlayerGameStatsWhenEmpty() {
+    sut.registerPlayerGameStats(List.of());
+    verify(repository, never()).insertPlayerGameStats(any());
+  }
+
   @Test
   @DisplayName("【正常系】試合結果が登録できる_リポジトリが適切に処理されること")
   void registerGameResult() {
-    GameResult gameResult = mock(GameResult.class);
+    GameResult gameResult = new GameResult(0, 1, 2, 2, 1, 1, 1, LocalDate.of(2019, 8, 1), 201920);
     sut.registerGameResult(gameResult);
     verify(repository, times(1)).insertGameResult(gameResult);
+    verify(repository, times(1)).upsertStandings(List.of(
+        new StandingRecord(1, 201920, 1, 1, 1, 0, 0, 2, 1, 3),
+        new StandingRecord(1, 201920, 2, 1, 0, 0, 1, 1, 2, 0)));
+    verify(eventPublisher, times(1)).publishEvent(new StandingChangedEvent(1, 201920));
   }
 
   @ParameterizedTest
@@ -128,7 +179,7 @@ class FootballServiceTest {
     // Arrange
     SeasonForJson seasonForJson = new SeasonForJson(name, startDate, endDate);
     Season season = new Season(seasonForJson);
-    when(sut.getSeasons()).thenReturn(List.of(
+    when(repository.selectSeasons()).thenReturn(List.of(
         new Season(1, "2000-01", LocalDate.of(2000, 7, 1), LocalDate.of(2001, 6, 30), true)
     ));
 
@@ -137,6 +188,8 @@ class FootballServiceTest {
 
     // Assert
     verify(repository, times(1)).insertSeason(season);
+    verify(eventPublisher, times(1)).publishEvent(ReferenceDataChangedEvent.ofKind(Kind.SEASON));
+    verify(eventPublisher, times(1)).publishEvent(new ReferenceDataChangedEvent(Kind.SEASON, season.getId()));
   }
 
   @ParameterizedTest
@@ -173,7 +226,7 @@ class FootballServiceTest {
     // Arrange
     SeasonForJson seasonForJson = new SeasonForJson(name, startDate, endDate);
     Season season = new Season(seasonForJson);
-    when(sut.getSeasons()).thenReturn(List.of(
+    when(repository.selectSeasons()).thenReturn(List.of(
         new Season(1, "2000-01", LocalDate.of(2000, 7, 1), LocalDate.of(2001, 6, 30), true)
     ));
 
@@ -182,6 +235,60 @@ class FootballServiceTest {
     assertEquals(expectedMessage, thrown.getMessage());
   }
 
+  @Test
+  @DisplayName("【正常系】リーグ規定登録_既存のリーグ規定が置き換えられ、リーグ規定変更イベントと順位表変更イベントが発行されること")
+  void registerLeagueRegulations() throws FootballException, ResourceNotFoundException {
+    // Arrange
+    int leagueId = 1;
+    when(repository.selectLeague(leagueId)).thenReturn(Optional.of(new League(leagueId, 1, "LeagueAA")));
+    when(repository.selectComparisonItem(anyInt())).thenAnswer(invocation ->
+        Optional.of(new ComparisonItem(invocation.getArgument(0), "item")));
+
+    // Act
+    List<LeagueRegulation> actual = sut.registerLeagueRegulations(leagueId, List.of(1, 4, 5));
+
+    // Assert
+    assertEquals(List.of(
+        new LeagueRegulation(0, leagueId, 1, 1),
+        new LeagueRegulation(0, leagueId, 2, 4),
+        new LeagueRegulation(0, leagueId, 3, 5)
+    ), actual);
+    verify(repository, times(1)).deleteLeagueRegulationsByLeague(leagueId);
+    verify(repository, times(3)).insertLeagueRegulation(any(LeagueRegulation.class));
+    verify(eventPublisher, times(1)).publishEvent(new LeagueRegulationsChangedEvent(leagueId));
+    verify(eventPublisher, times(1)).publishEvent(StandingChangedEvent.ofLeague(leagueId));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'', Comparison item ids must not be empty",
+      "'1,4,1', Comparison item ids must not be duplicated"
+  })
+  @DisplayName("【異常系】リーグ規定登録_比較項目IDが空または重複している場合に適切に例外処理されること")
+  void registerLeagueRegulations_withInvalidComparisonItemIds(String comparisonItemIdsCsv, String expectedMessage) {
+    // Arrange
+    List<Integer> comparisonItemIds = comparisonItemIdsCsv.isEmpty() ? List.of()
+        : Arrays.stream(comparisonItemIdsCsv.split(",")).map(Integer::valueOf).toList();
+
+    // Act & Assert
+    FootballException thrown = assertThrows(FootballException.class, () -> sut.registerLeagueRegulations(1, comparisonItemIds));
+    assertEquals(expectedMessage, thrown.getMessage());
+    verify(repository, never()).deleteLeagueRegulationsByLeague(anyInt());
+  }
+
+  @Test
+  @DisplayName("【異常系】リーグ規定登録_比較項目が存在しない場合に適切に例外処理されること")
+  void registerLeagueRegulations_withNotFoundComparisonItem() {
+    // Arrange
+    when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "LeagueAA")));
+    when(repository.selectComparisonItem(99)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> sut.registerLeagueRegulations(1, List.of(99)));
+    verify(repository, never()).deleteLeagueRegulationsByLeague(anyInt());
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
   @Test
   @DisplayName("【正常系】IDによる国の検索_リポジトリが適切に処理されること")
   void getCountry() throws ResourceNotFoundException {
@@ -248,6 +355,39 @@ class FootballServiceTest {
     assertThrows(ResourceNotFoundException.class, () -> sut.getClub(id));
   }
 
+  @Test
+  @DisplayName("【正常系】IDによるクラブの検索_同じクラブを繰り返し検索した場合、リポジトリは1度だけ呼ばれ、呼び出しごとに複製が返されること")
+  void getClubFromCache() throws ResourceNotFoundException {
+    // Arrange
+    Club club = new Club(1, 1, "ClubAAA");
+    when(repository.selectClub(1)).thenReturn(Optional.of(club));
+
+    // Act
+    Club actual1 = sut.getClub(1);
+    actual1.setLeagueId(2);
+    Club actual2 = sut.getClub(1);
+
+    // Assert
+    assertNotSame(club, actual1);
+    assertNotSame(actual1, actual2);
+    assertEquals(new Club(1, 1, "ClubAAA"), actual2);
+    verify(repository, times(1)).selectClub(1);
+    assertEquals(1, sut.getReferenceDataCacheStatistics().hitCount());
+  }
+
+  @Test
+  @DisplayName("【正常系】IDによるクラブの検索_見つからなかった結果は保持されず、登録後に検索した場合は取得できること")
+  void getClubAfterNotFound() throws ResourceNotFoundException {
+    // Arrange
+    Club club = new Club(1, 1, "ClubAAA");
+    when(repository.selectClub(1)).thenReturn(Optional.empty()).thenReturn(Optional.of(club));
+
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> sut.getClub(1));
+    assertEquals(club, sut.getClub(1));
+    verify(repository, times(2)).selectClub(1);
+  }
+
   @Test
   @DisplayName("【正常系】IDによる選手の検索_リポジトリが適切に処理されること")
   void getPlayer() throws ResourceNotFoundException {
@@ -270,6 +410,42 @@ class FootballServiceTest {
     assertThrows(ResourceNotFoundException.class, () -> sut.getPlayer(id));
   }
 
+  @Test
+  @DisplayName("【正常系】選手IDの一覧による選手の一括検索_重複を除いたIDで1回だけ検索されること")
+  void getPlayersByIds() throws ResourceNotFoundException {
+    // Arrange
+    Map<Integer, Player> players = Map.of(
+        1, new Player(1, 1, "PlayerAAAA", 1),
+        2, new Player(2, 1, "PlayerAAAB", 2)
+    );
+    when(repository.selectPlayersByIds(List.of(1, 2))).thenReturn(players);
+
+    // Act
+    Map<Integer, Player> actual = sut.getPlayersByIds(List.of(1, 2, 1));
+
+    // Assert
+    assertEquals(players, actual);
+    verify(repository, times(1)).selectPlayersByIds(List.of(1, 2));
+  }
+
+  @Test
+  @DisplayName("【異常系】選手IDの一覧による選手の一括検索_存在しない選手IDがすべてメッセージに含まれること")
+  void getPlayersByIds_withNotFound() {
+    // Arrange
+    when(repository.selectPlayersByIds(List.of(30, 1, 5))).thenReturn(Map.of(1, new Player(1, 1, "PlayerAAAA", 1)));
+
+    // Act & Assert
+    ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class, () -> sut.getPlayersByIds(List.of(30, 1, 5)));
+    assertEquals("Players not found: [5, 30]", thrown.getMessage());
+  }
+
+  @Test
+  @DisplayName("【正常系】選手IDの一覧による選手の一括検索_空の場合はリポジトリが呼ばれないこと")
+  void getPlayersByIds_withEmpty() throws ResourceNotFoundException {
+    assertEquals(Map.of(), sut.getPlayersByIds(List.of()));
+    verify(repository, never()).selectPlayersByIds(any());
+  }
+
   @Test
   @DisplayName("【正常系】リーグIDとシーズンIDによる試合結果一覧の検索_リポジトリが適切に処理されること")
   void getGameResultsByLeagueAndSeason() {
@@ -280,6 +456,25 @@ class FootballServiceTest {
     verify(repository, times(1)).selectGameResultsByLeagueAndSeason(leagueId, seasonId);
   }
 
+  @Test
+  @DisplayName("【正常系】シーズンIDによる全リーグの試合結果一覧の検索_リポジトリが適切に処理されること")
+  void getGameResultsBySeason() {
+    int seasonId = 201920;
+
+    List<GameResult> actual = sut.getGameResultsBySeason(seasonId);
+    verify(repository, times(1)).selectGameResultsBySeason(seasonId);
+  }
+
+  @Test
+  @DisplayName("【正常系】リーグとシーズンによるクラブ名を含む試合結果の検索_リポジトリが適切に処理されること")
+  void getGameResultsWithClubNamesByLeagueAndSeason() {
+    int leagueId = 1;
+    int seasonId = 1;
+
+    List<GameResult> actual = sut.getGameResultsWithClubNamesByLeagueAndSeason(leagueId, seasonId);
+    verify(repository, times(1)).selectGameResultsWithClubNamesByLeagueAndSeason(seasonId, leagueId);
+  }
+
   @Test
   @DisplayName("【正常系】リーグIDとシーズンIDによる試合日一覧の検索_リポジトリが適切に処理されること")
   void getGameDatesByLeagueAndSeason() {
@@ -382,6 +577,50 @@ class FootballServiceTest {
     verify(repository, times(1)).selectPlayerGameStatsByPlayer(playerId);
   }
 
+  @Test
+  @DisplayName("【正常系】選手IDによるシーズン・クラブごとの合計成績一覧の検索_リポジトリが適切に処理されること")
+  void getPlayerSeasonTotalsByPlayer() {
+    int playerId = 1;
+
+    List<PlayerSeasonTotal> actual = sut.getPlayerSeasonTotalsByPlayer(playerId);
+    verify(repository, times(1)).selectPlayerSeasonTotalsByPlayer(playerId);
+  }
+
+  @Test
+  @DisplayName("【正常系】クラブIDとシーズンIDによる所属選手全員の合計成績一覧の検索_リポジトリが適切に処理されること")
+  void getPlayerSeasonTotalsByClub() {
+    int clubId = 1;
+    int seasonId = 1;
+
+    List<PlayerSeasonTotal> actual = sut.getPlayerSeasonTotalsByClub(clubId, seasonId);
+    verify(repository, times(1)).selectPlayerSeasonTotalsByClub(clubId, seasonId);
+  }
+
+  @Test
+  @DisplayName("【正常系】クラブIDとシーズンIDによる所属選手全員の選手試合成績一覧の検索_試合結果からフィールドが設定されること")
+  void getPlayerGameStatsByClubAndSeason() {
+    int clubId = 1;
+    int seasonId = 1;
+
+    // Arrange
+    when(repository.selectPlayerGameStatsWithGameByClubAndSeason(clubId, seasonId)).thenReturn(List.of(
+        new PlayerGameStatWithGame(1, 1, clubId, 1, true, 0, 0, 0, 90, 0, 0, 1,
+            seasonId, LocalDate.of(2024, 8, 1), clubId, 2, 2, 1, clubId, "Club1", "Club2"),
+        new PlayerGameStatWithGame(2, 2, clubId, 2, false, 0, 0, 0, 30, 0, 0, 1,
+            seasonId, LocalDate.of(2024, 8, 1), clubId, 2, 2, 1, clubId, "Club1", "Club2")
+    ));
+    List<PlayerGameStat> expected = List.of(
+        new PlayerGameStat(1, 1, clubId, 1, true, 0, 0, 0, 90, 0, 0, 1, LocalDate.of(2024, 8, 1), "Club2", "○2-1"),
+        new PlayerGameStat(2, 2, clubId, 2, false, 0, 0, 0, 30, 0, 0, 1, LocalDate.of(2024, 8, 1), "Club2", "○2-1")
+    );
+
+    // Act
+    List<PlayerGameStat> actual = sut.getPlayerGameStatsByClubAndSeason(clubId, seasonId);
+
+    // Assert
+    assertEquals(expected, actual);
+  }
+
   @Test
   @DisplayName("【正常系】クラブIDとシーズンIDによる選手試合成績一覧の検索_リポジトリが適切に処理されること")
   void getGameResultsByClubAndSeason() {
@@ -428,6 +667,13 @@ class FootballServiceTest {
     verify(repository, times(1)).selectLeaguesByCountry(countryId);
   }
 
+  @Test
+  @DisplayName("【正常系】リーグ一覧の検索_リポジトリが適切に処理されること")
+  void getLeagues() {
+    List<League> actual = sut.getLeagues();
+    verify(repository, times(1)).selectLeagues();
+  }
+
   @Test
   @DisplayName("【正常系】リーグIDによるリーグ規定の検索_DBにデータが見つかった場合_リポジトリが適切に処理されること")
   void getLeagueRegulationsByLeagueWhenFound() {
@@ -471,6 +717,26 @@ class FootballServiceTest {
     verify(repository, times(1)).selectLeagueRegulationsByLeague(leagueId);
   }
 
+  @Test
+  @DisplayName("【正常系】複数リーグの比較項目ID一覧の取得_リーグ規定を1度だけ取得し、リーグ規定の順序で返されること_リーグ規定がないリーグはデフォルトの比較項目であること")
+  void getComparisonItemIdsByLeagues() {
+    // Arrange
+    when(repository.selectLeagueRegulations()).thenReturn(List.of(
+        new LeagueRegulation(1, 1, 2, 3),
+        new LeagueRegulation(2, 1, 1, 1),
+        new LeagueRegulation(3, 2, 1, 2),
+        new LeagueRegulation(4, 3, 1, 1)
+    ));
+
+    // Act
+    Map<Integer, List<Integer>> actual = sut.getComparisonItemIdsByLeagues(List.of(1, 2, 4));
+
+    // Assert
+    assertEquals(Map.of(1, List.of(1, 3), 2, List.of(2), 4, List.of(1)), actual);
+    verify(repository, times(1)).selectLeagueRegulations();
+    verify(repository, never()).selectLeagueRegulationsByLeague(anyInt());
+  }
+
   @Test
   @DisplayName("【正常系】国一覧の検索_リポジトリが適切に処理されること")
   void getCountries() {
@@ -547,6 +813,57 @@ class FootballServiceTest {
     verify(repository, times(1)).selectClubs();
   }
 
+  @Test
+  @DisplayName("【正常系】クラブ一覧のページの検索_ページサイズより多く取得できた場合、次ページのトークンで続きが検索されること")
+  void getClubPage() throws FootballException {
+    // Arrange
+    Club club1 = new Club(1, 1, "ClubAAA");
+    Club club2 = new Club(2, 1, "ClubAAB");
+    Club club3 = new Club(3, 2, "ClubABA");
+    when(repository.selectClubsAfter(0, 3)).thenReturn(List.of(club1, club2, club3));
+    when(repository.selectClubsAfter(2, 3)).thenReturn(List.of(club3));
+
+    // Act
+    KeysetPage<Club> actual1 = sut.getClubPage(null, 2);
+    KeysetPage<Club> actual2 = sut.getClubPage(actual1.nextPageToken(), 2);
+
+    // Assert
+    assertEquals(List.of(club1, club2), actual1.items());
+    assertEquals(KeysetPage.encodeToken(2), actual1.nextPageToken());
+    assertEquals(new KeysetPage<>(List.of(club3), null), actual2);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "not-a-token",
+      "aWQ6YWJj", // id:abc
+      "aWQ6MA", // id:0
+      "MTIz" // 123
+  })
+  @DisplayName("【異常系】クラブ一覧のページの検索_トークンが不正な場合に適切に例外処理されること")
+  void getClubPageWithInvalidToken(String pageToken) {
+    // Act & Assert
+    FootballException thrown = assertThrows(FootballException.class, () -> sut.getClubPage(pageToken, 2));
+    assertEquals("Invalid page token", thrown.getMessage());
+    verify(repository, never()).selectClubsAfter(anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の選手試合成績一覧のページの検索_ページサイズ以下の場合、次ページのトークンがnullであること")
+  void getPlayerGameStatPageByPlayer() throws FootballException {
+    int playerId = 1;
+
+    // Arrange
+    PlayerGameStat playerGameStat = new PlayerGameStat(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4, null, null, null);
+    when(repository.selectPlayerGameStatsByPlayerAfter(playerId, 9, 3)).thenReturn(List.of(playerGameStat));
+
+    // Act
+    KeysetPage<PlayerGameStat> actual = sut.getPlayerGameStatPageByPlayer(playerId, KeysetPage.encodeToken(9), 2);
+
+    // Assert
+    assertEquals(new KeysetPage<>(List.of(playerGameStat), null), actual);
+  }
+
   @Test
   @DisplayName("【正常系】選手とシーズンによるクラブIDの取得_リポジトリが適切に処理されること")
   void getClubIdsByPlayerAndSeason() {
@@ -557,6 +874,112 @@ class FootballServiceTest {
     verify(repository, times(1)).selectClubIdsByPlayerAndSeason(playerId, seasonId);
   }
 
+  @Test
+  @DisplayName("【正常系】リーグとシーズンによる集計済み成績の取得_リポジトリが適切に処理されること")
+  void getStandingRecordsByLeagueAndSeason() {
+    int leagueId = 1;
+    int seasonId = 201920;
+
+    sut.getStandingRecordsByLeagueAndSeason(leagueId, seasonId);
+    verify(repository, times(1)).selectStandingsByLeagueAndSeason(leagueId, seasonId);
+  }
+
+  @Test
+  @DisplayName("【正常系】シーズンIDによる全リーグの集計済み成績一覧の検索_リポジトリが適切に処理されること")
+  void getStandingRecordsBySeason() {
+    int seasonId = 201920;
+
+    sut.getStandingRecordsBySeason(seasonId);
+    verify(repository, times(1)).selectStandingsBySeason(seasonId);
+  }
+
+  @Test
+  @DisplayName("【正常系】集計済み成績の再構築_食い違っていた成績が返り、試合結果からの集計で置き換えられること")
+  void rebuildStandings() throws ResourceNotFoundException {
+    // Arrange
+    int leagueId = 1;
+    int seasonId = 201920;
+    when(repository.selectLeague(leagueId)).thenReturn(Optional.of(new League(leagueId, 1, "LeagueAA")));
+    when(repository.selectSeason(seasonId)).thenReturn(Optional.of(
+        new Season(seasonId, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false)));
+    StandingRecord club1Record = new StandingRecord(leagueId, seasonId, 1, 2, 1, 1, 0, 4, 3, 4);
+    StandingRecord club2Record = new StandingRecord(leagueId, seasonId, 2, 2, 0, 1, 1, 3, 4, 1);
+    // club2は1試合分の加算が漏れており、club3は試合がないのに行が残っている状態
+    when(repository.selectStandingsByLeagueAndSeason(leagueId, seasonId)).thenReturn(List.of(
+        club1Record,
+        new StandingRecord(leagueId, seasonId, 2, 1, 0, 0, 1, 1, 2, 0),
+        new StandingRecord(leagueId, seasonId, 3, 1, 1, 0, 0, 1, 0, 3)
+    ));
+    when(repository.selectStandingsCalculatedFromGameResults(leagueId, seasonId)).thenReturn(List.of(club1Record, club2Record));
+
+    // Act
+    List<StandingRecord> actual = sut.rebuildStandings(leagueId, seasonId);
+
+    // Assert
+    assertEquals(List.of(club2Record, new StandingRecord(leagueId, seasonId, 3, 0, 0, 0, 0, 0, 0, 0)), actual);
+    verify(repository, times(1)).deleteStandingsByLeagueAndSeason(leagueId, seasonId);
+    verify(repository, times(1)).upsertStandings(List.of(club1Record, club2Record));
+    verify(eventPublisher, times(1)).publishEvent(new StandingChangedEvent(leagueId, seasonId));
+  }
+
+  @Test
+  @DisplayName("【正常系】全リーグ・全シーズンの集計済み成績の再構築_食い違っていた成績が返り、食い違っていたリーグ・シーズンの順位表のみ変更が通知されること")
+  void rebuildAllStandings() {
+    // Arrange
+    StandingRecord league1Record = new StandingRecord(1, 201920, 1, 2, 1, 1, 0, 4, 3, 4);
+    StandingRecord league2Record = new StandingRecord(2, 201920, 3, 1, 0, 0, 1, 1, 2, 0);
+    // league2のclub3は1試合分の加算が漏れており、league1の202021のclub2は試合がないのに行が残っている状態
+    when(repository.selectStandings()).thenReturn(List.of(
+        league1Record,
+        new StandingRecord(2, 201920, 3, 0, 0, 0, 0, 0, 0, 0),
+        new StandingRecord(1, 202021, 2, 1, 1, 0, 0, 1, 0, 3)
+    ));
+    when(repository.selectStandingsCalculatedFromAllGameResults()).thenReturn(List.of(league1Record, league2Record));
+
+    // Act
+    List<StandingRecord> actual = sut.rebuildAllStandings();
+
+    // Assert
+    assertEquals(List.of(league2Record, new StandingRecord(1, 202021, 2, 0, 0, 0, 0, 0, 0, 0)), actual);
+    verify(repository, times(1)).deleteStandings();
+    verify(repository, times(1)).upsertStandings(List.of(league1Record, league2Record));
+    verify(eventPublisher, times(1)).publishEvent(new StandingChangedEvent(2, 201920));
+    verify(eventPublisher, times(1)).publishEvent(new StandingChangedEvent(1, 202021));
+    verify(eventPublisher, never()).publishEvent(new StandingChangedEvent(1, 201920));
+  }
+
+  @Test
+  @DisplayName("【正常系】選手のシーズン合計成績の再構築_食い違っていた成績が返り、選手試合成績からの集計で置き換えられること")
+  void rebuildPlayerSeasonTotals() {
+    // Arrange
+    PlayerSeasonTotal player1Total = new PlayerSeasonTotal(1, 201920, 1, 2, 2, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20");
+    PlayerSeasonTotal player2Total = new PlayerSeasonTotal(2, 201920, 1, 2, 1, 0, 1, 180, 0, 0, "PlayerAAAB", "ClubAAA", "2019-20");
+    // player2は1試合分の加算が漏れており、player3は出場がないのに行が残っている状態
+    when(repository.selectPlayerSeasonTotals()).thenReturn(List.of(
+        player1Total,
+        new PlayerSeasonTotal(2, 201920, 1, 1, 1, 0, 0, 90, 0, 0, "PlayerAAAB", "ClubAAA", "2019-20"),
+        new PlayerSeasonTotal(3, 201920, 2, 1, 1, 0, 0, 90, 0, 0, "PlayerAABA", "ClubAAB", "2019-20")
+    ));
+    when(repository.selectPlayerSeasonTotalsCalculatedFromPlayerGameStats()).thenReturn(List.of(player1Total, player2Total));
+
+    // Act
+    List<PlayerSeasonTotal> actual = sut.rebuildPlayerSeasonTotals();
+
+    // Assert
+    assertEquals(List.of(player2Total,
+        new PlayerSeasonTotal(3, 201920, 2, 0, 0, 0, 0, 0, 0, 0, "PlayerAABA", "ClubAAB", "2019-20")), actual);
+    verify(repository, times(1)).deletePlayerSeasonTotals();
+    verify(repository, times(1)).upsertPlayerSeasonTotals(List.of(player1Total, player2Total));
+    verify(eventPublisher, times(1)).publishEvent(new PlayerSeasonTotalsRebuiltEvent());
+  }
+
+  @Test
+  @DisplayName("【正常系】選手ランキング用の合計成績一覧の取得_成績項目の列名でリポジトリが呼び出されること")
+  void getPlayerSeasonTotalsForLeaderboard() {
+    sut.getPlayerSeasonTotalsForLeaderboard(1, 201920, LeaderboardStatistic.YELLOW_CARDS, 10);
+    verify(repository, times(1)).selectPlayerSeasonTotalsForLeaderboard(1, 201920, "yellow_cards", 10);
+  }
+
 
   @Test
   @DisplayName("【正常系】シーズンの過去シーズンへの更新_リポジトリが適切に処理されること")
@@ -661,6 +1084,9 @@ class FootballServiceTest {
     when(repository.selectClub(id)).thenReturn(Optional.of(new Club(id, 1, "sampleName")));
     sut.updateClubLeague(id, leagueId);
     verify(repository, times(1)).updateClubLeague(id, leagueId);
+    verify(eventPublisher, times(1)).publishEvent(StandingChangedEvent.ofLeague(1));
+    verify(eventPublisher, times(1)).publishEvent(StandingChangedEvent.ofLeague(leagueId));
+    verify(eventPublisher, times(1)).publishEvent(new ReferenceDataChangedEvent(Kind.CLUB, id));
   }
 
   @Test
@@ -720,16 +1146,11 @@ class FootballServiceTest {
     // Arrange
     FootballService sutSpy = spy(sut);
 
-    PlayerGameStat playerGameStat = new PlayerGameStat(1, playerId, clubId, 1, true, 0, 0, 0, 90, 0, 0, 1, null, null, null);
-    when(repository.selectPlayerGameStatsByPlayerAndSeason(playerId, seasonId))
-        .thenReturn(List.of(playerGameStat));
-
-    GameResult gameResult = new GameResult(1, homeClubId, awayClubId, homeScore, awayScore, winnerClubId, 1, gameDate, 1);
-    doReturn(gameResult).when(sutSpy).getGameResult(1);
-
-    Club opponentClub = mock(Club.class);
-    doReturn(opponentClub).when(sutSpy).getClub(opponentClubId);
-    when(opponentClub.getName()).thenReturn("opponentClubName");
+    String homeClubName = homeClubId == opponentClubId ? "opponentClubName" : "clubName";
+    String awayClubName = awayClubId == opponentClubId ? "opponentClubName" : "clubName";
+    when(repository.selectPlayerGameStatsWithGameByPlayerAndSeason(playerId, seasonId))
+        .thenReturn(List.of(new PlayerGameStatWithGame(1, playerId, clubId, 1, true, 0, 0, 0, 90, 0, 0, 1,
+            seasonId, gameDate, homeClubId, awayClubId, homeScore, awayScore, winnerClubId, homeClubName, awayClubName)));
 
     List<PlayerGameStat> expected = List.of(
         new PlayerGameStat(1, playerId, clubId, 1, true, 0, 0, 0, 90, 0, 0, 1, gameDate, "opponentClubName", score)
@@ -740,9 +1161,91 @@ class FootballServiceTest {
 
     // Assert
     assertEquals(expected, actual);
-    verify(repository, times(1)).selectPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
-    verify(sutSpy, times(1)).getGameResult(1);
-    verify(sutSpy, times(1)).getClub(opponentClubId);
+    verify(repository, times(1)).selectPlayerGameStatsWithGameByPlayerAndSeason(playerId, seasonId);
+    // 試合結果・クラブを1件ずつ取得しないこと
+    verify(sutSpy, never()).getGameResult(anyInt());
+    verify(sutSpy, never()).getClub(anyInt());
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の全シーズンの選手試合成績をシーズンごとにまとめて取得できること_1回のクエリの結果をシーズン順にまとめること")
+  void getPlayerGameStatsByPlayerGroupedBySeason() {
+    int playerId = 1;
+
+    // Arrange
+    when(repository.selectPlayerGameStatsWithGameByPlayerOrderBySeason(playerId)).thenReturn(List.of(
+        new PlayerGameStatWithGame(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1,
+            201920, LocalDate.of(2019, 8, 1), 1, 2, 2, 1, 1, "ClubAAA", "ClubAAB"),
+        new PlayerGameStatWithGame(9, playerId, 1, 1, true, 0, 0, 0, 90, 0, 0, 3,
+            201920, LocalDate.of(2019, 8, 2), 2, 1, 2, 2, null, "ClubAAB", "ClubAAA"),
+        new PlayerGameStatWithGame(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4,
+            202021, LocalDate.of(2020, 8, 3), 1, 2, 1, 2, 2, "ClubAAA", "ClubAAB")
+    ));
+    Map<Integer, List<PlayerGameStat>> expected = Map.of(
+        201920, List.of(
+            new PlayerGameStat(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, LocalDate.of(2019, 8, 1), "ClubAAB", "○2-1"),
+            new PlayerGameStat(9, playerId, 1, 1, true, 0, 0, 0, 90, 0, 0, 3, LocalDate.of(2019, 8, 2), "ClubAAB", "△2-2")),
+        202021, List.of(
+            new PlayerGameStat(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4, LocalDate.of(2020, 8, 3), "ClubAAB", "●1-2"))
+    );
+
+    // Act
+    Map<Integer, List<PlayerGameStat>> actual = sut.getPlayerGameStatsByPlayerGroupedBySeason(playerId);
+
+    // Assert
+    assertEquals(expected, actual);
+    assertEquals(List.of(201920, 202021), List.copyOf(actual.keySet()));
+    verify(repository, times(1)).selectPlayerGameStatsWithGameByPlayerOrderBySeason(playerId);
+    verify(repository, never()).selectPlayerGameStatsWithGameByPlayerAndSeason(anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("【正常系】選手の全試合成績の書き出し_Cursorから1件ずつ変換して書き出し、最後にCursorが閉じられること")
+  void writePlayerGameLog() throws IOException {
+    int playerId = 1;
+
+    // Arrange
+    @SuppressWarnings("unchecked")
+    Cursor<PlayerGameStatWithGame> cursor = mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(List.of(
+        new PlayerGameStatWithGame(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1,
+            201920, LocalDate.of(2019, 8, 1), 1, 2, 2, 1, 1, "ClubAAA", "ClubAAB"),
+        new PlayerGameStatWithGame(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4,
+            202021, LocalDate.of(2020, 8, 3), 1, 2, 1, 2, 2, "ClubAAA", "ClubAAB")
+    ).iterator());
+    when(repository.selectPlayerGameStatsWithGameByPlayer(playerId)).thenReturn(cursor);
+    List<PlayerGameStat> expected = List.of(
+        new PlayerGameStat(1, playerId, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, LocalDate.of(2019, 8, 1), "ClubAAB", "○2-1"),
+        new PlayerGameStat(13, playerId, 1, 1, false, 0, 0, 0, 90, 0, 0, 4, LocalDate.of(2020, 8, 3), "ClubAAB", "●1-2")
+    );
+
+    // Act
+    List<PlayerGameStat> actual = new ArrayList<>();
+    sut.writePlayerGameLog(playerId, actual::add);
+
+    // Assert
+    assertEquals(expected, actual);
+    verify(cursor, times(1)).close();
+  }
+
+  @Test
+  @DisplayName("【異常系】選手の全試合成績の書き出し_書き出しに失敗した場合も例外がそのまま投げられ、Cursorが閉じられること")
+  void writePlayerGameLogWhenWriterFails() throws IOException {
+    // Arrange
+    @SuppressWarnings("unchecked")
+    Cursor<PlayerGameStatWithGame> cursor = mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(List.of(
+        new PlayerGameStatWithGame(1, 1, 1, 1, true, 1, 0, 0, 90, 0, 0, 1,
+            201920, LocalDate.of(2019, 8, 1), 1, 2, 2, 1, 1, "ClubAAA", "ClubAAB")
+    ).iterator());
+    when(repository.selectPlayerGameStatsWithGameByPlayer(1)).thenReturn(cursor);
+
+    // Act & Assert
+    IOException thrown = assertThrows(IOException.class, () -> sut.writePlayerGameLog(1, playerGameStat -> {
+      throw new IOException("Broken pipe");
+    }));
+    assertEquals("Broken pipe", thrown.getMessage());
+    verify(cursor, times(1)).close();
   }
 
 
@@ -803,12 +1306,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -822,7 +1327,35 @@ class FootballServiceTest {
     verify(sutSpy, times(1)).getCurrentSeason();
     verify(repository, times(1)).selectLeague(anyInt());
     verify(sutSpy, times(2)).getClub(anyInt());
-    verify(sutSpy, times(23)).getPlayer(anyInt());
+    // 選手は1回のクエリでまとめて取得する
+    verify(sutSpy, times(1)).getPlayersByIds(any());
+    verify(sutSpy, never()).getPlayer(anyInt());
+    // 選手試合成績は両クラブ分を1回で登録する
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PlayerGameStat>> insertCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).insertPlayerGameStats(insertCaptor.capture());
+    verify(repository, never()).insertPlayerGameStat(any());
+    assertEquals(23, insertCaptor.getValue().size());
+    assertEquals(1, insertCaptor.getValue().getFirst().getPlayerId());
+    assertEquals(13, insertCaptor.getValue().get(12).getPlayerId());
+    assertTrue(insertCaptor.getValue().stream().allMatch(playerGameStat -> playerGameStat.getGameId() == gameResult.getId()));
+    // 選手のシーズン合計成績は1回でまとめて加算する
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PlayerSeasonTotal>> totalsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).upsertPlayerSeasonTotals(totalsCaptor.capture());
+    assertEquals(23, totalsCaptor.getValue().size());
+    assertTrue(totalsCaptor.getValue().contains(new PlayerSeasonTotal(1, 1, 1, 1, 1, 1, 0, 90, 1, 0, null, null, null)));
+    assertTrue(totalsCaptor.getValue().contains(new PlayerSeasonTotal(12, 1, 1, 1, 0, 0, 0, 20, 0, 0, null, null, null)));
+    // 順位表変更イベントと合わせて発行されるため、選手試合成績登録イベントのみを取り出す
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+    List<PlayerGameStatsRegisteredEvent> registeredEvents = eventCaptor.getAllValues().stream()
+        .filter(PlayerGameStatsRegisteredEvent.class::isInstance)
+        .map(PlayerGameStatsRegisteredEvent.class::cast)
+        .toList();
+    assertEquals(1, registeredEvents.size());
+    assertEquals(1, registeredEvents.getFirst().seasonId());
+    assertEquals(23, registeredEvents.getFirst().playerGameStats().size());
   }
 
   @Test
@@ -843,8 +1376,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 99, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 99, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 99, "sampleName", 1));
+    players.put(13, new Player(13, 99, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
 
@@ -870,8 +1405,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 99, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 99, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 99, "sampleName", 1));
+    players.put(13, new Player(13, 99, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.empty());
@@ -898,8 +1435,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 99, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 99, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 99, "sampleName", 1));
+    players.put(13, new Player(13, 99, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -929,8 +1468,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 99, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 99, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 99, "sampleName", 1));
+    players.put(13, new Player(13, 99, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -961,8 +1502,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 99, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 99, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 99, "sampleName", 1));
+    players.put(13, new Player(13, 99, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -993,8 +1536,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 1, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 99, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 1, "sampleName", 1));
+    players.put(13, new Player(13, 99, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1026,8 +1571,10 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
-    doReturn(new Player(1, 1, "sampleName", 1)).when(sutSpy).getPlayer(1);
-    doReturn(new Player(13, 2, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    Map<Integer, Player> players = new HashMap<>();
+    players.put(1, new Player(1, 1, "sampleName", 1));
+    players.put(13, new Player(13, 2, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1059,10 +1606,12 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
-    doReturn(new Player(13, 2, "sampleName", 1)).when(sutSpy).getPlayer(13);
+    players.put(13, new Player(13, 2, "sampleName", 1));
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1110,12 +1659,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1162,12 +1713,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1214,12 +1767,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1266,12 +1821,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1318,12 +1875,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1371,12 +1930,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1423,12 +1984,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1475,12 +2038,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1527,12 +2092,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1579,12 +2146,14 @@ class FootballServiceTest {
 
     GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
 
+    Map<Integer, Player> players = new HashMap<>();
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1));
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      doReturn(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)).when(sutSpy).getPlayer(playerGameStat.getPlayerId());
+      players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1));
     }
+    doReturn(players).when(sutSpy).getPlayersByIds(any());
 
     doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
@@ -1596,6 +2165,205 @@ class FootballServiceTest {
     assertEquals("Away minutes must be between 990 and 1000", thrown.getMessage());
   }
 
+  @Test
+  @DisplayName("【正常系】複数試合の整合性確認_シーズン・リーグ・クラブ・選手を1度だけ取得し、試合ごとの確認結果が返されること")
+  void confirmGameResultsAndPlayerGameStats() throws ResourceNotFoundException {
+    // Arrange
+    FootballService sutSpy = spy(sut);
+    // 1試合目は問題なし（欠場選手99は存在しないが除外される）、2試合目は選手44が存在しない、3試合目はアウェイクラブがリーグに所属していない
+    GameResultWithPlayerStats game1 = createGameResultWithPlayerStats(1, 1, 2, 1);
+    game1.getHomePlayerGameStats().add(new PlayerGameStat(0, 99, 0, 0, false, 0, 0, 0, 0, 0, 0, 0, null, null, null));
+    GameResultWithPlayerStats game2 = createGameResultWithPlayerStats(2, 3, 4, 23);
+    GameResultWithPlayerStats game3 = createGameResultWithPlayerStats(3, 5, 6, 45);
+
+    doReturn(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), true)).when(sutSpy).getCurrentSeason();
+    when(repository.selectLeaguesByIds(List.of(1))).thenReturn(Map.of(1, new League(1, 1, "sampleName")));
+    Map<Integer, Club> clubs = new HashMap<>();
+    IntStream.rangeClosed(1, 5).forEach(id -> clubs.put(id, new Club(id, 1, "sampleName")));
+    clubs.put(6, new Club(6, 2, "sampleName"));
+    when(repository.selectClubsByIds(any())).thenReturn(clubs);
+    Map<Integer, Player> players = new HashMap<>();
+    for (GameResultWithPlayerStats game : List.of(game1, game2, game3)) {
+      GameResult gameResult = game.getGameResult();
+      game.getHomePlayerGameStats().forEach(playerGameStat ->
+          players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), gameResult.getHomeClubId(), "sampleName", 1)));
+      game.getAwayPlayerGameStats().forEach(playerGameStat ->
+          players.put(playerGameStat.getPlayerId(), new Player(playerGameStat.getPlayerId(), gameResult.getAwayClubId(), "sampleName", 1)));
+    }
+    players.remove(44);
+    players.remove(99);
+    when(repository.selectPlayersByIds(any())).thenReturn(players);
+
+    // Act
+    List<GameRegistrationStatus> actual = sutSpy.confirmGameResultsAndPlayerGameStats(List.of(game1, game2, game3));
+
+    // Assert
+    assertEquals(List.of(
+        GameRegistrationStatus.validated(0),
+        GameRegistrationStatus.rejected(1, Status.NOT_FOUND, "Players not found: [44]"),
+        GameRegistrationStatus.rejected(2, Status.INVALID, "Away club is not in the league")
+    ), actual);
+    verify(sutSpy, times(1)).getCurrentSeason();
+    verify(repository, times(1)).selectLeaguesByIds(any());
+    verify(repository, never()).selectLeague(anyInt());
+    verify(repository, times(1)).selectClubsByIds(any());
+    verify(repository, times(1)).selectPlayersByIds(any());
+    verify(sutSpy, never()).getClub(anyInt());
+    // 欠場選手は除外され、出場選手にはclubIdが設定される
+    assertEquals(11, game1.getHomePlayerGameStats().size());
+    assertEquals(2, game1.getAwayPlayerGameStats().getFirst().getClubId());
+  }
+
+  @Test
+  @DisplayName("【正常系】複数試合の確認・登録_全試合に問題がない場合、登録され登録済みの状態が返されること")
+  void confirmAndRegisterGameResults() throws ResourceNotFoundException {
+    // Arrange
+    FootballService sutSpy = spy(sut);
+    GameResultWithPlayerStats game1 = createGameResultWithPlayerStats(1, 1, 2, 1);
+    GameResultWithPlayerStats game2 = createGameResultWithPlayerStats(2, 3, 4, 23);
+    List<GameResultWithPlayerStats> games = List.of(game1, game2);
+    doReturn(List.of(GameRegistrationStatus.validated(0), GameRegistrationStatus.validated(1)))
+        .when(sutSpy).confirmGameResultsAndPlayerGameStats(games);
+    doNothing().when(sutSpy).registerConfirmedGameResults(games);
+
+    // Act
+    List<GameRegistrationStatus> actual = sutSpy.confirmAndRegisterGameResults(games);
+
+    // Assert
+    assertEquals(List.of(
+        new GameRegistrationStatus(0, Status.REGISTERED, 1, null),
+        new GameRegistrationStatus(1, Status.REGISTERED, 2, null)), actual);
+    verify(sutSpy, times(1)).registerConfirmedGameResults(games);
+  }
+
+  @Test
+  @DisplayName("【異常系】複数試合の確認・登録_問題のある試合がある場合、何も登録されず確認結果が返されること")
+  void confirmAndRegisterGameResultsWhenRejected() throws ResourceNotFoundException {
+    // Arrange
+    FootballService sutSpy = spy(sut);
+    List<GameResultWithPlayerStats> games = List.of(createGameResultWithPlayerStats(1, 1, 2, 1), createGameResultWithPlayerStats(2, 3, 4, 23));
+    List<GameRegistrationStatus> statuses = List.of(
+        GameRegistrationStatus.validated(0), GameRegistrationStatus.rejected(1, Status.NOT_FOUND, "Club not found"));
+    doReturn(statuses).when(sutSpy).confirmGameResultsAndPlayerGameStats(games);
+
+    // Act
+    List<GameRegistrationStatus> actual = sutSpy.confirmAndRegisterGameResults(games);
+
+    // Assert
+    assertEquals(statuses, actual);
+    verify(sutSpy, never()).registerConfirmedGameResults(anyList());
+  }
+
+  @Test
+  @DisplayName("【正常系】確認済みの複数試合の登録_試合結果と選手試合成績がそれぞれ1回のINSERTで登録され、集計済み成績が更新されること")
+  void registerConfirmedGameResults() {
+    // Arrange
+    GameResultWithPlayerStats game1 = createGameResultWithPlayerStats(1, 1, 2, 1);
+    GameResultWithPlayerStats game2 = createGameResultWithPlayerStats(2, 3, 4, 23);
+
+    // Act
+    sut.registerConfirmedGameResults(List.of(game1, game2));
+
+    // Assert
+    verify(repository, times(1)).insertGameResults(List.of(game1.getGameResult(), game2.getGameResult()));
+    verify(repository, never()).insertGameResult(any());
+    // 集計済み成績は両試合の両クラブ分を1回でまとめて加算する
+    verify(repository, times(1)).upsertStandings(List.of(
+        StandingRecord.of(game1.getGameResult(), 1), StandingRecord.of(game1.getGameResult(), 2),
+        StandingRecord.of(game2.getGameResult(), 3), StandingRecord.of(game2.getGameResult(), 4)));
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PlayerGameStat>> insertCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).insertPlayerGameStats(insertCaptor.capture());
+    assertEquals(44, insertCaptor.getValue().size());
+    assertEquals(1, insertCaptor.getValue().getFirst().getGameId());
+    assertEquals(2, insertCaptor.getValue().getLast().getGameId());
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PlayerSeasonTotal>> totalsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).upsertPlayerSeasonTotals(totalsCaptor.capture());
+    assertEquals(44, totalsCaptor.getValue().size());
+    // 順位表変更イベントはリーグ・シーズンごとに1回、選手試合成績登録イベントは試合ごとに発行される
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher, times(3)).publishEvent(eventCaptor.capture());
+    assertEquals(new StandingChangedEvent(1, 1), eventCaptor.getAllValues().getFirst());
+    List<PlayerGameStatsRegisteredEvent> registeredEvents = eventCaptor.getAllValues().stream()
+        .filter(PlayerGameStatsRegisteredEvent.class::isInstance)
+        .map(PlayerGameStatsRegisteredEvent.class::cast)
+        .toList();
+    assertEquals(2, registeredEvents.size());
+    assertEquals(22, registeredEvents.getLast().playerGameStats().size());
+  }
+
+  @Test
+  @DisplayName("【正常系】確認済みの複数試合の登録_同じ選手・クラブが複数試合に出場している場合、選手・クラブごとに合算して1回で加算されること")
+  void registerConfirmedGameResultsWithSamePlayers() {
+    // Arrange
+    // 同じ22選手が2試合に出場している（各試合で1人目がゴール）
+    GameResultWithPlayerStats game1 = createGameResultWithPlayerStats(1, 1, 2, 1);
+    GameResultWithPlayerStats game2 = createGameResultWithPlayerStats(2, 1, 2, 1);
+
+    // Act
+    sut.registerConfirmedGameResults(List.of(game1, game2));
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PlayerSeasonTotal>> totalsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).upsertPlayerSeasonTotals(totalsCaptor.capture());
+    assertEquals(22, totalsCaptor.getValue().size());
+    assertEquals(new PlayerSeasonTotal(1, 1, 0, 2, 2, 2, 0, 180, 0, 0, null, null, null), totalsCaptor.getValue().getFirst());
+    assertEquals(new PlayerSeasonTotal(22, 1, 0, 2, 2, 0, 0, 180, 0, 0, null, null, null), totalsCaptor.getValue().getLast());
+    // 同じクラブの集計済み成績も2試合分を合算して1回で加算する
+    verify(repository, times(1)).upsertStandings(List.of(
+        new StandingRecord(1, 1, 1, 2, 0, 2, 0, 2, 2, 2),
+        new StandingRecord(1, 1, 2, 2, 0, 2, 0, 2, 2, 2)));
+  }
+
+  @Test
+  @DisplayName("【正常系】過去シーズンの複数試合の整合性確認_辞書のみを参照し、現在の所属によらずclubIdに試合のクラブが設定されること")
+  void confirmHistoricalGameResultsAndPlayerGameStats() {
+    // Arrange
+    // 1試合目は問題なし（選手の現在の所属クラブは試合のクラブと異なる）、2試合目はシーズン外の試合日、3試合目は選手44が存在しない
+    GameResultWithPlayerStats game1 = createGameResultWithPlayerStats(1, 1, 2, 1);
+    GameResultWithPlayerStats game2 = createGameResultWithPlayerStats(2, 1, 2, 1);
+    game2.getGameResult().setGameDate(LocalDate.of(2025, 8, 1));
+    GameResultWithPlayerStats game3 = createGameResultWithPlayerStats(3, 3, 4, 23);
+    List<Player> players = IntStream.rangeClosed(1, 43)
+        .mapToObj(id -> new Player(id, 9, "sampleName", id))
+        .toList();
+    GameImportDictionary dictionary = GameImportDictionary.of(
+        List.of(new Season(1, "2024-25", LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30), false)),
+        List.of(new League(1, 1, "sampleName")),
+        IntStream.rangeClosed(1, 4).mapToObj(id -> new Club(id, 2, "sampleName")).toList(),
+        players);
+
+    // Act
+    List<GameRegistrationStatus> actual = sut.confirmHistoricalGameResultsAndPlayerGameStats(List.of(game1, game2, game3), dictionary);
+
+    // Assert
+    assertEquals(List.of(
+        GameRegistrationStatus.validated(0),
+        GameRegistrationStatus.rejected(1, Status.INVALID, "Game date must be in the season period"),
+        GameRegistrationStatus.rejected(2, Status.NOT_FOUND, "Players not found: [44]")
+    ), actual);
+    assertEquals(1, game1.getHomePlayerGameStats().getFirst().getClubId());
+    assertEquals(2, game1.getAwayPlayerGameStats().getFirst().getClubId());
+    assertEquals(12, game1.getAwayPlayerGameStats().getFirst().getNumber());
+    verify(repository, never()).selectLeague(anyInt());
+  }
+
+  @Test
+  @DisplayName("【正常系】過去シーズンの取込の1バッチ分の登録_試合結果と共に取込済みの最終行番号が更新されること")
+  void registerImportedGameResults() {
+    // Arrange
+    GameResultWithPlayerStats game = createGameResultWithPlayerStats(1, 1, 2, 1);
+
+    // Act
+    sut.registerImportedGameResults("/data/import/games.ndjson", "a".repeat(64), List.of(game), 500);
+
+    // Assert
+    verify(repository, times(1)).insertGameResults(List.of(game.getGameResult()));
+    verify(repository, times(1)).upsertGameImportCheckpoint("/data/import/games.ndjson", "a".repeat(64), 500);
+  }
+
   @Test
   @DisplayName("【正常系】選手試合成績の登録用に変換_ブラックボックステスト")
   void convertPlayerGameStatsForInsertToPlayerGameStats() {
@@ -1647,4 +2415,17 @@ class FootballServiceTest {
     assertEquals(expected, actual);
   }
 
+  // 両クラブ11人ずつ先発・90分出場し、先頭の選手が1ゴールずつ決めた1-1の試合を作成（選手IDはfirstPlayerIdから連番）
+  private GameResultWithPlayerStats createGameResultWithPlayerStats(int gameId, int homeClubId, int awayClubId, int firstPlayerId) {
+    GameResult gameResult = new GameResult(gameId, homeClubId, awayClubId, 1, 1, null, 1, LocalDate.of(2024, 8, 1), 1);
+    List<PlayerGameStat> homeClubStats = new ArrayList<>();
+    List<PlayerGameStat> awayClubStats = new ArrayList<>();
+    for (int i = 0; i < 11; i++) {
+      int goals = i == 0 ? 1 : 0;
+      homeClubStats.add(new PlayerGameStat(0, firstPlayerId + i, 0, 0, true, goals, 0, 0, 90, 0, 0, 0, null, null, null));
+      awayClubStats.add(new PlayerGameStat(0, firstPlayerId + 11 + i, 0, 0, true, goals, 0, 0, 90, 0, 0, 0, null, null, null));
+    }
+    return new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
+  }
+
 }
@@ -0,0 +1,62 @@
+package football.StatsManagement.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.domain.PlayerForm;
+import football.StatsManagement.model.domain.PlayerForm.FormWindow;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlayerFormWindowTest {
+
+  private static final LocalDate START_DATE = LocalDate.of(2019, 8, 1);
+
+  @Test
+  @DisplayName("【正常系】toPlayerFormメソッド_10試合を超えて追加した場合_直近5試合・10試合とシーズン全体の成績が適切であること")
+  void toPlayerFormAfterWrapAround() {
+    // Arrange
+    PlayerFormWindow sut = new PlayerFormWindow();
+    // i試合目はi得点、i % 2アシスト、i * 10分出場（1～12試合目）
+    for (int i = 1; i <= 12; i++) {
+      sut.append(i, START_DATE.plusDays(i), i, i % 2, i * 10);
+    }
+
+    // Act
+    PlayerForm actual = sut.toPlayerForm(1, 201920);
+
+    // Assert
+    assertEquals(new PlayerForm(1, 201920,
+        FormWindow.of(12, 78, 6, 780),
+        FormWindow.of(5, 50, 2, 500), // 8～12試合目
+        FormWindow.of(10, 75, 5, 750) // 3～12試合目
+    ), actual);
+    assertEquals(9.0, actual.last5().goalsPer90());
+  }
+
+  @Test
+  @DisplayName("【正常系】toPlayerFormメソッド_出場がない場合は全項目0であること")
+  void toPlayerFormWithoutGames() {
+    // Act
+    PlayerForm actual = new PlayerFormWindow().toPlayerForm(1, 201920);
+
+    // Assert
+    assertEquals(new FormWindow(0, 0, 0, 0, 0, 0), actual.season());
+    assertEquals(new FormWindow(0, 0, 0, 0, 0, 0), actual.last10());
+  }
+
+  @Test
+  @DisplayName("【異常系】appendメソッド_最後の出場より前の試合日または同じ出場の場合_追加されないこと")
+  void appendRejectsOutOfOrder() {
+    // Arrange
+    PlayerFormWindow sut = new PlayerFormWindow();
+    sut.append(5, START_DATE.plusDays(5), 1, 0, 90);
+
+    // Act & Assert
+    assertFalse(sut.append(4, START_DATE.plusDays(4), 1, 0, 90));
+    assertFalse(sut.append(5, START_DATE.plusDays(5), 1, 0, 90));
+    assertTrue(sut.append(6, START_DATE.plusDays(5), 1, 0, 90));
+    assertEquals(2, sut.toPlayerForm(1, 201920).season().games());
+  }
+
+}
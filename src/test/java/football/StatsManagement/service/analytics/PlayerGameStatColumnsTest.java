@@ -0,0 +1,83 @@
+package football.StatsManagement.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlayerGameStatColumnsTest {
+
+  private PlayerGameStatColumns sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new PlayerGameStatColumns();
+    // 選手1: 201920はクラブ2→クラブ1の順に出場、202021はクラブ1
+    sut.append(1, 1, 2, 1, 201920, true, 1, 0, 90, 1, 0);
+    sut.append(2, 1, 1, 2, 201920, false, 0, 1, 30, 0, 0);
+    sut.append(3, 1, 1, 3, 201920, true, 2, 0, 90, 0, 1);
+    sut.append(4, 1, 1, 4, 202021, true, 0, 0, 90, 0, 0);
+    // 選手2
+    sut.append(5, 2, 1, 1, 201920, true, 0, 0, 90, 0, 0);
+  }
+
+  @Test
+  @DisplayName("【正常系】aggregatePlayerSeasonTotalsメソッド_シーズン・クラブごとにシーズンID・クラブID順で集計されること")
+  void aggregatePlayerSeasonTotals() {
+    // Act
+    List<PlayerSeasonTotal> actual = sut.aggregatePlayerSeasonTotals(1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    // Assert
+    assertEquals(List.of(
+        new PlayerSeasonTotal(1, 201920, 1, 2, 1, 2, 1, 120, 0, 1, null, null, null),
+        new PlayerSeasonTotal(1, 201920, 2, 1, 1, 1, 0, 90, 1, 0, null, null, null),
+        new PlayerSeasonTotal(1, 202021, 1, 1, 1, 0, 0, 90, 0, 0, null, null, null)
+    ), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】aggregatePlayerSeasonTotalsメソッド_指定した範囲のシーズンのみ集計されること")
+  void aggregatePlayerSeasonTotalsWithSeasonRange() {
+    // Act
+    List<PlayerSeasonTotal> actual = sut.aggregatePlayerSeasonTotals(1, 202021, 202122);
+
+    // Assert
+    assertEquals(List.of(new PlayerSeasonTotal(1, 202021, 1, 1, 1, 0, 0, 90, 0, 0, null, null, null)), actual);
+    assertEquals(List.of(), sut.aggregatePlayerSeasonTotals(99, 201920, 202021));
+  }
+
+  @Test
+  @DisplayName("【正常系】appendメソッド_同じIDの行は2度追加されないこと")
+  void appendIgnoresDuplicateId() {
+    // Act
+    boolean actual = sut.append(5, 2, 1, 1, 201920, true, 0, 0, 90, 0, 0);
+
+    // Assert
+    assertFalse(actual);
+    assertEquals(5, sut.size());
+    assertEquals(1, sut.aggregatePlayerSeasonTotals(2, 201920, 201920).getFirst().getGames());
+  }
+
+  @Test
+  @DisplayName("【正常系】estimateFootprintBytesメソッド_100万行の列の使用量が1行あたり9列分（容量の拡張分を含む）であること")
+  void estimateFootprintBytes() {
+    // Arrange
+    PlayerGameStatColumns columns = new PlayerGameStatColumns();
+    // 1000選手×1000試合（索引は1000件）
+    for (int i = 0; i < 1_000_000; i++) {
+      columns.append(i + 1, i % 1000 + 1, 1, i / 1000 + 1, 201920, true, 0, 0, 90, 0, 0);
+    }
+
+    // Act
+    long actual = columns.estimateFootprintBytes();
+
+    // Assert
+    long columnBytes = 9L * Integer.BYTES * (1 << 20);
+    assertTrue(actual > columnBytes, "actual: " + actual);
+    assertTrue(actual < columnBytes + 12_000_000L, "actual: " + actual);
+  }
+
+}
@@ -0,0 +1,99 @@
+package football.StatsManagement.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.model.entity.PlayerGameStatWithSeason;
+import football.StatsManagement.model.entity.PlayerSeasonTotal;
+import football.StatsManagement.service.FootballService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerGameStatStoreTest {
+
+  @Mock
+  private FootballService footballService;
+
+  private PlayerGameStatStore sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new PlayerGameStatStore(footballService, true);
+  }
+
+  @Test
+  @DisplayName("【正常系】aggregatePlayerSeasonTotalsメソッド_全選手試合成績の読み込みは初回の集計時に1度だけ行われること")
+  void aggregatePlayerSeasonTotalsLoadsOnce() {
+    // Arrange
+    mockLoad(new PlayerGameStatWithSeason(1, 1, 1, 1, 201920, true, 1, 0, 90, 0, 0));
+
+    // Act
+    List<PlayerSeasonTotal> actual1 = sut.aggregatePlayerSeasonTotals(1, 201920, 201920);
+    List<PlayerSeasonTotal> actual2 = sut.aggregatePlayerSeasonTotals(1, 201920, 201920);
+
+    // Assert
+    PlayerSeasonTotal expected = new PlayerSeasonTotal(1, 201920, 1, 1, 1, 1, 0, 90, 0, 0, null, null, null);
+    assertEquals(List.of(expected), actual1);
+    assertEquals(List.of(expected), actual2);
+    verify(footballService, times(1)).forEachPlayerGameStatWithSeason(any());
+  }
+
+  @Test
+  @DisplayName("【正常系】onPlayerGameStatsRegisteredメソッド_読み込み後の登録は追加され、読み込み済みの行は重複しないこと")
+  void onPlayerGameStatsRegisteredAfterLoad() {
+    // Arrange
+    mockLoad(new PlayerGameStatWithSeason(1, 1, 1, 1, 201920, true, 1, 0, 90, 0, 0));
+    sut.aggregatePlayerSeasonTotals(1, 201920, 201920);
+    List<PlayerGameStat> playerGameStats = List.of(
+        // ID1は読み込み時に取得済み
+        new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(2, 1, 1, 1, false, 0, 1, 0, 20, 1, 0, 2, null, null, null)
+    );
+
+    // Act
+    sut.onPlayerGameStatsRegistered(new PlayerGameStatsRegisteredEvent(201920, LocalDate.of(2019, 8, 1), playerGameStats));
+
+    // Assert
+    assertEquals(2, sut.size());
+    assertEquals(List.of(new PlayerSeasonTotal(1, 201920, 1, 2, 1, 1, 1, 110, 1, 0, null, null, null)),
+        sut.aggregatePlayerSeasonTotals(1, 201920, 201920));
+  }
+
+  @Test
+  @DisplayName("【正常系】onPlayerGameStatsRegisteredメソッド_読み込み前の登録は無視されること")
+  void onPlayerGameStatsRegisteredBeforeLoad() {
+    // Act
+    sut.onPlayerGameStatsRegistered(new PlayerGameStatsRegisteredEvent(201920, LocalDate.of(2019, 8, 1),
+        List.of(new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, null, null, null))));
+
+    // Assert
+    assertEquals(0, sut.size());
+    assertEquals(0, sut.estimateFootprintBytes());
+    verify(footballService, never()).forEachPlayerGameStatWithSeason(any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockLoad(PlayerGameStatWithSeason... rows) {
+    doAnswer(invocation -> {
+      Consumer<PlayerGameStatWithSeason> consumer = invocation.getArgument(0);
+      for (PlayerGameStatWithSeason row : rows) {
+        consumer.accept(row);
+      }
+      return null;
+    }).when(footballService).forEachPlayerGameStatWithSeason(any());
+  }
+
+}
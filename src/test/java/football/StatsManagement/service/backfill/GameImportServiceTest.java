@@ -0,0 +1,271 @@
+package football.StatsManagement.service.backfill;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import football.StatsManagement.exception.ResourceConflictException;
+import football.StatsManagement.model.entity.GameImportCheckpoint;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.model.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.response.GameRegistrationStatus;
+import football.StatsManagement.model.response.GameRegistrationStatus.Status;
+import football.StatsManagement.model.response.GameResultWithPlayerStats;
+import football.StatsManagement.service.FactoryService;
+import football.StatsManagement.service.FootballService;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class GameImportServiceTest {
+
+  @Mock
+  private FootballService footballService;
+
+  @Mock
+  private FactoryService factoryService;
+
+  @TempDir
+  private Path tempDir;
+
+  private GameImportService sut;
+
+  private final List<GameImportReport> progresses = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    sut = new GameImportService(footballService, factoryService, Jackson2ObjectMapperBuilder.json().build(),
+        Validation.buildDefaultValidatorFactory().getValidator(), 2);
+  }
+
+  @Test
+  @DisplayName("【正常系】ファイルの取込_バッチサイズごとに取込済みの最終行番号と共にコミットされ、問題のある行は登録されないこと")
+  void importFile() throws IOException, ResourceConflictException {
+    // Arrange
+    // 2行目は形式が不正、5行目は整合性に問題がある
+    Path file = writeFile(gameLine(1), "{not json", gameLine(3), gameLine(4), gameLine(5));
+    stubCreateGameResultWithPlayerStats();
+    when(footballService.confirmHistoricalGameResultsAndPlayerGameStats(anyList(), any()))
+        .thenReturn(List.of(GameRegistrationStatus.validated(0), GameRegistrationStatus.validated(1)))
+        .thenReturn(List.of(GameRegistrationStatus.validated(0),
+            GameRegistrationStatus.rejected(1, Status.INVALID, "Home starter count must be 11")));
+
+    // Act
+    GameImportReport actual = sut.importFile(file, false, progresses::add);
+
+    // Assert
+    assertEquals(file.toAbsolutePath().normalize().toString(), actual.importKey());
+    assertEquals(0, actual.resumedFromLine());
+    assertEquals(5, actual.lastCommittedLine());
+    assertEquals(3, actual.importedCount());
+    assertEquals(List.of(
+        new GameImportRejection(2, Status.INVALID, "Malformed JSON"),
+        new GameImportRejection(5, Status.INVALID, "Home starter count must be 11")
+    ), actual.rejections());
+    assertEquals(List.of(List.of(1, 3), List.of(4)), captureRegisteredGameDays(file, 3L, 5L));
+    assertEquals(List.of(3L, 5L), progresses.stream().map(GameImportReport::lastCommittedLine).toList());
+    // 辞書は取込の開始時に1度だけ読み込む
+    verify(footballService, times(1)).getPlayers();
+  }
+
+  @Test
+  @DisplayName("【正常系】ファイルの取込_前回の取込が中断していた場合、取込済みの最終行の次の行から再開されること")
+  void importFileResumesFromCheckpoint() throws IOException, ResourceConflictException {
+    // Arrange
+    Path file = writeFile(gameLine(1), gameLine(2), gameLine(3));
+    when(footballService.getGameImportCheckpoint(importKey(file)))
+        .thenReturn(Optional.of(new GameImportCheckpoint(importKey(file), contentHash(file), 2L)));
+    stubCreateGameResultWithPlayerStats();
+    when(footballService.confirmHistoricalGameResultsAndPlayerGameStats(anyList(), any()))
+        .thenReturn(List.of(GameRegistrationStatus.validated(0)));
+
+    // Act
+    GameImportReport actual = sut.importFile(file, false, progresses::add);
+
+    // Assert
+    assertEquals(2, actual.resumedFromLine());
+    assertEquals(3, actual.lastCommittedLine());
+    assertEquals(1, actual.importedCount());
+    assertEquals(List.of(List.of(3)), captureRegisteredGameDays(file, 3L));
+    verify(factoryService, times(1)).createGameResultWithPlayerStats(any());
+  }
+
+  @Test
+  @DisplayName("【正常系】ファイルの取込_取込済みのファイルを再度取り込んだ場合、何も登録されないこと")
+  void importFileWhenAlreadyImported() throws IOException, ResourceConflictException {
+    // Arrange
+    Path file = writeFile(gameLine(1), gameLine(2));
+    when(footballService.getGameImportCheckpoint(importKey(file)))
+        .thenReturn(Optional.of(new GameImportCheckpoint(importKey(file), contentHash(file), 2L)));
+
+    // Act
+    GameImportReport actual = sut.importFile(file, false, progresses::add);
+
+    // Assert
+    assertEquals(0, actual.importedCount());
+    assertTrue(progresses.isEmpty());
+    verify(footballService, never()).registerImportedGameResults(any(), any(), anyList(), anyLong());
+  }
+
+  @Test
+  @DisplayName("【異常系】ファイルの取込_前回の取込からファイルの内容が変わった場合、ResourceConflictExceptionが発生し何も登録されないこと")
+  void importFileWhenContentChanged() throws IOException {
+    // Arrange
+    // 前回は2行のファイルを取り込み済みで、同じパスのファイルが別の内容に置き換えられている
+    String oldContentHash = contentHash(writeFile(gameLine(1), gameLine(2)));
+    Path file = writeFile(gameLine(3), gameLine(4));
+    when(footballService.getGameImportCheckpoint(importKey(file)))
+        .thenReturn(Optional.of(new GameImportCheckpoint(importKey(file), oldContentHash, 2L)));
+
+    // Act & Assert
+    assertThrows(ResourceConflictException.class, () -> sut.importFile(file, false, progresses::add));
+    verify(footballService, never()).registerImportedGameResults(any(), any(), anyList(), anyLong());
+    verify(factoryService, never()).createGameResultWithPlayerStats(any());
+  }
+
+  @Test
+  @DisplayName("【正常系】ファイルの取込_前回の取込からファイルの内容が変わった場合でも、取り込み直しを指定すると先頭から取り込まれること")
+  void importFileWhenContentChangedWithRestart() throws IOException, ResourceConflictException {
+    // Arrange
+    String oldContentHash = contentHash(writeFile(gameLine(1), gameLine(2)));
+    Path file = writeFile(gameLine(3), gameLine(4));
+    when(footballService.getGameImportCheckpoint(importKey(file)))
+        .thenReturn(Optional.of(new GameImportCheckpoint(importKey(file), oldContentHash, 2L)));
+    stubCreateGameResultWithPlayerStats();
+    when(footballService.confirmHistoricalGameResultsAndPlayerGameStats(anyList(), any()))
+        .thenReturn(List.of(GameRegistrationStatus.validated(0), GameRegistrationStatus.validated(1)));
+
+    // Act
+    GameImportReport actual = sut.importFile(file, true, progresses::add);
+
+    // Assert
+    assertEquals(0, actual.resumedFromLine());
+    assertEquals(2, actual.importedCount());
+    assertEquals(List.of(List.of(3, 4)), captureRegisteredGameDays(file, 2L));
+  }
+
+  @Test
+  @DisplayName("【異常系】ファイルの取込_途中まで取り込んだファイルを編集して再度取り込んだ場合、取込済みの試合が二重に登録されないこと")
+  void importFileEditedAfterInterruption() throws IOException {
+    // Arrange
+    // 登録した試合と進捗を記録する（進捗は登録と同じトランザクションで更新される）
+    List<Integer> registeredGameDays = new ArrayList<>();
+    Map<String, GameImportCheckpoint> checkpoints = new HashMap<>();
+    doAnswer(invocation -> {
+      List<GameResultWithPlayerStats> games = invocation.getArgument(2);
+      games.forEach(game -> registeredGameDays.add(game.getGameResult().getGameDate().getDayOfMonth()));
+      checkpoints.put(invocation.getArgument(0),
+          new GameImportCheckpoint(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(3)));
+      return null;
+    }).when(footballService).registerImportedGameResults(any(), any(), anyList(), anyLong());
+    when(footballService.getGameImportCheckpoint(any()))
+        .thenAnswer(invocation -> Optional.ofNullable(checkpoints.get(invocation.<String>getArgument(0))));
+    stubCreateGameResultWithPlayerStats();
+    when(footballService.confirmHistoricalGameResultsAndPlayerGameStats(anyList(), any()))
+        .thenReturn(List.of(GameRegistrationStatus.validated(0), GameRegistrationStatus.validated(1)));
+    // 最初のバッチ（1・2行目）のコミット後に中断する
+    Path file = writeFile(gameLine(1), gameLine(2), gameLine(3), gameLine(4));
+    assertThrows(IllegalStateException.class, () -> sut.importFile(file, false, progress -> {
+      throw new IllegalStateException("Interrupted");
+    }));
+    // 未取込の行を修正し、取込済みの行の前に1行追加する
+    writeFile(gameLine(5), gameLine(1), gameLine(2), gameLine(3), gameLine(6));
+
+    // Act & Assert
+    assertThrows(ResourceConflictException.class, () -> sut.importFile(file, false, progresses::add));
+    assertEquals(List.of(1, 2), registeredGameDays);
+    assertEquals(2L, checkpoints.get(importKey(file)).getLastLine());
+  }
+
+  @Test
+  @DisplayName("【異常系】ファイルの取込_バリデーションエラーの行は違反内容と共に登録しない行とされ、取込済みの最終行番号は更新されること")
+  void importFileWithInvalidLine() throws IOException, ResourceConflictException {
+    // Arrange
+    Path file = writeFile(gameLine(1).replace("\"homeClubId\": 1", "\"homeClubId\": 0"));
+
+    // Act
+    GameImportReport actual = sut.importFile(file, false, progresses::add);
+
+    // Assert
+    assertEquals(List.of(new GameImportRejection(1, Status.INVALID, "gameResultForJson.homeClubId: must be greater than 0")),
+        actual.rejections());
+    verify(footballService, times(1)).registerImportedGameResults(importKey(file), contentHash(file), List.of(), 1L);
+    verify(factoryService, never()).createGameResultWithPlayerStats(any());
+  }
+
+  private Path writeFile(String... lines) throws IOException {
+    return Files.write(tempDir.resolve("games.ndjson"), List.of(lines));
+  }
+
+  private String importKey(Path file) {
+    return file.toAbsolutePath().normalize().toString();
+  }
+
+  private String contentHash(Path file) throws IOException {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // 行番号を試合日（2019年8月の日）として識別できる試合
+  private String gameLine(int day) {
+    return String.format("""
+        {"gameResultForJson": {"homeClubId": 1, "awayClubId": 2, "homeScore": 1, "awayScore": 0, "leagueId": 1, \
+        "gameDate": "2019-08-%02d", "seasonId": 201920}, \
+        "homeClubPlayerGameStatsForJson": [], "awayClubPlayerGameStatsForJson": []}""", day);
+  }
+
+  private void stubCreateGameResultWithPlayerStats() {
+    when(factoryService.createGameResultWithPlayerStats(any())).thenAnswer(invocation -> {
+      GameResultWithPlayerStatsForJson gameResultWithPlayerStatsForJson = invocation.getArgument(0);
+      return new GameResultWithPlayerStats(new GameResult(gameResultWithPlayerStatsForJson.gameResultForJson()),
+          new ArrayList<>(), new ArrayList<>());
+    });
+  }
+
+  // コミットごとに登録された試合の試合日（日）を取り出す
+  private List<List<Integer>> captureRegisteredGameDays(Path file, Long... lastLines) throws IOException {
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<GameResultWithPlayerStats>> captor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<Long> lastLineCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(footballService, times(lastLines.length))
+        .registerImportedGameResults(eq(importKey(file)), eq(contentHash(file)), captor.capture(), lastLineCaptor.capture());
+    assertEquals(List.of(lastLines), lastLineCaptor.getAllValues());
+    return captor.getAllValues().stream()
+        .map(games -> games.stream()
+            .map(game -> game.getGameResult().getGameDate())
+            .map(LocalDate::getDayOfMonth)
+            .toList())
+        .toList();
+  }
+
+}
@@ -0,0 +1,133 @@
+package football.StatsManagement.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.LeaderboardStatistic;
+import football.StatsManagement.model.response.CacheStatistics;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LeaderboardCacheTest {
+
+  private LeaderboardCache sut;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    sut = new LeaderboardCache(100, 600);
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_同じリーグ・シーズン・成績項目・件数のランキングは1度だけ作成されること")
+  void getLoadsOnce() throws ResourceNotFoundException {
+    // Act
+    Leaderboard actual1 = sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+    Leaderboard actual2 = sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+    Leaderboard actual3 = sut.get(1, 201920, LeaderboardStatistic.ASSISTS, 10, () -> load(1, 201920, LeaderboardStatistic.ASSISTS));
+
+    // Assert
+    assertSame(actual1, actual2);
+    assertEquals(LeaderboardStatistic.ASSISTS, actual3.statistic());
+    assertEquals(2, loadCount.get());
+    assertEquals(new CacheStatistics("leaderboards", 2, 1, 2, 0, 0), sut.getStatistics());
+  }
+
+  @Test
+  @DisplayName("【正常系】onStandingChangedメソッド_該当するリーグ・シーズンの全項目のランキングのみ破棄されること")
+  void onStandingChanged() throws ResourceNotFoundException {
+    // Arrange
+    sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+    sut.get(1, 201920, LeaderboardStatistic.ASSISTS, 10, () -> load(1, 201920, LeaderboardStatistic.ASSISTS));
+    sut.get(1, 202021, LeaderboardStatistic.GOALS, 10, () -> load(1, 202021, LeaderboardStatistic.GOALS));
+
+    // Act
+    sut.onStandingChanged(new StandingChangedEvent(1, 201920));
+
+    // Assert
+    assertEquals(2, sut.getStatistics().invalidationCount());
+    sut.get(1, 202021, LeaderboardStatistic.GOALS, 10, () -> load(1, 202021, LeaderboardStatistic.GOALS));
+    assertEquals(3, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】onStandingChangedメソッド_シーズン指定なしの場合_リーグの全シーズンのランキングのみ破棄されること")
+  void onStandingChangedWithoutSeason() throws ResourceNotFoundException {
+    // Arrange
+    sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+    sut.get(1, 202021, LeaderboardStatistic.GOALS, 10, () -> load(1, 202021, LeaderboardStatistic.GOALS));
+    sut.get(2, 201920, LeaderboardStatistic.GOALS, 10, () -> load(2, 201920, LeaderboardStatistic.GOALS));
+
+    // Act
+    sut.onStandingChanged(StandingChangedEvent.ofLeague(1));
+
+    // Assert
+    assertEquals(2, sut.getStatistics().invalidationCount());
+    sut.get(2, 201920, LeaderboardStatistic.GOALS, 10, () -> load(2, 201920, LeaderboardStatistic.GOALS));
+    assertEquals(3, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】invalidateメソッド_作成中のランキングがある場合_破棄後の取得では作成し直されること")
+  void invalidateWhileLoading() throws Exception {
+    // Arrange
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<Leaderboard> staleLeaderboard = executor.submit(() -> sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> {
+      loading.countDown();
+      // 作成処理はResourceNotFoundException以外の検査例外を投げられないため、割り込みは非検査例外にする
+      try {
+        invalidated.await();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return load(1, 201920, LeaderboardStatistic.GOALS);
+    }));
+    loading.await();
+
+    // Act
+    // 試合の登録のコミット後、更新前のデータで作成中のランキングがある状態でリーグ・シーズンのランキングを破棄する
+    sut.invalidate(1, 201920);
+    invalidated.countDown();
+    Leaderboard stale = staleLeaderboard.get(5, TimeUnit.SECONDS);
+    executor.shutdown();
+    Leaderboard actual = sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+
+    // Assert
+    assertNotSame(stale, actual);
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】onPlayerSeasonTotalsRebuiltメソッド_全ランキングが破棄されること")
+  void onPlayerSeasonTotalsRebuilt() throws ResourceNotFoundException {
+    // Arrange
+    sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+    sut.get(2, 202021, LeaderboardStatistic.RED_CARDS, 5, () -> load(2, 202021, LeaderboardStatistic.RED_CARDS));
+
+    // Act
+    sut.onPlayerSeasonTotalsRebuilt(new PlayerSeasonTotalsRebuiltEvent());
+
+    // Assert
+    assertEquals(2, sut.getStatistics().invalidationCount());
+    sut.get(1, 201920, LeaderboardStatistic.GOALS, 10, () -> load(1, 201920, LeaderboardStatistic.GOALS));
+    assertEquals(3, loadCount.get());
+  }
+
+  private Leaderboard load(int leagueId, int seasonId, LeaderboardStatistic statistic) {
+    loadCount.incrementAndGet();
+    return new Leaderboard(leagueId, seasonId, statistic, 10, List.of(), "League" + leagueId, "Season" + seasonId);
+  }
+
+}
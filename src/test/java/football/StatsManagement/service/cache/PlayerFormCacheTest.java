@@ -0,0 +1,84 @@
+package football.StatsManagement.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.entity.PlayerGameStat;
+import football.StatsManagement.service.analytics.PlayerFormWindow;
+import football.StatsManagement.service.analytics.PlayerGameStatsRegisteredEvent;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlayerFormCacheTest {
+
+  private PlayerFormCache sut;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    sut = new PlayerFormCache(100, 600);
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_同じ選手・シーズンのフォームは1度だけ作成されること")
+  void getLoadsOnce() {
+    // Act
+    PlayerFormWindow actual1 = sut.get(1, 201920, this::load);
+    PlayerFormWindow actual2 = sut.get(1, 201920, this::load);
+
+    // Assert
+    assertSame(actual1, actual2);
+    assertEquals(1, loadCount.get());
+    assertEquals(2, actual1.toPlayerForm(1, 201920).season().games());
+  }
+
+  @Test
+  @DisplayName("【正常系】onPlayerGameStatsRegisteredメソッド_保持している選手のフォームに出場が追加されること")
+  void onPlayerGameStatsRegistered() {
+    // Arrange
+    sut.get(1, 201920, this::load);
+
+    // Act
+    sut.onPlayerGameStatsRegistered(new PlayerGameStatsRegisteredEvent(201920, LocalDate.of(2019, 8, 10), List.of(
+        new PlayerGameStat(30, 1, 1, 1, true, 2, 0, 0, 90, 0, 0, 5, null, null, null),
+        new PlayerGameStat(31, 2, 1, 2, true, 0, 0, 0, 90, 0, 0, 5, null, null, null)
+    )));
+
+    // Assert
+    PlayerFormWindow actual = sut.get(1, 201920, this::load);
+    assertEquals(1, loadCount.get());
+    assertEquals(3, actual.toPlayerForm(1, 201920).season().games());
+    assertEquals(3, actual.toPlayerForm(1, 201920).last5().goals());
+    assertEquals(1, sut.getStatistics().size());
+  }
+
+  @Test
+  @DisplayName("【正常系】onPlayerGameStatsRegisteredメソッド_作成時に取得済みの出場の場合_フォームが破棄されること")
+  void onPlayerGameStatsRegisteredWhenAlreadyLoaded() {
+    // Arrange
+    sut.get(1, 201920, this::load);
+
+    // Act
+    sut.onPlayerGameStatsRegistered(new PlayerGameStatsRegisteredEvent(201920, LocalDate.of(2019, 8, 2), List.of(
+        new PlayerGameStat(9, 1, 1, 1, true, 0, 0, 0, 90, 0, 0, 3, null, null, null)
+    )));
+
+    // Assert
+    assertEquals(1, sut.getStatistics().invalidationCount());
+    sut.get(1, 201920, this::load);
+    assertEquals(2, loadCount.get());
+  }
+
+  private List<PlayerGameStat> load() {
+    loadCount.incrementAndGet();
+    return List.of(
+        new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 0, 90, 0, 0, 1, LocalDate.of(2019, 8, 1), "ClubAAB", "○2-1"),
+        new PlayerGameStat(9, 1, 1, 1, true, 0, 0, 0, 90, 0, 0, 3, LocalDate.of(2019, 8, 2), "ClubAAB", "△2-2")
+    );
+  }
+
+}
@@ -0,0 +1,204 @@
+package football.StatsManagement.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.response.CacheStatistics;
+import football.StatsManagement.service.cache.ReferenceDataCache.Kind;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class ReferenceDataCacheTest {
+
+  private ReferenceDataCache sut;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    sut = new ReferenceDataCache(100, 600);
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_同じ種類・IDのデータは1度だけ読み込まれ、種類が異なる場合は別に読み込まれること")
+  void getLoadsOnce() {
+    // Act
+    Optional<Club> actual1 = sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+    Optional<Club> actual2 = sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+    sut.get(Kind.LEAGUE, 1, () -> load(1), ReferenceDataCacheTest::copy);
+
+    // Assert
+    assertEquals(actual1, actual2);
+    assertEquals(2, loadCount.get());
+    assertEquals(new CacheStatistics("reference-data", 2, 1, 2, 0, 0), sut.getStatistics());
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_見つからなかった結果は保持されず、次の取得で再び読み込まれること")
+  void getWhenNotFound() {
+    // Act
+    Optional<Club> actual1 = sut.get(Kind.CLUB, 1, () -> {
+      loadCount.incrementAndGet();
+      return Optional.empty();
+    }, ReferenceDataCacheTest::copy);
+    Optional<Club> actual2 = sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+
+    // Assert
+    assertTrue(actual1.isEmpty());
+    assertTrue(actual2.isPresent());
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】getListメソッド_一覧は1度だけ読み込まれ、変更できない一覧が返されること")
+  void getListLoadsOnce() {
+    // Act
+    List<Club> actual1 = sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy);
+    List<Club> actual2 = sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy);
+
+    // Assert
+    assertEquals(actual1, actual2);
+    assertEquals(1, loadCount.get());
+    assertThrows(UnsupportedOperationException.class, () -> actual1.add(new Club(3, 1, "ClubAAC")));
+  }
+
+  @Test
+  @DisplayName("【正常系】get・getListメソッド_呼び出しごとに複製が返され、取得したデータを変更しても保持しているデータは変わらないこと")
+  void getReturnsCopies() {
+    // Arrange
+    Club club = sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy).orElseThrow();
+    List<Club> clubs = sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy);
+
+    // Act
+    club.setLeagueId(2);
+    clubs.get(0).setName("ClubChanged");
+
+    // Assert
+    assertEquals(new Club(1, 1, "Club1"), sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy).orElseThrow());
+    assertEquals(new Club(1, 1, "ClubAAA"), sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy).get(0));
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_同じトランザクションで同じ種類のデータを更新した場合_キャッシュを使わずに読み込まれること")
+  void getAfterChangeInTransaction() {
+    // Arrange
+    sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+    sut.get(Kind.SEASON, 201920, () -> load(201920), ReferenceDataCacheTest::copy);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // Act
+      sut.onReferenceDataChanging(new ReferenceDataChangedEvent(Kind.CLUB, 1));
+      sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+      sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy);
+      sut.get(Kind.SEASON, 201920, () -> load(201920), ReferenceDataCacheTest::copy);
+    } finally {
+      TransactionSynchronizationUtils.invokeAfterCompletion(
+          TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // Assert
+    // 更新した種類（クラブ）のみ読み込み直され、トランザクション完了後は再びキャッシュが使われる
+    assertEquals(4, loadCount.get());
+    sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+    assertEquals(4, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】invalidateKindメソッド_読み込み中のデータがある場合_破棄後の取得では読み込み直されること")
+  void invalidateKindWhileLoading() throws Exception {
+    // Arrange
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<Optional<Club>> staleClub = executor.submit(() -> sut.get(Kind.CLUB, 1, () -> {
+      loading.countDown();
+      try {
+        invalidated.await();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return Optional.of(new Club(1, 1, "ClubStale"));
+    }, ReferenceDataCacheTest::copy));
+    loading.await();
+
+    // Act
+    // 更新のコミット後、更新前のデータを読み込み中の状態で種類に該当するデータを破棄する
+    sut.invalidateKind(Kind.CLUB);
+    invalidated.countDown();
+    staleClub.get(5, TimeUnit.SECONDS);
+    executor.shutdown();
+    Optional<Club> actual = sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+
+    // Assert
+    assertEquals(Optional.of(new Club(1, 1, "Club1")), actual);
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】onReferenceDataChangedメソッド_ID指定の場合_該当するデータと同じ種類の一覧のみ破棄されること")
+  void onReferenceDataChangedWithId() {
+    // Arrange
+    sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+    sut.get(Kind.CLUB, 2, () -> load(2), ReferenceDataCacheTest::copy);
+    sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy);
+    sut.getList(Kind.SEASON, this::loadList, ReferenceDataCacheTest::copy);
+
+    // Act
+    sut.onReferenceDataChanged(new ReferenceDataChangedEvent(Kind.CLUB, 1));
+
+    // Assert
+    sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+    sut.get(Kind.CLUB, 2, () -> load(2), ReferenceDataCacheTest::copy);
+    sut.getList(Kind.CLUB, this::loadList, ReferenceDataCacheTest::copy);
+    sut.getList(Kind.SEASON, this::loadList, ReferenceDataCacheTest::copy);
+    assertEquals(6, loadCount.get());
+    assertEquals(2, sut.getStatistics().invalidationCount());
+  }
+
+  @Test
+  @DisplayName("【正常系】onReferenceDataChangedメソッド_種類指定の場合_種類に該当するデータと一覧がすべて破棄されること")
+  void onReferenceDataChangedWithKind() {
+    // Arrange
+    sut.get(Kind.SEASON, 201920, () -> load(201920), ReferenceDataCacheTest::copy);
+    sut.get(Kind.SEASON, 202021, () -> load(202021), ReferenceDataCacheTest::copy);
+    sut.getList(Kind.SEASON, this::loadList, ReferenceDataCacheTest::copy);
+    sut.get(Kind.CLUB, 1, () -> load(1), ReferenceDataCacheTest::copy);
+
+    // Act
+    sut.onReferenceDataChanged(ReferenceDataChangedEvent.ofKind(Kind.SEASON));
+
+    // Assert
+    assertEquals(1, sut.getStatistics().size());
+    assertEquals(3, sut.getStatistics().invalidationCount());
+  }
+
+  private Optional<Club> load(int id) {
+    loadCount.incrementAndGet();
+    return Optional.of(new Club(id, 1, "Club" + id));
+  }
+
+  private static Club copy(Club club) {
+    return new Club(club.getId(), club.getLeagueId(), club.getName());
+  }
+
+  private List<Club> loadList() {
+    loadCount.incrementAndGet();
+    return new ArrayList<>(List.of(new Club(1, 1, "ClubAAA"), new Club(2, 1, "ClubAAB")));
+  }
+
+}
@@ -0,0 +1,129 @@
+package football.StatsManagement.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.Standing;
+import football.StatsManagement.model.response.CacheStatistics;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StandingCacheTest {
+
+  private StandingCache sut;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    sut = new StandingCache(100, 600);
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_同じリーグ・シーズンの順位表は1度だけ作成されること")
+  void getLoadsOnce() throws ResourceNotFoundException {
+    // Act
+    Standing actual1 = sut.get(1, 201920, () -> load(1, 201920));
+    Standing actual2 = sut.get(1, 201920, () -> load(1, 201920));
+    Standing actual3 = sut.get(1, 202021, () -> load(1, 202021));
+
+    // Assert
+    assertSame(actual1, actual2);
+    assertEquals(202021, actual3.seasonId());
+    assertEquals(2, loadCount.get());
+    assertEquals(new CacheStatistics("standings", 2, 1, 2, 0, 0), sut.getStatistics());
+  }
+
+  @Test
+  @DisplayName("【異常系】getメソッド_作成処理で例外が発生した場合_例外がそのまま投げられ、キャッシュされないこと")
+  void getWhenLoaderThrows() throws ResourceNotFoundException {
+    // Act & Assert
+    ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class,
+        () -> sut.get(1, 201920, () -> {
+          throw new ResourceNotFoundException("League not found");
+        }));
+    assertEquals("League not found", thrown.getMessage());
+    sut.get(1, 201920, () -> load(1, 201920));
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】onStandingChangedメソッド_シーズン指定の場合_該当するリーグ・シーズンの順位表のみ破棄されること")
+  void onStandingChangedWithSeason() throws ResourceNotFoundException {
+    // Arrange
+    sut.get(1, 201920, () -> load(1, 201920));
+    sut.get(1, 202021, () -> load(1, 202021));
+
+    // Act
+    sut.onStandingChanged(new StandingChangedEvent(1, 201920));
+
+    // Assert
+    sut.get(1, 201920, () -> load(1, 201920));
+    sut.get(1, 202021, () -> load(1, 202021));
+    assertEquals(3, loadCount.get());
+    assertEquals(1, sut.getStatistics().invalidationCount());
+  }
+
+  @Test
+  @DisplayName("【正常系】onStandingChangedメソッド_リーグ指定の場合_リーグの全シーズンの順位表が破棄されること")
+  void onStandingChangedWithLeague() throws ResourceNotFoundException {
+    // Arrange
+    sut.get(1, 201920, () -> load(1, 201920));
+    sut.get(1, 202021, () -> load(1, 202021));
+    sut.get(2, 201920, () -> load(2, 201920));
+
+    // Act
+    sut.onStandingChanged(StandingChangedEvent.ofLeague(1));
+
+    // Assert
+    assertEquals(2, sut.getStatistics().invalidationCount());
+    sut.get(2, 201920, () -> load(2, 201920));
+    assertEquals(3, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】invalidateLeagueメソッド_作成中の順位表がある場合_作成された順位表は以降の取得で返されないこと")
+  void invalidateLeagueWhileLoading() throws Exception {
+    // Arrange
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<Standing> staleStanding = executor.submit(() -> sut.get(1, 201920, () -> {
+      loading.countDown();
+      // 作成処理はResourceNotFoundException以外の検査例外を投げられないため、割り込みは非検査例外にする
+      try {
+        invalidated.await();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return load(1, 201920);
+    }));
+    loading.await();
+
+    // Act
+    // 試合の登録のコミット後、更新前のデータで作成中の順位表がある状態でリーグの順位表を破棄する
+    sut.invalidateLeague(1);
+    invalidated.countDown();
+    Standing stale = staleStanding.get(5, TimeUnit.SECONDS);
+    executor.shutdown();
+    Standing actual = sut.get(1, 201920, () -> load(1, 201920));
+
+    // Assert
+    assertNotSame(stale, actual);
+    assertEquals(2, loadCount.get());
+  }
+
+  private Standing load(int leagueId, int seasonId) {
+    loadCount.incrementAndGet();
+    return new Standing(leagueId, seasonId, List.of(), "League" + leagueId, "Season" + seasonId);
+  }
+
+}
@@ -0,0 +1,129 @@
+package football.StatsManagement.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.response.CacheStatistics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VersionedCacheTest {
+
+  // キーは「範囲:名前」の形式とし、範囲で破棄できるようにする
+  private VersionedCache<String, String> sut;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    sut = new VersionedCache<>("test", 100, Duration.ofSeconds(600), key -> List.of(key.split(":")[0]));
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("【正常系】getメソッド_同じキーの値は1度だけ作成され、nullは保持されないこと")
+  void getLoadsOnce() {
+    // Act
+    String actual1 = sut.get("a:1", () -> load("a:1"));
+    String actual2 = sut.get("a:1", () -> load("a:1"));
+    String notFound = sut.get("a:2", () -> {
+      loadCount.incrementAndGet();
+      return null;
+    });
+    sut.get("a:2", () -> load("a:2"));
+
+    // Assert
+    assertSame(actual1, actual2);
+    assertNull(notFound);
+    assertEquals(3, loadCount.get());
+    assertEquals(new CacheStatistics("test", 2, 1, 3, 0, 0), sut.getStatistics());
+  }
+
+  @Test
+  @DisplayName("【異常系】getメソッド_作成処理で検査例外が発生した場合_例外がそのまま投げられ、キャッシュされないこと")
+  void getWhenLoaderThrows() {
+    // Act & Assert
+    ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class,
+        () -> sut.get("a:1", () -> {
+          throw new ResourceNotFoundException("League not found");
+        }));
+    assertEquals("League not found", thrown.getMessage());
+    assertEquals(0, sut.getStatistics().size());
+  }
+
+  @Test
+  @DisplayName("【正常系】invalidateScopeメソッド_範囲に属する値のみ破棄されること")
+  void invalidateScope() {
+    // Arrange
+    sut.get("a:1", () -> load("a:1"));
+    sut.get("a:2", () -> load("a:2"));
+    sut.get("b:1", () -> load("b:1"));
+
+    // Act
+    sut.invalidateScope("a");
+
+    // Assert
+    assertEquals(2, sut.getStatistics().invalidationCount());
+    sut.get("a:1", () -> load("a:1"));
+    sut.get("b:1", () -> load("b:1"));
+    assertEquals(4, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】invalidateScopeメソッド_作成中に範囲が破棄された場合_作成された値は以降の取得で返されないこと")
+  void invalidateScopeWhileLoading() throws Exception {
+    // Act
+    String stale = getWhile("a:1", () -> sut.invalidateScope("a"));
+    String actual = sut.get("a:1", () -> load("a:1"));
+
+    // Assert
+    assertNotSame(stale, actual);
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】invalidateAllメソッド_作成中に全体が破棄された場合_作成された値は以降の取得で返されないこと")
+  void invalidateAllWhileLoading() throws Exception {
+    // Act
+    String stale = getWhile("a:1", () -> sut.invalidateAll());
+    String actual = sut.get("a:1", () -> load("a:1"));
+
+    // Assert
+    assertNotSame(stale, actual);
+    assertEquals(2, loadCount.get());
+  }
+
+  // 別スレッドで値を作成し、作成処理の途中で破棄処理を行う
+  private String getWhile(String key, Runnable invalidation) throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> future = executor.submit(() -> sut.get(key, () -> {
+        loading.countDown();
+        invalidated.await();
+        return load(key);
+      }));
+      loading.await();
+      invalidation.run();
+      invalidated.countDown();
+      return future.get(5, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private String load(String key) {
+    loadCount.incrementAndGet();
+    return new String(key);
+  }
+
+}
@@ -0,0 +1,165 @@
+package football.StatsManagement.service.comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledRankingTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "1",
+      "1,4,5",
+      "5,1",
+      "4,5"
+  })
+  @DisplayName("【正常系】rankメソッド_当該クラブ間の比較項目がない場合_ClubForStandingComparatorで安定ソートした場合と同じ順序になること")
+  void rankSameAsComparator(String comparisonItemIdsCsv) {
+    // Arrange
+    List<Integer> comparisonItemIds = new ArrayList<>();
+    for (String id : comparisonItemIdsCsv.split(",")) {
+      comparisonItemIds.add(Integer.parseInt(id.trim()));
+    }
+    CompiledRanking sut = new CompiledRanking(comparisonItemIds);
+    Random random = new Random(comparisonItemIdsCsv.hashCode());
+
+    for (int season = 0; season < 20; season++) {
+      List<Club> clubs = new ArrayList<>();
+      for (int i = 1; i <= 6; i++) {
+        clubs.add(new Club(i, 1, "Club" + i));
+      }
+      // 同点が起きやすいように得点を小さくする
+      List<GameResult> gameResults = new ArrayList<>();
+      int gameId = 1;
+      for (Club home : clubs) {
+        for (Club away : clubs) {
+          if (home.getId() == away.getId() || random.nextInt(3) == 0) {
+            continue;
+          }
+          int homeScore = random.nextInt(3);
+          int awayScore = random.nextInt(3);
+          Integer winnerClubId = homeScore > awayScore ? (Integer) home.getId() : homeScore < awayScore ? (Integer) away.getId() : null;
+          gameResults.add(new GameResult(gameId++, home.getId(), away.getId(), homeScore, awayScore, winnerClubId, 1, LocalDate.of(2024, 8, 1), 1));
+        }
+      }
+      List<ClubForStanding> clubForStandings = createClubForStandings(clubs, gameResults);
+      HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, gameResults);
+      ClubForStandingComparator comparator = new ClubForStandingComparator(comparisonItemIds);
+      List<ClubForStanding> expected = new ArrayList<>(clubForStandings);
+      expected.sort(comparator);
+
+      // Act
+      List<ClubForStanding> actual = sut.rank(clubForStandings, headToHeadTable);
+
+      // Assert
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  @DisplayName("【正常系】rankメソッド_全項目で同じ値の場合_入力順が保たれること")
+  void rankKeepsInputOrderWhenAllSame() {
+    // Arrange
+    CompiledRanking sut = new CompiledRanking(List.of(1, 4, 5));
+    Club club1 = new Club(1, 1, "Club1");
+    Club club2 = new Club(2, 1, "Club2");
+    Club club3 = new Club(3, 1, "Club3");
+    List<ClubForStanding> clubForStandings = List.of(
+        new ClubForStanding(List.of(), club3, 1, 1, 0, 0, 3, 1, 0, 1),
+        new ClubForStanding(List.of(), club1, 1, 1, 0, 0, 3, 1, 0, 1),
+        new ClubForStanding(List.of(), club2, 1, 1, 0, 0, 3, 2, 0, 2)
+    );
+
+    // Act
+    List<ClubForStanding> actual = sut.rank(clubForStandings, new HeadToHeadTable(List.of(club1, club2, club3)));
+
+    // Assert
+    assertEquals(List.of(clubForStandings.get(2), clubForStandings.get(0), clubForStandings.get(1)), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】rankメソッド_得失点差が負の値でも正しく並び替えられること")
+  void rankWithNegativeGoalDifference() {
+    // Arrange
+    CompiledRanking sut = new CompiledRanking(List.of(4));
+    Club club1 = new Club(1, 1, "Club1");
+    Club club2 = new Club(2, 1, "Club2");
+    List<ClubForStanding> clubForStandings = List.of(
+        new ClubForStanding(List.of(), club1, 1, 0, 0, 1, 0, 0, 5, -5),
+        new ClubForStanding(List.of(), club2, 1, 0, 0, 1, 0, 0, 1, -1)
+    );
+
+    // Act
+    List<ClubForStanding> actual = sut.rank(clubForStandings, new HeadToHeadTable(List.of(club1, club2)));
+
+    // Assert
+    assertEquals(List.of(clubForStandings.get(1), clubForStandings.get(0)), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】rankメソッド_3クラブが勝ち点で並んだ場合_ミニリーグ表で並び替えられること")
+  void rankTiedGroupWithMiniLeague() {
+    // Arrange
+    CompiledRanking sut = new CompiledRanking(List.of(1, 7, 4));
+    List<Club> clubs = List.of(new Club(1, 1, "Club1"), new Club(2, 1, "Club2"), new Club(3, 1, "Club3"), new Club(4, 1, "Club4"));
+    // 1, 2, 3は勝ち点7で並び、当該クラブ間では3が勝ち点6で最上位、1と2は勝ち点1で並ぶ
+    List<GameResult> gameResults = List.of(
+        new GameResult(1, 1, 2, 0, 0, null, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(2, 3, 1, 1, 0, 3, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(3, 2, 3, 0, 1, 3, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(4, 1, 4, 3, 0, 1, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(5, 4, 1, 0, 1, 1, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(6, 2, 4, 1, 0, 2, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(7, 4, 2, 0, 1, 2, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(8, 4, 3, 0, 0, null, 1, LocalDate.of(2024, 8, 1), 1)
+    );
+    List<ClubForStanding> clubForStandings = createClubForStandings(clubs, gameResults);
+
+    // Act
+    List<ClubForStanding> actual = sut.rank(clubForStandings, HeadToHeadTable.of(clubs, gameResults));
+
+    // Assert
+    // 1と2は当該クラブ間の勝ち点でも並ぶため、2クラブ間で改めて比較した後に得失点差（1: +3, 2: +1）で並ぶ
+    assertEquals(List.of(3, 1, 2, 4), actual.stream().map(c -> c.getClub().getId()).toList());
+  }
+
+  // 試合結果一覧から順位表作成のためのクラブ情報一覧を作成する
+  private List<ClubForStanding> createClubForStandings(List<Club> clubs, List<GameResult> gameResults) {
+    List<ClubForStanding> clubForStandings = new ArrayList<>();
+    for (Club club : clubs) {
+      List<GameResult> clubGameResults = gameResults.stream()
+          .filter(gameResult -> gameResult.getHomeClubId() == club.getId() || gameResult.getAwayClubId() == club.getId())
+          .toList();
+      int wins = 0;
+      int draws = 0;
+      int goalsFor = 0;
+      int goalsAgainst = 0;
+      for (GameResult gameResult : clubGameResults) {
+        boolean isHome = gameResult.getHomeClubId() == club.getId();
+        goalsFor += isHome ? gameResult.getHomeScore() : gameResult.getAwayScore();
+        goalsAgainst += isHome ? gameResult.getAwayScore() : gameResult.getHomeScore();
+        if (gameResult.getWinnerClubId() == null) {
+          draws++;
+        } else if (gameResult.getWinnerClubId() == club.getId()) {
+          wins++;
+        }
+      }
+      int losses = clubGameResults.size() - wins - draws;
+      clubForStandings.add(new ClubForStanding(clubGameResults, club, clubGameResults.size(), wins, draws, losses,
+          wins * 3 + draws, goalsFor, goalsAgainst, goalsFor - goalsAgainst));
+    }
+    return clubForStandings;
+  }
+
+}
@@ -0,0 +1,63 @@
+package football.StatsManagement.service.comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RankingEngineTest {
+
+  private RankingEngine sut;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    sut = new RankingEngine();
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("【正常系】コンパイル済み順位付けがある場合_比較項目は読み込まれず、再利用されること")
+  void getCompiledRankingLoadsOnce() {
+    CompiledRanking first = sut.getCompiledRanking(1, () -> load(1, 2, 3));
+    CompiledRanking second = sut.getCompiledRanking(1, () -> load(1, 4, 5));
+
+    assertSame(first, second);
+    assertEquals(List.of(1, 2, 3), second.getComparisonItemIds());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】破棄した場合_比較項目が読み込まれ、再コンパイルされること")
+  void evict() {
+    CompiledRanking first = sut.getCompiledRanking(1, () -> load(1, 2, 3));
+    sut.evict(1);
+    CompiledRanking second = sut.getCompiledRanking(1, () -> load(1, 4, 5));
+
+    assertNotSame(first, second);
+    assertEquals(List.of(1, 4, 5), second.getComparisonItemIds());
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("【正常系】リーグ規定が更新された場合_該当するリーグのコンパイル済み順位付けのみ破棄されること")
+  void onLeagueRegulationsChanged() {
+    CompiledRanking league1 = sut.getCompiledRanking(1, () -> load(1, 2, 3));
+    CompiledRanking league2 = sut.getCompiledRanking(2, () -> load(1, 2, 3));
+
+    sut.onLeagueRegulationsChanged(new LeagueRegulationsChangedEvent(1));
+
+    assertNotSame(league1, sut.getCompiledRanking(1, () -> load(1, 4, 5)));
+    assertSame(league2, sut.getCompiledRanking(2, () -> load(1, 4, 5)));
+    assertEquals(3, loadCount.get());
+  }
+
+  private List<Integer> load(Integer... comparisonItemIds) {
+    loadCount.incrementAndGet();
+    return List.of(comparisonItemIds);
+  }
+
+}
@@ -0,0 +1,142 @@
+package football.StatsManagement.service.comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TieGroupResolverTest {
+
+  private final Club club1 = new Club(1, 1, "Club1");
+  private final Club club2 = new Club(2, 1, "Club2");
+  private final Club club3 = new Club(3, 1, "Club3");
+  private final List<Club> clubs = List.of(club1, club2, club3);
+
+  @Test
+  @DisplayName("【正常系】resolveメソッド_当該クラブ間で三すくみの場合_入力順によらず次の比較項目で並び替えられること")
+  void resolveWhenCircularHeadToHead() {
+    // Arrange
+    TieGroupResolver sut = new TieGroupResolver(List.of(7, 4));
+    // 1は2に、2は3に、3は1に勝っており、当該クラブ間の勝ち点はすべて3
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, List.of(
+        createGameResult(1, 1, 2, 1, 0),
+        createGameResult(2, 2, 3, 1, 0),
+        createGameResult(3, 3, 1, 1, 0)
+    ));
+    ClubForStanding c1 = createClubForStanding(club1, 1);
+    ClubForStanding c2 = createClubForStanding(club2, 3);
+    ClubForStanding c3 = createClubForStanding(club3, 2);
+
+    // Act
+    List<ClubForStanding> actual1 = sut.resolve(List.of(c1, c2, c3), headToHeadTable);
+    List<ClubForStanding> actual2 = sut.resolve(List.of(c3, c1, c2), headToHeadTable);
+
+    // Assert
+    assertEquals(List.of(c2, c3, c1), actual1);
+    assertEquals(List.of(c2, c3, c1), actual2);
+  }
+
+  @Test
+  @DisplayName("【正常系】resolveメソッド_ミニリーグ表で並んだクラブが残った場合_そのクラブ間の試合のみで改めて比較されること")
+  void resolveRecursivelyWhenSubGroupTied() {
+    // Arrange
+    TieGroupResolver sut = new TieGroupResolver(List.of(7, 4));
+    // 当該クラブ間の勝ち点は1: 6, 2: 3, 3: 3で、2と3の間では2が勝っている
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, List.of(
+        createGameResult(1, 1, 2, 1, 0),
+        createGameResult(2, 2, 3, 1, 0),
+        createGameResult(3, 3, 1, 1, 0),
+        createGameResult(4, 1, 3, 1, 0)
+    ));
+    ClubForStanding c1 = createClubForStanding(club1, 0);
+    ClubForStanding c2 = createClubForStanding(club2, 0);
+    ClubForStanding c3 = createClubForStanding(club3, 5);
+
+    // Act
+    List<ClubForStanding> actual = sut.resolve(List.of(c3, c2, c1), headToHeadTable);
+
+    // Assert
+    assertEquals(List.of(c1, c2, c3), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】resolveメソッド_2試合以上対戦していない組がある場合_当該クラブ間の勝ち点（2試合以上）が比較に使われないこと")
+  void resolveWhenNotAllPairsPlayedAtLeast2Games() {
+    // Arrange
+    TieGroupResolver sut = new TieGroupResolver(List.of(2, 4));
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, List.of(
+        createGameResult(1, 1, 2, 1, 0),
+        createGameResult(2, 2, 1, 0, 1),
+        createGameResult(3, 1, 3, 1, 0)
+    ));
+    ClubForStanding c1 = createClubForStanding(club1, 0);
+    ClubForStanding c2 = createClubForStanding(club2, 2);
+    ClubForStanding c3 = createClubForStanding(club3, 1);
+
+    // Act
+    List<ClubForStanding> actual = sut.resolve(List.of(c1, c2, c3), headToHeadTable);
+
+    // Assert
+    assertEquals(List.of(c2, c3, c1), actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】resolveメソッド_2クラブの場合_ClubForStandingComparatorと同じ順序になること")
+  void resolveSameAsComparatorWhenTwoClubs() {
+    // Arrange
+    List<Integer> comparisonItemIds = List.of(2, 3, 6, 7, 4);
+    TieGroupResolver sut = new TieGroupResolver(comparisonItemIds);
+    List<GameResult> gameResults = List.of(
+        createGameResult(1, 1, 2, 2, 1),
+        createGameResult(2, 2, 1, 1, 0)
+    );
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, gameResults);
+    ClubForStanding c1 = new ClubForStanding(gameResults, club1, 2, 1, 0, 1, 3, 2, 2, 0);
+    ClubForStanding c2 = new ClubForStanding(gameResults, club2, 2, 1, 0, 1, 3, 2, 2, 0);
+    List<ClubForStanding> expected = new ArrayList<>(List.of(c1, c2));
+    expected.sort(new ClubForStandingComparator(comparisonItemIds));
+
+    // Act
+    List<ClubForStanding> actual = sut.resolve(List.of(c1, c2), headToHeadTable);
+
+    // Assert
+    // 勝ち点・得失点差が並び、アウェーゴールで2が上位になる
+    assertEquals(List.of(c2, c1), expected);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  @DisplayName("【正常系】resolveメソッド_全項目で並んだ場合_入力順が保たれること")
+  void resolveKeepsInputOrderWhenAllSame() {
+    // Arrange
+    TieGroupResolver sut = new TieGroupResolver(List.of(7, 4));
+    HeadToHeadTable headToHeadTable = HeadToHeadTable.of(clubs, List.of());
+    ClubForStanding c1 = createClubForStanding(club1, 0);
+    ClubForStanding c2 = createClubForStanding(club2, 0);
+    ClubForStanding c3 = createClubForStanding(club3, 0);
+
+    // Act
+    List<ClubForStanding> actual = sut.resolve(List.of(c3, c1, c2), headToHeadTable);
+
+    // Assert
+    assertEquals(List.of(c3, c1, c2), actual);
+  }
+
+  private GameResult createGameResult(int id, int homeClubId, int awayClubId, int homeScore, int awayScore) {
+    Integer winnerClubId = homeScore > awayScore ? homeClubId : homeScore < awayScore ? awayClubId : null;
+    return new GameResult(id, homeClubId, awayClubId, homeScore, awayScore, winnerClubId, 1, LocalDate.of(2024, 8, 1), 1);
+  }
+
+  // グループ内の比較に使わない値は同じにする
+  private ClubForStanding createClubForStanding(Club club, int goalDifference) {
+    return new ClubForStanding(List.of(), club, 10, 5, 0, 5, 15, 10 + goalDifference, 10, goalDifference);
+  }
+
+}
@@ -0,0 +1,66 @@
+package football.StatsManagement.service.comparator.calculator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeadToHeadTableTest {
+
+  private HeadToHeadTable sut;
+
+  @BeforeEach
+  void setUp() {
+    List<Club> clubs = List.of(
+        new Club(1, 1, "Club1"),
+        new Club(2, 1, "Club2"),
+        new Club(3, 1, "Club3")
+    );
+    List<GameResult> gameResults = List.of(
+        new GameResult(1, 1, 2, 2, 1, 1, 1, LocalDate.of(2024, 8, 1), 1),
+        new GameResult(2, 2, 1, 3, 3, null, 1, LocalDate.of(2024, 8, 8), 1),
+        new GameResult(3, 3, 1, 0, 1, 1, 1, LocalDate.of(2024, 8, 15), 1),
+        // 対象外のクラブを含む試合は集計されない
+        new GameResult(4, 1, 99, 5, 0, 1, 1, LocalDate.of(2024, 8, 22), 1)
+    );
+    sut = HeadToHeadTable.of(clubs, gameResults);
+  }
+
+  @Test
+  @DisplayName("クラブIDに対応するインデックスが取得できること_対象外のクラブは-1となること")
+  void indexOf() {
+    assertEquals(0, sut.indexOf(1));
+    assertEquals(2, sut.indexOf(3));
+    assertEquals(-1, sut.indexOf(99));
+    assertEquals(3, sut.size());
+  }
+
+  @Test
+  @DisplayName("当該クラブ間の勝ち点、得失点差、アウェーゴール、対戦数が集計されていること")
+  void aggregatedHeadToHead() {
+    // Club1 vs Club2: 2-1で勝利（ホーム）、3-3で引き分け（アウェー）
+    assertEquals(4, sut.getPoints(0, 1));
+    assertEquals(1, sut.getPoints(1, 0));
+    assertEquals(1, sut.getGoalDifference(0, 1));
+    assertEquals(-1, sut.getGoalDifference(1, 0));
+    assertEquals(3, sut.getAwayGoals(0, 1));
+    assertEquals(1, sut.getAwayGoals(1, 0));
+    assertEquals(2, sut.getGames(0, 1));
+    assertEquals(2, sut.getGames(1, 0));
+
+    // Club1 vs Club3: 1-0で勝利（アウェー）
+    assertEquals(3, sut.getPoints(0, 2));
+    assertEquals(0, sut.getPoints(2, 0));
+    assertEquals(1, sut.getAwayGoals(0, 2));
+    assertEquals(1, sut.getGames(2, 0));
+
+    // Club2 vs Club3: 対戦なし
+    assertEquals(0, sut.getGames(1, 2));
+  }
+
+}
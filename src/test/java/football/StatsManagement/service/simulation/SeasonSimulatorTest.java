@@ -0,0 +1,114 @@
+package football.StatsManagement.service.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.entity.Club;
+import football.StatsManagement.model.entity.GameResult;
+import football.StatsManagement.service.comparator.calculator.HeadToHeadTable;
+import football.StatsManagement.service.simulation.SeasonSimulator.SimulationResult;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeasonSimulatorTest {
+
+  private final Club club1 = new Club(1, 1, "Club1");
+  private final Club club2 = new Club(2, 1, "Club2");
+  private final Club club3 = new Club(3, 1, "Club3");
+  private final Club club4 = new Club(4, 1, "Club4");
+  private final List<Club> clubs = List.of(club1, club2, club3, club4);
+
+  @Test
+  @DisplayName("【正常系】simulateメソッド_残り試合がない場合_当該クラブ間の成績で並び替えた順位が確率1となること")
+  void simulateWhenNoRemainingGames() {
+    // Arrange
+    // 勝ち点・得失点差が並び、アウェーゴールで2が上位になる
+    List<GameResult> gameResults = List.of(
+        createGameResult(1, 1, 2, 2, 1),
+        createGameResult(2, 2, 1, 1, 0)
+    );
+    List<Club> twoClubs = List.of(club1, club2);
+    ClubForStanding c1 = new ClubForStanding(gameResults, club1, 2, 1, 0, 1, 3, 2, 2, 0);
+    ClubForStanding c2 = new ClubForStanding(gameResults, club2, 2, 1, 0, 1, 3, 2, 2, 0);
+    SeasonSimulator sut = new SeasonSimulator(List.of(c1, c2), HeadToHeadTable.of(twoClubs, gameResults), List.of(1, 4, 6));
+
+    // Act
+    SimulationResult actual = sut.simulate(100, 1L);
+
+    // Assert
+    assertEquals(0, sut.getRemainingGames());
+    assertEquals(1.0, actual.getPositionProbability(1, 0));
+    assertEquals(1.0, actual.getPositionProbability(0, 1));
+    assertEquals(3.0, actual.getExpectedPoints(0));
+  }
+
+  @Test
+  @DisplayName("【正常系】simulateメソッド_各クラブの順位の確率と各順位の確率の合計がそれぞれ1となること")
+  void simulateProbabilitiesSumToOne() {
+    // Arrange
+    SeasonSimulator sut = new SeasonSimulator(createClubForStandings(0), HeadToHeadTable.of(clubs, List.of()), List.of(1, 7, 4));
+
+    // Act
+    SimulationResult actual = sut.simulate(5_000, 1L);
+
+    // Assert
+    assertEquals(12, sut.getRemainingGames());
+    for (int i = 0; i < clubs.size(); i++) {
+      double clubSum = 0;
+      double positionSum = 0;
+      for (int j = 0; j < clubs.size(); j++) {
+        clubSum += actual.getPositionProbability(i, j);
+        positionSum += actual.getPositionProbability(j, i);
+      }
+      assertEquals(1.0, clubSum, 1e-9);
+      assertEquals(1.0, positionSum, 1e-9);
+    }
+  }
+
+  @Test
+  @DisplayName("【正常系】simulateメソッド_同じシードの場合_分割されたタスクの実行順によらず同じ結果となること")
+  void simulateIsReproducibleWithSameSeed() {
+    // Arrange
+    SeasonSimulator sut = new SeasonSimulator(createClubForStandings(0), HeadToHeadTable.of(clubs, List.of()), List.of(1, 4, 5));
+
+    // Act
+    SimulationResult actual1 = sut.simulate(10_000, 42L);
+    SimulationResult actual2 = sut.simulate(10_000, 42L);
+
+    // Assert
+    assertArrayEquals(actual1.totals(), actual2.totals());
+  }
+
+  @Test
+  @DisplayName("【正常系】simulateメソッド_残り試合で追いつけない勝ち点差がある場合_首位のクラブの優勝確率が1となること")
+  void simulateWhenLeaderCannotBeCaught() {
+    // Arrange
+    // 残り6試合で他クラブが得られる勝ち点は最大18
+    SeasonSimulator sut = new SeasonSimulator(createClubForStandings(30), HeadToHeadTable.of(clubs, List.of()), List.of(1, 4, 5));
+
+    // Act
+    SimulationResult actual = sut.simulate(5_000, 7L);
+
+    // Assert
+    assertEquals(1.0, actual.getPositionProbability(0, 0));
+    assertTrue(actual.getExpectedPoints(0) >= 30.0);
+  }
+
+  private GameResult createGameResult(int id, int homeClubId, int awayClubId, int homeScore, int awayScore) {
+    Integer winnerClubId = homeScore > awayScore ? homeClubId : homeScore < awayScore ? awayClubId : null;
+    return new GameResult(id, homeClubId, awayClubId, homeScore, awayScore, winnerClubId, 1, LocalDate.of(2024, 8, 1), 1);
+  }
+
+  // 試合結果のない4クラブ（1のみ勝ち点を持つ）
+  private List<ClubForStanding> createClubForStandings(int club1Points) {
+    return List.of(
+        new ClubForStanding(List.of(), club1, 0, 0, 0, 0, club1Points, 0, 0, 0),
+        new ClubForStanding(List.of(), club2, 0, 0, 0, 0, 0, 0, 0, 0),
+        new ClubForStanding(List.of(), club3, 0, 0, 0, 0, 0, 0, 0, 0),
+        new ClubForStanding(List.of(), club4, 0, 0, 0, 0, 0, 0, 0, 0)
+    );
+  }
+
+}
@@ -131,3 +131,32 @@ INSERT INTO league_regulations (league_id, comparison_item_order, comparison_ite
   (2, 3, 5),
   (3, 1, 1);
 
+-- game_resultsの集計結果
+INSERT INTO standings (league_id, season_id, club_id, games_played, wins, draws, losses, goals_for, goals_against, points) VALUES
+  (1, 201920, 1, 2, 1, 1, 0, 4, 3, 4),
+  (1, 201920, 2, 2, 0, 1, 1, 3, 4, 1),
+  (2, 201920, 3, 1, 0, 0, 1, 1, 2, 0),
+  (2, 201920, 4, 1, 1, 0, 0, 2, 1, 3),
+  (1, 202021, 1, 1, 0, 0, 1, 1, 2, 0),
+  (1, 202021, 2, 1, 1, 0, 0, 2, 1, 3),
+  (2, 202021, 3, 2, 1, 1, 0, 3, 2, 4),
+  (2, 202021, 4, 2, 0, 1, 1, 2, 3, 1);
+
+-- player_game_statsの集計結果
+INSERT INTO player_season_totals (player_id, season_id, club_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards) VALUES
+  (1, 201920, 1, 2, 2, 1, 0, 180, 0, 0),
+  (2, 201920, 1, 2, 1, 0, 1, 180, 0, 0),
+  (3, 201920, 2, 2, 2, 0, 0, 180, 0, 0),
+  (4, 201920, 2, 2, 2, 0, 0, 180, 0, 0),
+  (5, 201920, 3, 1, 1, 0, 0, 90, 0, 0),
+  (6, 201920, 3, 1, 0, 0, 0, 90, 0, 0),
+  (7, 201920, 4, 1, 1, 0, 0, 90, 0, 0),
+  (8, 201920, 4, 1, 1, 0, 0, 90, 0, 0),
+  (1, 202021, 1, 1, 0, 0, 0, 90, 0, 0),
+  (2, 202021, 1, 1, 1, 0, 0, 90, 0, 0),
+  (3, 202021, 2, 1, 1, 0, 0, 90, 0, 0),
+  (4, 202021, 2, 1, 1, 0, 0, 90, 0, 0),
+  (5, 202021, 3, 2, 2, 0, 0, 180, 0, 0),
+  (6, 202021, 3, 2, 2, 0, 0, 180, 0, 0),
+  (7, 202021, 4, 2, 1, 0, 0, 180, 0, 0),
+  (8, 202021, 4, 2, 1, 0, 0, 180, 0, 0);
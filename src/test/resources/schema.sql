@@ -97,3 +97,53 @@ CREATE TABLE `league_regulations` (
 
 
 
+
+-- 順位表の集計結果（試合結果登録時に加算で更新する）
+CREATE TABLE `standings` (
+  `league_id` int NOT NULL,
+  `season_id` int NOT NULL,
+  `club_id` int NOT NULL,
+  `games_played` int NOT NULL DEFAULT 0,
+  `wins` int NOT NULL DEFAULT 0,
+  `draws` int NOT NULL DEFAULT 0,
+  `losses` int NOT NULL DEFAULT 0,
+  `goals_for` int NOT NULL DEFAULT 0,
+  `goals_against` int NOT NULL DEFAULT 0,
+  `points` int NOT NULL DEFAULT 0,
+  PRIMARY KEY (`league_id`, `season_id`, `club_id`),
+  FOREIGN KEY (`league_id`) REFERENCES `leagues`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`season_id`) REFERENCES `seasons`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`club_id`) REFERENCES `clubs`(`id`) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+-- 選手のシーズン・クラブごとの合計成績（試合結果と選手試合成績の登録時に加算で更新する）
+CREATE TABLE `player_season_totals` (
+  `player_id` int NOT NULL,
+  `season_id` int NOT NULL,
+  `club_id` int NOT NULL,
+  `games` int NOT NULL DEFAULT 0,
+  `starter_games` int NOT NULL DEFAULT 0,
+  `goals` int NOT NULL DEFAULT 0,
+  `assists` int NOT NULL DEFAULT 0,
+  `minutes` int NOT NULL DEFAULT 0,
+  `yellow_cards` int NOT NULL DEFAULT 0,
+  `red_cards` int NOT NULL DEFAULT 0,
+  PRIMARY KEY (`player_id`, `season_id`, `club_id`),
+  FOREIGN KEY (`player_id`) REFERENCES `players`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`season_id`) REFERENCES `seasons`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`club_id`) REFERENCES `clubs`(`id`) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+-- リーグ・シーズンの選手ランキング用（standingsのクラブと結合する）
+CREATE INDEX `idx_player_season_totals_season_club` ON `player_season_totals` (`season_id`, `club_id`);
+
+-- 選手ごとの試合成績のページ取得用（player_idで絞り込み、idの順に読む）
+CREATE INDEX `idx_player_game_stats_player_id` ON `player_game_stats` (`player_id`, `id`);
+
+-- 過去シーズンの取込の進捗（中断した取込を最後にコミットしたバッチの次の行から再開する）
+CREATE TABLE `game_import_checkpoints` (
+  `import_key` varchar(512) NOT NULL,
+  `content_hash` char(64) NOT NULL,
+  `last_line` bigint NOT NULL,
+  PRIMARY KEY (`import_key`)
+);